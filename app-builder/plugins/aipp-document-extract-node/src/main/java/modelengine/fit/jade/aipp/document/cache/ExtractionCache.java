@@ -0,0 +1,335 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jade.aipp.document.cache;
+
+import modelengine.fit.jober.aipp.service.OperatorService.FileType;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.annotation.Value;
+import modelengine.fitframework.inspection.Validation;
+import modelengine.fitframework.log.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 文档提取结果的磁盘缓存。
+ * <p>以文件内容的摘要、提取器类型和提取配置的指纹作为缓存键，提取结果保存在缓存目录中，相同内容的文件再次提取时直接读取结果。
+ * 提取配置的指纹由缓存版本和 {@code excel-extract.*} 的行列上限、字节上限与采样配置计算，提取器升级或配置变化后旧结果不再命中，
+ * 按大小上限淘汰。
+ * 缓存的大小和访问顺序只以磁盘上文件的大小和修改时间为准，总大小超过上限时删除修改时间最早的结果，
+ * 因此多个实例共用缓存目录时淘汰结果一致；写入时使用各自唯一的临时文件，不会清理其他实例正在写入的文件。
+ * 上传文件被清理时删除只被这些文件引用的缓存，引用关系只记录在本实例中，其他实例的缓存按大小上限淘汰；
+ * 结果从磁盘淘汰后同时删除对应的引用关系，引用关系不会超过磁盘上的结果数量。
+ * 缓存默认关闭，默认目录为实例本地目录。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@Component
+public class ExtractionCache {
+    private static final Logger LOG = Logger.get(ExtractionCache.class);
+    private static final String ENTRY_SUFFIX = ".txt";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final boolean isEnabled;
+    private final Path directory;
+    private final long maxBytes;
+    private final String fingerprint;
+    private final Map<String, Set<String>> sourceKeys = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * 使用缓存配置初始化 {@link ExtractionCache} 对象，开启时创建缓存目录并淘汰超出大小上限的结果。
+     *
+     * @param isEnabled 表示是否开启缓存的 {@code boolean}。
+     * @param directory 表示缓存目录的 {@link String}。
+     * @param maxBytes 表示缓存总大小上限字节数的 {@code long}。
+     * @param version 表示缓存版本的 {@link String}，提取器的输出变化时需要修改。
+     * @param maxRowsPerSheet 表示 Excel 每个工作表最多读取行数的 {@code int}。
+     * @param maxCellsPerRow 表示 Excel 每行最多读取单元格数的 {@code int}。
+     * @param maxExcelBytes 表示 Excel 提取结果字节数上限的 {@code long}。
+     * @param isSampled 表示 Excel 是否采样读取的 {@code boolean}。
+     * @param sampleRows 表示 Excel 采样读取行数的 {@code int}。
+     */
+    public ExtractionCache(@Value("${document-extract.cache.enabled:false}") boolean isEnabled,
+            @Value("${document-extract.cache.directory:/tmp/document-extract-cache}") String directory,
+            @Value("${document-extract.cache.max-bytes:268435456}") long maxBytes,
+            @Value("${document-extract.cache.version:1}") String version,
+            @Value("${excel-extract.max-rows-per-sheet:0}") int maxRowsPerSheet,
+            @Value("${excel-extract.max-cells-per-row:0}") int maxCellsPerRow,
+            @Value("${excel-extract.max-bytes:0}") long maxExcelBytes,
+            @Value("${excel-extract.sampled:false}") boolean isSampled,
+            @Value("${excel-extract.sample-rows:100}") int sampleRows) {
+        this.directory = Paths.get(Validation.notBlank(directory, "The cache directory cannot be blank."));
+        this.maxBytes = Validation.greaterThan(maxBytes, 0L, "The cache max bytes must be positive.");
+        this.fingerprint = fingerprint(String.join("|",
+                version,
+                String.valueOf(maxRowsPerSheet),
+                String.valueOf(maxCellsPerRow),
+                String.valueOf(maxExcelBytes),
+                String.valueOf(isSampled),
+                String.valueOf(sampleRows)));
+        this.isEnabled = isEnabled && this.load();
+    }
+
+    /**
+     * 获取文件的提取结果，未命中时执行提取并缓存结果。非本地文件不缓存。
+     *
+     * @param fileUrl 表示文件路径的 {@link String}。
+     * @param type 表示提取器类型的 {@link FileType}。
+     * @param extractor 表示未命中时执行提取的 {@link Supplier}{@code <}{@link String}{@code >}。
+     * @return 表示文件提取结果的 {@link String}。
+     */
+    public String get(String fileUrl, FileType type, Supplier<String> extractor) {
+        if (!this.isEnabled) {
+            return extractor.get();
+        }
+        String key = this.key(fileUrl, type);
+        if (key == null) {
+            return extractor.get();
+        }
+        String cached = this.read(key);
+        if (cached != null) {
+            this.hitCount.incrementAndGet();
+            this.reference(fileUrl, key);
+            return cached;
+        }
+        this.missCount.incrementAndGet();
+        String content = extractor.get();
+        if (content != null) {
+            this.reference(fileUrl, key);
+            this.write(key, content);
+        }
+        return content;
+    }
+
+    /**
+     * 删除只被指定文件引用的缓存。
+     *
+     * @param fileNames 表示已删除文件路径的 {@link List}{@code <}{@link String}{@code >}。
+     */
+    public void invalidate(List<String> fileNames) {
+        Set<String> candidates = new HashSet<>();
+        fileNames.forEach(fileName -> {
+            Set<String> keys = this.sourceKeys.remove(fileName);
+            if (keys != null) {
+                candidates.addAll(keys);
+            }
+        });
+        this.sourceKeys.values().forEach(candidates::removeAll);
+        candidates.forEach(key -> this.delete(this.entry(key)));
+        if (!candidates.isEmpty()) {
+            LOG.info("Document extraction cache is invalidated. [files={}, entries={}]",
+                    fileNames.size(),
+                    candidates.size());
+        }
+    }
+
+    /**
+     * 获取缓存命中次数。
+     *
+     * @return 表示命中次数的 {@code long}。
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * 获取缓存未命中次数。
+     *
+     * @return 表示未命中次数的 {@code long}。
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    /**
+     * 获取缓存目录中提取结果当前占用的字节数。
+     *
+     * @return 表示缓存占用字节数的 {@code long}。
+     */
+    public long getTotalBytes() {
+        return this.listEntries().stream().mapToLong(Entry::size).sum();
+    }
+
+    /**
+     * 获取本实例记录了缓存引用关系的文件数量。
+     *
+     * @return 表示文件数量的 {@code int}。
+     */
+    public int getSourceCount() {
+        return this.sourceKeys.size();
+    }
+
+    private boolean load() {
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException e) {
+            LOG.warn("Create document extraction cache failed, cache is disabled. [directory={}, cause={}]",
+                    this.directory,
+                    e.getMessage());
+            return false;
+        }
+        this.evict();
+        return true;
+    }
+
+    private String key(String fileUrl, FileType type) {
+        Path file;
+        try {
+            file = Paths.get(fileUrl);
+        } catch (InvalidPathException e) {
+            return null;
+        }
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest()) + "-" + type.name().toLowerCase() + "-" + this.fingerprint;
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LOG.warn("Digest file failed, skip extraction cache. [file={}, cause={}]", fileUrl, e.getMessage());
+            return null;
+        }
+    }
+
+    private String read(String key) {
+        Path entry = this.entry(key);
+        try {
+            String content = Files.readString(entry, StandardCharsets.UTF_8);
+            this.touch(entry);
+            return content;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            LOG.warn("Read document extraction cache failed. [key={}, cause={}]", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(String key, String content) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(this.directory, key + ".", TEMP_SUFFIX);
+            Files.writeString(temp, content, StandardCharsets.UTF_8);
+            Path entry = this.entry(key);
+            Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.touch(entry);
+        } catch (IOException e) {
+            LOG.warn("Write document extraction cache failed. [key={}, cause={}]", key, e.getMessage());
+        } finally {
+            if (temp != null) {
+                this.delete(temp);
+            }
+        }
+        this.evict();
+    }
+
+    private synchronized void evict() {
+        List<Entry> entries = this.listEntries();
+        long totalBytes = entries.stream().mapToLong(Entry::size).sum();
+        entries.sort(Comparator.comparing(Entry::lastModified));
+        Set<String> liveKeys = new HashSet<>();
+        for (Entry entry : entries) {
+            if (totalBytes > this.maxBytes) {
+                this.delete(entry.path());
+                totalBytes -= entry.size();
+                continue;
+            }
+            String fileName = entry.path().getFileName().toString();
+            liveKeys.add(fileName.substring(0, fileName.length() - ENTRY_SUFFIX.length()));
+        }
+        // 本实例或其他实例淘汰的结果不再记录引用关系.
+        this.sourceKeys.keySet().forEach(fileUrl -> this.sourceKeys.computeIfPresent(fileUrl, (ignored, keys) -> {
+            keys.retainAll(liveKeys);
+            return keys.isEmpty() ? null : keys;
+        }));
+    }
+
+    private void reference(String fileUrl, String key) {
+        this.sourceKeys.compute(fileUrl, (ignored, keys) -> {
+            Set<String> referenced = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+            referenced.add(key);
+            return referenced;
+        });
+    }
+
+    private List<Entry> listEntries() {
+        List<Entry> entries = new ArrayList<>();
+        try (Stream<Path> stream = Files.list(this.directory)) {
+            stream.filter(file -> file.getFileName().toString().endsWith(ENTRY_SUFFIX)).forEach(file -> {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    entries.add(new Entry(file, attributes.size(), attributes.lastModifiedTime()));
+                } catch (IOException e) {
+                    // 其他实例可能已删除该文件.
+                }
+            });
+        } catch (IOException e) {
+            LOG.warn("List document extraction cache failed. [directory={}, cause={}]", this.directory, e.getMessage());
+        }
+        return entries;
+    }
+
+    private void touch(Path entry) throws IOException {
+        // 同一毫秒内的多次访问也要保持先后顺序.
+        long now = this.clock.updateAndGet(last -> Math.max(last + 1, System.currentTimeMillis()));
+        Files.setLastModifiedTime(entry, FileTime.fromMillis(now));
+    }
+
+    private void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Delete document extraction cache failed. [file={}, cause={}]", file, e.getMessage());
+        }
+    }
+
+    private static String fingerprint(String settings) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(settings.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Path entry(String key) {
+        return this.directory.resolve(key + ENTRY_SUFFIX);
+    }
+
+    private record Entry(Path path, long size, FileTime lastModified) {}
+}
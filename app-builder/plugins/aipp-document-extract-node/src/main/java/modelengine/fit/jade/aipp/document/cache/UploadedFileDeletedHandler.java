@@ -0,0 +1,31 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jade.aipp.document.cache;
+
+import modelengine.fit.jober.aipp.events.UploadedFileDeletedEvent;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.event.EventHandler;
+
+/**
+ * 上传文件删除事件 handler，清理只被已删除文件引用的提取结果缓存。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@Component
+public class UploadedFileDeletedHandler implements EventHandler<UploadedFileDeletedEvent> {
+    private final ExtractionCache extractionCache;
+
+    public UploadedFileDeletedHandler(ExtractionCache extractionCache) {
+        this.extractionCache = extractionCache;
+    }
+
+    @Override
+    public void handleEvent(UploadedFileDeletedEvent event) {
+        this.extractionCache.invalidate(event.getFileNames());
+    }
+}
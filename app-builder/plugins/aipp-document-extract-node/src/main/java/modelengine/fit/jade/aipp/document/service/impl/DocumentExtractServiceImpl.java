@@ -10,6 +10,7 @@ import static modelengine.fit.jade.aipp.document.code.DocumentExtractRetCode.DOC
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import modelengine.fit.jade.aipp.document.cache.ExtractionCache;
 import modelengine.fit.jade.aipp.document.exception.DocumentExtractException;
 import modelengine.fit.jade.aipp.document.extractor.AudioExtractor;
 import modelengine.fit.jade.aipp.document.extractor.BaseExtractor;
@@ -21,23 +22,33 @@ import modelengine.fit.jade.aipp.document.utils.ContentUtils;
 import modelengine.fit.jober.aipp.entity.FileExtensionEnum;
 import modelengine.fit.jober.aipp.service.OperatorService.FileType;
 import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.annotation.Destroy;
 import modelengine.fitframework.annotation.Fitable;
+import modelengine.fitframework.annotation.Value;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.thread.DefaultThreadFactory;
 import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.StringUtils;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * 文档提取节点服务。
+ * <p>多个文件在有界线程池中并行提取，结果按文件顺序拼接；文本类文件的提取结果通过 {@link ExtractionCache} 缓存。</p>
  *
  * @author 马朝阳
  * @since 2024-12-12
@@ -59,13 +70,21 @@ public class DocumentExtractServiceImpl implements DocumentExtractService {
     private final LazyLoader<Map<FileType, BaseExtractor>> repository;
 
     private final ObjectMapper objectMapper;
+    private final ExtractionCache extractionCache;
+    private final ExecutorService executorService;
 
     public DocumentExtractServiceImpl(TextExtractor textExtractor, ImageExtractor imageExtractor,
-            AudioExtractor audioExtractor, BeanContainer container) {
+            AudioExtractor audioExtractor, BeanContainer container, ExtractionCache extractionCache,
+            @Value("${document-extract.parallelism:4}") int parallelism) {
         this.textExtractor = textExtractor;
         this.imageExtractor = imageExtractor;
         this.audioExtractor = audioExtractor;
         this.objectMapper = new ObjectMapper();
+        this.extractionCache = extractionCache;
+        DefaultThreadFactory threadFactory = new DefaultThreadFactory("document-extract", true, (thread, throwable) -> {
+            LOG.error("Document extract thread exception. [message={}]", throwable.getMessage(), throwable);
+        });
+        this.executorService = parallelism > 1 ? Executors.newFixedThreadPool(parallelism, threadFactory) : null;
         this.repository = new LazyLoader<>(() -> container.all(BaseExtractor.class)
                 .stream()
                 .map(BeanFactory::<BaseExtractor>get)
@@ -86,17 +105,55 @@ public class DocumentExtractServiceImpl implements DocumentExtractService {
             return StringUtils.EMPTY;
         }
 
-        for (String fileUrl : fileExtractionParam.getFiles()) {
+        List<String> fileUrls = fileExtractionParam.getFiles();
+        List<FileType> fileTypes = new ArrayList<>(fileUrls.size());
+        for (String fileUrl : fileUrls) {
             FileType fileType = FileExtensionEnum.findType(fileUrl)
                     .orElseThrow(() -> new DocumentExtractException(DOCUMENT_EXTRACT_ERROR, fileUrl));
-            if (textTypeSet.contains(fileType)) {
-                fileType = FileType.TXT;
+            fileTypes.add(textTypeSet.contains(fileType) ? FileType.TXT : fileType);
+        }
+        if (this.executorService == null || fileUrls.size() <= 1) {
+            for (int i = 0; i < fileUrls.size(); i++) {
+                fileContent.append(this.extract(fileUrls.get(i), fileTypes.get(i), context));
             }
-            BaseExtractor extractor = this.repository.get().get(fileType);
-            // 此处传入的fileurl不是完整的可以下载的url：/var/share/xxx.xx，需要在调用模型前拼成完整url
-            fileContent.append(ContentUtils.buildContent(Paths.get(fileUrl).getFileName().toString(),
-                    extractor.extract(fileUrl, context)));
+            return fileContent.toString();
+        }
+        List<CompletableFuture<String>> futures = new ArrayList<>(fileUrls.size());
+        for (int i = 0; i < fileUrls.size(); i++) {
+            String fileUrl = fileUrls.get(i);
+            FileType fileType = fileTypes.get(i);
+            futures.add(CompletableFuture.supplyAsync(() -> this.extract(fileUrl, fileType, context),
+                    this.executorService));
+        }
+        try {
+            futures.forEach(future -> fileContent.append(future.join()));
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
         }
         return fileContent.toString();
     }
+
+    /**
+     * 关闭并行提取使用的线程池。
+     */
+    @Destroy
+    public void destroy() {
+        if (this.executorService != null) {
+            this.executorService.shutdownNow();
+        }
+    }
+
+    private String extract(String fileUrl, FileType fileType, Map<String, Object> context) {
+        BaseExtractor extractor = this.repository.get().get(fileType);
+        // 图片、音频的提取结果依赖提示词和模型，只缓存文本类文件的提取结果
+        String content = fileType == FileType.TXT
+                ? this.extractionCache.get(fileUrl, fileType, () -> extractor.extract(fileUrl, context))
+                : extractor.extract(fileUrl, context);
+        // 此处传入的fileurl不是完整的可以下载的url：/var/share/xxx.xx，需要在调用模型前拼成完整url
+        return ContentUtils.buildContent(Paths.get(fileUrl).getFileName().toString(), content);
+    }
 }
@@ -0,0 +1,167 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jade.aipp.document.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fit.jober.aipp.service.OperatorService.FileType;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 表示 {@link ExtractionCache} 的测试类。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class ExtractionCacheTest {
+    @TempDir
+    private Path tempDir;
+
+    private final AtomicInteger extractCount = new AtomicInteger();
+
+    private final Supplier<String> extractor = () -> "content" + this.extractCount.incrementAndGet();
+
+    @Test
+    @DisplayName("测试相同内容的文件命中缓存，重启后仍然命中")
+    void shouldHitWhenSameContent() throws IOException {
+        Path cacheDir = this.tempDir.resolve("cache");
+        String first = this.file("a.pdf", "same").toString();
+        String second = this.file("b.pdf", "same").toString();
+        ExtractionCache cache = this.cache(true, cacheDir.toString(), 1024L);
+
+        assertThat(cache.get(first, FileType.TXT, this.extractor)).isEqualTo("content1");
+        assertThat(cache.get(second, FileType.TXT, this.extractor)).isEqualTo("content1");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+
+        ExtractionCache restarted = this.cache(true, cacheDir.toString(), 1024L);
+        assertThat(restarted.get(first, FileType.TXT, this.extractor)).isEqualTo("content1");
+        assertThat(this.extractCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("测试超过大小上限时淘汰最近最少使用的缓存")
+    void shouldEvictLeastRecentlyUsedWhenExceedMaxBytes() throws IOException {
+        String first = this.file("a.pdf", "a").toString();
+        String second = this.file("b.pdf", "b").toString();
+        String third = this.file("c.pdf", "c").toString();
+        ExtractionCache cache = this.cache(true, this.tempDir.resolve("cache").toString(), 16L);
+
+        cache.get(first, FileType.TXT, this.extractor);
+        cache.get(second, FileType.TXT, this.extractor);
+        cache.get(first, FileType.TXT, this.extractor);
+        cache.get(third, FileType.TXT, this.extractor);
+        cache.get(first, FileType.TXT, this.extractor);
+        cache.get(second, FileType.TXT, this.extractor);
+
+        assertThat(this.extractCount.get()).isEqualTo(4);
+        assertThat(cache.getTotalBytes()).isLessThanOrEqualTo(16L);
+    }
+
+    @Test
+    @DisplayName("测试多个实例共用缓存目录时按磁盘上的结果淘汰，且不清理其他实例的临时文件")
+    void shouldShareEntriesAndKeepForeignTempFilesWhenSameDirectory() throws IOException {
+        Path cacheDir = this.tempDir.resolve("cache");
+        String first = this.file("a.pdf", "a").toString();
+        String second = this.file("b.pdf", "b").toString();
+        String third = this.file("c.pdf", "c").toString();
+        ExtractionCache instance0 = this.cache(true, cacheDir.toString(), 16L);
+        Path foreignTemp = Files.writeString(cacheDir.resolve("key.123.tmp"), "writing", StandardCharsets.UTF_8);
+        ExtractionCache instance1 = this.cache(true, cacheDir.toString(), 16L);
+
+        instance0.get(first, FileType.TXT, this.extractor);
+        instance1.get(second, FileType.TXT, this.extractor);
+        instance1.get(first, FileType.TXT, this.extractor);
+        instance0.get(third, FileType.TXT, this.extractor);
+        instance0.get(first, FileType.TXT, this.extractor);
+
+        assertThat(this.extractCount.get()).isEqualTo(3);
+        assertThat(instance0.getTotalBytes()).isLessThanOrEqualTo(16L);
+        assertThat(instance1.getTotalBytes()).isEqualTo(instance0.getTotalBytes());
+        assertThat(foreignTemp).exists();
+    }
+
+    @Test
+    @DisplayName("测试上传文件删除后只清理没有其他文件引用的缓存")
+    void shouldRemoveUnreferencedEntriesWhenInvalidate() throws IOException {
+        String first = this.file("a.pdf", "same").toString();
+        String second = this.file("b.pdf", "same").toString();
+        String other = this.file("c.pdf", "other").toString();
+        ExtractionCache cache = this.cache(true, this.tempDir.resolve("cache").toString(), 1024L);
+        cache.get(first, FileType.TXT, this.extractor);
+        cache.get(second, FileType.TXT, this.extractor);
+        cache.get(other, FileType.TXT, this.extractor);
+
+        cache.invalidate(Collections.singletonList(first));
+        cache.get(second, FileType.TXT, this.extractor);
+        cache.invalidate(Collections.singletonList(other));
+        cache.get(other, FileType.TXT, this.extractor);
+
+        assertThat(this.extractCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("测试缓存关闭或文件不在本地时直接提取")
+    void shouldExtractDirectlyWhenDisabledOrRemoteFile() throws IOException {
+        String local = this.file("a.pdf", "a").toString();
+        ExtractionCache disabled = this.cache(false, this.tempDir.resolve("cache").toString(), 1024L);
+        ExtractionCache enabled = this.cache(true, this.tempDir.resolve("cache").toString(), 1024L);
+
+        disabled.get(local, FileType.TXT, this.extractor);
+        disabled.get(local, FileType.TXT, this.extractor);
+        enabled.get("http://mock.com/mock.pdf", FileType.TXT, this.extractor);
+        enabled.get("http://mock.com/mock.pdf", FileType.TXT, this.extractor);
+
+        assertThat(this.extractCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("测试缓存版本或提取配置变化后不再命中旧结果")
+    void shouldMissWhenVersionOrExtractConfigChanged() throws IOException {
+        Path cacheDir = this.tempDir.resolve("cache");
+        String file = this.file("a.xlsx", "a").toString();
+        this.cache(true, cacheDir.toString(), 1024L).get(file, FileType.TXT, this.extractor);
+
+        new ExtractionCache(true, cacheDir.toString(), 1024L, "2", 5000, 256, 4194304L, false, 100)
+                .get(file, FileType.TXT, this.extractor);
+        new ExtractionCache(true, cacheDir.toString(), 1024L, "1", 5000, 256, 4194304L, true, 100)
+                .get(file, FileType.TXT, this.extractor);
+        this.cache(true, cacheDir.toString(), 1024L).get(file, FileType.TXT, this.extractor);
+
+        assertThat(this.extractCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("测试结果从磁盘淘汰后不再记录对应文件的引用关系")
+    void shouldDropSourcesWhenEntriesEvicted() throws IOException {
+        ExtractionCache cache = this.cache(true, this.tempDir.resolve("cache").toString(), 16L);
+        for (int i = 0; i < 100; i++) {
+            cache.get(this.file(i + ".pdf", "content" + i).toString(), FileType.TXT, this.extractor);
+        }
+
+        assertThat(cache.getSourceCount()).isLessThanOrEqualTo(2);
+    }
+
+    private ExtractionCache cache(boolean isEnabled, String directory, long maxBytes) {
+        return new ExtractionCache(isEnabled, directory, maxBytes, "1", 5000, 256, 4194304L, false, 100);
+    }
+
+    private Path file(String name, String content) throws IOException {
+        return Files.writeString(this.tempDir.resolve(name), content, StandardCharsets.UTF_8);
+    }
+}
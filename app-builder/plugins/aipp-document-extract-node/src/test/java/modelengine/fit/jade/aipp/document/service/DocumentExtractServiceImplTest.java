@@ -11,6 +11,7 @@ import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import modelengine.fit.jade.aipp.document.cache.ExtractionCache;
 import modelengine.fit.jade.aipp.document.exception.DocumentExtractException;
 import modelengine.fit.jade.aipp.document.extractor.AudioExtractor;
 import modelengine.fit.jade.aipp.document.extractor.ImageExtractor;
@@ -35,7 +36,7 @@ import java.util.Arrays;
  * @author 兰宇晨
  * @since 2025-01-15
  */
-@FitTestWithJunit(includeClasses = DocumentExtractServiceImpl.class)
+@FitTestWithJunit(includeClasses = {DocumentExtractServiceImpl.class, ExtractionCache.class})
 public class DocumentExtractServiceImplTest {
     @Fit
     private DocumentExtractService documentExtractService;
@@ -0,0 +1,97 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jade.aipp.file.extract;
+
+import modelengine.fitframework.inspection.Validation;
+
+/**
+ * Excel 文件流式提取的预算配置，各项上限小于等于 0 时表示不限制。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class ExcelExtractOption {
+    private final int maxRowsPerSheet;
+    private final int maxCellsPerRow;
+    private final long maxBytes;
+    private final boolean isSampled;
+    private final int sampleRows;
+
+    /**
+     * 创建 Excel 文件流式提取的预算配置。
+     *
+     * @param maxRowsPerSheet 表示每个工作表最多输出行数的 {@code int}。
+     * @param maxCellsPerRow 表示每行最多输出单元格数的 {@code int}。
+     * @param maxBytes 表示最多输出字节数的 {@code long}，达到上限后停止读取。
+     * @param isSampled 表示工作表超出行数上限时是否输出抽样摘要的 {@code boolean}。
+     * @param sampleRows 表示抽样摘要中抽样行数的 {@code int}。
+     */
+    public ExcelExtractOption(int maxRowsPerSheet, int maxCellsPerRow, long maxBytes, boolean isSampled,
+            int sampleRows) {
+        this.maxRowsPerSheet = maxRowsPerSheet;
+        this.maxCellsPerRow = maxCellsPerRow;
+        this.maxBytes = maxBytes;
+        this.isSampled = isSampled;
+        this.sampleRows = isSampled
+                ? Validation.greaterThan(sampleRows, 0, "The sample rows must be positive in sampled mode.")
+                : sampleRows;
+    }
+
+    /**
+     * 创建不限制输出的预算配置。
+     *
+     * @return 表示不限制输出的 {@link ExcelExtractOption}。
+     */
+    public static ExcelExtractOption unlimited() {
+        return new ExcelExtractOption(0, 0, 0L, false, 0);
+    }
+
+    /**
+     * 获取每个工作表最多输出行数。
+     *
+     * @return 表示每个工作表最多输出行数的 {@code int}。
+     */
+    public int getMaxRowsPerSheet() {
+        return this.maxRowsPerSheet;
+    }
+
+    /**
+     * 获取每行最多输出单元格数。
+     *
+     * @return 表示每行最多输出单元格数的 {@code int}。
+     */
+    public int getMaxCellsPerRow() {
+        return this.maxCellsPerRow;
+    }
+
+    /**
+     * 获取最多输出字节数。
+     *
+     * @return 表示最多输出字节数的 {@code long}。
+     */
+    public long getMaxBytes() {
+        return this.maxBytes;
+    }
+
+    /**
+     * 获取工作表超出行数上限时是否输出抽样摘要。
+     *
+     * @return 表示是否输出抽样摘要的 {@code boolean}。
+     */
+    public boolean isSampled() {
+        return this.isSampled;
+    }
+
+    /**
+     * 获取抽样摘要中抽样行数。
+     *
+     * @return 表示抽样行数的 {@code int}。
+     */
+    public int getSampleRows() {
+        return this.sampleRows;
+    }
+}
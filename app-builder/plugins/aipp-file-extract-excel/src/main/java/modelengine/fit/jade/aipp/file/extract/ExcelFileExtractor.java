@@ -23,31 +23,61 @@ import lombok.NonNull;
 import modelengine.fit.jober.aipp.service.OperatorService;
 import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.annotation.Fitable;
+import modelengine.fitframework.annotation.Value;
 
 import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * Excel文件的提取器。
+ * <p>读取过程按工作表和行依次输出文本块，可按每表行数、每行单元格数和总字节数限制输出，达到字节上限后停止读取；
+ * 工作表超出行数上限时，未开启抽样则停止读取该工作表，开启抽样则继续读取并输出抽样摘要，
+ * 抽样只保留固定数量的行，不会把整个文件内容放入内存。</p>
  *
  * @author 黄政炫
  * @since 2025-09-06
  */
 @Component
 public class ExcelFileExtractor implements FileExtractor {
+    private static final long SAMPLE_SEED = 20251018L;
+
+    private final ExcelExtractOption defaultOption;
+
+    /**
+     * 使用默认提取预算创建 Excel 文件提取器。
+     *
+     * @param maxRowsPerSheet 表示每个工作表最多输出行数的 {@code int}，小于等于 0 时不限制。
+     * @param maxCellsPerRow 表示每行最多输出单元格数的 {@code int}，小于等于 0 时不限制。
+     * @param maxBytes 表示最多输出字节数的 {@code long}，小于等于 0 时不限制。
+     * @param isSampled 表示工作表超出行数上限时是否输出抽样摘要的 {@code boolean}。
+     * @param sampleRows 表示抽样摘要中抽样行数的 {@code int}。
+     */
+    public ExcelFileExtractor(@Value("${excel-extract.max-rows-per-sheet:0}") int maxRowsPerSheet,
+            @Value("${excel-extract.max-cells-per-row:0}") int maxCellsPerRow,
+            @Value("${excel-extract.max-bytes:0}") long maxBytes,
+            @Value("${excel-extract.sampled:false}") boolean isSampled,
+            @Value("${excel-extract.sample-rows:100}") int sampleRows) {
+        this.defaultOption = new ExcelExtractOption(maxRowsPerSheet, maxCellsPerRow, maxBytes, isSampled, sampleRows);
+    }
+
     /**
      * 把单元格转换成格式化字符串。
      *
@@ -102,7 +132,7 @@ public class ExcelFileExtractor implements FileExtractor {
     }
 
     /**
-     * 从指定路径的 Excel 文件中提取内容，并返回为字符串形式。
+     * 从指定路径的 Excel 文件中提取内容，并返回为字符串形式，输出受默认提取预算限制。
      *
      * @param fileUrl 表示文件路径的 {@link String}。
      * @return 表示文件内容的 {@link String}。
@@ -110,12 +140,25 @@ public class ExcelFileExtractor implements FileExtractor {
     @Override
     @Fitable(id = "extract-file-excel")
     public String extractFile(String fileUrl) {
+        StringBuilder excelContent = new StringBuilder();
+        this.extractChunks(fileUrl, this.defaultOption, excelContent::append);
+        return excelContent.toString();
+    }
+
+    /**
+     * 从指定路径的 Excel 文件中流式提取内容，每解析出一个工作表标题或一行数据即交给消费者，不在内存中拼接整个文件。
+     *
+     * @param fileUrl 表示文件路径的 {@link String}。
+     * @param option 表示提取预算的 {@link ExcelExtractOption}。
+     * @param consumer 表示文本块消费者的 {@link Consumer}{@code <}{@link String}{@code >}。
+     * @return 表示输出是否因预算被截断或抽样的 {@code boolean}。
+     */
+    public boolean extractChunks(String fileUrl, ExcelExtractOption option, Consumer<String> consumer) {
         if (!isValidPath(fileUrl)) {
             throw new IllegalArgumentException(String.format("Invalid FilePath. [fileUrl=%s]", fileUrl));
         }
         File file = Paths.get(fileUrl).toFile();
-        StringBuilder excelContent = new StringBuilder();
-        ExcelReadListener listener = new ExcelReadListener(excelContent);
+        ExcelReadListener listener = new ExcelReadListener(option, consumer);
         ExcelReader reader = null;
         try (InputStream is = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
             reader = FastExcel.read(is, listener)
@@ -125,11 +168,15 @@ public class ExcelFileExtractor implements FileExtractor {
 
             List<ReadSheet> sheets = reader.excelExecutor().sheetList();
             for (ReadSheet meta : sheets) {
-                excelContent.append("Sheet ").append(meta.getSheetNo() + 1).append(':').append('\n');
+                if (listener.isStopped()) {
+                    break;
+                }
+                listener.startSheet(meta.getSheetNo());
                 ReadSheet readSheet = FastExcel.readSheet(meta.getSheetNo()).headRowNumber(0).build();
                 reader.read(readSheet);
+                listener.finishSheet();
             }
-            excelContent.append('\n');
+            listener.emit("\n");
         } catch (IOException e) {
             throw new IllegalStateException(String.format("Fail to extract excel file. [exception=%s]", e.getMessage()),
                     e);
@@ -138,31 +185,142 @@ public class ExcelFileExtractor implements FileExtractor {
                 reader.finish(); // 关闭资源
             }
         }
-        return excelContent.toString();
+        return listener.isTruncated();
     }
 
     /**
-     * 读取监听器的内部类实现。
+     * 读取监听器的内部类实现，按预算输出文本块，并对超出行数上限的行做蓄水池抽样。
      */
-    private class ExcelReadListener implements ReadListener<Map<Integer, String>> {
-        private final StringBuilder excelContent;
+    static class ExcelReadListener implements ReadListener<Map<Integer, String>> {
+        private final ExcelExtractOption option;
+        private final Consumer<String> consumer;
+        private final Random random = new Random(SAMPLE_SEED);
+        private final List<SampledRow> samples = new ArrayList<>();
+
+        private long emittedBytes;
+        private int sheetRows;
+        private boolean isStopped;
+        private boolean isTruncated;
 
-        ExcelReadListener(StringBuilder excelContent) {
-            this.excelContent = excelContent;
+        ExcelReadListener(ExcelExtractOption option, Consumer<String> consumer) {
+            this.option = option;
+            this.consumer = consumer;
         }
 
         @Override
         public void invoke(Map<Integer, String> data, AnalysisContext context) {
-            String line = data.entrySet()
+            if (this.isStopped) {
+                return;
+            }
+            this.sheetRows++;
+            int maxRows = this.option.getMaxRowsPerSheet();
+            if (maxRows <= 0 || this.sheetRows <= maxRows) {
+                this.emit(this.toLine(data));
+                return;
+            }
+            this.isTruncated = true;
+            if (!this.option.isSampled()) {
+                return;
+            }
+            int seen = this.sheetRows - maxRows;
+            if (this.samples.size() < this.option.getSampleRows()) {
+                this.samples.add(new SampledRow(seen, this.toLine(data)));
+                return;
+            }
+            int index = this.random.nextInt(seen);
+            if (index < this.option.getSampleRows()) {
+                this.samples.set(index, new SampledRow(seen, this.toLine(data)));
+            }
+        }
+
+        @Override
+        public boolean hasNext(AnalysisContext context) {
+            return !this.isStopped && !this.isSheetExhausted();
+        }
+
+        @Override
+        public void doAfterAllAnalysed(AnalysisContext context) {}
+
+        void startSheet(int sheetNo) {
+            this.sheetRows = 0;
+            this.samples.clear();
+            this.emit("Sheet " + (sheetNo + 1) + ":\n");
+        }
+
+        void finishSheet() {
+            int omitted = this.sheetRows - this.option.getMaxRowsPerSheet();
+            if (this.option.getMaxRowsPerSheet() <= 0 || omitted <= 0) {
+                return;
+            }
+            if (!this.option.isSampled()) {
+                // 未开启抽样时读到上限后的第一行即停止读取该工作表，省略的行数未知.
+                this.emit("... [more rows omitted]\n");
+                return;
+            }
+            this.emit(String.format("... [%d more rows omitted, %d sampled rows follow]\n",
+                    omitted,
+                    this.samples.size()));
+            this.samples.sort(Comparator.comparingInt(SampledRow::getIndex));
+            this.samples.forEach(sample -> this.emit(sample.getLine()));
+            this.samples.clear();
+        }
+
+        void emit(String chunk) {
+            if (this.isStopped) {
+                return;
+            }
+            long maxBytes = this.option.getMaxBytes();
+            int bytes = chunk.getBytes(StandardCharsets.UTF_8).length;
+            if (maxBytes > 0 && this.emittedBytes + bytes > maxBytes) {
+                this.isStopped = true;
+                this.isTruncated = true;
+                this.consumer.accept(String.format("... [truncated, byte limit %d reached]\n", maxBytes));
+                return;
+            }
+            this.emittedBytes += bytes;
+            this.consumer.accept(chunk);
+        }
+
+        boolean isStopped() {
+            return this.isStopped;
+        }
+
+        boolean isTruncated() {
+            return this.isTruncated;
+        }
+
+        private boolean isSheetExhausted() {
+            int maxRows = this.option.getMaxRowsPerSheet();
+            return !this.option.isSampled() && maxRows > 0 && this.sheetRows > maxRows;
+        }
+
+        private String toLine(Map<Integer, String> data) {
+            int maxCells = this.option.getMaxCellsPerRow();
+            return data.entrySet()
                     .stream()
                     .sorted(Map.Entry.comparingByKey())
+                    .limit(maxCells > 0 ? maxCells : Long.MAX_VALUE)
                     .map(e -> e.getValue() == null ? "" : e.getValue())
-                    .collect(Collectors.joining("\t"));
-            this.excelContent.append(line).append('\n');
+                    .collect(Collectors.joining("\t")) + '\n';
         }
+    }
 
-        @Override
-        public void doAfterAllAnalysed(AnalysisContext context) {}
+    private static class SampledRow {
+        private final int index;
+        private final String line;
+
+        SampledRow(int index, String line) {
+            this.index = index;
+            this.line = line;
+        }
+
+        int getIndex() {
+            return this.index;
+        }
+
+        String getLine() {
+            return this.line;
+        }
     }
 
     /**
@@ -15,10 +15,19 @@ import modelengine.fitframework.test.annotation.FitTestWithJunit;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * 表示{@link ExcelFileExtractor}的测试集。
@@ -31,6 +40,9 @@ class ExcelFileExtractorTest {
     @Fit
     ExcelFileExtractor excelFileExtractor;
 
+    @TempDir
+    Path tempDir;
+
     @Test
     @DisplayName("测试获取支持文件类型")
     void supportedFileType() {
@@ -69,4 +81,110 @@ class ExcelFileExtractorTest {
                 """;
         assertThat(this.excelFileExtractor.extractFile(file.getAbsolutePath())).isEqualTo(expected);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("测试超出每表行数上限时截断并提示省略")
+    void shouldTruncateWhenExceedRowBudget() throws IOException {
+        String fileUrl = this.createCsv(100);
+        List<String> chunks = new ArrayList<>();
+
+        boolean isTruncated = this.excelFileExtractor.extractChunks(fileUrl,
+                new ExcelExtractOption(10, 0, 0L, false, 0),
+                chunks::add);
+
+        assertThat(isTruncated).isTrue();
+        assertThat(chunks).hasSize(13);
+        assertThat(chunks.get(0)).isEqualTo("Sheet 1:\n");
+        assertThat(chunks.get(10)).isEqualTo("10\tname10\tvalue10\n");
+        assertThat(chunks.get(11)).isEqualTo("... [more rows omitted]\n");
+    }
+
+    @Test
+    @DisplayName("测试未开启抽样时读到每表行数上限后停止读取该工作表")
+    void shouldStopSheetWhenRowBudgetUsedUpWithoutSampling() {
+        ExcelFileExtractor.ExcelReadListener listener = new ExcelFileExtractor.ExcelReadListener(
+                new ExcelExtractOption(2, 0, 0L, false, 0),
+                chunk -> {});
+        listener.startSheet(0);
+        for (int i = 0; i < 3; i++) {
+            assertThat(listener.hasNext(null)).isTrue();
+            listener.invoke(Map.of(0, "row" + i), null);
+        }
+
+        assertThat(listener.hasNext(null)).isFalse();
+        listener.finishSheet();
+        listener.startSheet(1);
+        assertThat(listener.hasNext(null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("测试开启抽样时超出每表行数上限后继续读取")
+    void shouldKeepReadingWhenRowBudgetUsedUpWithSampling() {
+        ExcelFileExtractor.ExcelReadListener listener = new ExcelFileExtractor.ExcelReadListener(
+                new ExcelExtractOption(2, 0, 0L, true, 1),
+                chunk -> {});
+        listener.startSheet(0);
+        for (int i = 0; i < 3; i++) {
+            listener.invoke(Map.of(0, "row" + i), null);
+        }
+
+        assertThat(listener.hasNext(null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("测试达到字节上限时停止读取")
+    void shouldStopWhenExceedByteBudget() throws IOException {
+        String fileUrl = this.createCsv(10000);
+        List<String> chunks = new ArrayList<>();
+
+        boolean isTruncated = this.excelFileExtractor.extractChunks(fileUrl,
+                new ExcelExtractOption(0, 0, 200L, false, 0),
+                chunks::add);
+
+        List<String> content = chunks.subList(0, chunks.size() - 1);
+        assertThat(isTruncated).isTrue();
+        assertThat(content.stream().mapToInt(chunk -> chunk.getBytes(StandardCharsets.UTF_8).length).sum())
+                .isLessThanOrEqualTo(200);
+        assertThat(chunks.get(chunks.size() - 1)).isEqualTo("... [truncated, byte limit 200 reached]\n");
+    }
+
+    @Test
+    @DisplayName("测试超出每行单元格上限时只输出前几列")
+    void shouldLimitCellsWhenExceedCellBudget() throws IOException {
+        String fileUrl = this.createCsv(3);
+        StringBuilder content = new StringBuilder();
+
+        this.excelFileExtractor.extractChunks(fileUrl, new ExcelExtractOption(0, 2, 0L, false, 0), content::append);
+
+        assertThat(content.toString()).isEqualTo("Sheet 1:\n1\tname1\n2\tname2\n3\tname3\n\n");
+    }
+
+    @Test
+    @DisplayName("测试抽样摘要模式输出固定数量的抽样行")
+    void shouldSampleRowsWhenSampledModeEnabled() throws IOException {
+        String fileUrl = this.createCsv(1000);
+        List<String> chunks = new ArrayList<>();
+
+        boolean isTruncated = this.excelFileExtractor.extractChunks(fileUrl,
+                new ExcelExtractOption(10, 0, 0L, true, 5),
+                chunks::add);
+
+        assertThat(isTruncated).isTrue();
+        assertThat(chunks).hasSize(18);
+        assertThat(chunks.get(11)).isEqualTo("... [990 more rows omitted, 5 sampled rows follow]\n");
+        List<Integer> sampledIds = chunks.subList(12, 17)
+                .stream()
+                .map(line -> Integer.parseInt(line.substring(0, line.indexOf('\t'))))
+                .collect(Collectors.toList());
+        assertThat(sampledIds).isSorted().allMatch(id -> id > 10 && id <= 1000);
+    }
+
+    private String createCsv(int rows) throws IOException {
+        Path file = this.tempDir.resolve("rows.csv");
+        List<String> lines = IntStream.rangeClosed(1, rows)
+                .mapToObj(i -> i + ",name" + i + ",value" + i)
+                .collect(Collectors.toList());
+        Files.write(file, lines, StandardCharsets.UTF_8);
+        return file.toString();
+    }
+}
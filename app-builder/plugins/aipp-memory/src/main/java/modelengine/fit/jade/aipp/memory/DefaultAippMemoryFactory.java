@@ -18,6 +18,7 @@ import modelengine.fel.core.template.BulkStringTemplate;
 import modelengine.fel.core.template.support.DefaultBulkStringTemplate;
 import modelengine.fel.core.tokenizer.Tokenizer;
 import modelengine.fit.jade.aipp.memory.support.AippBufferWindowMemory;
+import modelengine.fit.jade.aipp.memory.support.AippTokenCounter;
 import modelengine.fit.jade.aipp.memory.support.AippTokenWindowMemory;
 import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.util.MapBuilder;
@@ -33,6 +34,8 @@ import java.util.Map;
  */
 @Component
 public class DefaultAippMemoryFactory implements AippMemoryFactory {
+    private static final long MAX_TOKEN_COUNT_CACHE_BYTES = 1024L * 1024L;
+
     private final Map<AippMemorySerializeAlg, BulkStringTemplate> templateMap;
     private final Map<AippMemoryWindowAlg, AippMemoryInitializer> initializerMap;
 
@@ -48,8 +51,10 @@ public class DefaultAippMemoryFactory implements AippMemoryFactory {
                 .build();
         AippMemoryInitializer bufferWindowInitializer =
                 (rounds, property, template) -> new AippBufferWindowMemory(rounds, cast(property), template);
+        AippTokenCounter tokenCounter = new AippTokenCounter(tokenizer, MAX_TOKEN_COUNT_CACHE_BYTES);
         AippMemoryInitializer tokenWindowInitializer =
-                (rounds, property, template) -> new AippTokenWindowMemory(rounds, cast(property), template, tokenizer);
+                (rounds, property, template) -> new AippTokenWindowMemory(rounds, cast(property), template,
+                        tokenCounter);
         this.initializerMap = MapBuilder.<AippMemoryWindowAlg, AippMemoryInitializer>get()
                 .put(BUFFER_WINDOW, bufferWindowInitializer)
                 .put(TOKEN_WINDOW, tokenWindowInitializer)
@@ -0,0 +1,93 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jade.aipp.memory.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import modelengine.fel.core.tokenizer.Tokenizer;
+import modelengine.fit.jade.aipp.memory.AippChatRound;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 表示历史记录的分词计数器。
+ * <p>历史记录已带有分词数时直接使用，否则计算后记录到历史记录上，并按问题和答案的 SHA-256 摘要缓存最近的计算结果，
+ * 使同一会话的历史记录在后续轮次中无需重复分词。缓存不保留问题和答案的原文，按估算的占用字节数淘汰。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class AippTokenCounter {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Tokenizer tokenizer;
+    private final Cache<String, Integer> cache;
+
+    /**
+     * 构造分词计数器。
+     *
+     * @param tokenizer 表示分词器的 {@link Tokenizer}。
+     * @param maxCacheBytes 表示缓存最多占用字节数的 {@code long}，不大于 0 时不缓存。
+     */
+    public AippTokenCounter(Tokenizer tokenizer, long maxCacheBytes) {
+        this.tokenizer = notNull(tokenizer, "The tokenizer cannot be null.");
+        if (maxCacheBytes > 0) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumWeight(maxCacheBytes)
+                    .weigher((String key, Integer value) -> key.length() + Integer.BYTES)
+                    .build();
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * 获取历史记录的分词数，仅在历史记录没有分词数时调用分词器。
+     *
+     * @param chatRound 表示历史记录的 {@link AippChatRound}。
+     * @return 表示分词数的 {@code int}。
+     */
+    public int count(AippChatRound chatRound) {
+        if (chatRound.getTokenCount() != null) {
+            return chatRound.getTokenCount();
+        }
+        int tokenCount = this.cache == null
+                ? this.tokenize(chatRound)
+                : this.cache.get(digest(chatRound), ignored -> this.tokenize(chatRound));
+        chatRound.setTokenCount(tokenCount);
+        return tokenCount;
+    }
+
+    private int tokenize(AippChatRound chatRound) {
+        return this.tokenizer.countToken(chatRound.getQuestion()) + this.tokenizer.countToken(chatRound.getAnswer());
+    }
+
+    private static String digest(AippChatRound chatRound) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            // 问题前写入长度，避免问题和答案拼接后相同的历史记录冲突.
+            byte[] question = nullToEmpty(chatRound.getQuestion()).getBytes(StandardCharsets.UTF_8);
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(question.length).array());
+            digest.update(question);
+            digest.update(nullToEmpty(chatRound.getAnswer()).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String nullToEmpty(String text) {
+        return text == null ? "" : text;
+    }
+}
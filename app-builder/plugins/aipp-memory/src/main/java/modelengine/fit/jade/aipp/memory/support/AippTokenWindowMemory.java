@@ -17,6 +17,7 @@ import java.util.List;
 
 /**
  * 用分词数设置滑动窗口大小的历史记录。
+ * <p>分词数由 {@link AippTokenCounter} 提供，已有分词数的历史记录不再调用分词器。</p>
  *
  * @author 邱晓霞
  * @since 2024-09-20
@@ -34,19 +35,31 @@ public class AippTokenWindowMemory extends AbstractAippChatMemory {
      */
     public AippTokenWindowMemory(List<AippChatRound> histories, int maxTokenCount, BulkStringTemplate template,
             Tokenizer tokenizer) {
+        this(histories, maxTokenCount, template, new AippTokenCounter(tokenizer, 0));
+    }
+
+    /**
+     * 构造历史记录。
+     *
+     * @param histories 表示历史记录列表的 {@link List}{@code <}{@link AippChatRound}{@code >}。
+     * @param maxTokenCount 表示可记录的最大分词数的 {@code int}。
+     * @param template 表示模板的 {@link BulkStringTemplate}。
+     * @param tokenCounter 表示分词计数器的 {@link AippTokenCounter}。
+     */
+    public AippTokenWindowMemory(List<AippChatRound> histories, int maxTokenCount, BulkStringTemplate template,
+            AippTokenCounter tokenCounter) {
         super(template);
-        this.histories = filterWithMaxTokenCount(histories, maxTokenCount, tokenizer);
+        this.histories = filterWithMaxTokenCount(histories, maxTokenCount, tokenCounter);
     }
 
     private static List<AippChatRound> filterWithMaxTokenCount(List<AippChatRound> histories, int maxTokenCount,
-            Tokenizer tokenizer) {
+            AippTokenCounter tokenCounter) {
         notNull(histories, "The histories cannot be null.");
-        notNull(tokenizer, "The tokenizer cannot be null.");
+        notNull(tokenCounter, "The token counter cannot be null.");
         int tokenCount = 0;
         int index = histories.size();
         while (tokenCount <= maxTokenCount && --index >= 0) {
-            AippChatRound chatRound = histories.get(index);
-            tokenCount += tokenizer.countToken(chatRound.getQuestion()) + tokenizer.countToken(chatRound.getAnswer());
+            tokenCount += tokenCounter.count(histories.get(index));
         }
         if (index >= 0) {
             return histories.subList(index + 1, histories.size());
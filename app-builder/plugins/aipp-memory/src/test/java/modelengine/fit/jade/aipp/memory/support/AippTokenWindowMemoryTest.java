@@ -10,6 +10,8 @@ import static modelengine.fit.jade.aipp.memory.util.TestUtils.genHistories;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import modelengine.fel.core.memory.Memory;
+import modelengine.fel.core.template.support.DefaultBulkStringTemplate;
+import modelengine.fit.jade.aipp.memory.AippChatRound;
 import modelengine.fit.jade.aipp.memory.AippMemoryConfig;
 import modelengine.fit.jade.aipp.memory.AippMemoryFactory;
 import modelengine.fit.jade.aipp.memory.DefaultAippMemoryFactory;
@@ -18,6 +20,9 @@ import modelengine.fit.jade.aipp.memory.util.SimpleTokenizer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * 表示 {@link AippTokenWindowMemory} 的测试用例。
  *
@@ -50,4 +55,76 @@ public class AippTokenWindowMemoryTest {
         assertThat(memory).isInstanceOf(AippTokenWindowMemory.class);
         assertThat(memory.messages().size()).isEqualTo(4);
     }
+
+    @Test
+    @DisplayName("历史记录已有分词数或已计算过时，不再调用分词器")
+    void shouldOnlyTokenizeRoundsWithoutCount() {
+        CountingTokenizer tokenizer = new CountingTokenizer();
+        AippTokenCounter tokenCounter = new AippTokenCounter(tokenizer, 1000);
+        DefaultBulkStringTemplate template = new DefaultBulkStringTemplate("{{question}}", "\n");
+        new AippTokenWindowMemory(genHistories(3), 6, template, tokenCounter);
+        assertThat(tokenizer.calls.get()).isEqualTo(6);
+
+        // 下一轮对话重新构造的历史记录命中缓存
+        Memory memory = new AippTokenWindowMemory(genHistories(3), 4, template, tokenCounter);
+        assertThat(tokenizer.calls.get()).isEqualTo(6);
+        assertThat(memory.messages().size()).isEqualTo(4);
+
+        // 已带有分词数的历史记录直接使用
+        List<AippChatRound> histories = genHistories(1);
+        histories.get(0).setQuestion("question");
+        histories.get(0).setTokenCount(8);
+        memory = new AippTokenWindowMemory(histories, 7, template, tokenCounter);
+        assertThat(tokenizer.calls.get()).isEqualTo(6);
+        assertThat(memory.messages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("500轮历史记录逐轮重新构造时，每条历史记录只分词一次")
+    void shouldTokenizeEachRoundOnceWhenHistoriesRebuiltPerTurn() {
+        int rounds = 500;
+        int turns = 50;
+        CountingTokenizer tokenizer = new CountingTokenizer();
+        AippTokenCounter tokenCounter = new AippTokenCounter(tokenizer, 1024L * 1024L);
+        DefaultBulkStringTemplate template = new DefaultBulkStringTemplate("{{question}}", "\n");
+        for (int i = 0; i < turns; i++) {
+            new AippTokenWindowMemory(genHistories(rounds), Integer.MAX_VALUE, template, tokenCounter);
+        }
+        assertThat(tokenizer.calls.get()).isEqualTo(rounds * 2);
+
+        tokenizer.calls.set(0);
+        for (int i = 0; i < turns; i++) {
+            new AippTokenWindowMemory(genHistories(rounds), Integer.MAX_VALUE, template, tokenizer);
+        }
+        assertThat(tokenizer.calls.get()).isEqualTo(turns * rounds * 2);
+    }
+
+    @Test
+    @DisplayName("问题和答案拼接后相同的历史记录分别分词")
+    void shouldTokenizeSeparatelyWhenConcatenationSame() {
+        CountingTokenizer tokenizer = new CountingTokenizer();
+        AippTokenCounter tokenCounter = new AippTokenCounter(tokenizer, 1024L * 1024L);
+
+        tokenCounter.count(chatRound("ab", "c"));
+        tokenCounter.count(chatRound("a", "bc"));
+
+        assertThat(tokenizer.calls.get()).isEqualTo(4);
+    }
+
+    private static AippChatRound chatRound(String question, String answer) {
+        AippChatRound chatRound = new AippChatRound();
+        chatRound.setQuestion(question);
+        chatRound.setAnswer(answer);
+        return chatRound;
+    }
+
+    private static class CountingTokenizer extends SimpleTokenizer {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public int countToken(String text) {
+            this.calls.incrementAndGet();
+            return super.countToken(text);
+        }
+    }
 }
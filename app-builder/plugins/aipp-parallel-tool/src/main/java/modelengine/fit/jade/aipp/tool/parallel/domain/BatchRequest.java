@@ -114,7 +114,7 @@ public class BatchRequest {
             }
             task = this.undoToolCallTasks.poll();
         }
-        this.taskExecutor.post(() -> {
+        this.taskExecutor.post(this.id, () -> {
             if (this.hasException()) {
                 LOG.warn("Ignore the tool call, because the batch request has exception. [batchId={}, "
                         + "toolUniqueName={}, index={}]", this.id, task.getToolCall().getUniqueName(), task.getIndex());
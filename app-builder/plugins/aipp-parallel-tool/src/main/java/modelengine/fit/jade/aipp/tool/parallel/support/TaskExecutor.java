@@ -19,4 +19,14 @@ public interface TaskExecutor {
      * @param runnable 表示需要执行任务的 {@link Runnable}。
      */
     void post(Runnable runnable);
+
+    /**
+     * 按分组投递任务，支持公平调度的实现会在不同分组之间轮转执行任务。
+     *
+     * @param groupId 表示任务分组标识的 {@link String}。
+     * @param runnable 表示需要执行任务的 {@link Runnable}。
+     */
+    default void post(String groupId, Runnable runnable) {
+        this.post(runnable);
+    }
 }
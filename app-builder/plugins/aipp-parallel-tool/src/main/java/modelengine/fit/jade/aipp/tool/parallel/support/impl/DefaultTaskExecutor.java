@@ -13,15 +13,19 @@ import modelengine.fitframework.annotation.Value;
 import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.thread.DefaultThreadFactory;
+import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 任务执行器的实现。
+ * <p>默认使用线程池执行任务，线程池占满时由调用方线程执行；执行模式为 {@code fair} 时使用 {@link FairTaskDispatcher}，
+ * 全局同时执行的任务数不超过线程池大小，超出的任务按批量请求轮转排队，不占用调用方线程，运行时支持虚拟线程时工作线程使用虚拟线程。</p>
  *
  * @author 宋永坦
  * @since 2025-04-24
@@ -32,11 +36,15 @@ public class DefaultTaskExecutor implements TaskExecutor {
     private static final int MIN_THREAD_POOL_SIZE = 1;
     private static final int MAX_THREAD_POOL_SIZE = 128;
     private static final int MIN_THREAD_CORE_SIZE = 0;
+    private static final String FAIR_MODE = "fair";
+    private static final String DEFAULT_GROUP_ID = "";
 
     private final ExecutorService executorService;
+    private final FairTaskDispatcher fairTaskDispatcher;
 
     public DefaultTaskExecutor(@Value("${parallel-tool.thread-pool-size:64}") int threadPoolSize,
-            @Value("${parallel-tool.thread-core-size:8}") int threadCoreSize) {
+            @Value("${parallel-tool.thread-core-size:8}") int threadCoreSize,
+            @Value("${parallel-tool.executor-mode:pool}") String executorMode) {
         Validation.between(threadPoolSize,
                 MIN_THREAD_POOL_SIZE,
                 MAX_THREAD_POOL_SIZE,
@@ -49,20 +57,64 @@ public class DefaultTaskExecutor implements TaskExecutor {
                 StringUtils.format("The parallel tool thread core size should between {0} and {1}.",
                         MIN_THREAD_CORE_SIZE,
                         threadPoolSize));
+        Thread.UncaughtExceptionHandler handler = (thread, throwable) -> {
+            LOG.error("[parallel-tool] Exception. [message={}]", throwable.getMessage());
+            LOG.error("[parallel-tool] Details:", throwable);
+        };
+        DefaultThreadFactory threadFactory = new DefaultThreadFactory("parallel-tool", false, handler);
+        if (StringUtils.equalsIgnoreCase(executorMode, FAIR_MODE)) {
+            this.executorService = null;
+            this.fairTaskDispatcher = new FairTaskDispatcher(threadPoolSize,
+                    threadCoreSize,
+                    5L,
+                    TimeUnit.MINUTES,
+                    virtualThreadFactory(handler, threadFactory));
+            return;
+        }
+        this.fairTaskDispatcher = null;
         this.executorService = new ThreadPoolExecutor(threadCoreSize,
                 threadPoolSize,
                 5L,
                 TimeUnit.MINUTES,
                 new SynchronousQueue<>(),
-                new DefaultThreadFactory("parallel-tool", false, (thread, throwable) -> {
-                    LOG.error("[parallel-tool] Exception. [message={}]", throwable.getMessage());
-                    LOG.error("[parallel-tool] Details:", throwable);
-                }),
+                threadFactory,
                 new ThreadPoolExecutor.CallerRunsPolicy());
     }
 
     @Override
     public void post(Runnable runnable) {
+        this.post(DEFAULT_GROUP_ID, runnable);
+    }
+
+    @Override
+    public void post(String groupId, Runnable runnable) {
+        if (this.fairTaskDispatcher != null) {
+            this.fairTaskDispatcher.submit(groupId, runnable);
+            return;
+        }
         this.executorService.execute(runnable);
     }
+
+    /**
+     * 获取公平模式工作线程的线程工厂。
+     * <p>模块按 Java 17 编译，运行时 JVM 支持虚拟线程时通过反射创建虚拟线程工厂，工具调用阻塞等待时不占用平台线程；
+     * 否则使用平台线程工厂。</p>
+     *
+     * @param handler 表示未捕获异常处理器的 {@link Thread.UncaughtExceptionHandler}。
+     * @param fallback 表示虚拟线程不可用时使用的 {@link ThreadFactory}。
+     * @return 表示工作线程工厂的 {@link ThreadFactory}。
+     */
+    static ThreadFactory virtualThreadFactory(Thread.UncaughtExceptionHandler handler, ThreadFactory fallback) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "parallel-tool-", 0L);
+            builder = builderClass.getMethod("uncaughtExceptionHandler", Thread.UncaughtExceptionHandler.class)
+                    .invoke(builder, handler);
+            return ObjectUtils.cast(builderClass.getMethod("factory").invoke(builder));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.info("Virtual threads are not available, use platform threads for parallel tool instead.");
+            return fallback;
+        }
+    }
 }
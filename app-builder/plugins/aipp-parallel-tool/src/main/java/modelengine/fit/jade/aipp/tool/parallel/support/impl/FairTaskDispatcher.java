@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.jade.aipp.tool.parallel.support.impl;
+
+import modelengine.fitframework.inspection.Validation;
+import modelengine.fitframework.log.Logger;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 按分组公平调度的任务分发器。
+ * <p>每个分组（一个批量请求）有独立的等待队列，工作线程在有任务的分组之间轮转取任务，避免单个批量请求占满执行能力；
+ * 工作线程数量即全局同时执行的任务上限，超出上限的任务排队等待，不会在调用方线程执行。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class FairTaskDispatcher {
+    private static final Logger LOG = Logger.get(FairTaskDispatcher.class);
+
+    private final int maxInFlight;
+    private final int coreSize;
+    private final long keepAliveNanos;
+    private final ThreadFactory threadFactory;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition hasTask = this.lock.newCondition();
+    private final Map<String, Queue<PendingTask>> groupQueues = new HashMap<>();
+    private final Queue<String> readyGroups = new ArrayDeque<>();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder executionNanos = new LongAdder();
+    private final LongAdder completedCount = new LongAdder();
+
+    private int queuedCount;
+    private int workerCount;
+    private int idleWorkerCount;
+    private int inFlightCount;
+
+    /**
+     * 创建按分组公平调度的任务分发器。
+     *
+     * @param maxInFlight 表示全局同时执行任务上限的 {@code int}。
+     * @param coreSize 表示空闲时保留的工作线程数量的 {@code int}。
+     * @param keepAlive 表示超出保留数量的工作线程空闲存活时间的 {@code long}。
+     * @param unit 表示空闲存活时间单位的 {@link TimeUnit}。
+     * @param threadFactory 表示工作线程工厂的 {@link ThreadFactory}。
+     */
+    public FairTaskDispatcher(int maxInFlight, int coreSize, long keepAlive, TimeUnit unit,
+            ThreadFactory threadFactory) {
+        this.maxInFlight = Validation.greaterThan(maxInFlight, 0, "The max in-flight count should be positive.");
+        this.coreSize = Validation.between(coreSize, 0, maxInFlight, "The core size should not exceed max in-flight.");
+        this.keepAliveNanos = unit.toNanos(keepAlive);
+        this.threadFactory = Validation.notNull(threadFactory, "The thread factory should not be null.");
+    }
+
+    /**
+     * 投递分组任务。
+     *
+     * @param groupId 表示任务分组标识的 {@link String}。
+     * @param runnable 表示需要执行任务的 {@link Runnable}。
+     */
+    public void submit(String groupId, Runnable runnable) {
+        PendingTask task = new PendingTask(runnable, System.nanoTime());
+        boolean shouldStartWorker;
+        this.lock.lock();
+        try {
+            Queue<PendingTask> queue = this.groupQueues.get(groupId);
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                this.groupQueues.put(groupId, queue);
+                this.readyGroups.add(groupId);
+            }
+            queue.add(task);
+            this.queuedCount++;
+            shouldStartWorker = this.idleWorkerCount < this.queuedCount && this.workerCount < this.maxInFlight;
+            if (shouldStartWorker) {
+                this.workerCount++;
+            }
+            this.hasTask.signal();
+        } finally {
+            this.lock.unlock();
+        }
+        if (shouldStartWorker) {
+            this.threadFactory.newThread(this::work).start();
+        }
+    }
+
+    /**
+     * 获取排队等待执行的任务数量。
+     *
+     * @return 表示排队任务数量的 {@code int}。
+     */
+    public int getQueuedCount() {
+        this.lock.lock();
+        try {
+            return this.queuedCount;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * 获取正在执行的任务数量。
+     *
+     * @return 表示正在执行任务数量的 {@code int}。
+     */
+    public int getInFlightCount() {
+        this.lock.lock();
+        try {
+            return this.inFlightCount;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * 获取已完成的任务数量。
+     *
+     * @return 表示已完成任务数量的 {@code long}。
+     */
+    public long getCompletedCount() {
+        return this.completedCount.sum();
+    }
+
+    /**
+     * 获取已完成任务的累计排队等待时间。
+     *
+     * @return 表示累计排队等待毫秒数的 {@code long}。
+     */
+    public long getTotalQueueWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(this.queueWaitNanos.sum());
+    }
+
+    /**
+     * 获取已完成任务的累计执行时间。
+     *
+     * @return 表示累计执行毫秒数的 {@code long}。
+     */
+    public long getTotalExecutionMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(this.executionNanos.sum());
+    }
+
+    private void work() {
+        while (true) {
+            PendingTask task = this.take();
+            if (task == null) {
+                return;
+            }
+            long start = System.nanoTime();
+            long waitNanos = start - task.getSubmitNanos();
+            try {
+                task.getRunnable().run();
+            } catch (Throwable throwable) {
+                LOG.error("[parallel-tool] Task exception. [message={}]", throwable.getMessage());
+                LOG.error("[parallel-tool] Details:", throwable);
+            } finally {
+                long executeNanos = System.nanoTime() - start;
+                this.queueWaitNanos.add(waitNanos);
+                this.executionNanos.add(executeNanos);
+                this.completedCount.increment();
+                this.finish();
+                LOG.debug("[parallel-tool] Task finished. [queueWaitMillis={}, executionMillis={}]",
+                        TimeUnit.NANOSECONDS.toMillis(waitNanos),
+                        TimeUnit.NANOSECONDS.toMillis(executeNanos));
+            }
+        }
+    }
+
+    private PendingTask take() {
+        this.lock.lock();
+        try {
+            long waitNanos = this.keepAliveNanos;
+            while (this.readyGroups.isEmpty()) {
+                if (waitNanos <= 0 && this.workerCount > this.coreSize) {
+                    this.workerCount--;
+                    return null;
+                }
+                this.idleWorkerCount++;
+                try {
+                    waitNanos = this.hasTask.awaitNanos(waitNanos <= 0 ? this.keepAliveNanos : waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    this.workerCount--;
+                    return null;
+                } finally {
+                    this.idleWorkerCount--;
+                }
+            }
+            String groupId = this.readyGroups.poll();
+            Queue<PendingTask> queue = this.groupQueues.get(groupId);
+            PendingTask task = queue.poll();
+            if (queue.isEmpty()) {
+                this.groupQueues.remove(groupId);
+            } else {
+                this.readyGroups.add(groupId);
+            }
+            this.queuedCount--;
+            this.inFlightCount++;
+            return task;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void finish() {
+        this.lock.lock();
+        try {
+            this.inFlightCount--;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private static class PendingTask {
+        private final Runnable runnable;
+        private final long submitNanos;
+
+        PendingTask(Runnable runnable, long submitNanos) {
+            this.runnable = runnable;
+            this.submitNanos = submitNanos;
+        }
+
+        Runnable getRunnable() {
+            return this.runnable;
+        }
+
+        long getSubmitNanos() {
+            return this.submitNanos;
+        }
+    }
+}
@@ -49,7 +49,7 @@ class BatchRequestTest {
                 ToolCall.builder().uniqueName("u2").args(new HashMap<>()).build(),
                 ToolCall.builder().uniqueName("u3").args(new HashMap<>()).build());
         Config config = Config.builder().concurrency(2).build();
-        Mockito.doNothing().when(this.taskExecutor).post(Mockito.any());
+        Mockito.doNothing().when(this.taskExecutor).post(Mockito.anyString(), Mockito.any());
 
         BatchRequest batchRequest = new BatchRequest(toolCalls,
                 config,
@@ -59,7 +59,8 @@ class BatchRequestTest {
                 new HashMap<>());
         batchRequest.post();
 
-        Mockito.verify(this.taskExecutor, Mockito.times(config.getConcurrency())).post(Mockito.any());
+        Mockito.verify(this.taskExecutor, Mockito.times(config.getConcurrency()))
+                .post(Mockito.anyString(), Mockito.any());
     }
 
     @Test
@@ -73,10 +74,10 @@ class BatchRequestTest {
                                 .build());
         Config config = Config.builder().concurrency(1).build();
         Mockito.doAnswer((Answer<Void>) invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(this.taskExecutor).post(Mockito.any());
+        }).when(this.taskExecutor).post(Mockito.anyString(), Mockito.any());
         Mockito.when(this.aippInstanceStatus.isRunning(Mockito.any())).thenReturn(true);
         Mockito.when(this.toolExecuteService.execute(Mockito.eq(toolCalls.get(0).getUniqueName()),
                 Mockito.eq("{}"))).thenReturn("1");
@@ -92,7 +93,8 @@ class BatchRequestTest {
         batchRequest.post();
         Map<String, Object> result = batchRequest.await();
 
-        Mockito.verify(this.taskExecutor, Mockito.times(toolCalls.size())).post(Mockito.any());
+        Mockito.verify(this.taskExecutor, Mockito.times(toolCalls.size()))
+                .post(Mockito.anyString(), Mockito.any());
         Assertions.assertEquals(toolCalls.size(), result.size());
         Assertions.assertInstanceOf(Integer.class, result.get(toolCalls.get(0).getOutputName()));
         Assertions.assertEquals(1, result.get(toolCalls.get(0).getOutputName()));
@@ -106,10 +108,10 @@ class BatchRequestTest {
                 ToolCall.builder().uniqueName("u2").args(new HashMap<>()).build());
         Config config = Config.builder().concurrency(1).build();
         Mockito.doAnswer((Answer<Void>) invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(this.taskExecutor).post(Mockito.any());
+        }).when(this.taskExecutor).post(Mockito.anyString(), Mockito.any());
         Mockito.when(this.aippInstanceStatus.isRunning(Mockito.any())).thenReturn(true);
         Mockito.when(this.toolExecuteService.execute(Mockito.eq(toolCalls.get(0).getUniqueName()), Mockito.eq("{}")))
                 .thenThrow(new IllegalArgumentException("wrong argument"));
@@ -132,10 +134,10 @@ class BatchRequestTest {
                 ToolCall.builder().uniqueName("u2").args(new HashMap<>()).build());
         Config config = Config.builder().concurrency(1).build();
         Mockito.doAnswer((Answer<Void>) invocation -> {
-            Runnable runnable = invocation.getArgument(0);
+            Runnable runnable = invocation.getArgument(1);
             runnable.run();
             return null;
-        }).when(this.taskExecutor).post(Mockito.any());
+        }).when(this.taskExecutor).post(Mockito.anyString(), Mockito.any());
         Mockito.when(this.toolExecuteService.execute(Mockito.any(String.class), Mockito.any(String.class)))
                 .thenReturn("1");
         Map<String, Object> context = MapBuilder.<String, Object>get().put("instanceId", "1").build();
@@ -150,7 +152,7 @@ class BatchRequestTest {
         batchRequest.post();
         IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, batchRequest::await);
 
-        Mockito.verify(this.taskExecutor, Mockito.times(2)).post(Mockito.any());
+        Mockito.verify(this.taskExecutor, Mockito.times(2)).post(Mockito.anyString(), Mockito.any());
         Mockito.verify(this.toolExecuteService, Mockito.times(1))
                 .execute(Mockito.any(String.class), Mockito.any(String.class));
         Assertions.assertTrue(exception.getMessage()
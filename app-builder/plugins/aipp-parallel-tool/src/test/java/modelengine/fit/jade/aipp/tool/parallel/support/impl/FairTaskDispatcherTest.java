@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ * This file is a part of the ModelEngine Project.
+ * Licensed under the MIT License. See License.txt in the project root for license information.
+ */
+
+package modelengine.fit.jade.aipp.tool.parallel.support.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link FairTaskDispatcher} 的测试类。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+class FairTaskDispatcherTest {
+    @Test
+    void shouldRunTasksRoundRobinWhenSubmitGivenMultipleGroups() throws InterruptedException {
+        FairTaskDispatcher dispatcher = new FairTaskDispatcher(1, 0, 1L, TimeUnit.MINUTES, this::newThread);
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(4);
+        dispatcher.submit("a", () -> {
+            started.countDown();
+            this.await(release);
+            executed.add("a1");
+            finished.countDown();
+        });
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        dispatcher.submit("a", this.record(executed, "a2", finished));
+        dispatcher.submit("a", this.record(executed, "a3", finished));
+        dispatcher.submit("b", this.record(executed, "b1", finished));
+        Assertions.assertEquals(3, dispatcher.getQueuedCount());
+        Assertions.assertEquals(1, dispatcher.getInFlightCount());
+
+        release.countDown();
+
+        Assertions.assertTrue(finished.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(Arrays.asList("a1", "a2", "b1", "a3"), executed);
+    }
+
+    @Test
+    void shouldLimitInFlightTasksWhenSubmitGivenMaxInFlight() throws InterruptedException {
+        FairTaskDispatcher dispatcher = new FairTaskDispatcher(3, 0, 1L, TimeUnit.MINUTES, this::newThread);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch finished = new CountDownLatch(30);
+        String callerThread = Thread.currentThread().getName();
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 30; i++) {
+            dispatcher.submit("group" + (i % 5), () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                threads.add(Thread.currentThread().getName());
+                this.sleep();
+                running.decrementAndGet();
+                finished.countDown();
+            });
+        }
+
+        Assertions.assertTrue(finished.await(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(maxRunning.get() <= 3);
+        Assertions.assertFalse(threads.contains(callerThread));
+        Assertions.assertEquals(30, this.waitCompleted(dispatcher, 30));
+        // 每个任务至少执行 10 毫秒，超出并发上限的任务需要排队
+        Assertions.assertTrue(dispatcher.getTotalExecutionMillis() >= 300);
+        Assertions.assertTrue(dispatcher.getTotalQueueWaitMillis() > 0);
+    }
+
+    private Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "fair-task-test");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private Runnable record(List<String> executed, String name, CountDownLatch finished) {
+        return () -> {
+            executed.add(name);
+            finished.countDown();
+        };
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void shouldRunTasksWhenSubmitGivenVirtualThreadFactory() throws InterruptedException {
+        ThreadFactory threadFactory =
+                DefaultTaskExecutor.virtualThreadFactory((thread, throwable) -> {}, this::newThread);
+        FairTaskDispatcher dispatcher = new FairTaskDispatcher(2, 0, 1L, TimeUnit.MINUTES, threadFactory);
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch finished = new CountDownLatch(3);
+        dispatcher.submit("a", this.record(executed, "a1", finished));
+        dispatcher.submit("a", this.record(executed, "a2", finished));
+        dispatcher.submit("b", this.record(executed, "b1", finished));
+
+        Assertions.assertTrue(finished.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(3, executed.size());
+        Assertions.assertEquals(3, this.waitCompleted(dispatcher, 3));
+    }
+
+    private long waitCompleted(FairTaskDispatcher dispatcher, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (dispatcher.getCompletedCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return dispatcher.getCompletedCount();
+    }
+}
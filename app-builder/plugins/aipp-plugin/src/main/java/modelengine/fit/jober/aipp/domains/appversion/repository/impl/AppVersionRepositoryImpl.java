@@ -15,6 +15,8 @@ import modelengine.fit.jober.aipp.domains.appversion.repository.AppVersionReposi
 import modelengine.fit.jober.aipp.domains.appversion.serializer.AppVersionSerializer;
 import modelengine.fit.jober.aipp.enums.AippSortKeyEnum;
 import modelengine.fit.jober.aipp.mapper.AppBuilderAppMapper;
+import modelengine.fit.jober.aipp.po.AppBuilderAppPo;
+import modelengine.fit.jober.aipp.service.AppMetadataCacheService;
 import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.util.StringUtils;
 
@@ -32,10 +34,12 @@ import java.util.stream.Collectors;
 public class AppVersionRepositoryImpl implements AppVersionRepository {
     private final AppBuilderAppMapper mapper;
     private final AppVersionSerializer serializer;
+    private final AppMetadataCacheService appMetadataCacheService;
 
     public AppVersionRepositoryImpl(AppBuilderAppMapper mapper, AppVersionFactory appVersionFactory,
-            IconConverter iconConverter) {
+            IconConverter iconConverter, AppMetadataCacheService appMetadataCacheService) {
         this.mapper = mapper;
+        this.appMetadataCacheService = appMetadataCacheService;
         this.serializer = new AppVersionSerializer(appVersionFactory, this, iconConverter);
     }
 
@@ -48,6 +52,11 @@ public class AppVersionRepositoryImpl implements AppVersionRepository {
     public void update(AppVersion appVersion) {
         this.mapper.updateOne(this.serializer.serialize(appVersion));
         Optional.ofNullable(appVersion).ifPresent(AppVersion::processIconPath);
+        if (appVersion != null && appVersion.isPublished()) {
+            // 发布后同一应用下各版本的最新发布任务都会变化.
+            this.appMetadataCacheService.invalidateApps(this.mapper.selectByAppSuiteId(appVersion.getData()
+                    .getAppSuiteId()).stream().map(AppBuilderAppPo::getId).collect(Collectors.toSet()));
+        }
     }
 
     @Override
@@ -112,6 +121,7 @@ public class AppVersionRepositoryImpl implements AppVersionRepository {
     @Override
     public void deleteByIds(List<String> appIds) {
         this.mapper.delete(appIds);
+        this.appMetadataCacheService.invalidateApps(appIds);
     }
 
     @Override
@@ -60,10 +60,12 @@ import modelengine.fit.waterflow.spi.FlowableService;
 import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.annotation.Fit;
 import modelengine.fitframework.annotation.Fitable;
+import modelengine.fitframework.annotation.Value;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.parameterization.StringFormatException;
 import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.serialization.SerializationException;
+import modelengine.fitframework.thread.DefaultThreadFactory;
 import modelengine.fitframework.util.MapBuilder;
 import modelengine.fitframework.util.MapUtils;
 import modelengine.fitframework.util.ObjectUtils;
@@ -79,6 +81,14 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -100,6 +110,14 @@ public class LlmComponent implements FlowableService {
             "modelengine.fit.jober.aipp.fitable.LLMComponentException";
     private static final String TOOL_UNIQUE_NAME = "toolUniqueName";
     private static final String TOOL_NAME = "name";
+    private static final ScheduledExecutorService STREAM_FLUSH_SCHEDULER =
+            Executors.newSingleThreadScheduledExecutor(new DefaultThreadFactory("llm-stream-flush",
+                    true,
+                    (thread, throwable) -> log.error("Llm stream flush thread exception. [message={}]",
+                            throwable.getMessage(),
+                            throwable)));
+    private static final int STREAM_SEND_THREADS = 16;
+    private static final ExecutorService STREAM_SEND_EXECUTOR = createStreamSendExecutor();
 
     // 暂时使用ConcurrentHashMap存储父节点的元数据
     private final ConcurrentHashMap<String, AippLlmMeta> llmCache = new ConcurrentHashMap<>();
@@ -116,6 +134,8 @@ public class LlmComponent implements FlowableService {
     private final McpClientFactory mcpClientFactory;
     private final OutputFormatterChain formatterChain;
     private final AppVersionService appVersionService;
+    private final long streamFlushInterval;
+    private final int streamFlushSize;
 
     /**
      * 大模型节点构造器，内部通过提供的 agent 和 tool 构建智能体工作流。
@@ -130,6 +150,8 @@ public class LlmComponent implements FlowableService {
      * @param promptBuilderChain 表示提示器构造器职责链的 {@link PromptBuilderChain}。
      * @param appTaskInstanceService 表示任务实例服务的 {@link AppTaskInstanceService}。
      * @param mcpClientFactory 表示大模型上下文客户端工厂的 {@link McpClientFactory}。
+     * @param streamFlushInterval 表示流式输出片段合并推送的时间窗口毫秒数的 {@code long}，不大于 0 时逐片段推送。
+     * @param streamFlushSize 表示流式输出片段合并推送的最大字符数的 {@code int}。
      */
     public LlmComponent(FlowInstanceService flowInstanceService,
             @Fit ToolService toolService,
@@ -141,7 +163,9 @@ public class LlmComponent implements FlowableService {
             PromptBuilderChain promptBuilderChain,
             AppTaskInstanceService appTaskInstanceService,
             OutputFormatterChain formatterChain,
-            McpClientFactory mcpClientFactory, AppVersionService appVersionService) {
+            McpClientFactory mcpClientFactory, AppVersionService appVersionService,
+            @Value("${app-engine.llm.stream.flushInterval:50}") long streamFlushInterval,
+            @Value("${app-engine.llm.stream.flushSize:512}") int streamFlushSize) {
         this.flowInstanceService = flowInstanceService;
         this.toolService = toolService;
         this.aippLogService = aippLogService;
@@ -160,6 +184,8 @@ public class LlmComponent implements FlowableService {
         this.mcpClientFactory = notNull(mcpClientFactory, "The mcp client factory cannot be null.");
         this.formatterChain = formatterChain;
         this.appVersionService = appVersionService;
+        this.streamFlushInterval = streamFlushInterval;
+        this.streamFlushSize = streamFlushSize;
     }
 
     /**
@@ -195,8 +221,8 @@ public class LlmComponent implements FlowableService {
         PromptMessage promptMessage = this.buildPromptMessage(systemPrompt, businessData);
         final boolean[] firstTokenFlag = {true};
         llmMeta.setPromptMetadata(promptMessage.getMetadata());
-        StreamMsgSender streamMsgSender =
-                new StreamMsgSender(this.aippLogStreamService, this.serializer, path, msgId, instId);
+        StreamMsgSender streamMsgSender = new StreamMsgSender(this.aippLogStreamService, this.serializer, path, msgId,
+                instId, () -> this.getInstanceStatus(instId), this.streamFlushInterval, this.streamFlushSize);
         streamMsgSender.sendKnowledge(promptMessage.getMetadata(), businessData);
         ChatOption chatOption = this.buildChatOptions(businessData);
         agentFlow.converse()
@@ -214,9 +240,16 @@ public class LlmComponent implements FlowableService {
                 })
                 .bind(new AippMemory(this.getMemoriesByMaxRounds(businessData)))
                 .bind(AippConst.TOOL_CONTEXT_KEY, toolContext)
-                .doOnConsume(msg -> llmOutputConsumer(llmMeta, msg, promptMessage.getMetadata()))
-                .doOnError(throwable -> doOnAgentError(llmMeta,
-                        throwable.getCause() == null ? throwable.getMessage() : throwable.getCause().getMessage()))
+                .doOnConsume(msg -> {
+                    streamMsgSender.flush();
+                    llmOutputConsumer(llmMeta, msg, promptMessage.getMetadata());
+                })
+                .doOnError(throwable -> {
+                    streamMsgSender.flush();
+                    doOnAgentError(llmMeta, throwable.getCause() == null
+                            ? throwable.getMessage()
+                            : throwable.getCause().getMessage());
+                })
                 .bind(chatOption)
                 .bind(AippConst.TOOLS_KEY, chatOption.tools())
                 .offer(Tip.fromArray(promptMessage.getSystemMessage(), promptMessage.getHumanMessage()));
@@ -224,6 +257,25 @@ public class LlmComponent implements FlowableService {
         return flowData;
     }
 
+    private static ExecutorService createStreamSendExecutor() {
+        // 每个回答同时最多只有一次到期推送排队，队列长度受进行中的回答数量约束.
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(STREAM_SEND_THREADS,
+                STREAM_SEND_THREADS,
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new DefaultThreadFactory("llm-stream-send", true, (thread, throwable) -> log.error(
+                        "Llm stream send thread exception. [message={}]", throwable.getMessage(), throwable)));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private String getInstanceStatus(String instId) {
+        return this.appTaskInstanceService.getInstanceById(instId, null)
+                .flatMap(instance -> instance.getEntity().getStatus())
+                .orElse(null);
+    }
+
     private boolean checkModelAvailable(Map<String, Object> businessData) {
         boolean isDebug = ObjectUtils.cast(businessData.getOrDefault("isDebug", false));
         if (!isDebug) {
@@ -545,20 +597,39 @@ public class LlmComponent implements FlowableService {
         return Boolean.parseBoolean(value.toString());
     }
 
+    /**
+     * 流式输出片段的发送器。
+     * <p>同一个回答的片段在时间窗口 {@code flushInterval} 内或累计字符数未达到 {@code flushSize} 时合并，
+     * 合并后作为一帧推送，减少前端推送和实例查询的次数；第一个片段立即推送，不影响首字时延。
+     * 每次推送前重新查询实例状态，回答过程中实例被终止时最后一帧仍按终止状态推送。
+     * 定时器只负责触发，到期的推送在固定大小的 {@code STREAM_SEND_EXECUTOR} 中执行，阻塞的推送不影响其他回答。</p>
+     */
     static class StreamMsgSender {
         private final AippLogStreamService aippLogStreamService;
         private final ObjectSerializer serializer;
         private final String path;
         private final String msgId;
         private final String instId;
-
-        StreamMsgSender(AippLogStreamService aippLogStreamService, ObjectSerializer serializer,
-                String path, String msgId, String instId) {
+        private final Supplier<String> instanceStatusSupplier;
+        private final long flushIntervalNanos;
+        private final int flushSize;
+        private final StringBuilder pending = new StringBuilder();
+        private Map<String, Object> pendingBusinessData;
+        private long lastFlushNanos;
+        private ScheduledFuture<?> flushFuture;
+
+        StreamMsgSender(AippLogStreamService aippLogStreamService, ObjectSerializer serializer, String path,
+                String msgId, String instId, Supplier<String> instanceStatusSupplier, long flushInterval,
+                int flushSize) {
             this.aippLogStreamService = aippLogStreamService;
             this.serializer = serializer;
             this.path = path;
             this.msgId = msgId;
             this.instId = instId;
+            this.instanceStatusSupplier = instanceStatusSupplier;
+            this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(flushInterval, 0L));
+            this.flushSize = flushSize;
+            this.lastFlushNanos = System.nanoTime() - this.flushIntervalNanos;
         }
 
         /**
@@ -567,12 +638,43 @@ public class LlmComponent implements FlowableService {
          * @param msg 表示流式响应片段的 {@link String}。
          * @param businessData 表示流程上下文的 {@link Map}{@code <}{@link String}{@code , }{@link Object}{@code >}。
          */
-        public void sendMsg(String msg, Map<String, Object> businessData) {
+        public synchronized void sendMsg(String msg, Map<String, Object> businessData) {
             boolean enableLog = checkEnableLog(businessData);
             if (!enableLog || StringUtils.isEmpty(msg) || msg.contains("<tool_call>")) {
                 return;
             }
-            this.sendMsgHandle(msg, StreamMsgType.from(AippInstLogType.MSG), businessData);
+            if (this.flushIntervalNanos == 0L) {
+                this.sendMsgHandle(msg, StreamMsgType.from(AippInstLogType.MSG), businessData);
+                return;
+            }
+            this.pending.append(msg);
+            this.pendingBusinessData = businessData;
+            long elapsed = System.nanoTime() - this.lastFlushNanos;
+            if (elapsed >= this.flushIntervalNanos || this.pending.length() >= this.flushSize) {
+                this.flush();
+                return;
+            }
+            if (this.flushFuture == null) {
+                this.flushFuture = STREAM_FLUSH_SCHEDULER.schedule(() -> STREAM_SEND_EXECUTOR.execute(this::flush),
+                        this.flushIntervalNanos - elapsed, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        /**
+         * 立即推送已合并但尚未推送的对话信息，在回答结束或出错时调用。
+         */
+        public synchronized void flush() {
+            if (this.flushFuture != null) {
+                this.flushFuture.cancel(false);
+                this.flushFuture = null;
+            }
+            if (this.pending.length() == 0) {
+                return;
+            }
+            String msg = this.pending.toString();
+            this.pending.setLength(0);
+            this.lastFlushNanos = System.nanoTime();
+            this.sendMsgHandle(msg, StreamMsgType.from(AippInstLogType.MSG), this.pendingBusinessData);
         }
 
         /**
@@ -603,7 +705,7 @@ public class LlmComponent implements FlowableService {
                     .chatId(chatId)
                     .atChatId(atChatId)
                     .build();
-            this.aippLogStreamService.send(logVO);
+            this.aippLogStreamService.send(logVO, this.instanceStatusSupplier.get());
         }
     }
-}
\ No newline at end of file
+}
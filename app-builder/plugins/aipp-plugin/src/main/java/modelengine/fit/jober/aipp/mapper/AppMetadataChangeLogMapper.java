@@ -0,0 +1,52 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jober.aipp.mapper;
+
+import modelengine.fit.jober.aipp.po.AppMetadataChangeLogPo;
+
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 元数据变更记录Mapper
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public interface AppMetadataChangeLogMapper {
+    /**
+     * 批量插入变更记录.
+     *
+     * @param changeLogs 变更记录列表.
+     */
+    void insertAll(@Param("changeLogs") List<AppMetadataChangeLogPo> changeLogs);
+
+    /**
+     * 查询最大的变更记录id.
+     *
+     * @return 最大的变更记录id，没有记录时返回null.
+     */
+    Long selectMaxId();
+
+    /**
+     * 按id升序查询指定id之后的变更记录.
+     *
+     * @param id 已同步的变更记录id.
+     * @param limit 查询数量.
+     * @return {@link List}{@code <}{@link AppMetadataChangeLogPo}{@code >} 变更记录列表.
+     */
+    List<AppMetadataChangeLogPo> selectAfter(@Param("id") long id, @Param("limit") int limit);
+
+    /**
+     * 删除指定时间之前的变更记录.
+     *
+     * @param expiredTime 过期时间.
+     */
+    void deleteBefore(@Param("expiredTime") LocalDateTime expiredTime);
+}
@@ -0,0 +1,31 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jober.aipp.po;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 元数据变更记录结构体，用于跨实例同步元数据缓存的失效
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AppMetadataChangeLogPo {
+    private Long id;
+    private String cacheName;
+    private String cacheKey;
+    private LocalDateTime createAt;
+}
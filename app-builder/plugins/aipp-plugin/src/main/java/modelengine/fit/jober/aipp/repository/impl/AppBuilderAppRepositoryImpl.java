@@ -13,10 +13,13 @@ import modelengine.fit.jober.aipp.mapper.AppBuilderAppMapper;
 import modelengine.fit.jober.aipp.po.AppBuilderAppPo;
 import modelengine.fit.jober.aipp.repository.AppBuilderAppRepository;
 import modelengine.fit.jober.aipp.serializer.impl.AppBuilderAppSerializer;
+import modelengine.fit.jober.aipp.service.AppMetadataCacheService;
 import modelengine.fit.jober.aipp.util.CacheUtils;
 import modelengine.fitframework.annotation.Component;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -29,9 +32,12 @@ import java.util.stream.Collectors;
 public class AppBuilderAppRepositoryImpl implements AppBuilderAppRepository {
     private final AppBuilderAppMapper appBuilderAppMapper;
     private final AppBuilderAppSerializer serializer;
+    private final AppMetadataCacheService appMetadataCacheService;
 
-    public AppBuilderAppRepositoryImpl(AppBuilderAppMapper appBuilderAppMapper, IconConverter iconConverter) {
+    public AppBuilderAppRepositoryImpl(AppBuilderAppMapper appBuilderAppMapper, IconConverter iconConverter,
+            AppMetadataCacheService appMetadataCacheService) {
         this.appBuilderAppMapper = appBuilderAppMapper;
+        this.appMetadataCacheService = appMetadataCacheService;
         this.serializer = new AppBuilderAppSerializer(iconConverter);
     }
 
@@ -65,6 +71,9 @@ public class AppBuilderAppRepositoryImpl implements AppBuilderAppRepository {
     @Override
     public void updateOne(AppBuilderApp appBuilderApp) {
         this.appBuilderAppMapper.updateOne(this.serializer.serialize(appBuilderApp));
+        if (appBuilderApp.isPublished()) {
+            this.appMetadataCacheService.invalidateApps(Collections.singletonList(appBuilderApp.getId()));
+        }
     }
 
     @Override
@@ -91,6 +100,7 @@ public class AppBuilderAppRepositoryImpl implements AppBuilderAppRepository {
     @Override
     public void delete(List<String> appIds) {
         this.appBuilderAppMapper.delete(appIds);
+        this.appMetadataCacheService.invalidateApps(appIds);
     }
 
     @Override
@@ -106,5 +116,7 @@ public class AppBuilderAppRepositoryImpl implements AppBuilderAppRepository {
     @Override
     public void updateGuestMode(String path, Boolean isGuest) {
         this.appBuilderAppMapper.updateGuestMode(path, isGuest);
+        Optional.ofNullable(this.appBuilderAppMapper.selectWithPath(path))
+                .ifPresent(po -> this.appMetadataCacheService.invalidateApps(Collections.singletonList(po.getId())));
     }
 }
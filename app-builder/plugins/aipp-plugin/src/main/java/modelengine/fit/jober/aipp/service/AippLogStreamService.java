@@ -21,4 +21,14 @@ public interface AippLogStreamService {
      * @param log 日志对象.
      */
     void send(AippLogVO log);
+
+    /**
+     * 推送日志信息到前端，使用调用方提供的实例状态，不再查询实例.
+     *
+     * @param log 日志对象.
+     * @param instanceStatus 实例状态，为空时查询实例获取.
+     */
+    default void send(AippLogVO log, String instanceStatus) {
+        this.send(log);
+    }
 }
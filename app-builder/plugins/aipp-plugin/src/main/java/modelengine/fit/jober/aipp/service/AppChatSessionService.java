@@ -39,4 +39,20 @@ public interface AppChatSessionService {
      * @return {@link Optional}{@code <}{@link Object}{@code >}对象.
      */
     Optional<ChatSession<Object>> getSession(String instanceId);
+
+    /**
+     * 缓存实例对应的根实例，根实例的应用会话删除时一并清理.
+     *
+     * @param instanceId 实例id.
+     * @param rootInstanceId 根实例id.
+     */
+    void cacheRootInstance(String instanceId, String rootInstanceId);
+
+    /**
+     * 获取缓存的根实例.
+     *
+     * @param instanceId 实例id.
+     * @return {@link Optional}{@code <}{@link String}{@code >}对象.
+     */
+    Optional<String> getRootInstance(String instanceId);
 }
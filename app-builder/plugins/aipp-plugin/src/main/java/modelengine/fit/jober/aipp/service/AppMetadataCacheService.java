@@ -0,0 +1,31 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jober.aipp.service;
+
+import java.util.Collection;
+
+/**
+ * 应用元数据缓存服务，负责缓存失效在各实例之间的同步
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public interface AppMetadataCacheService {
+    /**
+     * 失效应用及其最新发布任务的缓存，并通知其他实例.
+     *
+     * @param appIds 应用id集合.
+     */
+    void invalidateApps(Collection<String> appIds);
+
+    /**
+     * 失效流程的缓存，并通知其他实例.
+     *
+     * @param flowDefinitionIds 流程定义id集合.
+     */
+    void invalidateFlows(Collection<String> flowDefinitionIds);
+}
@@ -34,6 +34,7 @@ import modelengine.fit.jober.aipp.dto.AippOverviewRspDto;
 import modelengine.fit.jober.aipp.dto.AippVersionDto;
 import modelengine.fit.jober.aipp.enums.JaneCategory;
 import modelengine.fit.jober.aipp.service.AippFlowService;
+import modelengine.fit.jober.aipp.service.AppMetadataCacheService;
 import modelengine.fit.jober.aipp.util.AippStringUtils;
 import modelengine.fit.jober.aipp.util.JsonUtils;
 import modelengine.fit.jober.common.RangedResultSet;
@@ -48,6 +49,7 @@ import modelengine.fitframework.util.StringUtils;
 import modelengine.jade.store.service.ToolService;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -69,6 +71,7 @@ public class AippFlowServiceImpl implements AippFlowService {
 
     private final FlowsService flowsService;
     private final AppTaskService appTaskService;
+    private final AppMetadataCacheService appMetadataCacheService;
 
     /**
      * 查询aipp详情
@@ -194,6 +197,10 @@ public class AippFlowServiceImpl implements AippFlowService {
             log.error("delete aipp failed, aipp {} version {}", aippId, version);
             throw new AippException(context, AippErrCode.APP_DELETE_FAILED);
         }
+        String flowDefinitionId = task.getEntity().getFlowDefinitionId();
+        if (StringUtils.isNotBlank(flowDefinitionId)) {
+            this.appMetadataCacheService.invalidateFlows(Collections.singletonList(flowDefinitionId));
+        }
         this.appTaskService.deleteTaskById(task.getEntity().getTaskId(), context);
     }
 
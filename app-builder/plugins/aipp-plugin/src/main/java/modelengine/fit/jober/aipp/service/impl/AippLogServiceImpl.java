@@ -28,6 +28,7 @@ import modelengine.fit.jober.aipp.mapper.AippChatMapper;
 import modelengine.fit.jober.aipp.mapper.AippLogMapper;
 import modelengine.fit.jober.aipp.service.AippLogService;
 import modelengine.fit.jober.aipp.service.AopAippLogService;
+import modelengine.fit.jober.aipp.service.AppChatSessionService;
 import modelengine.fit.jober.aipp.service.UploadedFileManageService;
 import modelengine.fit.jober.aipp.util.AippLogUtils;
 import modelengine.fit.jober.aipp.util.DataUtils;
@@ -76,6 +77,7 @@ public class AippLogServiceImpl implements AippLogService {
     private final AppTaskInstanceService appTaskInstanceService;
     private final AppTaskService appTaskService;
     private final AippLogRepository aippLogRepository;
+    private final AppChatSessionService appChatSessionService;
 
     private AippInstLog completeFormDataJson(AippInstLog instanceLog, OperationContext context) {
         if (AippInstLogType.FORM.name().equals(instanceLog.getLogType())) {
@@ -472,6 +474,8 @@ public class AippLogServiceImpl implements AippLogService {
                     ? AippLogUtils.PATH_DELIMITER + instId
                     : String.join(AippLogUtils.PATH_DELIMITER, parentPath, instId);
         }
+        // 子实例流式输出时直接从缓存中找到根实例，无需再查询数据库
+        this.appChatSessionService.cacheRootInstance(instId, path.split(AippLogUtils.PATH_DELIMITER)[1]);
         return path;
     }
 
@@ -29,6 +29,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * log流式服务实现，单进程实现方案.
@@ -57,10 +58,15 @@ public class AippLogStreamServiceImpl implements AippLogStreamService {
 
     @Override
     public void send(AippLogVO log) {
+        this.send(log, null);
+    }
+
+    @Override
+    public void send(AippLogVO log, String instanceStatus) {
         if (!log.displayable()) {
             return;
         }
-        AppChatRsp appChatRsp = this.buildData(log);
+        AppChatRsp appChatRsp = this.buildData(log, instanceStatus);
         if (!appChatRsp.getStatus().equalsIgnoreCase(FlowTraceStatus.RUNNING.name()) && !appChatRsp.getStatus()
                 .equalsIgnoreCase(FlowTraceStatus.READY.name())) {
             this.appChatSseService.sendLastData(log.getInstanceId(), appChatRsp);
@@ -69,17 +75,14 @@ public class AippLogStreamServiceImpl implements AippLogStreamService {
         }
     }
 
-    private AppChatRsp buildData(AippLogVO log) {
+    private AppChatRsp buildData(AippLogVO log, String instanceStatus) {
         String instanceId = log.getInstanceId();
-        AppTaskInstance instance = this.appTaskInstanceService.getInstanceById(instanceId, null)
-                .orElseThrow(() -> new JobberException(ErrorCodes.UN_EXCEPTED_ERROR,
-                        StringUtils.format("App task instance[{0}] not found.", instanceId)));
 
         // 在当前某些情况下，会出现插入log日志，但是不修改instance状态的情况.
         // 参考modelengine.fit.jober.aipp.fitable.agent.AippFlowAgent.fetchAgentErrorMsgToMain
         String status = log.getLogType().equals(AippInstLogType.ERROR.name())
                 ? FlowTraceStatus.ERROR.name()
-                : instance.getEntity().getStatus().orElse(null);
+                : Optional.ofNullable(instanceStatus).orElseGet(() -> this.getInstanceStatus(instanceId));
 
         AppChatRsp.Answer answer = this.buildAnswer(log);
         Map<String, Object> extensionMap = new HashMap<>();
@@ -95,6 +98,13 @@ public class AippLogStreamServiceImpl implements AippLogStreamService {
                 .build();
     }
 
+    private String getInstanceStatus(String instanceId) {
+        AppTaskInstance instance = this.appTaskInstanceService.getInstanceById(instanceId, null)
+                .orElseThrow(() -> new JobberException(ErrorCodes.UN_EXCEPTED_ERROR,
+                        StringUtils.format("App task instance[{0}] not found.", instanceId)));
+        return instance.getEntity().getStatus().orElse(null);
+    }
+
     private AppChatRsp.Answer buildAnswer(AippLogVO log) {
         AppChatRsp.Answer.AnswerBuilder builder =
                 AppChatRsp.Answer.builder().type(log.getLogType()).msgId(log.getMsgId());
@@ -23,6 +23,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -38,6 +39,8 @@ public class AppChatSessionServiceImpl implements AppChatSessionService {
     private static final Logger log = Logger.get(AppChatSessionServiceImpl.class);
 
     private final Map<String, ChatSession<Object>> emitterMap = new ConcurrentHashMap<>();
+    private final Map<String, String> rootInstanceMap = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> descendantMap = new ConcurrentHashMap<>();
     private final AppChatNumMapper appChatNumMapper;
 
     @Override
@@ -61,6 +64,7 @@ public class AppChatSessionServiceImpl implements AppChatSessionService {
                 .filter(ChatSession::isOccupied)
                 .ifPresent(session -> this.appChatNumMapper.minusOne(session.getAppId(),
                         String.valueOf(session.isDebug())));
+        this.evictDescendants(instanceId);
     }
 
     @Override
@@ -68,6 +72,32 @@ public class AppChatSessionServiceImpl implements AppChatSessionService {
         return Optional.ofNullable(this.emitterMap.get(instanceId));
     }
 
+    @Override
+    public void cacheRootInstance(String instanceId, String rootInstanceId) {
+        // 只缓存会话仍然存在的根实例，缓存随会话删除而清理，避免无限增长
+        if (!this.emitterMap.containsKey(rootInstanceId)) {
+            return;
+        }
+        this.descendantMap.computeIfAbsent(rootInstanceId, key -> ConcurrentHashMap.newKeySet()).add(instanceId);
+        this.rootInstanceMap.put(instanceId, rootInstanceId);
+        if (!this.emitterMap.containsKey(rootInstanceId)) {
+            // 缓存期间会话被并发删除
+            this.evictDescendants(rootInstanceId);
+        }
+    }
+
+    @Override
+    public Optional<String> getRootInstance(String instanceId) {
+        return Optional.ofNullable(this.rootInstanceMap.get(instanceId));
+    }
+
+    private void evictDescendants(String rootInstanceId) {
+        Set<String> descendants = this.descendantMap.remove(rootInstanceId);
+        if (descendants != null) {
+            descendants.forEach(this.rootInstanceMap::remove);
+        }
+    }
+
     /**
      * 定时清理过期的 ChatSession。
      */
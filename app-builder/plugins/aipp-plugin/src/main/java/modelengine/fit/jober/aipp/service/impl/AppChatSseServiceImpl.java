@@ -62,10 +62,13 @@ public class AppChatSseServiceImpl implements AppChatSseService {
     }
 
     private String getProcessedInstanceId(String instanceId) {
-        String path = this.aippLogMapper.getParentPath(instanceId);
-        if (StringUtils.isNotEmpty(path)) {
-            return path.split(AippLogUtils.PATH_DELIMITER)[1];
+        Optional<String> cachedRootInstanceId = this.appChatSessionService.getRootInstance(instanceId);
+        if (cachedRootInstanceId.isPresent()) {
+            return cachedRootInstanceId.get();
         }
-        return instanceId;
+        String path = this.aippLogMapper.getParentPath(instanceId);
+        String rootInstanceId = StringUtils.isNotEmpty(path) ? path.split(AippLogUtils.PATH_DELIMITER)[1] : instanceId;
+        this.appChatSessionService.cacheRootInstance(instanceId, rootInstanceId);
+        return rootInstanceId;
     }
 }
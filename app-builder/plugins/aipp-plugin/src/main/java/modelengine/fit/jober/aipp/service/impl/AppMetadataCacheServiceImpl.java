@@ -0,0 +1,220 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jober.aipp.service.impl;
+
+import modelengine.fit.jober.aipp.mapper.AppMetadataChangeLogMapper;
+import modelengine.fit.jober.aipp.po.AppMetadataChangeLogPo;
+import modelengine.fit.jober.aipp.service.AppMetadataCacheService;
+import modelengine.fit.jober.aipp.util.CacheUtils;
+import modelengine.fit.jober.aipp.util.MetadataCache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.annotation.Value;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.annotation.Scheduled;
+import modelengine.fitframework.transaction.DataAccessException;
+import modelengine.fitframework.util.CollectionUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@link AppMetadataCacheService} 的默认实现
+ * <p>失效时写入变更记录表，变更记录随调用方的事务提交后才可见；各实例（包括本实例）定时按id顺序读取新的变更记录并失效本地缓存，
+ * 因此本地失效总是发生在事务提交之后，事务回滚时也不会误清理缓存.</p>
+ * <p>变更记录的id在事务提交前分配，较小的id可能晚于较大的id提交，因此同步位置只推进到连续已读的id为止，
+ * 遇到空洞时保持在空洞之前，直到空洞对应的记录出现或超时（回滚的事务也会留下永久的空洞）.</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@Component
+public class AppMetadataCacheServiceImpl implements AppMetadataCacheService {
+    private static final Logger log = Logger.get(AppMetadataCacheServiceImpl.class);
+    private static final int SYNC_BATCH_SIZE = 500;
+    private static final long NOT_SYNCED = -1L;
+
+    private final AppMetadataChangeLogMapper changeLogMapper;
+    private final Map<String, MetadataCache<?>> caches;
+    private final long changeLogRetentionHours;
+    private final long gapTimeoutMillis;
+
+    /**
+     * 同步位置之后已经处理过的变更记录id
+     */
+    private final NavigableSet<Long> appliedIds = new TreeSet<>();
+
+    /**
+     * 同步位置之后尚未读到的id区间，键为区间起点，值为区间终点和首次发现的时间
+     */
+    private final NavigableMap<Long, Gap> gaps = new TreeMap<>();
+    private long syncedVersion = NOT_SYNCED;
+
+    public AppMetadataCacheServiceImpl(AppMetadataChangeLogMapper changeLogMapper,
+            @Value("${app-engine.metadata-cache.maximumSize:2000}") long maximumSize,
+            @Value("${app-engine.metadata-cache.expireHours:48}") long expireHours,
+            @Value("${app-engine.metadata-cache.appTaskExpireSeconds:5}") long appTaskExpireSeconds,
+            @Value("${app-engine.metadata-cache.changeLogRetentionHours:24}") long changeLogRetentionHours,
+            @Value("${app-engine.metadata-cache.gapTimeoutSeconds:60}") long gapTimeoutSeconds) {
+        this.changeLogMapper = changeLogMapper;
+        this.changeLogRetentionHours = changeLogRetentionHours;
+        this.gapTimeoutMillis = Duration.ofSeconds(gapTimeoutSeconds).toMillis();
+        this.caches = CacheUtils.caches()
+                .stream()
+                .collect(Collectors.toMap(MetadataCache::getName, Function.identity()));
+        // 最新发布任务的缓存保留较短的过期时间，作为失效同步之外的兜底.
+        this.caches.values()
+                .forEach(cache -> cache.resize(maximumSize,
+                        CacheUtils.APP_TASK_CACHE_NAME.equals(cache.getName())
+                                ? Duration.ofSeconds(appTaskExpireSeconds)
+                                : Duration.ofHours(expireHours)));
+    }
+
+    @Override
+    public void invalidateApps(Collection<String> appIds) {
+        this.invalidate(Arrays.asList(CacheUtils.APP_CACHE_NAME, CacheUtils.APP_TASK_CACHE_NAME), appIds);
+    }
+
+    @Override
+    public void invalidateFlows(Collection<String> flowDefinitionIds) {
+        this.invalidate(Collections.singletonList(CacheUtils.FLOW_CACHE_NAME), flowDefinitionIds);
+    }
+
+    private void invalidate(List<String> cacheNames, Collection<String> keys) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return;
+        }
+        List<AppMetadataChangeLogPo> changeLogs = cacheNames.stream()
+                .flatMap(cacheName -> keys.stream()
+                        .map(key -> AppMetadataChangeLogPo.builder().cacheName(cacheName).cacheKey(key).build()))
+                .collect(Collectors.toList());
+        // 本地缓存不在此处失效：事务提交前并发的读取仍会加载到旧数据，由定时同步在变更记录提交后统一失效.
+        this.changeLogMapper.insertAll(changeLogs);
+    }
+
+    /**
+     * 定时同步变更记录.
+     */
+    @Scheduled(strategy = Scheduled.Strategy.FIXED_RATE, value = "2000")
+    public synchronized void syncChanges() {
+        try {
+            if (this.syncedVersion == NOT_SYNCED) {
+                // 启动时缓存为空，历史变更无需处理.
+                Long maxId = this.changeLogMapper.selectMaxId();
+                this.advance(maxId == null ? 0L : maxId);
+                return;
+            }
+            long now = System.currentTimeMillis();
+            long readId = this.syncedVersion;
+            List<AppMetadataChangeLogPo> changeLogs;
+            do {
+                changeLogs = this.changeLogMapper.selectAfter(readId, SYNC_BATCH_SIZE);
+                for (AppMetadataChangeLogPo changeLog : changeLogs) {
+                    long id = changeLog.getId();
+                    if (id > readId + 1) {
+                        this.gaps.putIfAbsent(readId + 1, new Gap(id - 1, now));
+                    }
+                    if (this.appliedIds.add(id)) {
+                        this.fillGap(id);
+                        this.apply(changeLog.getCacheName(), changeLog.getCacheKey(), id);
+                    }
+                    readId = id;
+                }
+            } while (changeLogs.size() == SYNC_BATCH_SIZE);
+            this.advance(this.nextSyncedVersion(now));
+        } catch (DataAccessException e) {
+            log.warn("Failed to sync metadata cache changes. [syncedVersion={}, error={}]", this.syncedVersion,
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * 定时输出缓存统计信息，并清理过期的变更记录.
+     */
+    @Scheduled(strategy = Scheduled.Strategy.FIXED_RATE, value = "600000")
+    public void reportAndCleanChangeLogs() {
+        this.caches.values().forEach(cache -> {
+            CacheStats stats = cache.stats();
+            log.info("Metadata cache stats. [name={}, size={}, hitRate={}, loads={}, evictions={}]", cache.getName(),
+                    cache.size(), stats.hitRate(), stats.loadCount(), stats.evictionCount());
+        });
+        try {
+            this.changeLogMapper.deleteBefore(LocalDateTime.now().minusHours(this.changeLogRetentionHours));
+        } catch (DataAccessException e) {
+            log.warn("Failed to clean metadata change logs. [error={}]", e.getMessage());
+        }
+    }
+
+    private void fillGap(long id) {
+        Map.Entry<Long, Gap> entry = this.gaps.floorEntry(id);
+        if (entry == null || entry.getValue().end < id) {
+            return;
+        }
+        Gap gap = this.gaps.remove(entry.getKey());
+        if (entry.getKey() < id) {
+            this.gaps.put(entry.getKey(), new Gap(id - 1, gap.since));
+        }
+        if (gap.end > id) {
+            this.gaps.put(id + 1, new Gap(gap.end, gap.since));
+        }
+    }
+
+    private long nextSyncedVersion(long now) {
+        long version = this.syncedVersion;
+        while (true) {
+            if (this.appliedIds.remove(version + 1)) {
+                version++;
+                continue;
+            }
+            Gap gap = this.gaps.get(version + 1);
+            if (gap == null || now - gap.since < this.gapTimeoutMillis) {
+                break;
+            }
+            log.warn("Skip metadata change log gap after timeout. [from={}, to={}]", version + 1, gap.end);
+            this.gaps.remove(version + 1);
+            version = gap.end;
+        }
+        this.appliedIds.headSet(version, true).clear();
+        this.gaps.headMap(version, true).clear();
+        return version;
+    }
+
+    private void apply(String cacheName, String cacheKey, long version) {
+        MetadataCache<?> cache = this.caches.get(cacheName);
+        if (cache != null) {
+            cache.invalidate(cacheKey, version);
+        }
+    }
+
+    private void advance(long version) {
+        this.syncedVersion = version;
+        this.caches.values().forEach(cache -> cache.advanceVersion(version));
+    }
+
+    private static class Gap {
+        private final long end;
+        private final long since;
+
+        Gap(long end, long since) {
+            this.end = end;
+            this.since = since;
+        }
+    }
+}
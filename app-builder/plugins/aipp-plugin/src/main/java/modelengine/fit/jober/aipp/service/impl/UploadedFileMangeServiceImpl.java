@@ -9,12 +9,14 @@ package modelengine.fit.jober.aipp.service.impl;
 import modelengine.fit.jane.task.util.Entities;
 import modelengine.fit.jober.aipp.common.exception.AippException;
 import modelengine.fit.jober.aipp.dto.aipplog.AippUploadedFileInfoDto;
+import modelengine.fit.jober.aipp.events.UploadedFileDeletedEvent;
 import modelengine.fit.jober.aipp.mapper.AippUploadedFileMapper;
 import modelengine.fit.jober.aipp.service.UploadedFileManageService;
 import modelengine.fit.jober.aipp.util.AippFileUtils;
 
 import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.runtime.FitRuntime;
 import modelengine.fitframework.schedule.annotation.Scheduled;
 import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.FileUtils;
@@ -52,8 +54,11 @@ public class UploadedFileMangeServiceImpl implements UploadedFileManageService {
 
     private final AippUploadedFileMapper aippUploadedFileMapper;
 
-    public UploadedFileMangeServiceImpl(AippUploadedFileMapper aippUploadedFileMapper) {
+    private final FitRuntime fitRuntime;
+
+    public UploadedFileMangeServiceImpl(AippUploadedFileMapper aippUploadedFileMapper, FitRuntime fitRuntime) {
         this.aippUploadedFileMapper = aippUploadedFileMapper;
+        this.fitRuntime = fitRuntime;
     }
 
     /**
@@ -112,6 +117,9 @@ public class UploadedFileMangeServiceImpl implements UploadedFileManageService {
                 log.error("delete file {} failed. reason: {}", filename, e.getMessage());
             }
         }
+        if (!fileDeleted.isEmpty()) {
+            this.fitRuntime.publisherOfEvents().publishEvent(new UploadedFileDeletedEvent(this, fileDeleted));
+        }
         return fileDeleted;
     }
 
@@ -6,9 +6,6 @@
 
 package modelengine.fit.jober.aipp.util;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-
 import modelengine.fit.jade.waterflow.FlowsService;
 import modelengine.fit.jade.waterflow.dto.FlowInfo;
 import modelengine.fit.jane.common.entity.OperationContext;
@@ -24,12 +21,14 @@ import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.util.CollectionUtils;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 /**
  * 本类提供一些缓存机制
  * <p>当前提供从appid查询meta的缓存</p>
+ * <p>缓存的容量、过期时间以及跨实例的失效同步由 {@code AppMetadataCacheService} 负责.</p>
  *
  * @author 姚江
  * @since 2024-11-04
@@ -38,35 +37,54 @@ import java.util.concurrent.TimeUnit;
 public class CacheUtils {
     private static final Logger log = Logger.get(CacheUtils.class);
 
+    /**
+     * 应用缓存的名称
+     */
+    public static final String APP_CACHE_NAME = "app";
+
+    /**
+     * 流程缓存的名称
+     */
+    public static final String FLOW_CACHE_NAME = "flow";
+
+    /**
+     * 应用最新发布任务缓存的名称
+     */
+    public static final String APP_TASK_CACHE_NAME = "appTask";
+
     /**
      * 用于缓存appId to app
      */
-    public static final Cache<String, AppBuilderAppPo> APP_CACHE =
-            Caffeine.newBuilder().expireAfterAccess(48, TimeUnit.HOURS).maximumSize(30).build();
+    public static final MetadataCache<AppBuilderAppPo> APP_CACHE =
+            new MetadataCache<>(APP_CACHE_NAME, 2000, Duration.ofHours(48));
 
     /**
      * 用于缓存flowDefinitionId to flowInfo
      */
-    public static final Cache<String, FlowInfo> FLOW_CACHE =
-            Caffeine.newBuilder().expireAfterAccess(48, TimeUnit.HOURS).maximumSize(30).build();
+    public static final MetadataCache<FlowInfo> FLOW_CACHE =
+            new MetadataCache<>(FLOW_CACHE_NAME, 2000, Duration.ofHours(48));
 
     /**
      * 用于缓存应用ID和最新发布的应用任务数据关系
+     * <p>发布应用时会广播失效通知，同时保留很短的过期时间作为兜底.</p>
      */
-    private static final Cache<String, AppTask> APP_ID_TO_LAST_APP_TASK_CACHE =
-            Caffeine.newBuilder().expireAfterAccess(5, TimeUnit.SECONDS).maximumSize(1000).build();
+    private static final MetadataCache<AppTask> APP_ID_TO_LAST_APP_TASK_CACHE =
+            new MetadataCache<>(APP_TASK_CACHE_NAME, 2000, Duration.ofSeconds(5));
 
     /**
      * 清理缓存
      */
     public static void clear() {
-        APP_CACHE.invalidateAll();
-        FLOW_CACHE.invalidateAll();
-        APP_ID_TO_LAST_APP_TASK_CACHE.invalidateAll();
+        caches().forEach(MetadataCache::invalidateAll);
+    }
 
-        APP_CACHE.cleanUp();
-        FLOW_CACHE.cleanUp();
-        APP_ID_TO_LAST_APP_TASK_CACHE.cleanUp();
+    /**
+     * 获取所有元数据缓存
+     *
+     * @return 元数据缓存列表
+     */
+    public static List<MetadataCache<?>> caches() {
+        return Arrays.asList(APP_CACHE, FLOW_CACHE, APP_ID_TO_LAST_APP_TASK_CACHE);
     }
 
     /**
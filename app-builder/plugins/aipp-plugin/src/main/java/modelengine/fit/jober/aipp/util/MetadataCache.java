@@ -0,0 +1,162 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jober.aipp.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 带版本号的元数据缓存
+ * <p>每个缓存项记录加载时已经同步到的变更版本号，失效通知只清理版本号小于变更版本号的缓存项，
+ * 避免变更之后才加载的数据被重复清理.</p>
+ *
+ * @param <V> 缓存值的类型
+ * @author agent
+ * @since 2026-10-18
+ */
+public class MetadataCache<V> {
+    private final String name;
+    private final Cache<String, Entry<V>> cache;
+    private final AtomicLong syncedVersion = new AtomicLong(0L);
+
+    /**
+     * 构造缓存.
+     *
+     * @param name 缓存名称，也是跨实例失效通知中的缓存名称
+     * @param maximumSize 最大缓存数量
+     * @param expireAfterAccess 访问后的过期时间
+     */
+    public MetadataCache(String name, long maximumSize, Duration expireAfterAccess) {
+        this.name = name;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess.toMillis(), TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 获取缓存名称.
+     *
+     * @return 缓存名称
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * 获取缓存值，不存在时加载并缓存.
+     *
+     * @param key 缓存键
+     * @param loader 加载函数
+     * @return 缓存值
+     */
+    public V get(String key, Function<String, V> loader) {
+        long version = this.syncedVersion.get();
+        Entry<V> entry = this.cache.get(key, k -> {
+            V value = loader.apply(k);
+            return value == null ? null : new Entry<>(value, version);
+        });
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * 获取缓存值.
+     *
+     * @param key 缓存键
+     * @return 缓存值，不存在时返回null
+     */
+    public V getIfPresent(String key) {
+        Entry<V> entry = this.cache.getIfPresent(key);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * 写入缓存值，版本号为当前已同步的变更版本号.
+     *
+     * @param key 缓存键
+     * @param value 缓存值
+     */
+    public void put(String key, V value) {
+        this.cache.put(key, new Entry<>(value, this.syncedVersion.get()));
+    }
+
+    /**
+     * 清理加载时版本号小于变更版本号的缓存项.
+     *
+     * @param key 缓存键
+     * @param changeVersion 变更版本号
+     */
+    public void invalidate(String key, long changeVersion) {
+        this.cache.asMap().computeIfPresent(key, (k, entry) -> entry.version < changeVersion ? null : entry);
+    }
+
+    /**
+     * 清理所有缓存.
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+        this.cache.cleanUp();
+    }
+
+    /**
+     * 推进已同步的变更版本号，此后加载的缓存项都带有该版本号.
+     *
+     * @param version 已同步的变更版本号
+     */
+    public void advanceVersion(long version) {
+        this.syncedVersion.accumulateAndGet(version, Math::max);
+    }
+
+    /**
+     * 调整缓存容量和过期时间.
+     *
+     * @param maximumSize 最大缓存数量
+     * @param expireAfterAccess 访问后的过期时间
+     */
+    public void resize(long maximumSize, Duration expireAfterAccess) {
+        this.cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumSize));
+        this.cache.policy()
+                .expireAfterAccess()
+                .ifPresent(expiration -> expiration.setExpiresAfter(expireAfterAccess.toMillis(),
+                        TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * 获取缓存数量.
+     *
+     * @return 缓存数量
+     */
+    public long size() {
+        return this.cache.estimatedSize();
+    }
+
+    /**
+     * 获取缓存命中等统计信息.
+     *
+     * @return 统计信息
+     */
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long version;
+
+        Entry(V value, long version) {
+            this.value = value;
+            this.version = version;
+        }
+    }
+}
@@ -118,6 +118,21 @@ ALTER TABLE flow_context ALTER COLUMN trace_id TYPE TEXT;
 ALTER TABLE flow_trace ALTER COLUMN cur_nodes SET DEFAULT 'default_node';
 ALTER TABLE flow_trace ADD COLUMN IF NOT EXISTS context_pool TEXT;
 
+CREATE TABLE IF NOT EXISTS flow_data_blob
+(
+    trans_id  VARCHAR(32) NOT NULL,
+    hash      VARCHAR(64) NOT NULL,
+    content   TEXT        NOT NULL,
+    create_at timestamp without time zone NOT NULL,
+    PRIMARY KEY (trans_id, hash)
+);
+
+comment on table flow_data_blob is '流程实例上下文按内容寻址存储的业务数据';
+comment on column flow_data_blob.trans_id is '表示流程实例运行唯一标识。';
+comment on column flow_data_blob.hash is '表示业务数据内容的SHA-256摘要。';
+comment on column flow_data_blob.content is '表示压缩后的业务数据内容。';
+comment on column flow_data_blob.create_at is '表示业务数据创建时间。';
+
 -- 任务中心相关
 CREATE TABLE IF NOT EXISTS fitable_usage
 (
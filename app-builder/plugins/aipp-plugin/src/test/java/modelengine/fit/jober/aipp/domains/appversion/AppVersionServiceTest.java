@@ -65,6 +65,7 @@ import modelengine.fit.jober.aipp.repository.AppBuilderConfigPropertyRepository;
 import modelengine.fit.jober.aipp.repository.AppBuilderConfigRepository;
 import modelengine.fit.jober.aipp.repository.AppBuilderFlowGraphRepository;
 import modelengine.fit.jober.aipp.repository.AppBuilderFormPropertyRepository;
+import modelengine.fit.jober.aipp.service.AppMetadataCacheService;
 import modelengine.fit.jober.aipp.service.UploadedFileManageService;
 import modelengine.fit.jober.aipp.util.JsonUtils;
 import modelengine.fit.jober.common.RangedResultSet;
@@ -108,7 +109,8 @@ public class AppVersionServiceTest {
         this.appBuilderAppMapper = mock(AppBuilderAppMapper.class);
         this.iconConverter = mock(IconConverter.class);
         this.appVersionRepository =
-                new AppVersionRepositoryImpl(this.appBuilderAppMapper, this.appVersionFactory, this.iconConverter);
+                new AppVersionRepositoryImpl(this.appBuilderAppMapper, this.appVersionFactory, this.iconConverter,
+                        mock(AppMetadataCacheService.class));
         this.appChatRepository = mock(AppChatRepository.class);
         this.appTaskInstanceService = mock(AppTaskInstanceService.class);
         this.uploadedFileManageService = mock(UploadedFileManageService.class);
@@ -243,7 +243,7 @@ public class LlmComponentTest {
                 this.promptBuilderChain,
                 this.appTaskInstanceService,
                 this.formatterChain,
-                this.mcpClientFactory, null);
+                this.mcpClientFactory, null, 50L, 512);
 
         // mock
         CountDownLatch countDownLatch = mockFailAsyncJob(flowInstanceService);
@@ -409,7 +409,7 @@ public class LlmComponentTest {
                 this.promptBuilderChain,
                 this.appTaskInstanceService,
                 this.formatterChain,
-                this.mcpClientFactory, null);
+                this.mcpClientFactory, null, 50L, 512);
     }
 
     private void prepareModel() {
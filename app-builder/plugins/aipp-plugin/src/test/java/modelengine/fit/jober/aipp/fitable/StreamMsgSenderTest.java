@@ -0,0 +1,152 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jober.aipp.fitable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import modelengine.fit.jober.aipp.service.AippLogStreamService;
+import modelengine.fit.jober.aipp.util.JsonUtils;
+import modelengine.fit.jober.aipp.vo.AippLogVO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link LlmComponent.StreamMsgSender}的测试集
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("流式输出片段合并发送测试")
+public class StreamMsgSenderTest {
+    private static final int TOKEN_COUNT = 500;
+
+    private final List<String> frames = Collections.synchronizedList(new ArrayList<>());
+
+    private final List<String> statuses = Collections.synchronizedList(new ArrayList<>());
+
+    private final AtomicInteger statusQueries = new AtomicInteger(0);
+
+    private final AtomicReference<String> instanceStatus = new AtomicReference<>("RUNNING");
+
+    private final CountDownLatch sent = new CountDownLatch(2);
+
+    private final AippLogStreamService streamService = new AippLogStreamService() {
+        @Override
+        public void send(AippLogVO log) {
+            this.send(log, null);
+        }
+
+        @Override
+        public void send(AippLogVO log, String instanceStatus) {
+            StreamMsgSenderTest.this.statuses.add(instanceStatus);
+            StreamMsgSenderTest.this.frames.add(String.valueOf(JsonUtils.parseObject(log.getLogData()).get("msg")));
+            StreamMsgSenderTest.this.sent.countDown();
+        }
+    };
+
+    @Test
+    @DisplayName("片段在时间窗口内合并推送，结束时推送剩余片段且内容完整")
+    void shouldCoalesceChunksAndKeepContent() {
+        LlmComponent.StreamMsgSender sender = this.sender(this.streamService, 60_000L, 1024);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            String token = "t" + i + " ";
+            expected.append(token);
+            sender.sendMsg(token, new HashMap<>());
+        }
+        sender.flush();
+
+        assertEquals(expected.toString(), String.join("", this.frames));
+        // 第一个片段立即推送，其余片段按字符数上限合并
+        assertTrue(this.frames.size() < TOKEN_COUNT / 10);
+        // 每帧查询一次实例状态
+        assertEquals(this.frames.size(), this.statusQueries.get());
+    }
+
+    @Test
+    @DisplayName("时间窗口为0时逐片段推送")
+    void shouldSendEachChunkWhenDisabled() {
+        LlmComponent.StreamMsgSender sender = this.sender(this.streamService, 0L, 1024);
+        for (int i = 0; i < 10; i++) {
+            sender.sendMsg("t" + i, new HashMap<>());
+        }
+
+        assertEquals(10, this.frames.size());
+        assertEquals(10, this.statusQueries.get());
+    }
+
+    @Test
+    @DisplayName("回答过程中实例被终止时，最后一帧按终止状态推送")
+    void shouldSendLastFrameWithTerminatedStatusWhenTerminatedMidStream() {
+        LlmComponent.StreamMsgSender sender = this.sender(this.streamService, 60_000L, 1024);
+        sender.sendMsg("first", new HashMap<>());
+        sender.sendMsg("second", new HashMap<>());
+        this.instanceStatus.set("TERMINATED");
+        sender.flush();
+
+        assertEquals(List.of("first", "second"), this.frames);
+        assertEquals(List.of("RUNNING", "TERMINATED"), this.statuses);
+    }
+
+    @Test
+    @DisplayName("一个回答的定时推送阻塞时，不影响其他回答的定时推送")
+    void shouldNotBlockOtherSendersWhenScheduledSendBlocks() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AippLogStreamService blockingService = new AippLogStreamService() {
+            @Override
+            public void send(AippLogVO log) {
+                this.send(log, null);
+            }
+
+            @Override
+            public void send(AippLogVO log, String instanceStatus) {
+                if (!"block".equals(JsonUtils.parseObject(log.getLogData()).get("msg"))) {
+                    return;
+                }
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        LlmComponent.StreamMsgSender blockingSender = this.sender(blockingService, 10L, 1024);
+        LlmComponent.StreamMsgSender sender = this.sender(this.streamService, 10L, 1024);
+        try {
+            blockingSender.sendMsg("first", new HashMap<>());
+            blockingSender.sendMsg("block", new HashMap<>());
+            assertTrue(blocked.await(10, TimeUnit.SECONDS));
+
+            sender.sendMsg("first", new HashMap<>());
+            sender.sendMsg("second", new HashMap<>());
+            assertTrue(this.sent.await(10, TimeUnit.SECONDS));
+            assertEquals(List.of("first", "second"), this.frames);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private LlmComponent.StreamMsgSender sender(AippLogStreamService service, long flushInterval, int flushSize) {
+        return new LlmComponent.StreamMsgSender(service, null, "path", "msg", "inst", () -> {
+            this.statusQueries.incrementAndGet();
+            return this.instanceStatus.get();
+        }, flushInterval, flushSize);
+    }
+}
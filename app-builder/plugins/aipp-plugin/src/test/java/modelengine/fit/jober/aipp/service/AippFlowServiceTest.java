@@ -14,6 +14,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import modelengine.fit.jade.waterflow.FlowsService;
@@ -50,6 +51,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -74,6 +76,9 @@ class AippFlowServiceTest {
     @Mock
     private AppTaskService appTaskService;
 
+    @Mock
+    private AppMetadataCacheService appMetadataCacheService;
+
     @BeforeEach
     void setUp() {
         // setup
@@ -366,4 +371,25 @@ class AippFlowServiceTest {
             this.aippFlowServiceImpl.deleteAipp("testAippId", defaultVersion, GenTestOperationContext());
         });
     }
+
+    @Test
+    void testDeleteAippThenInvalidateFlowCache() {
+        final String defaultVersion = "1.0.0";
+        when(this.appTaskService.getLatest(any(), any(), any())).thenReturn(Optional.of(
+                AppTask.asEntity()
+                        .setTaskId("testTaskId")
+                        .setAppSuiteId("testAippId")
+                        .setVersion(defaultVersion)
+                        .setFlowConfigId(DUMMY_FLOW_CONFIG_ID)
+                        .setFlowDefinitionId("testFlowDefinitionId")
+                        .setStatus(AippMetaStatusEnum.INACTIVE.getCode())
+                        .build()));
+        when(this.flowsServiceMock.deleteFlows(eq(DUMMY_FLOW_CONFIG_ID), eq(defaultVersion),
+                any(OperationContext.class))).thenReturn(0);
+
+        this.aippFlowServiceImpl.deleteAipp("testAippId", defaultVersion, GenTestOperationContext());
+
+        verify(this.appMetadataCacheService).invalidateFlows(Collections.singletonList("testFlowDefinitionId"));
+        verify(this.appTaskService).deleteTaskById(eq("testTaskId"), any(OperationContext.class));
+    }
 }
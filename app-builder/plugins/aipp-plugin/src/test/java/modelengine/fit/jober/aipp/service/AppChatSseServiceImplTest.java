@@ -85,4 +85,30 @@ public class AppChatSseServiceImplTest {
         Mockito.verify(emitter, Mockito.times(1)).emit("hello");
         Mockito.verify(emitter, Mockito.times(1)).complete();
     }
+
+    @Test
+    @DisplayName("测试发送消息到祖先时复用缓存的根实例")
+    void testSendToAncestorWithCachedRootInstance() {
+        this.appChatSessionService.addSession("hello", new ChatSession<>(emitter, "123", true, Locale.ENGLISH));
+        this.appChatSessionService.cacheRootInstance("child", "hello");
+        for (int i = 0; i < 10; i++) {
+            appChatSseService.sendToAncestor("child", "hello");
+        }
+        Mockito.verify(emitter, Mockito.times(10)).emit("hello");
+        Mockito.verify(aippLogMapper, Mockito.never()).getParentPath(Mockito.anyString());
+    }
+
+    @Test
+    @DisplayName("测试根实例会话删除后清理缓存")
+    void testEvictRootInstanceWhenSessionRemoved() {
+        this.appChatSessionService.addSession("hello", new ChatSession<>(emitter, "123", true, Locale.ENGLISH));
+        this.appChatSessionService.cacheRootInstance("child", "hello");
+        this.appChatSessionService.cacheRootInstance("other", "world");
+        Assertions.assertEquals(Optional.of("hello"), this.appChatSessionService.getRootInstance("child"));
+        Assertions.assertFalse(this.appChatSessionService.getRootInstance("other").isPresent());
+
+        appChatSseService.sendToAncestorLastData("child", "hello");
+        Mockito.verify(emitter, Mockito.times(1)).complete();
+        Assertions.assertFalse(this.appChatSessionService.getRootInstance("child").isPresent());
+    }
 }
@@ -8,6 +8,7 @@ package modelengine.fit.jober.aipp.service;
 
 import modelengine.fit.jober.aipp.mapper.AippUploadedFileMapper;
 import modelengine.fit.jober.aipp.service.impl.UploadedFileMangeServiceImpl;
+import modelengine.fitframework.runtime.FitRuntime;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,11 +32,14 @@ class UploadedFileMangeServiceImplTest {
     @Mock
     private AippUploadedFileMapper aippUploadedFileMapper;
 
+    @Mock
+    private FitRuntime fitRuntime;
+
     private UploadedFileManageService uploadedFileManageService;
 
     @BeforeEach
     public void before() {
-        uploadedFileManageService = new UploadedFileMangeServiceImpl(aippUploadedFileMapper);
+        uploadedFileManageService = new UploadedFileMangeServiceImpl(aippUploadedFileMapper, fitRuntime);
     }
 
     @Nested
@@ -0,0 +1,140 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jober.aipp.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.jade.waterflow.dto.FlowInfo;
+import modelengine.fit.jober.aipp.mapper.AppMetadataChangeLogMapper;
+import modelengine.fit.jober.aipp.po.AppBuilderAppPo;
+import modelengine.fit.jober.aipp.po.AppMetadataChangeLogPo;
+import modelengine.fit.jober.aipp.util.CacheUtils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link AppMetadataCacheServiceImpl} 的测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@ExtendWith(MockitoExtension.class)
+class AppMetadataCacheServiceImplTest {
+    @Mock
+    private AppMetadataChangeLogMapper changeLogMapper;
+    private AppMetadataCacheServiceImpl appMetadataCacheService;
+
+    @BeforeEach
+    void setUp() {
+        this.appMetadataCacheService = new AppMetadataCacheServiceImpl(this.changeLogMapper, 2000, 48, 5, 24, 60);
+        CacheUtils.clear();
+    }
+
+    @Test
+    @DisplayName("本实例失效应用时只写入变更记录，变更记录提交后由同步清理本地缓存")
+    void shouldInvalidateLocallyAfterChangesCommitted() {
+        when(this.changeLogMapper.selectMaxId()).thenReturn(10L);
+        this.appMetadataCacheService.syncChanges();
+        CacheUtils.APP_CACHE.put("app1", new AppBuilderAppPo());
+
+        this.appMetadataCacheService.invalidateApps(Collections.singletonList("app1"));
+
+        assertNotNull(CacheUtils.APP_CACHE.getIfPresent("app1"));
+        ArgumentCaptor<List<AppMetadataChangeLogPo>> captor = ArgumentCaptor.forClass(List.class);
+        verify(this.changeLogMapper).insertAll(captor.capture());
+        assertEquals(2, captor.getValue().size());
+
+        when(this.changeLogMapper.selectAfter(10L, 500)).thenReturn(Arrays.asList(
+                changeLog(11L, CacheUtils.APP_CACHE_NAME, "app1"),
+                changeLog(12L, CacheUtils.APP_TASK_CACHE_NAME, "app1")));
+        this.appMetadataCacheService.syncChanges();
+        assertNull(CacheUtils.APP_CACHE.getIfPresent("app1"));
+    }
+
+    @Test
+    @DisplayName("同步其他实例的变更记录时只清理变更之前加载的缓存")
+    void shouldInvalidateEntriesLoadedBeforeChange() {
+        when(this.changeLogMapper.selectMaxId()).thenReturn(10L);
+        this.appMetadataCacheService.syncChanges();
+        CacheUtils.FLOW_CACHE.put("flow1", new FlowInfo());
+        when(this.changeLogMapper.selectAfter(10L, 500)).thenReturn(
+                Collections.singletonList(changeLog(11L, CacheUtils.FLOW_CACHE_NAME, "flow1")));
+        this.appMetadataCacheService.syncChanges();
+        assertNull(CacheUtils.FLOW_CACHE.getIfPresent("flow1"));
+
+        // 同步到变更之后重新加载的缓存不会被同一条变更清理
+        CacheUtils.FLOW_CACHE.put("flow1", new FlowInfo());
+        CacheUtils.FLOW_CACHE.invalidate("flow1", 11L);
+        assertNotNull(CacheUtils.FLOW_CACHE.getIfPresent("flow1"));
+    }
+
+    @Test
+    @DisplayName("失效空集合时不写入变更记录")
+    void shouldSkipEmptyInvalidation() {
+        this.appMetadataCacheService.invalidateFlows(Collections.emptyList());
+
+        verify(this.changeLogMapper, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("较小id的变更记录晚提交时，同步位置停在空洞之前，空洞期间加载的缓存仍会被清理")
+    void shouldInvalidateWhenLowerIdCommittedLater() {
+        when(this.changeLogMapper.selectMaxId()).thenReturn(10L);
+        this.appMetadataCacheService.syncChanges();
+        when(this.changeLogMapper.selectAfter(10L, 500)).thenReturn(
+                Collections.singletonList(changeLog(12L, CacheUtils.FLOW_CACHE_NAME, "flow2")));
+        this.appMetadataCacheService.syncChanges();
+
+        // 空洞期间加载的缓存
+        CacheUtils.FLOW_CACHE.put("flow1", new FlowInfo());
+        CacheUtils.FLOW_CACHE.put("flow2", new FlowInfo());
+        when(this.changeLogMapper.selectAfter(10L, 500)).thenReturn(Arrays.asList(
+                changeLog(11L, CacheUtils.FLOW_CACHE_NAME, "flow1"),
+                changeLog(12L, CacheUtils.FLOW_CACHE_NAME, "flow2")));
+        this.appMetadataCacheService.syncChanges();
+
+        assertNull(CacheUtils.FLOW_CACHE.getIfPresent("flow1"));
+        assertNotNull(CacheUtils.FLOW_CACHE.getIfPresent("flow2"));
+    }
+
+    @Test
+    @DisplayName("空洞超时后同步位置越过空洞")
+    void shouldSkipGapAfterTimeout() {
+        AppMetadataCacheServiceImpl service =
+                new AppMetadataCacheServiceImpl(this.changeLogMapper, 2000, 48, 5, 24, 0);
+        when(this.changeLogMapper.selectMaxId()).thenReturn(10L);
+        service.syncChanges();
+        when(this.changeLogMapper.selectAfter(10L, 500)).thenReturn(
+                Collections.singletonList(changeLog(12L, CacheUtils.FLOW_CACHE_NAME, "flow2")));
+        service.syncChanges();
+
+        when(this.changeLogMapper.selectAfter(12L, 500)).thenReturn(Collections.emptyList());
+        service.syncChanges();
+
+        verify(this.changeLogMapper).selectAfter(12L, 500);
+    }
+
+    private static AppMetadataChangeLogPo changeLog(long id, String cacheName, String cacheKey) {
+        return AppMetadataChangeLogPo.builder().id(id).cacheName(cacheName).cacheKey(cacheKey).build();
+    }
+}
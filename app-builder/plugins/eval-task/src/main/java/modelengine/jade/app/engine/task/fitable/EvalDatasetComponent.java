@@ -34,6 +34,8 @@ import java.util.Map;
  */
 @Component
 public class EvalDatasetComponent implements FlowableService {
+    private static final int PAGE_SIZE = 100;
+
     private final ObjectSerializer serializer;
 
     private final EvalListDataService evalListDataService;
@@ -57,7 +59,6 @@ public class EvalDatasetComponent implements FlowableService {
             throw new EvalTaskException(EVAL_TASK_CONTEXT);
         }
 
-        List<Map<String, Object>> returnFlowData = new ArrayList<>();
         Map<String, Object> flowDataCopy = new HashMap<>(flowData.get(0));
 
         Map<String, Object> businessData = ObjectUtils.cast(flowData.get(0).get(BS_DATA_KEY));
@@ -68,19 +69,53 @@ public class EvalDatasetComponent implements FlowableService {
         EvalDataQueryParam param = new EvalDataQueryParam();
         param.setDatasetId(id);
         param.setVersion(version);
-        param.setPageIndex(1);
-        param.setPageSize(quantity);
-
-        List<EvalDataEntity> res = this.evalListDataService.listEvalData(param).getItems();
-
-        for (EvalDataEntity entity : res) {
-            Map<String, Object> singleFlowData = new HashMap<>(flowDataCopy);
-            Map<String, Object> businessDataCopy =
-                    serializer.deserialize(serializer.serialize(businessData), Map.class);
-            businessDataCopy.put("output", serializer.deserialize(entity.getContent(), Object.class));
-            singleFlowData.put(BS_DATA_KEY, businessDataCopy);
-            returnFlowData.add(singleFlowData);
+        param.setPageSize(Math.min(quantity, PAGE_SIZE));
+
+        // 分页读取数据集，避免一次查询过多数据。
+        List<Map<String, Object>> returnFlowData = new ArrayList<>();
+        int pageIndex = 1;
+        while (returnFlowData.size() < quantity) {
+            param.setPageIndex(pageIndex++);
+            List<EvalDataEntity> res = this.evalListDataService.listEvalData(param).getItems();
+            for (EvalDataEntity entity : res) {
+                if (returnFlowData.size() >= quantity) {
+                    break;
+                }
+                returnFlowData.add(this.buildFlowData(flowDataCopy, businessData, entity));
+            }
+            if (res.size() < param.getPageSize()) {
+                break;
+            }
         }
         return returnFlowData;
     }
-}
\ No newline at end of file
+
+    private Map<String, Object> buildFlowData(Map<String, Object> flowDataCopy, Map<String, Object> businessData,
+            EvalDataEntity entity) {
+        // 下游节点会原地修改业务数据中的字典和列表（如 _internal），每条数据复制各自的容器，只共享其中不可变的值。
+        Map<String, Object> businessDataCopy = copyContainers(businessData);
+        businessDataCopy.put("output", this.serializer.deserialize(entity.getContent(), Object.class));
+        Map<String, Object> singleFlowData = new HashMap<>(flowDataCopy);
+        singleFlowData.put(BS_DATA_KEY, businessDataCopy);
+        return singleFlowData;
+    }
+
+    private static Map<String, Object> copyContainers(Map<?, ?> map) {
+        Map<String, Object> copy = new HashMap<>(map.size());
+        map.forEach((key, value) -> copy.put(ObjectUtils.cast(key), copyValue(value)));
+        return copy;
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof Map) {
+            return copyContainers((Map<?, ?>) value);
+        }
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(item -> copy.add(copyValue(item)));
+            return copy;
+        }
+        return value;
+    }
+}
@@ -13,6 +13,7 @@ import static org.mockito.Mockito.when;
 
 import modelengine.fit.jober.aipp.constants.AippConst;
 import modelengine.jade.app.engine.eval.entity.EvalDataEntity;
+import modelengine.jade.app.engine.eval.entity.EvalDataQueryParam;
 import modelengine.jade.app.engine.eval.service.EvalListDataService;
 import modelengine.jade.app.engine.task.exception.EvalTaskException;
 import modelengine.jade.common.vo.PageVo;
@@ -21,6 +22,7 @@ import modelengine.fitframework.annotation.Fit;
 import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.test.annotation.FitTestWithJunit;
 import modelengine.fitframework.test.annotation.Mock;
+import modelengine.fitframework.util.ObjectUtils;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,6 +33,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * 表示评估数据集节点测试类。
@@ -58,7 +63,7 @@ public class EvalDatasetComponentTest {
         Map<String, Object> evalDataInfo = new HashMap<>();
         evalDataInfo.put("id", "1");
         evalDataInfo.put("version", "1");
-        evalDataInfo.put("evalDatasetQuantity", 100);
+        businessData.put("evalDatasetQuantity", 100);
         businessData.put("testSet", evalDataInfo);
         return businessData;
     }
@@ -95,6 +100,70 @@ public class EvalDatasetComponentTest {
                 .containsExactly(map1, map2);
     }
 
+    @Test
+    @DisplayName("测试数据集节点分页读取数据")
+    void shouldPageThroughDatasetAndShareBusinessData() {
+        EvalDatasetComponent evalDatasetComponent = new EvalDatasetComponent(this.serializer, this.evalListDataService);
+        int total = 250;
+        AtomicInteger queryTimes = new AtomicInteger();
+        when(this.evalListDataService.listEvalData(any())).thenAnswer(invocation -> {
+            EvalDataQueryParam param = invocation.getArgument(0);
+            queryTimes.incrementAndGet();
+            List<EvalDataEntity> items = IntStream.range(param.getOffset(),
+                    Math.min(param.getOffset() + param.getPageSize(), total)).mapToObj(index -> {
+                EvalDataEntity entity = new EvalDataEntity();
+                entity.setId((long) index);
+                entity.setContent("{\"index\": " + index + "}");
+                return entity;
+            }).collect(Collectors.toList());
+            return PageVo.of(total, items);
+        });
+
+        Map<String, Object> businessData = genBusinessData();
+        businessData.put("evalDatasetQuantity", 220);
+        List<Map<String, Object>> resultFlowData = evalDatasetComponent.handleTask(buildFlowData(businessData));
+
+        assertThat(resultFlowData).hasSize(220);
+        assertThat(queryTimes.get()).isEqualTo(3);
+        List<Map<String, Object>> resultBusinessData = resultFlowData.stream()
+                .map(flowData -> ObjectUtils.<Map<String, Object>>cast(flowData.get(AippConst.BS_DATA_KEY)))
+                .collect(Collectors.toList());
+        assertThat(resultBusinessData.get(219).get("output")).isEqualTo(Collections.singletonMap("index", 219));
+        assertThat(businessData).doesNotContainKey("output");
+    }
+
+    @Test
+    @DisplayName("测试修改一条数据的内部业务数据不影响其他数据")
+    void shouldIsolateMutableBusinessDataBetweenContexts() {
+        EvalDatasetComponent evalDatasetComponent = new EvalDatasetComponent(this.serializer, this.evalListDataService);
+        EvalDataEntity entity1 = new EvalDataEntity();
+        entity1.setId(1L);
+        entity1.setContent("{\"index\": 1}");
+        EvalDataEntity entity2 = new EvalDataEntity();
+        entity2.setId(2L);
+        entity2.setContent("{\"index\": 2}");
+        when(this.evalListDataService.listEvalData(any())).thenReturn(PageVo.of(2, Arrays.asList(entity1, entity2)));
+        Map<String, Object> businessData = genBusinessData();
+        Map<String, Object> executeInfo = new HashMap<>();
+        executeInfo.put("node", new ArrayList<>(Collections.singletonList("info")));
+        businessData.put("_internal", new HashMap<>(Collections.singletonMap("executeInfo", executeInfo)));
+
+        List<Map<String, Object>> resultFlowData = evalDatasetComponent.handleTask(buildFlowData(businessData));
+        Map<String, Object> first = ObjectUtils.cast(resultFlowData.get(0).get(AippConst.BS_DATA_KEY));
+        Map<String, Object> internal = ObjectUtils.cast(first.get("_internal"));
+        Map<String, Object> firstExecuteInfo = ObjectUtils.cast(internal.get("executeInfo"));
+        ObjectUtils.<List<Object>>cast(firstExecuteInfo.get("node")).clear();
+        firstExecuteInfo.put("other", "value");
+        internal.put("key", "value");
+
+        Map<String, Object> second = ObjectUtils.cast(resultFlowData.get(1).get(AippConst.BS_DATA_KEY));
+        Map<String, Object> secondInternal = ObjectUtils.cast(second.get("_internal"));
+        assertThat(secondInternal).doesNotContainKey("key");
+        assertThat(secondInternal.get("executeInfo")).isEqualTo(
+                Collections.singletonMap("node", Collections.singletonList("info")));
+        assertThat(businessData.get("_internal")).isEqualTo(secondInternal);
+    }
+
     @Test
     @DisplayName("测试数据集节点流转失败")
     void shouldNotOkWhenMissingParam() {
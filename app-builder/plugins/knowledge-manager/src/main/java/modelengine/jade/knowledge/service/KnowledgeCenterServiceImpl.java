@@ -16,6 +16,7 @@ import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.annotation.Fitable;
 import modelengine.fitframework.annotation.Property;
 import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.runtime.FitRuntime;
 import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.LongUtils;
 import modelengine.fitframework.util.StringUtils;
@@ -25,6 +26,7 @@ import modelengine.jade.knowledge.condition.KnowledgeConfigQueryCondition;
 import modelengine.jade.knowledge.config.KnowledgeConfig;
 import modelengine.jade.knowledge.dto.KnowledgeConfigDto;
 import modelengine.jade.knowledge.dto.KnowledgeDto;
+import modelengine.jade.knowledge.events.KnowledgeConfigChangedEvent;
 import modelengine.jade.knowledge.exception.KnowledgeException;
 import modelengine.jade.knowledge.po.KnowledgeConfigPo;
 import modelengine.jade.knowledge.repository.KnowledgeCenterRepo;
@@ -48,19 +50,22 @@ public class KnowledgeCenterServiceImpl implements KnowledgeCenterService {
     private final KnowledgeCenterRepo knowledgeCenterRepo;
     private final Encryptor encryptor;
     private final Decryptor decryptor;
+    private final FitRuntime fitRuntime;
 
     /**
      * 构造方法。
      *
      * @param knowledgeConfig 表示知识库集参数的 {@link KnowledgeConfig}。
      * @param knowledgeCenterRepo 表示用于访问用户知识库配置数据的仓储接口的 {@link KnowledgeCenterRepo}。
+     * @param fitRuntime 表示用于发布知识库配置变更事件的 {@link FitRuntime}。
      */
     public KnowledgeCenterServiceImpl(KnowledgeConfig knowledgeConfig, KnowledgeCenterRepo knowledgeCenterRepo,
-            Encryptor encryptor, Decryptor decryptor) {
+            Encryptor encryptor, Decryptor decryptor, FitRuntime fitRuntime) {
         this.knowledgeConfig = knowledgeConfig;
         this.knowledgeCenterRepo = knowledgeCenterRepo;
         this.encryptor = encryptor;
         this.decryptor = decryptor;
+        this.fitRuntime = fitRuntime;
     }
 
     @Override
@@ -114,6 +119,10 @@ public class KnowledgeCenterServiceImpl implements KnowledgeCenterService {
             throw new KnowledgeException(KnowledgeManagerRetCode.SHOULD_HAS_AT_LEAST_ONE_DEFAULT);
         }
         this.knowledgeCenterRepo.updateKnowledgeConfig(this.getKnowledgeConfigPo(knowledgeConfigDto));
+        result.stream()
+                .filter(config -> knowledgeConfigDto.getId().equals(config.getId()))
+                .findFirst()
+                .ifPresent(config -> this.publishChanged(config.getKnowledgeConfigId()));
         KnowledgeConfigQueryCondition condition = KnowledgeConfigQueryCondition.builder()
                 .id(knowledgeConfigDto.getId())
                 .userId(knowledgeConfigDto.getUserId())
@@ -147,6 +156,7 @@ public class KnowledgeCenterServiceImpl implements KnowledgeCenterService {
             return;
         }
         KnowledgeConfigPo configPo = configPoList.get(0);
+        this.publishChanged(configPo.getKnowledgeConfigId());
         KnowledgeConfigDto knowledgeConfigDto = this.getKnowledgeConfigDto(configPo);
         if (knowledgeConfigDto.getIsDefault()) {
             KnowledgeConfigQueryCondition condition = KnowledgeConfigQueryCondition.builder()
@@ -226,6 +236,12 @@ public class KnowledgeCenterServiceImpl implements KnowledgeCenterService {
         }
     }
 
+    private void publishChanged(String knowledgeConfigId) {
+        if (StringUtils.isNotBlank(knowledgeConfigId)) {
+            this.fitRuntime.publisherOfEvents().publishEvent(new KnowledgeConfigChangedEvent(this, knowledgeConfigId));
+        }
+    }
+
     private KnowledgeConfigPo getKnowledgeConfigPo(KnowledgeConfigDto knowledgeConfigDto) {
         return KnowledgeConfigPo.builder()
                 .id(knowledgeConfigDto.getId())
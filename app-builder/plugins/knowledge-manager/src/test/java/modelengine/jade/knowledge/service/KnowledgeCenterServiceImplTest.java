@@ -6,15 +6,19 @@
 
 package modelengine.jade.knowledge.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 
 import modelengine.fit.security.Decryptor;
 import modelengine.fit.security.Encryptor;
+import modelengine.fitframework.event.EventPublisher;
+import modelengine.fitframework.runtime.FitRuntime;
 import modelengine.jade.knowledge.config.KnowledgeConfig;
 import modelengine.jade.knowledge.dto.KnowledgeConfigDto;
 import modelengine.jade.knowledge.dto.KnowledgeDto;
+import modelengine.jade.knowledge.events.KnowledgeConfigChangedEvent;
 import modelengine.jade.knowledge.exception.KnowledgeException;
 import modelengine.jade.knowledge.po.KnowledgeConfigPo;
 import modelengine.jade.knowledge.repository.KnowledgeCenterRepo;
@@ -23,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -54,10 +59,16 @@ public class KnowledgeCenterServiceImplTest {
     @Mock
     private Decryptor decryptor;
 
+    @Mock
+    private FitRuntime fitRuntime;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
     @BeforeEach
     void setUp() {
         this.knowledgeCenterService =
-                new KnowledgeCenterServiceImpl(knowledgeConfig, knowledgeCenterRepo, encryptor, decryptor);
+                new KnowledgeCenterServiceImpl(knowledgeConfig, knowledgeCenterRepo, encryptor, decryptor, fitRuntime);
     }
 
     @Test
@@ -125,6 +136,54 @@ public class KnowledgeCenterServiceImplTest {
         Mockito.verify(knowledgeCenterRepo).deleteKnowledgeConfigById(id);
     }
 
+    @Test
+    @DisplayName("修改知识库配置后发布配置变更事件")
+    void shouldPublishChangedEventWhenEditKnowledgeConfig() {
+        KnowledgeConfigDto configDto = KnowledgeConfigDto.builder()
+                .id(1L)
+                .userId("user1")
+                .groupId("group1")
+                .apiKey("newKey")
+                .name("test config")
+                .isDefault(true)
+                .build();
+        KnowledgeConfigPo existingConfig = KnowledgeConfigPo.builder()
+                .id(1L)
+                .userId("user1")
+                .groupId("group1")
+                .name("test config")
+                .isDefault(1)
+                .knowledgeConfigId("configId")
+                .build();
+        Mockito.when(knowledgeCenterRepo.listKnowledgeConfigByCondition(ArgumentMatchers.any()))
+                .thenReturn(Collections.emptyList())
+                .thenReturn(Collections.singletonList(existingConfig));
+        Mockito.when(fitRuntime.publisherOfEvents()).thenReturn(eventPublisher);
+
+        knowledgeCenterService.edit(configDto);
+
+        assertThat(this.captureChangedEvent().getKnowledgeConfigId()).isEqualTo("configId");
+    }
+
+    @Test
+    @DisplayName("删除知识库配置后发布配置变更事件")
+    void shouldPublishChangedEventWhenDeleteKnowledgeConfig() {
+        KnowledgeConfigPo configPo = KnowledgeConfigPo.builder()
+                .id(1L)
+                .userId("user1")
+                .groupId("group1")
+                .isDefault(0)
+                .knowledgeConfigId("configId")
+                .build();
+        Mockito.when(knowledgeCenterRepo.listKnowledgeConfigByCondition(ArgumentMatchers.any()))
+                .thenReturn(Collections.singletonList(configPo));
+        Mockito.when(fitRuntime.publisherOfEvents()).thenReturn(eventPublisher);
+
+        knowledgeCenterService.delete(1L);
+
+        assertThat(this.captureChangedEvent().getKnowledgeConfigId()).isEqualTo("configId");
+    }
+
     @Test
     @DisplayName("成功查询知识库配置列表")
     void shouldListKnowledgeConfigsSuccessfully() {
@@ -223,4 +282,10 @@ public class KnowledgeCenterServiceImplTest {
 
         assertThrows(KnowledgeException.class, () -> knowledgeCenterService.add(configDto));
     }
-} 
\ No newline at end of file
+
+    private KnowledgeConfigChangedEvent captureChangedEvent() {
+        ArgumentCaptor<KnowledgeConfigChangedEvent> captor = ArgumentCaptor.forClass(KnowledgeConfigChangedEvent.class);
+        Mockito.verify(eventPublisher).publishEvent(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,31 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.jade.knowledge.cache;
+
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.event.EventHandler;
+import modelengine.jade.knowledge.events.KnowledgeConfigChangedEvent;
+
+/**
+ * 知识库配置变更事件 handler，失效对应知识库配置缓存的 API Key。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@Component
+public class KnowledgeConfigChangedHandler implements EventHandler<KnowledgeConfigChangedEvent> {
+    private final KnowledgeRetrievalCache retrievalCache;
+
+    public KnowledgeConfigChangedHandler(KnowledgeRetrievalCache retrievalCache) {
+        this.retrievalCache = retrievalCache;
+    }
+
+    @Override
+    public void handleEvent(KnowledgeConfigChangedEvent event) {
+        this.retrievalCache.invalidateApiKey(event.getKnowledgeConfigId());
+    }
+}
@@ -0,0 +1,222 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.jade.knowledge.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.EqualsAndHashCode;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.annotation.Value;
+import modelengine.fitframework.inspection.Validation;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.annotation.Scheduled;
+import modelengine.jade.knowledge.document.KnowledgeDocument;
+import modelengine.jade.knowledge.entity.RetrievalResult;
+import modelengine.jade.knowledge.entity.RetrieverOption;
+import modelengine.jade.knowledge.entity.RetrieverServiceOption;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 知识库检索结果缓存。
+ * <p>以规范化后的查询、知识库列表、索引类型、相似度阈值、引用上限和重排参数作为缓存键，缓存经过后处理的最终检索结果，
+ * 同时缓存知识库配置对应的 API Key。部分查询失败或超时的检索结果不缓存。缓存默认关闭，开启后按过期时间和最大数量淘汰，
+ * 知识库更新时可按知识库失效，知识库配置修改或删除时失效对应的 API Key。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@Component
+public class KnowledgeRetrievalCache {
+    private static final Logger log = Logger.get(KnowledgeRetrievalCache.class);
+
+    private final boolean isEnabled;
+    private final Cache<Key, List<KnowledgeDocument>> documentCache;
+    private final Cache<String, String> apiKeyCache;
+
+    /**
+     * 使用缓存配置初始化 {@link KnowledgeRetrievalCache} 对象。
+     *
+     * @param isEnabled 表示是否开启缓存的 {@code boolean}。
+     * @param ttlSeconds 表示检索结果过期秒数的 {@code long}。
+     * @param maxSize 表示检索结果最大缓存数量的 {@code long}。
+     * @param apiKeyTtlSeconds 表示 API Key 过期秒数的 {@code long}。
+     */
+    public KnowledgeRetrievalCache(@Value("${knowledge.retriever.cache.enabled:false}") boolean isEnabled,
+            @Value("${knowledge.retriever.cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${knowledge.retriever.cache.max-size:1000}") long maxSize,
+            @Value("${knowledge.retriever.cache.api-key-ttl-seconds:60}") long apiKeyTtlSeconds) {
+        this.isEnabled = isEnabled;
+        this.documentCache = Caffeine.newBuilder()
+                .expireAfterWrite(Validation.greaterThan(ttlSeconds, 0L, "The cache ttl must be positive."),
+                        TimeUnit.SECONDS)
+                .maximumSize(Validation.greaterThan(maxSize, 0L, "The cache max size must be positive."))
+                .recordStats()
+                .build();
+        this.apiKeyCache = Caffeine.newBuilder()
+                .expireAfterWrite(Validation.greaterThan(apiKeyTtlSeconds, 0L, "The api key ttl must be positive."),
+                        TimeUnit.SECONDS)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 获取检索结果，未命中时通过加载器检索，只缓存包含全部查询内容的结果。
+     *
+     * @param key 表示检索缓存键的 {@link Key}。
+     * @param loader 表示未命中时执行检索的 {@link Supplier}{@code <}{@link RetrievalResult}{@code <}
+     * {@link KnowledgeDocument}{@code >>}。
+     * @return 表示检索结果的 {@link List}{@code <}{@link KnowledgeDocument}{@code >}。
+     */
+    public List<KnowledgeDocument> getDocuments(Key key, Supplier<RetrievalResult<KnowledgeDocument>> loader) {
+        if (!this.isEnabled) {
+            return loader.get().getDocuments();
+        }
+        List<KnowledgeDocument> cached = this.documentCache.getIfPresent(key);
+        if (cached != null) {
+            return new ArrayList<>(cached);
+        }
+        RetrievalResult<KnowledgeDocument> result = loader.get();
+        List<KnowledgeDocument> documents = Collections.unmodifiableList(new ArrayList<>(result.getDocuments()));
+        if (result.isComplete()) {
+            this.documentCache.put(key, documents);
+        }
+        return new ArrayList<>(documents);
+    }
+
+    /**
+     * 获取知识库配置对应的 API Key，未命中时通过加载器查询并缓存结果。
+     *
+     * @param knowledgeConfigId 表示知识库配置标识的 {@link String}。
+     * @param loader 表示未命中时查询 API Key 的 {@link Supplier}{@code <}{@link String}{@code >}。
+     * @return 表示 API Key 的 {@link String}。
+     */
+    public String getApiKey(String knowledgeConfigId, Supplier<String> loader) {
+        if (!this.isEnabled || knowledgeConfigId == null) {
+            return loader.get();
+        }
+        return this.apiKeyCache.get(knowledgeConfigId, ignored -> loader.get());
+    }
+
+    /**
+     * 失效包含指定知识库的检索结果。
+     *
+     * @param repoId 表示知识库标识的 {@link String}。
+     */
+    public void invalidateRepo(String repoId) {
+        this.documentCache.asMap().keySet().removeIf(key -> key.repoIds.contains(repoId));
+        log.info("Knowledge retrieval cache is invalidated. [repoId={}]", repoId);
+    }
+
+    /**
+     * 失效指定知识库配置的 API Key。
+     *
+     * @param knowledgeConfigId 表示知识库配置标识的 {@link String}。
+     */
+    public void invalidateApiKey(String knowledgeConfigId) {
+        this.apiKeyCache.invalidate(knowledgeConfigId);
+    }
+
+    /**
+     * 定时输出检索结果缓存的统计信息。
+     */
+    @Scheduled(strategy = Scheduled.Strategy.FIXED_RATE, value = "600000")
+    public void reportStats() {
+        if (!this.isEnabled) {
+            return;
+        }
+        CacheStats stats = this.documentCache.stats();
+        log.info("Knowledge retrieval cache stats. [size={}, hitRate={}, hits={}, misses={}, evictions={}]",
+                this.documentCache.estimatedSize(), stats.hitRate(), stats.hitCount(), stats.missCount(),
+                stats.evictionCount());
+    }
+
+    /**
+     * 获取检索结果的缓存命中次数。
+     *
+     * @return 表示命中次数的 {@code long}。
+     */
+    public long getHitCount() {
+        return this.documentCache.stats().hitCount();
+    }
+
+    /**
+     * 获取检索结果的缓存未命中次数。
+     *
+     * @return 表示未命中次数的 {@code long}。
+     */
+    public long getMissCount() {
+        return this.documentCache.stats().missCount();
+    }
+
+    /**
+     * 获取检索结果因过期或超出数量被淘汰的次数。
+     *
+     * @return 表示淘汰次数的 {@code long}。
+     */
+    public long getEvictionCount() {
+        return this.documentCache.stats().evictionCount();
+    }
+
+    /**
+     * 构造检索缓存键。
+     *
+     * @param query 表示规范化后查询的 {@link List}{@code <}{@link String}{@code >}。
+     * @param repoIds 表示知识库标识列表的 {@link List}{@code <}{@link String}{@code >}。
+     * @param option 表示检索配置的 {@link RetrieverServiceOption}。
+     * @return 表示检索缓存键的 {@link Key}。
+     */
+    public static Key key(List<String> query, List<String> repoIds, RetrieverServiceOption option) {
+        return new Key(query, repoIds, option);
+    }
+
+    /**
+     * 表示检索缓存键，只包含影响检索结果的参数。
+     */
+    @EqualsAndHashCode
+    public static final class Key {
+        private final List<String> query;
+        private final List<String> repoIds;
+        private final String indexType;
+        private final float similarityThreshold;
+        private final String referenceType;
+        private final int referenceValue;
+        private final boolean isRerankEnabled;
+        private final String rerankModel;
+        private final String rerankTag;
+        private final Integer rerankTopN;
+        private final String groupId;
+        private final String knowledgeConfigId;
+        private final Map<String, Object> extensions;
+
+        private Key(List<String> query, List<String> repoIds, RetrieverServiceOption option) {
+            this.query = new ArrayList<>(query);
+            this.repoIds = new ArrayList<>(repoIds);
+            this.indexType = option.getIndexType().type();
+            this.similarityThreshold = option.getSimilarityThreshold();
+            this.referenceType = option.getReferenceLimit().type();
+            this.referenceValue = option.getReferenceLimit().value();
+            RetrieverOption.RerankParam rerankParam = option.getRerankParam();
+            this.isRerankEnabled = rerankParam.isEnableRerank();
+            RetrieverServiceOption.ModelAccessInfo accessInfo = rerankParam.getAccessInfo();
+            this.rerankModel = this.isRerankEnabled && accessInfo != null ? accessInfo.getServiceName() : null;
+            this.rerankTag = this.isRerankEnabled && accessInfo != null ? accessInfo.getTag() : null;
+            this.rerankTopN = this.isRerankEnabled ? rerankParam.getTopN() : null;
+            this.groupId = option.getGroupId();
+            this.knowledgeConfigId = option.getKnowledgeConfigId();
+            this.extensions = option.getExtensions() == null ? null : new HashMap<>(option.getExtensions());
+        }
+    }
+}
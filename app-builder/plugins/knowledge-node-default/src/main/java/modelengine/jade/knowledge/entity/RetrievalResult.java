@@ -0,0 +1,67 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.jade.knowledge.entity;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 表示检索结果，标识结果是否包含全部查询的检索内容。
+ *
+ * @param <T> 表示文档类型的 {@link T}。
+ * @author agent
+ * @since 2026-10-18
+ */
+public class RetrievalResult<T> {
+    private final List<T> documents;
+    private final boolean isComplete;
+
+    private RetrievalResult(List<T> documents, boolean isComplete) {
+        this.documents = documents == null ? Collections.emptyList() : documents;
+        this.isComplete = isComplete;
+    }
+
+    /**
+     * 创建包含全部查询检索内容的结果。
+     *
+     * @param documents 表示文档列表的 {@link List}{@code <}{@link T}{@code >}。
+     * @param <T> 表示文档类型的 {@link T}。
+     * @return 表示完整检索结果的 {@link RetrievalResult}{@code <}{@link T}{@code >}。
+     */
+    public static <T> RetrievalResult<T> complete(List<T> documents) {
+        return new RetrievalResult<>(documents, true);
+    }
+
+    /**
+     * 创建部分查询失败或超时后的检索结果。
+     *
+     * @param documents 表示文档列表的 {@link List}{@code <}{@link T}{@code >}。
+     * @param <T> 表示文档类型的 {@link T}。
+     * @return 表示部分检索结果的 {@link RetrievalResult}{@code <}{@link T}{@code >}。
+     */
+    public static <T> RetrievalResult<T> partial(List<T> documents) {
+        return new RetrievalResult<>(documents, false);
+    }
+
+    /**
+     * 获取检索到的文档列表。
+     *
+     * @return 表示文档列表的 {@link List}{@code <}{@link T}{@code >}。
+     */
+    public List<T> getDocuments() {
+        return this.documents;
+    }
+
+    /**
+     * 获取检索结果是否包含全部查询的检索内容。
+     *
+     * @return 表示检索结果是否完整的 {@code boolean}。
+     */
+    public boolean isComplete() {
+        return this.isComplete;
+    }
+}
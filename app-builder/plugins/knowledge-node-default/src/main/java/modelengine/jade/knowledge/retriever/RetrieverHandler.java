@@ -6,6 +6,7 @@
 
 package modelengine.jade.knowledge.retriever;
 
+import modelengine.jade.knowledge.entity.RetrievalResult;
 import modelengine.jade.knowledge.entity.RetrieverOption;
 
 import modelengine.fel.core.document.MeasurableDocument;
@@ -28,4 +29,16 @@ public interface RetrieverHandler {
      * @return 表示文档内容的 {@link List}{@code <}{@link MeasurableDocument}{@code >}。
      */
     List<MeasurableDocument> handle(@Nonnull List<String> query, @Nonnull RetrieverOption option);
+
+    /**
+     * 执行检索，并标识检索结果是否包含全部查询的内容。
+     *
+     * @param query 表示问题内容的 {@link List}{@code <}{@link String}{@code >}。
+     * @param option 表示检索配置的 {@link RetrieverOption}。
+     * @return 表示检索结果的 {@link RetrievalResult}{@code <}{@link MeasurableDocument}{@code >}。
+     */
+    default RetrievalResult<MeasurableDocument> retrieve(@Nonnull List<String> query,
+            @Nonnull RetrieverOption option) {
+        return RetrievalResult.complete(this.handle(query, option));
+    }
 }
@@ -6,42 +6,138 @@
 
 package modelengine.jade.knowledge.retriever.support;
 
+import modelengine.jade.knowledge.entity.RetrievalResult;
 import modelengine.jade.knowledge.entity.RetrieverOption;
 import modelengine.jade.knowledge.retriever.KnowledgeDocumentRetriever;
 import modelengine.jade.knowledge.retriever.RetrieverHandler;
 
 import modelengine.fel.core.document.MeasurableDocument;
 import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.annotation.Destroy;
+import modelengine.fitframework.annotation.Value;
 import modelengine.fitframework.inspection.Nonnull;
+import modelengine.fitframework.inspection.Validation;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.thread.DefaultThreadFactory;
+import modelengine.fitframework.util.StringUtils;
 import modelengine.jade.knowledge.router.KnowledgeServiceRouter;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
  * 检索处理器的默认实现。
+ * <p>并发度为 1 时按查询顺序依次检索；大于 1 时多个查询并发检索，在截止时间内收集结果，
+ * 单个查询失败或超时时跳过该查询的结果并中断超时的检索，此时结果标识为不完整；全部查询均失败或超时时抛出异常。
+ * 返回结果始终按查询顺序排列。</p>
  *
  * @author 刘信宏
  * @since 2024-09-28
  */
 @Component
 public class DefaultRetrieverHandler implements RetrieverHandler {
+    private static final Logger log = Logger.get(DefaultRetrieverHandler.class);
+
     private final KnowledgeServiceRouter knowledgeServiceRouter;
+    private final long timeoutMillis;
+    private final ExecutorService executorService;
 
     /**
      * 使用知识库服务初始化 {@link DefaultRetrieverHandler} 对象。
      *
      * @param knowledgeServiceRouter 表示知识库服务路由处理类的 {@link KnowledgeServiceRouter}。
+     * @param parallelism 表示同时检索的最大查询数量的 {@code int}，为 1 时依次检索。
+     * @param timeoutMillis 表示并发检索时单次请求截止时间毫秒数的 {@code long}。
      */
-    public DefaultRetrieverHandler(KnowledgeServiceRouter knowledgeServiceRouter) {
+    public DefaultRetrieverHandler(KnowledgeServiceRouter knowledgeServiceRouter,
+            @Value("${knowledge.retriever.parallelism:1}") int parallelism,
+            @Value("${knowledge.retriever.timeout-millis:10000}") long timeoutMillis) {
         this.knowledgeServiceRouter = knowledgeServiceRouter;
+        Validation.greaterThan(parallelism, 0, "The retriever parallelism must be positive.");
+        this.timeoutMillis = Validation.greaterThan(timeoutMillis, 0L, "The retriever timeout must be positive.");
+        this.executorService = parallelism > 1
+                ? Executors.newFixedThreadPool(parallelism,
+                new DefaultThreadFactory("knowledge-retriever", true, (thread, throwable) -> log.error(
+                        "Knowledge retriever thread exception. [message={}]", throwable.getMessage(), throwable)))
+                : null;
     }
 
     @Override
     public List<MeasurableDocument> handle(@Nonnull List<String> query, @Nonnull RetrieverOption option) {
+        return this.retrieve(query, option).getDocuments();
+    }
+
+    @Override
+    public RetrievalResult<MeasurableDocument> retrieve(@Nonnull List<String> query,
+            @Nonnull RetrieverOption option) {
         KnowledgeDocumentRetriever retriever = new KnowledgeDocumentRetriever(option, knowledgeServiceRouter);
-        return query.stream()
-                .flatMap(input -> retriever.retrieve(input).stream())
+        if (this.executorService == null || query.size() <= 1) {
+            return RetrievalResult.complete(query.stream()
+                    .flatMap(input -> retriever.retrieve(input).stream())
+                    .collect(Collectors.toList()));
+        }
+        return this.retrieveConcurrently(query, retriever);
+    }
+
+    /**
+     * 关闭并发检索使用的线程池。
+     */
+    @Destroy
+    public void destroy() {
+        if (this.executorService != null) {
+            this.executorService.shutdownNow();
+        }
+    }
+
+    private RetrievalResult<MeasurableDocument> retrieveConcurrently(List<String> query,
+            KnowledgeDocumentRetriever retriever) {
+        List<Future<List<MeasurableDocument>>> futures = query.stream()
+                .map(input -> this.executorService.submit(() -> retriever.retrieve(input)))
                 .collect(Collectors.toList());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.timeoutMillis);
+        List<MeasurableDocument> documents = new ArrayList<>();
+        RuntimeException firstFailure = null;
+        int succeeded = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            Future<List<MeasurableDocument>> future = futures.get(i);
+            try {
+                documents.addAll(future.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS));
+                succeeded++;
+            } catch (TimeoutException e) {
+                // 中断超时的检索，避免阻塞的远程调用长期占用线程池.
+                future.cancel(true);
+                log.warn("Knowledge retrieval timeout, skip the query. [queryIndex={}, timeoutMillis={}]",
+                        i,
+                        this.timeoutMillis);
+            } catch (ExecutionException e) {
+                RuntimeException cause = e.getCause() instanceof RuntimeException
+                        ? (RuntimeException) e.getCause()
+                        : new IllegalStateException(e.getCause());
+                firstFailure = firstFailure == null ? cause : firstFailure;
+                log.warn("Knowledge retrieval failed, skip the query. [queryIndex={}, cause={}]",
+                        i,
+                        cause.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(remaining -> remaining.cancel(true));
+                throw new IllegalStateException("Knowledge retrieval is interrupted.", e);
+            }
+        }
+        if (succeeded == 0) {
+            throw firstFailure != null
+                    ? firstFailure
+                    : new IllegalStateException(StringUtils.format(
+                            "Knowledge retrieval timeout. [queryCount={0}, timeoutMillis={1}]",
+                            query.size(),
+                            this.timeoutMillis));
+        }
+        return succeeded == futures.size() ? RetrievalResult.complete(documents) : RetrievalResult.partial(documents);
     }
 }
@@ -24,8 +24,10 @@ import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 import modelengine.jade.common.exception.ModelEngineException;
 import modelengine.jade.knowledge.KnowledgeCenterService;
+import modelengine.jade.knowledge.cache.KnowledgeRetrievalCache;
 import modelengine.jade.knowledge.convertor.RetrieverOptionConvertor;
 import modelengine.jade.knowledge.document.KnowledgeDocument;
+import modelengine.jade.knowledge.entity.RetrievalResult;
 import modelengine.jade.knowledge.entity.RetrieverOption;
 import modelengine.jade.knowledge.entity.RetrieverServiceOption;
 import modelengine.jade.knowledge.postprocessor.FactoryOption;
@@ -51,6 +53,7 @@ public class RetrieverServiceImpl implements RetrieverService {
     private final String baseRerankUri;
     private final KnowledgeCenterService knowledgeCenterService;
     private final AippModelCenter aippModelCenter;
+    private final KnowledgeRetrievalCache retrievalCache;
 
     /**
      * 使用检索处理器和文档后处理器初始化 {@link RetrieverServiceImpl} 对象。
@@ -60,15 +63,17 @@ public class RetrieverServiceImpl implements RetrieverService {
      * @param baseRerankUri 表示文档重排服务的资源标识符的 {@link String}。
      * @param knowledgeCenterService 表示知识库配置服务的 {@link KnowledgeCenterService}。
      * @param aippModelCenter 表示模型中心的 {@link AippModelCenter}。
+     * @param retrievalCache 表示检索结果缓存的 {@link KnowledgeRetrievalCache}。
      */
     public RetrieverServiceImpl(RetrieverHandler retrieverHandler, PostProcessorFactory postProcessorFactory,
             @Value("${openai-urls.internal}") String baseRerankUri, KnowledgeCenterService knowledgeCenterService,
-            AippModelCenter aippModelCenter) {
+            AippModelCenter aippModelCenter, KnowledgeRetrievalCache retrievalCache) {
         this.retrieverHandler = Validation.notNull(retrieverHandler, "The retriever handler cannot be null.");
         this.postProcessorFactory = Validation.notNull(postProcessorFactory, "The factory cannot be null.");
         this.baseRerankUri = Validation.notBlank(baseRerankUri, "The rerank uri cannot be blank.");
         this.knowledgeCenterService = knowledgeCenterService;
         this.aippModelCenter = aippModelCenter;
+        this.retrievalCache = Validation.notNull(retrievalCache, "The retrieval cache cannot be null.");
     }
 
     @Fitable("knowledge.service.invoke")
@@ -82,8 +87,21 @@ public class RetrieverServiceImpl implements RetrieverService {
         Validation.lessThanOrEquals(knowledgeRepos.size(), 5, "The knowledge repository cannot greater than 5.");
         this.retrieverServiceOptionValidation(option);
         List<String> normalizeQuery = this.normalizeQuery(query);
-        RetrieverOption retrieverOption = this.getRetrieverOption(knowledgeRepos, option);
-        List<MeasurableDocument> documents = this.retrieverHandler.handle(normalizeQuery, retrieverOption);
+        List<String> repoIds = knowledgeRepos.stream().map(KnowledgeRepoInfo::id).collect(Collectors.toList());
+        return this.retrievalCache.getDocuments(KnowledgeRetrievalCache.key(normalizeQuery, repoIds, option),
+                () -> this.retrieve(normalizeQuery, repoIds, option));
+    }
+
+    private RetrievalResult<KnowledgeDocument> retrieve(List<String> normalizeQuery, List<String> repoIds,
+            RetrieverServiceOption option) {
+        RetrieverOption retrieverOption = this.getRetrieverOption(repoIds, option);
+        RetrievalResult<MeasurableDocument> result = this.retrieverHandler.retrieve(normalizeQuery, retrieverOption);
+        List<KnowledgeDocument> documents = this.postProcess(result.getDocuments(), normalizeQuery, option);
+        return result.isComplete() ? RetrievalResult.complete(documents) : RetrievalResult.partial(documents);
+    }
+
+    private List<KnowledgeDocument> postProcess(List<MeasurableDocument> documents, List<String> normalizeQuery,
+            RetrieverServiceOption option) {
         FactoryOption factoryOption = this.buildFactoryOption(normalizeQuery, option.getRerankParam());
         List<DocumentPostProcessor> postProcessors = this.postProcessorFactory.create(factoryOption);
         for (DocumentPostProcessor postProcessor : postProcessors) {
@@ -98,10 +116,11 @@ public class RetrieverServiceImpl implements RetrieverService {
                 .collect(Collectors.toList());
     }
 
-    private RetrieverOption getRetrieverOption(List<KnowledgeRepoInfo> knowledgeRepos, RetrieverServiceOption option) {
-        String apiKey = this.knowledgeCenterService.getApiKey(option.getKnowledgeConfigId(), StringUtils.EMPTY);
+    private RetrieverOption getRetrieverOption(List<String> repoIds, RetrieverServiceOption option) {
+        String apiKey = this.retrievalCache.getApiKey(option.getKnowledgeConfigId(),
+                () -> this.knowledgeCenterService.getApiKey(option.getKnowledgeConfigId(), StringUtils.EMPTY));
         RetrieverOption retrieverOption = RetrieverOptionConvertor.INSTANCE.fromRetrieverServiceOption(option, apiKey);
-        retrieverOption.setRepoIds(knowledgeRepos.stream().map(KnowledgeRepoInfo::id).collect(Collectors.toList()));
+        retrieverOption.setRepoIds(repoIds);
         return retrieverOption;
     }
 
@@ -0,0 +1,157 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.jade.knowledge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.jade.knowledge.cache.KnowledgeConfigChangedHandler;
+import modelengine.jade.knowledge.cache.KnowledgeRetrievalCache;
+import modelengine.jade.knowledge.document.KnowledgeDocument;
+import modelengine.jade.knowledge.entity.RetrievalResult;
+import modelengine.jade.knowledge.entity.RetrieverOption;
+import modelengine.jade.knowledge.entity.RetrieverServiceOption;
+import modelengine.jade.knowledge.enums.ReferenceType;
+import modelengine.jade.knowledge.events.KnowledgeConfigChangedEvent;
+import modelengine.jade.knowledge.util.RetrieverServiceUtils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * {@link KnowledgeRetrievalCache} 的测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class KnowledgeRetrievalCacheTest {
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private final Supplier<RetrievalResult<KnowledgeDocument>> loader = () -> {
+        this.loadCount.incrementAndGet();
+        return RetrievalResult.complete(Collections.singletonList(new KnowledgeDocument("id", "text", 0.5, null)));
+    };
+
+    @Test
+    void shouldHitCacheWhenSameQueryAndOption() {
+        KnowledgeRetrievalCache cache = new KnowledgeRetrievalCache(true, 300L, 100L, 60L);
+        RetrieverOption option = buildOption();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.getDocuments(key("query", "repoId", option), this.loader)).hasSize(1);
+        }
+
+        assertThat(this.loadCount.get()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMissCacheWhenQueryOrOptionChanged() {
+        KnowledgeRetrievalCache cache = new KnowledgeRetrievalCache(true, 300L, 100L, 60L);
+        RetrieverOption option = buildOption();
+        cache.getDocuments(key("query", "repoId", option), this.loader);
+        cache.getDocuments(key("other", "repoId", option), this.loader);
+        cache.getDocuments(key("query", "otherRepoId", option), this.loader);
+        RetrieverOption thresholdChanged = buildOption();
+        thresholdChanged.setSimilarityThreshold(0.9f);
+        cache.getDocuments(key("query", "repoId", thresholdChanged), this.loader);
+        RetrieverOption rerankChanged = buildOption();
+        rerankChanged.setRerankParam(new RetrieverOption.RerankParam(true,
+                new RetrieverServiceOption.ModelAccessInfo("model", "INTERNAL"),
+                2));
+        cache.getDocuments(key("query", "repoId", rerankChanged), this.loader);
+
+        assertThat(this.loadCount.get()).isEqualTo(5);
+        assertThat(cache.getHitCount()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldReloadWhenRepoInvalidated() {
+        KnowledgeRetrievalCache cache = new KnowledgeRetrievalCache(true, 300L, 100L, 60L);
+        RetrieverOption option = buildOption();
+        KnowledgeRetrievalCache.Key updatedRepoKey = KnowledgeRetrievalCache.key(Collections.singletonList("query"),
+                Arrays.asList("repo0", "repo1"),
+                option);
+        KnowledgeRetrievalCache.Key otherRepoKey = key("query", "repo2", option);
+        cache.getDocuments(updatedRepoKey, this.loader);
+        cache.getDocuments(otherRepoKey, this.loader);
+
+        cache.invalidateRepo("repo1");
+        cache.getDocuments(updatedRepoKey, this.loader);
+        cache.getDocuments(otherRepoKey, this.loader);
+
+        assertThat(this.loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldCacheApiKeyWhenEnabled() {
+        KnowledgeRetrievalCache cache = new KnowledgeRetrievalCache(true, 300L, 100L, 60L);
+        AtomicInteger apiKeyLoadCount = new AtomicInteger();
+        Supplier<String> apiKeyLoader = () -> "apiKey" + apiKeyLoadCount.incrementAndGet();
+
+        assertThat(cache.getApiKey("configId", apiKeyLoader)).isEqualTo("apiKey1");
+        assertThat(cache.getApiKey("configId", apiKeyLoader)).isEqualTo("apiKey1");
+        cache.invalidateApiKey("configId");
+        assertThat(cache.getApiKey("configId", apiKeyLoader)).isEqualTo("apiKey2");
+    }
+
+    @Test
+    void shouldNotCachePartialResult() {
+        KnowledgeRetrievalCache cache = new KnowledgeRetrievalCache(true, 300L, 100L, 60L);
+        RetrieverOption option = buildOption();
+        Supplier<RetrievalResult<KnowledgeDocument>> partialLoader = () -> {
+            this.loadCount.incrementAndGet();
+            return RetrievalResult.partial(Collections.singletonList(new KnowledgeDocument("id", "text", 0.5, null)));
+        };
+
+        assertThat(cache.getDocuments(key("query", "repoId", option), partialLoader)).hasSize(1);
+        assertThat(cache.getDocuments(key("query", "repoId", option), this.loader)).hasSize(1);
+        cache.getDocuments(key("query", "repoId", option), this.loader);
+
+        assertThat(this.loadCount.get()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldInvalidateApiKeyWhenKnowledgeConfigChanged() {
+        KnowledgeRetrievalCache cache = new KnowledgeRetrievalCache(true, 300L, 100L, 60L);
+        AtomicInteger apiKeyLoadCount = new AtomicInteger();
+        Supplier<String> apiKeyLoader = () -> "apiKey" + apiKeyLoadCount.incrementAndGet();
+        cache.getApiKey("configId", apiKeyLoader);
+        cache.getApiKey("otherConfigId", apiKeyLoader);
+
+        new KnowledgeConfigChangedHandler(cache).handleEvent(new KnowledgeConfigChangedEvent(this, "configId"));
+
+        assertThat(cache.getApiKey("configId", apiKeyLoader)).isEqualTo("apiKey3");
+        assertThat(cache.getApiKey("otherConfigId", apiKeyLoader)).isEqualTo("apiKey2");
+    }
+
+    @Test
+    void shouldAlwaysLoadWhenDisabled() {
+        KnowledgeRetrievalCache cache = new KnowledgeRetrievalCache(false, 300L, 100L, 60L);
+        RetrieverOption option = buildOption();
+        cache.getDocuments(key("query", "repoId", option), this.loader);
+        cache.getDocuments(key("query", "repoId", option), this.loader);
+
+        assertThat(this.loadCount.get()).isEqualTo(2);
+    }
+
+    private static RetrieverOption buildOption() {
+        RetrieverOption option = RetrieverServiceUtils.buildRetrieverOption();
+        option.setReferenceLimit(new ReferenceLimit(ReferenceType.TOP_K, 3));
+        option.setSimilarityThreshold(0.5f);
+        return option;
+    }
+
+    private static KnowledgeRetrievalCache.Key key(String query, String repoId, RetrieverOption option) {
+        return KnowledgeRetrievalCache.key(Collections.singletonList(query), Collections.singletonList(repoId), option);
+    }
+}
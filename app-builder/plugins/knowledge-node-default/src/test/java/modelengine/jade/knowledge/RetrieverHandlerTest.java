@@ -7,6 +7,7 @@
 package modelengine.jade.knowledge;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
@@ -14,10 +15,12 @@ import static org.mockito.Mockito.when;
 import modelengine.fel.core.document.MeasurableDocument;
 import modelengine.fitframework.broker.client.Invoker;
 import modelengine.jade.knowledge.document.KnowledgeDocument;
+import modelengine.jade.knowledge.entity.RetrievalResult;
 import modelengine.jade.knowledge.entity.RetrieverOption;
 import modelengine.jade.knowledge.retriever.RetrieverHandler;
 import modelengine.jade.knowledge.retriever.support.DefaultRetrieverHandler;
 import modelengine.jade.knowledge.router.KnowledgeServiceRouter;
+import modelengine.jade.knowledge.support.FlatKnowledgeOption;
 import modelengine.jade.knowledge.util.RetrieverServiceUtils;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +32,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * {@link DefaultRetrieverHandler} 的测试。
@@ -50,7 +57,7 @@ public class RetrieverHandlerTest {
 
     @BeforeEach
     void setUp() {
-        handler = new DefaultRetrieverHandler(knowledgeServiceRouter);
+        handler = new DefaultRetrieverHandler(knowledgeServiceRouter, 1, 10000L);
         when(knowledgeServiceRouter.getInvoker(any(), anyString(), anyString())).thenReturn(invoker);
         when(invoker.invoke(anyString(), any()))
                 .thenReturn(Collections.singletonList(
@@ -73,4 +80,99 @@ public class RetrieverHandlerTest {
         assertThat(documents).hasSize(2).extracting(MeasurableDocument::text)
                 .containsExactly(DOCUMENT_TEXT_DUMMY, DOCUMENT_TEXT_DUMMY);
     }
+
+    @Test
+    void shouldRetrieveConcurrentlyInQueryOrderWhenParallelismGreaterThanOne() throws InterruptedException {
+        CountDownLatch allStarted = new CountDownLatch(4);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        this.mockBehavior(query -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            allStarted.countDown();
+            await(allStarted);
+            inFlight.decrementAndGet();
+        });
+        DefaultRetrieverHandler concurrentHandler = new DefaultRetrieverHandler(knowledgeServiceRouter, 4, 10000L);
+        RetrieverOption retrieverOption = RetrieverServiceUtils.buildRetrieverOption();
+        retrieverOption.setGroupId("default");
+
+        List<MeasurableDocument> documents =
+                concurrentHandler.handle(Arrays.asList("query0", "query1", "query2", "query3"), retrieverOption);
+        concurrentHandler.destroy();
+
+        assertThat(documents).extracting(MeasurableDocument::text)
+                .containsExactly("query0", "query1", "query2", "query3");
+        assertThat(maxInFlight.get()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldSkipFailedAndTimeoutQueriesWhenRetrieveConcurrently() throws InterruptedException {
+        CountDownLatch never = new CountDownLatch(1);
+        CountDownLatch slowInterrupted = new CountDownLatch(1);
+        this.mockBehavior(query -> {
+            if (query.equals("failed")) {
+                throw new IllegalStateException("repo unavailable");
+            }
+            if (query.equals("slow") && !await(never) && Thread.currentThread().isInterrupted()) {
+                slowInterrupted.countDown();
+            }
+        });
+        DefaultRetrieverHandler concurrentHandler = new DefaultRetrieverHandler(knowledgeServiceRouter, 4, 200L);
+        RetrieverOption retrieverOption = RetrieverServiceUtils.buildRetrieverOption();
+        retrieverOption.setGroupId("default");
+
+        RetrievalResult<MeasurableDocument> result =
+                concurrentHandler.retrieve(Arrays.asList("query0", "failed", "slow", "query1"), retrieverOption);
+
+        assertThat(result.isComplete()).isFalse();
+        assertThat(result.getDocuments()).extracting(MeasurableDocument::text).containsExactly("query0", "query1");
+        assertThat(slowInterrupted.await(10L, TimeUnit.SECONDS)).isTrue();
+        concurrentHandler.destroy();
+    }
+
+    @Test
+    void shouldThrowWhenAllQueriesFailedGivenConcurrentRetrieval() {
+        this.mockBehavior(query -> {
+            throw new IllegalStateException("repo unavailable");
+        });
+        DefaultRetrieverHandler concurrentHandler = new DefaultRetrieverHandler(knowledgeServiceRouter, 4, 500L);
+        RetrieverOption retrieverOption = RetrieverServiceUtils.buildRetrieverOption();
+        retrieverOption.setGroupId("default");
+
+        assertThatThrownBy(() -> concurrentHandler.handle(Arrays.asList("query0", "query1"), retrieverOption))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("repo unavailable");
+        concurrentHandler.destroy();
+    }
+
+    @Test
+    void shouldThrowWhenAllQueriesTimeoutGivenConcurrentRetrieval() {
+        CountDownLatch never = new CountDownLatch(1);
+        this.mockBehavior(query -> await(never));
+        DefaultRetrieverHandler concurrentHandler = new DefaultRetrieverHandler(knowledgeServiceRouter, 4, 100L);
+        RetrieverOption retrieverOption = RetrieverServiceUtils.buildRetrieverOption();
+        retrieverOption.setGroupId("default");
+
+        assertThatThrownBy(() -> concurrentHandler.handle(Arrays.asList("query0", "query1"), retrieverOption))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Knowledge retrieval timeout");
+        concurrentHandler.destroy();
+    }
+
+    private void mockBehavior(Consumer<String> behavior) {
+        when(invoker.invoke(anyString(), any())).thenAnswer(invocation -> {
+            String query = invocation.<FlatKnowledgeOption>getArgument(1).query();
+            behavior.accept(query);
+            return Collections.singletonList(new KnowledgeDocument("id", query, 0.5, null));
+        });
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10L, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 }
@@ -24,7 +24,9 @@ import modelengine.fitframework.broker.client.Invoker;
 import modelengine.fitframework.test.annotation.FitTestWithJunit;
 import modelengine.fitframework.test.annotation.Mock;
 import modelengine.jade.common.exception.ModelEngineException;
+import modelengine.jade.knowledge.cache.KnowledgeRetrievalCache;
 import modelengine.jade.knowledge.document.KnowledgeDocument;
+import modelengine.jade.knowledge.entity.RetrievalResult;
 import modelengine.jade.knowledge.entity.RetrieverOption;
 import modelengine.jade.knowledge.entity.RetrieverServiceOption;
 import modelengine.jade.knowledge.enums.ReferenceType;
@@ -51,7 +53,7 @@ import java.util.List;
  * @author 刘信宏
  * @since 2024-09-28
  */
-@FitTestWithJunit(includeClasses = {RetrieverServiceImpl.class})
+@FitTestWithJunit(includeClasses = {RetrieverServiceImpl.class, KnowledgeRetrievalCache.class})
 public class RetrieverServiceTest {
     private static final String DOCUMENT_TEXT_DUMMY = "test_text";
 
@@ -73,8 +75,8 @@ public class RetrieverServiceTest {
     @BeforeEach
     void setUp() {
         KnowledgeDocument document = new KnowledgeDocument("id", DOCUMENT_TEXT_DUMMY, 0.5, null);
-        when(this.retrieverHandler.handle(anyList(),
-                any())).thenReturn(Collections.singletonList(new MeasurableDocument(document, document.score())));
+        when(this.retrieverHandler.retrieve(anyList(), any())).thenReturn(RetrievalResult.complete(
+                Collections.singletonList(new MeasurableDocument(document, document.score()))));
 
         when(this.postProcessorFactory.create(any(FactoryOption.class))).thenReturn(Collections.singletonList(docs -> docs));
         when(this.knowledgeCenterService.getApiKey(any(), any())).thenReturn("");
@@ -119,7 +121,8 @@ public class RetrieverServiceTest {
 
     @Test
     void shouldOkWhenRetrieveHandlerWithEmptyRsp() {
-        when(this.retrieverHandler.handle(anyList(), any())).thenReturn(Collections.emptyList());
+        when(this.retrieverHandler.retrieve(anyList(), any())).thenReturn(RetrievalResult.complete(
+                Collections.emptyList()));
 
         RetrieverOption retrieverOption = RetrieverServiceUtils.buildRetrieverOption();
         retrieverOption.setReferenceLimit(new ReferenceLimit(ReferenceType.TOP_K, 3));
@@ -8,6 +8,8 @@ package modelengine.jade.app.engine.uid.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
 
+import java.util.List;
+
 /**
  * 表示版本生成器持久层接口。
  *
@@ -22,4 +24,12 @@ public interface IdGeneratorMapper {
      * @return 表示生成序列号的 {@link Long}。
      */
     Long getNextId();
+
+    /**
+     * 批量分配序列号，每个序列号在集群内唯一，但不保证连续。
+     *
+     * @param count 表示分配数量的 {@code int}。
+     * @return 表示生成序列号列表的 {@link List}{@code <}{@link Long}{@code >}。
+     */
+    List<Long> getNextIds(int count);
 }
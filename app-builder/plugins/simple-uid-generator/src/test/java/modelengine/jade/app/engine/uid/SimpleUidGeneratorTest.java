@@ -7,7 +7,11 @@
 package modelengine.jade.app.engine.uid;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import modelengine.jade.app.engine.uid.mapper.IdGeneratorMapper;
@@ -19,6 +23,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
 /**
  * 表示 {@link SimpleUidGenerator} 的测试用例。
  *
@@ -39,7 +54,75 @@ public class SimpleUidGeneratorTest {
     @DisplayName("获取UID时，获取成功")
     void shouldOkWhenGetUid() {
         when(this.idGeneratorMapper.getNextId()).thenReturn(1L);
-        SimpleUidGenerator uidGenerator = new SimpleUidGenerator(this.idGeneratorMapper);
+        SimpleUidGenerator uidGenerator = new SimpleUidGenerator(this.idGeneratorMapper, 1);
         assertThat(uidGenerator.getUid()).isEqualTo(1L);
     }
+
+    @Test
+    @DisplayName("按号段获取UID时，大部分UID由内存返回")
+    void shouldServeFromSegmentWhenGetUidGivenSegmentSize() {
+        this.mockSequence(new AtomicLong());
+        SimpleUidGenerator uidGenerator = new SimpleUidGenerator(this.idGeneratorMapper, 10);
+
+        for (long i = 1; i <= 10; i++) {
+            assertThat(uidGenerator.getUid()).isEqualTo(i);
+        }
+        assertThat(uidGenerator.getUid()).isEqualTo(11L);
+        verify(this.idGeneratorMapper, times(2)).getNextIds(10);
+    }
+
+    @Test
+    @DisplayName("多线程按号段获取UID时，UID不重复且数据库访问次数按号段大小减少")
+    void shouldBeUniqueWhenGetUidConcurrently() throws Exception {
+        this.mockSequence(new AtomicLong());
+        SimpleUidGenerator uidGenerator = new SimpleUidGenerator(this.idGeneratorMapper, 100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        Set<Long> uids = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    uids.add(uidGenerator.getUid());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(uids).hasSize(80000);
+        assertThat(uidGenerator.getIssuedCount()).isEqualTo(80000);
+        // 每个号段只访问一次数据库，最多额外预取一个号段
+        verify(this.idGeneratorMapper, atMost(801)).getNextIds(100);
+        assertThat(uidGenerator.getAllocatedCount()).isBetween(80000L, 80100L);
+    }
+
+    @Test
+    @DisplayName("实例异常退出后重新获取UID时，UID不重复且空洞不超过两个号段")
+    void shouldBoundGapWhenGetUidAfterCrash() {
+        AtomicLong sequence = new AtomicLong();
+        this.mockSequence(sequence);
+        SimpleUidGenerator crashed = new SimpleUidGenerator(this.idGeneratorMapper, 10);
+        List<Long> issued = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            issued.add(crashed.getUid());
+        }
+        assertThat(crashed.getAllocatedCount() - crashed.getIssuedCount()).isBetween(0L, 20L);
+
+        // 崩溃实例预留未发放的 UID 不会再被分配，重启后从序列的下一个号段继续
+        SimpleUidGenerator restarted = new SimpleUidGenerator(this.idGeneratorMapper, 10);
+        long first = restarted.getUid();
+
+        assertThat(issued).isEqualTo(LongStream.rangeClosed(1, 15).boxed().collect(Collectors.toList()));
+        assertThat(first).isGreaterThan(15L);
+        assertThat(first - 1 - issued.size()).isBetween(0L, 20L);
+    }
+
+    private void mockSequence(AtomicLong sequence) {
+        when(this.idGeneratorMapper.getNextIds(anyInt())).thenAnswer(invocation -> {
+            int count = invocation.getArgument(0);
+            return LongStream.range(0, count).mapToObj(i -> sequence.incrementAndGet()).collect(Collectors.toList());
+        });
+    }
 }
@@ -55,8 +55,18 @@ public final class DistributedLock implements Lock {
 
     private final InvalidDistributedLockNotify invalidDistributedLockNotify;
 
+    private final DistributedLockLeasePolicy leasePolicy;
+
+    private final DistributedLockMetrics metrics;
+
     private boolean isValid = true;
 
+    private volatile boolean isLeaseHeld = false;
+
+    private volatile long leaseAcquiredAt = 0L;
+
+    private volatile long handOffUntil = 0L;
+
     private int continuesInvalidCount = 0;
 
     /**
@@ -69,9 +79,20 @@ public final class DistributedLock implements Lock {
 
     private ScheduledFuture<?> renewLockFuture;
 
+    private ScheduledFuture<?> leaseCheckFuture;
+
     public DistributedLock(long ttl, long renewScheduleRate, DistributedLockRepo repo, long idleTime, Object key,
             InvalidDistributedLockNotify invalidDistributedLockNotify) {
+        this(ttl, renewScheduleRate, repo, idleTime, key, invalidDistributedLockNotify,
+                DistributedLockLeasePolicy.DISABLED, new DistributedLockMetrics());
+    }
+
+    public DistributedLock(long ttl, long renewScheduleRate, DistributedLockRepo repo, long idleTime, Object key,
+            InvalidDistributedLockNotify invalidDistributedLockNotify, DistributedLockLeasePolicy leasePolicy,
+            DistributedLockMetrics metrics) {
         this.invalidDistributedLockNotify = invalidDistributedLockNotify;
+        this.leasePolicy = leasePolicy;
+        this.metrics = metrics;
         this.threadLock = new ReentrantLock(false);
         this.ttl = ttl;
         this.renewScheduleRate = renewScheduleRate;
@@ -110,15 +131,25 @@ public final class DistributedLock implements Lock {
     @Override
     public boolean tryLock(long waitingTime, TimeUnit unit) throws InterruptedException {
         log.debug("tryLock before: {}", this.lockKey);
-        long now = System.currentTimeMillis();
-        if (!this.threadLock.tryLock(waitingTime, unit)) {
-            return false;
+        long start = System.nanoTime();
+        boolean isContended = false;
+        if (!this.threadLock.tryLock()) {
+            isContended = true;
+            if (!this.threadLock.tryLock(waitingTime, unit)) {
+                return false;
+            }
+        }
+        if (this.hasLease()) {
+            this.onLeaseHit(start, isContended);
+            return true;
         }
         while (true) {
             try {
                 boolean isHeld = acquireLock();
                 if (!isHeld) {
                     this.threadLock.unlock();
+                } else {
+                    this.metrics.recordAcquired(start, isContended, false);
                 }
                 log.debug("tryLock after: {}", this.lockKey);
                 return isHeld;
@@ -140,13 +171,23 @@ public final class DistributedLock implements Lock {
     @Override
     public void lock() {
         log.debug("lock before: {}", this.lockKey);
-        this.threadLock.lock();
+        long start = System.nanoTime();
+        boolean isContended = !this.threadLock.tryLock();
+        if (isContended) {
+            this.threadLock.lock();
+        }
+        if (this.hasLease()) {
+            this.onLeaseHit(start, isContended);
+            return;
+        }
         while (true) {
             try {
                 while (!acquireLock()) {
+                    isContended = true;
                     log.debug("acquireLock waiting: {}", this.lockKey);
                     Thread.sleep(this.idleTime);
                 }
+                this.metrics.recordAcquired(start, isContended, false);
                 break;
             } catch (DataAccessException | TransactionException | InterruptedException e) {
                 // 重试
@@ -179,11 +220,17 @@ public final class DistributedLock implements Lock {
         try {
             if (!this.isValid) {
                 log.warn("The lock is invalid, unlock before. lockKey={}.", this.lockKey);
+                this.isLeaseHeld = false;
+                return;
+            }
+            if (this.hasLease() && !this.shouldHandOff()) {
+                this.lastUsed = System.currentTimeMillis();
                 return;
             }
             while (true) {
                 try {
                     this.repo.delete(this.lockKey);
+                    this.releaseLease();
                     return;
                 } catch (DataAccessException | TransactionException e) {
                     // 重试
@@ -195,7 +242,9 @@ public final class DistributedLock implements Lock {
                 }
             }
         } finally {
-            Optional.ofNullable(renewLockFuture).ifPresent(f -> f.cancel(true));
+            if (!this.isLeaseHeld) {
+                Optional.ofNullable(renewLockFuture).ifPresent(f -> f.cancel(true));
+            }
             this.threadLock.unlock();
             log.debug("unlock after: {}", this.lockKey);
         }
@@ -208,10 +257,19 @@ public final class DistributedLock implements Lock {
      */
     @Override
     public void lockInterruptibly() throws InterruptedException {
-        this.threadLock.lockInterruptibly();
+        long start = System.nanoTime();
+        boolean isContended = !this.threadLock.tryLock();
+        if (isContended) {
+            this.threadLock.lockInterruptibly();
+        }
+        if (this.hasLease()) {
+            this.onLeaseHit(start, isContended);
+            return;
+        }
         while (true) {
             try {
                 tryLockInterruptibly();
+                this.metrics.recordAcquired(start, isContended, false);
                 break;
             } catch (DataAccessException | TransactionException e) {
                 // 重试
@@ -266,6 +324,10 @@ public final class DistributedLock implements Lock {
 
     private boolean acquireLock() {
         log.debug("acquireLock enter");
+        if (System.currentTimeMillis() < this.handOffUntil) {
+            // 刚释放租约，等待一个轮询周期，让其他实例有机会获取到锁
+            return false;
+        }
         DistributedLockStatus lockStatus = this.repo.getStatus(this.lockKey);
         if (lockStatus == DistributedLockStatus.LOCK_BY_ME_EXPIRED) {
             log.warn("This lock by me is expired, lockKey = {}.", this.lockKey);
@@ -288,6 +350,7 @@ public final class DistributedLock implements Lock {
                         TimeUnit.MILLISECONDS);
             }
             this.isValid = true;
+            this.startLease();
         }
         log.debug("acquireLock end");
         return isAcquired;
@@ -321,10 +384,70 @@ public final class DistributedLock implements Lock {
             return;
         }
         this.isValid = false;
+        this.isLeaseHeld = false;
+        Optional.ofNullable(this.leaseCheckFuture).ifPresent(f -> f.cancel(false));
         invalidDistributedLockNotify.notify(this);
         renewLockFuture.cancel(true);
     }
 
+    private boolean hasLease() {
+        return this.isLeaseHeld && this.isValid;
+    }
+
+    private void onLeaseHit(long start, boolean isContended) {
+        this.lastUsed = System.currentTimeMillis();
+        this.metrics.recordAcquired(start, isContended, true);
+        log.debug("lock by lease: {}", this.lockKey);
+    }
+
+    private boolean shouldHandOff() {
+        return System.currentTimeMillis() - this.leaseAcquiredAt >= this.leasePolicy.getMaxHoldTime();
+    }
+
+    private void startLease() {
+        if (!this.leasePolicy.isEnabled()) {
+            return;
+        }
+        this.isLeaseHeld = true;
+        this.leaseAcquiredAt = System.currentTimeMillis();
+        if (this.leaseCheckFuture == null || this.leaseCheckFuture.isCancelled()) {
+            long rate = Math.max(this.leasePolicy.getIdleTime() / 2, this.idleTime);
+            this.leaseCheckFuture = RENEW_LOCK_EXECUTOR.scheduleWithFixedDelay(this::releaseIdleLease, rate, rate,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void releaseLease() {
+        if (!this.isLeaseHeld) {
+            return;
+        }
+        this.isLeaseHeld = false;
+        this.handOffUntil = System.currentTimeMillis() + this.idleTime;
+        Optional.ofNullable(this.leaseCheckFuture).ifPresent(f -> f.cancel(false));
+        this.metrics.recordHandOff();
+    }
+
+    private void releaseIdleLease() {
+        if (!this.threadLock.tryLock()) {
+            return;
+        }
+        try {
+            if (!this.isLeaseHeld
+                    || System.currentTimeMillis() - this.lastUsed < this.leasePolicy.getIdleTime()) {
+                return;
+            }
+            this.repo.delete(this.lockKey);
+            this.releaseLease();
+            Optional.ofNullable(this.renewLockFuture).ifPresent(f -> f.cancel(false));
+            log.debug("Release idle lease: {}", this.lockKey);
+        } catch (Exception e) {
+            // 释放失败时保留租约，下个周期重试，租约过期后其他实例也可以获取
+            log.warn("Failed to release idle lease, lockKey={}, errorMsg={}.", this.lockKey, e.getMessage());
+        } finally {
+            this.threadLock.unlock();
+        }
+    }
+
     private void rethrowLockException(Exception e) {
         throw new DataAccessException("Failed to acquire the lock at lock key " + this.lockKey, e);
     }
@@ -39,8 +39,12 @@ public final class DistributedLockClient implements ExpirableDistributedLockHand
 
     private final InvalidDistributedLockNotify invalidDistributedLockNotify;
 
+    private final DistributedLockMetrics metrics = new DistributedLockMetrics();
+
     private int idleTime = DEFAULT_IDLE_MS;
 
+    private DistributedLockLeasePolicy leasePolicy = DistributedLockLeasePolicy.DISABLED;
+
     public DistributedLockClient(@Value("${databasedistributedlock.ttl}") long ttl,
             @Value("${databasedistributedlock.renewScheduleRate}") long renewScheduleRate, DistributedLockRepo repo,
             InvalidDistributedLockNotify invalidDistributedLockNotify) {
@@ -59,6 +63,24 @@ public final class DistributedLockClient implements ExpirableDistributedLockHand
         this.idleTime = idleTime;
     }
 
+    /**
+     * 设置租约策略，只对之后创建的锁生效
+     *
+     * @param leasePolicy 租约策略
+     */
+    public void setLeasePolicy(DistributedLockLeasePolicy leasePolicy) {
+        this.leasePolicy = leasePolicy;
+    }
+
+    /**
+     * 获取本客户端所有锁的等锁时间和竞争统计
+     *
+     * @return 统计数据
+     */
+    public DistributedLockMetrics getMetrics() {
+        return this.metrics;
+    }
+
     /**
      * 获取分布式锁，如果key值存在于锁池中，直接从锁池中获取，否则重新创建。
      *
@@ -70,7 +92,7 @@ public final class DistributedLockClient implements ExpirableDistributedLockHand
         String lockKey = DistributedLock.getLockKey(key);
         return this.locks.computeIfAbsent(lockKey,
                 k -> new DistributedLock(this.ttl, this.renewScheduleRate, this.repo, this.idleTime, key,
-                        invalidDistributedLockNotify));
+                        invalidDistributedLockNotify, this.leasePolicy, this.metrics));
     }
 
     /**
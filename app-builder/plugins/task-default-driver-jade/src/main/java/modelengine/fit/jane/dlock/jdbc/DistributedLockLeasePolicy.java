@@ -0,0 +1,37 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jane.dlock.jdbc;
+
+import lombok.Getter;
+
+/**
+ * 分布式锁的租约策略
+ * 开启后本实例获取到数据库锁即持有租约，解锁时只释放本地锁，之后的加锁直接通过本地锁完成，不再访问数据库；
+ * 租约空闲超过idleTime或连续持有超过maxHoldTime时释放数据库锁，交给其他实例竞争
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@Getter
+public class DistributedLockLeasePolicy {
+    /**
+     * 不使用租约，每次加解锁都访问数据库
+     */
+    public static final DistributedLockLeasePolicy DISABLED = new DistributedLockLeasePolicy(false, 0L, 0L);
+
+    private final boolean isEnabled;
+
+    private final long idleTime;
+
+    private final long maxHoldTime;
+
+    public DistributedLockLeasePolicy(boolean isEnabled, long idleTime, long maxHoldTime) {
+        this.isEnabled = isEnabled;
+        this.idleTime = idleTime;
+        this.maxHoldTime = maxHoldTime;
+    }
+}
@@ -0,0 +1,107 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jane.dlock.jdbc;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 分布式锁的等锁时间和竞争统计
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+public class DistributedLockMetrics {
+    private final LongAdder acquired = new LongAdder();
+
+    private final LongAdder leaseHits = new LongAdder();
+
+    private final LongAdder contended = new LongAdder();
+
+    private final LongAdder handOffs = new LongAdder();
+
+    private final LongAdder waitNanos = new LongAdder();
+
+    private final AtomicLong maxWaitNanos = new AtomicLong(0L);
+
+    /**
+     * 记录一次加锁成功
+     *
+     * @param startNanos 开始等锁的时间，{@link System#nanoTime()}
+     * @param isContended 等锁期间锁是否被本实例其他线程或其他实例占用
+     * @param isLeaseHit 是否通过租约直接获取，未访问数据库
+     */
+    public void recordAcquired(long startNanos, boolean isContended, boolean isLeaseHit) {
+        long wait = System.nanoTime() - startNanos;
+        this.acquired.increment();
+        this.waitNanos.add(wait);
+        this.maxWaitNanos.accumulateAndGet(wait, Math::max);
+        if (isContended) {
+            this.contended.increment();
+        }
+        if (isLeaseHit) {
+            this.leaseHits.increment();
+        }
+    }
+
+    /**
+     * 记录一次租约释放
+     */
+    public void recordHandOff() {
+        this.handOffs.increment();
+    }
+
+    /**
+     * 获取上次获取后的统计数据并重新开始统计
+     *
+     * @return 统计数据
+     */
+    public Snapshot snapshotAndReset() {
+        return new Snapshot(this.acquired.sumThenReset(), this.leaseHits.sumThenReset(),
+                this.contended.sumThenReset(), this.handOffs.sumThenReset(), this.waitNanos.sumThenReset(),
+                this.maxWaitNanos.getAndSet(0L));
+    }
+
+    /**
+     * 分布式锁统计数据
+     */
+    @Getter
+    public static class Snapshot {
+        private final long acquired;
+
+        private final long leaseHits;
+
+        private final long contended;
+
+        private final long handOffs;
+
+        private final long totalWaitMillis;
+
+        private final long maxWaitMillis;
+
+        private Snapshot(long acquired, long leaseHits, long contended, long handOffs, long waitNanos,
+                long maxWaitNanos) {
+            this.acquired = acquired;
+            this.leaseHits = leaseHits;
+            this.contended = contended;
+            this.handOffs = handOffs;
+            this.totalWaitMillis = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+            this.maxWaitMillis = TimeUnit.NANOSECONDS.toMillis(maxWaitNanos);
+        }
+
+        @Override
+        public String toString() {
+            return "acquired=" + this.acquired + ", leaseHits=" + this.leaseHits + ", contended=" + this.contended
+                    + ", handOffs=" + this.handOffs + ", avgWaitMillis="
+                    + (this.acquired == 0 ? 0 : this.totalWaitMillis / this.acquired) + ", maxWaitMillis="
+                    + this.maxWaitMillis;
+        }
+    }
+}
@@ -7,6 +7,7 @@
 package modelengine.fit.jane.dlock.jdbc.service;
 
 import modelengine.fit.jane.dlock.jdbc.DistributedLockClient;
+import modelengine.fit.jane.dlock.jdbc.DistributedLockMetrics;
 import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.annotation.Value;
 import modelengine.fitframework.log.Logger;
@@ -45,5 +46,9 @@ public class CleanExpiredLocksScheduleService {
     public void clean() {
         log.debug("Start cleaning up expired distributed locks");
         this.distributedLockClient.deleteExpiredLocks(this.timeout);
+        DistributedLockMetrics.Snapshot metrics = this.distributedLockClient.getMetrics().snapshotAndReset();
+        if (metrics.getAcquired() > 0) {
+            log.info("Distributed lock metrics in last period: {}.", metrics);
+        }
     }
 }
@@ -0,0 +1,33 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jane.dlock.jdbc.service;
+
+import modelengine.fit.jane.dlock.jdbc.DistributedLockClient;
+import modelengine.fit.jane.dlock.jdbc.DistributedLockLeasePolicy;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.annotation.Value;
+import modelengine.fitframework.log.Logger;
+
+/**
+ * 分布式锁租约配置
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@Component
+public class DistributedLockLeaseConfigure {
+    private static final Logger log = Logger.get(DistributedLockLeaseConfigure.class);
+
+    public DistributedLockLeaseConfigure(@Value("${databasedistributedlock.lease.enabled:false}") boolean isEnabled,
+            @Value("${databasedistributedlock.lease.idleTime:1000}") long idleTime,
+            @Value("${databasedistributedlock.lease.maxHoldTime:5000}") long maxHoldTime,
+            DistributedLockClient distributedLockClient) {
+        distributedLockClient.setLeasePolicy(new DistributedLockLeasePolicy(isEnabled, idleTime, maxHoldTime));
+        log.info("Distributed lock lease enabled: {}, idle time: {}, max hold time: {}.", isEnabled, idleTime,
+                maxHoldTime);
+    }
+}
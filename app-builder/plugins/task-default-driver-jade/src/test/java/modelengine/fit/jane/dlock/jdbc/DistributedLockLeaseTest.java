@@ -0,0 +1,106 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jane.dlock.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.jane.dlock.jdbc.utils.DistributedLockStatus;
+import modelengine.fit.waterflow.spi.lock.InvalidDistributedLockNotify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 分布式锁租约测试类
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@DisplayName("分布式锁租约测试集合")
+public class DistributedLockLeaseTest {
+    private static final int TIMES = 100;
+
+    private DistributedLockRepo repo;
+
+    private DistributedLockClient client;
+
+    @BeforeEach
+    void before() {
+        repo = mock(DistributedLockRepo.class);
+        when(repo.getStatus(anyString())).thenReturn(DistributedLockStatus.NOT_EXIST);
+        when(repo.create(anyString(), anyLong())).thenReturn(true);
+        when(repo.delete(anyString())).thenReturn(true);
+        client = new DistributedLockClient(10_000, 5_000, repo, mock(InvalidDistributedLockNotify.class));
+    }
+
+    @Test
+    @DisplayName("持有租约时重复加解锁不访问数据库")
+    public void testLockByLeaseWithoutDatabase() {
+        client.setLeasePolicy(new DistributedLockLeasePolicy(true, 60_000, 60_000));
+        Lock lock = client.getLock("lease");
+        for (int i = 0; i < TIMES; i++) {
+            lock.lock();
+            lock.unlock();
+        }
+
+        verify(repo, times(1)).create("lease", 10_000);
+        verify(repo, never()).delete("lease");
+        DistributedLockMetrics.Snapshot metrics = client.getMetrics().snapshotAndReset();
+        assertEquals(TIMES, metrics.getAcquired());
+        assertEquals(TIMES - 1, metrics.getLeaseHits());
+    }
+
+    @Test
+    @DisplayName("未开启租约时每次解锁都释放数据库锁")
+    public void testUnlockWithoutLease() {
+        Lock lock = client.getLock("no-lease");
+        for (int i = 0; i < TIMES; i++) {
+            lock.lock();
+            lock.unlock();
+        }
+
+        verify(repo, times(TIMES)).delete("no-lease");
+        assertEquals(0, client.getMetrics().snapshotAndReset().getLeaseHits());
+    }
+
+    @Test
+    @DisplayName("持有租约超过最长时间后解锁时释放数据库锁")
+    public void testHandOffWhenMaxHoldTimeExceeded() throws InterruptedException {
+        client.setLeasePolicy(new DistributedLockLeasePolicy(true, 60_000, 50));
+        Lock lock = client.getLock("hand-off");
+        lock.lock();
+        lock.unlock();
+        Thread.sleep(100);
+        lock.lock();
+        lock.unlock();
+
+        verify(repo, times(1)).delete("hand-off");
+        assertEquals(1, client.getMetrics().snapshotAndReset().getHandOffs());
+    }
+
+    @Test
+    @DisplayName("租约空闲超过空闲时间后释放数据库锁")
+    public void testReleaseIdleLease() {
+        client.setLeasePolicy(new DistributedLockLeasePolicy(true, 200, 60_000));
+        Lock lock = client.getLock("idle");
+        lock.lock();
+        lock.unlock();
+
+        verify(repo, timeout(2_000).times(1)).delete("idle");
+    }
+}
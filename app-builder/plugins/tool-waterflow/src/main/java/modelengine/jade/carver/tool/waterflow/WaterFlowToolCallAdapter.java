@@ -8,10 +8,14 @@ package modelengine.jade.carver.tool.waterflow;
 
 import modelengine.fel.core.tool.ToolCall;
 import modelengine.fel.tool.model.transfer.ToolData;
+import modelengine.fit.jade.tool.AsyncToolCall;
+import modelengine.fit.jade.tool.AsyncToolCallback;
 import modelengine.fit.jade.tool.SyncToolCall;
 import modelengine.fit.jober.aipp.constants.AippConst;
 import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.annotation.Fitable;
+import modelengine.fitframework.broker.client.BrokerClient;
+import modelengine.fitframework.broker.client.filter.route.FitableIdFilter;
 import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.util.MapBuilder;
@@ -22,47 +26,93 @@ import modelengine.jade.store.service.ToolService;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
- * 表示 {@link SyncToolCall} 的实现。
+ * 表示 {@link SyncToolCall} 和 {@link AsyncToolCall} 的实现。
+ * <p>工具调用统一通过 {@link ToolInvoker#invokeAsync(ToolCall, Map)} 完成。{@link AsyncToolCall} 提交后立即返回，
+ * 工具执行完成时通过调用方指定的 {@link AsyncToolCallback} 通知结果，等待期间不占用线程；{@link SyncToolCall} 是同步接口，
+ * 只在接口边界等待结果。</p>
  *
  * @author 刘信宏
  * @since 2024-4-17
  */
 @Component
-public class WaterFlowToolCallAdapter implements SyncToolCall {
+public class WaterFlowToolCallAdapter implements SyncToolCall, AsyncToolCall {
+    private static final Logger LOG = Logger.get(WaterFlowToolCallAdapter.class);
     private static final String DEFAULT_USER_ID = "jade";
 
     private final ToolService toolService;
     private final List<ToolInvoker> toolInvokers;
+    private final BrokerClient brokerClient;
 
     /**
      * {@link WaterFlowToolCallAdapter} 的构造方法。
      *
      * @param toolService 表示查询服务的 {@link ToolService}。
      * @param toolInvokers 表示执行能力列表的 {@link ToolInvoker}。
+     * @param brokerClient 表示通知异步调用结果的 {@link BrokerClient}。
      */
-    public WaterFlowToolCallAdapter(ToolService toolService, List<ToolInvoker> toolInvokers) {
+    public WaterFlowToolCallAdapter(ToolService toolService, List<ToolInvoker> toolInvokers,
+            BrokerClient brokerClient) {
         this.toolService = toolService;
         this.toolInvokers = toolInvokers;
+        this.brokerClient = brokerClient;
     }
 
     @Override
     @Fitable(id = "app-factory")
     public String call(String uniqueName, String toolArgs, Map<String, Object> toolContext) {
-        ToolCall toolCall = ToolCall.custom()
-                .id(UuidUtils.randomUuidString())
-                .name(uniqueName)
-                .index(0)
-                .arguments(toolArgs)
-                .build();
+        try {
+            return this.callAsync(UuidUtils.randomUuidString(), uniqueName, toolArgs, toolContext).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause().getMessage(), ex.getCause());
+        }
+    }
+
+    @Override
+    @Fitable(id = "app-factory")
+    public String submit(String uniqueName, String toolArgs, Map<String, Object> toolContext,
+            String callbackFitableId) {
+        Validation.notBlank(callbackFitableId, "The callback fitable id cannot be blank.");
+        String toolCallId = UuidUtils.randomUuidString();
+        this.callAsync(toolCallId, uniqueName, toolArgs, toolContext)
+                .whenComplete((result, throwable) -> this.notifyResult(callbackFitableId,
+                        toolCallId,
+                        result,
+                        throwable));
+        return toolCallId;
+    }
+
+    private CompletableFuture<String> callAsync(String toolCallId, String uniqueName, String toolArgs,
+            Map<String, Object> toolContext) {
+        ToolCall toolCall = ToolCall.custom().id(toolCallId).name(uniqueName).index(0).arguments(toolArgs).build();
         ToolInvoker toolInvoker = this.getToolInvoker(toolCall.name());
-        return toolInvoker.invoke(toolCall,
+        return toolInvoker.invokeAsync(toolCall,
                 (toolContext == null || toolContext.isEmpty()) ? MapBuilder.<String, Object>get()
                         .put(AippConst.CONTEXT_USER_ID, DEFAULT_USER_ID)
                         .build() : toolContext);
     }
 
+    private void notifyResult(String callbackFitableId, String toolCallId, String result, Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        try {
+            this.brokerClient.getRouter(AsyncToolCallback.class, AsyncToolCallback.GENERICABLE_ID)
+                    .route(new FitableIdFilter(callbackFitableId))
+                    .invoke(toolCallId, result, cause == null ? null : cause.getMessage());
+        } catch (RuntimeException ex) {
+            LOG.error("Failed to notify the tool call result. [toolCallId={}, callbackFitableId={}, message={}]",
+                    toolCallId,
+                    callbackFitableId,
+                    ex.getMessage(),
+                    ex);
+        }
+    }
+
     private ToolInvoker getToolInvoker(String uniqueName) {
         ToolData toolData = Validation.notNull(this.toolService.getTool(uniqueName),
                 StringUtils.format("Cannot find tool. [uniqueName={0}]", uniqueName));
@@ -0,0 +1,69 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.jade.carver.tool.waterflow.invoker;
+
+import modelengine.fit.waterflow.entity.FlowErrorInfo;
+import modelengine.jade.carver.tool.waterflow.invoker.persist.po.AppToolCallPO;
+
+import java.util.List;
+
+/**
+ * 应用/工作流作为工具调用时未完成请求的 repo 核心类。
+ * 请求由发起的实例登记，回调落到任意实例时都可以通过该类记录结果，再由发起的实例读取并完成请求
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+public interface AppToolCallRepo {
+    /**
+     * 登记未完成的请求
+     *
+     * @param toolCallId 请求id
+     * @param ttl 请求的生命周期 单位: ms
+     */
+    void create(String toolCallId, long ttl);
+
+    /**
+     * 记录请求的回应信息
+     *
+     * @param toolCallId 请求id
+     * @param response 回应信息
+     * @return 请求存在且未完成时返回true，否则返回false
+     */
+    boolean succeed(String toolCallId, String response);
+
+    /**
+     * 记录请求的异常信息
+     *
+     * @param toolCallId 请求id
+     * @param errorInfo 异常信息
+     * @return 请求存在且未完成时返回true，否则返回false
+     */
+    boolean fail(String toolCallId, FlowErrorInfo errorInfo);
+
+    /**
+     * 查询指定请求中已记录结果的请求
+     *
+     * @param toolCallIds 请求id列表
+     * @return 已记录结果的请求列表
+     */
+    List<AppToolCallPO> listFinished(List<String> toolCallIds);
+
+    /**
+     * 删除请求
+     *
+     * @param toolCallId 请求id
+     */
+    void delete(String toolCallId);
+
+    /**
+     * 删除已过期的请求，发起请求的实例异常退出时由其他实例清理
+     *
+     * @return 删除的数量
+     */
+    int deleteExpired();
+}
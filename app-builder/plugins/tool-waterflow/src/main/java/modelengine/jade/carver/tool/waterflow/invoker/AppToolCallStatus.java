@@ -0,0 +1,30 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.jade.carver.tool.waterflow.invoker;
+
+/**
+ * 应用/工作流作为工具调用时请求的状态
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+public enum AppToolCallStatus {
+    /**
+     * 请求已发起，尚未收到结果
+     */
+    PENDING,
+
+    /**
+     * 应用执行完成，请求获取到结果
+     */
+    SUCCEEDED,
+
+    /**
+     * 应用执行异常
+     */
+    FAILED
+}
@@ -0,0 +1,79 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.jade.carver.tool.waterflow.invoker;
+
+import modelengine.fit.waterflow.entity.FlowErrorInfo;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.util.CollectionUtils;
+import modelengine.jade.carver.tool.waterflow.invoker.persist.mapper.AppToolCallMapper;
+import modelengine.jade.carver.tool.waterflow.invoker.persist.po.AppToolCallPO;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link AppToolCallRepo} 默认实现类，基于数据库在实例间共享未完成的请求
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@Component
+public class DefaultAppToolCallRepo implements AppToolCallRepo {
+    private final AppToolCallMapper appToolCallMapper;
+
+    public DefaultAppToolCallRepo(AppToolCallMapper appToolCallMapper) {
+        this.appToolCallMapper = appToolCallMapper;
+    }
+
+    @Override
+    public void create(String toolCallId, long ttl) {
+        this.appToolCallMapper.create(AppToolCallPO.builder()
+                .toolCallId(toolCallId)
+                .status(AppToolCallStatus.PENDING.name())
+                .expiredAt(LocalDateTime.now().plus(ttl, ChronoUnit.MILLIS))
+                .build());
+    }
+
+    @Override
+    public boolean succeed(String toolCallId, String response) {
+        return this.appToolCallMapper.finish(AppToolCallPO.builder()
+                .toolCallId(toolCallId)
+                .status(AppToolCallStatus.SUCCEEDED.name())
+                .response(response)
+                .build(), AppToolCallStatus.PENDING.name()) > 0;
+    }
+
+    @Override
+    public boolean fail(String toolCallId, FlowErrorInfo errorInfo) {
+        return this.appToolCallMapper.finish(AppToolCallPO.builder()
+                .toolCallId(toolCallId)
+                .status(AppToolCallStatus.FAILED.name())
+                .errorCode(errorInfo.getErrorCode())
+                .errorMessage(errorInfo.getErrorMessage())
+                .build(), AppToolCallStatus.PENDING.name()) > 0;
+    }
+
+    @Override
+    public List<AppToolCallPO> listFinished(List<String> toolCallIds) {
+        if (CollectionUtils.isEmpty(toolCallIds)) {
+            return Collections.emptyList();
+        }
+        return this.appToolCallMapper.listFinished(toolCallIds, AppToolCallStatus.PENDING.name());
+    }
+
+    @Override
+    public void delete(String toolCallId) {
+        this.appToolCallMapper.delete(toolCallId);
+    }
+
+    @Override
+    public int deleteExpired() {
+        return this.appToolCallMapper.deleteExpired(LocalDateTime.now());
+    }
+}
@@ -11,6 +11,7 @@ import modelengine.fel.core.tool.ToolInfo;
 import modelengine.fel.tool.model.transfer.ToolData;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 大模型工具调用抽象
@@ -28,6 +29,21 @@ public interface ToolInvoker {
      */
     String invoke(ToolCall toolCall, Map<String, Object> toolContext);
 
+    /**
+     * 异步执行工具调用，默认在调用方线程同步执行后返回已完成的结果
+     *
+     * @param toolCall 工具调用元数据
+     * @param toolContext 工具调用上下文数据
+     * @return 工具执行结果的异步对象，执行失败时以对应异常完成
+     */
+    default CompletableFuture<String> invokeAsync(ToolCall toolCall, Map<String, Object> toolContext) {
+        try {
+            return CompletableFuture.completedFuture(this.invoke(toolCall, toolContext));
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
     /**
      * 判断是否匹配对应的工具调用
      *
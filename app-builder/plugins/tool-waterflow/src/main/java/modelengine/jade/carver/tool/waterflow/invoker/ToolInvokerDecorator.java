@@ -10,6 +10,7 @@ import modelengine.fel.tool.model.transfer.ToolData;
 import modelengine.fel.core.tool.ToolCall;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 工具执行器的包装类
@@ -34,6 +35,11 @@ public abstract class ToolInvokerDecorator implements ToolInvoker {
         return this.decorated.invoke(toolCall, toolContext);
     }
 
+    @Override
+    public CompletableFuture<String> invokeAsync(ToolCall toolCall, Map<String, Object> toolContext) {
+        return this.decorated.invokeAsync(toolCall, toolContext);
+    }
+
     @Override
     public boolean match(ToolData toolData) {
         return this.decorated.match(toolData);
@@ -19,6 +19,7 @@ import modelengine.fit.waterflow.entity.FlowErrorInfo;
 import modelengine.fit.waterflow.spi.FlowCallbackService;
 import modelengine.fit.waterflow.spi.FlowExceptionService;
 import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.annotation.Destroy;
 import modelengine.fitframework.annotation.Fit;
 import modelengine.fitframework.annotation.Fitable;
 import modelengine.fitframework.annotation.Value;
@@ -27,22 +28,31 @@ import modelengine.fitframework.exception.TimeoutException;
 import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.serialization.ObjectSerializer;
+import modelengine.fitframework.thread.DefaultThreadFactory;
 import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 import modelengine.fitframework.util.TypeUtils;
 import modelengine.jade.carver.tool.waterflow.DefaultValueFilterToolInfo;
 import modelengine.jade.carver.tool.waterflow.WaterFlowToolConst;
+import modelengine.jade.carver.tool.waterflow.invoker.persist.po.AppToolCallPO;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 注册到store里的应用/工作流的执行器，由于是异步执行，这里完成异步转同步的处理，屏蔽大模型调用工具的差异
+ * 异步调用时等待期间不占用线程，由回调或异常通知完成结果；同步调用基于异步调用等待结果
+ * 未完成的请求同时登记到 {@link AppToolCallRepo}，回调落到其他实例时由该实例记录结果，发起请求的实例定时读取后完成请求
  * 注意：当前目标大模型调用应用/工作流作为工具时，不支持人工任务。如果有，则默认最大5分钟没有处理人工任务时，会出现大模型节点调用失败。
  *
  * @author songyongtan
@@ -58,12 +68,26 @@ public class WaterFlowAppToolInvoker extends ToolInvokerDecorator implements Flo
 
     private static final long DEFAULT_TIMEOUT_SECONDS = 300L;
 
+    private static final long CLEAN_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private static final int POLL_BATCH_SIZE = 500;
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            new DefaultThreadFactory("waterflow-app-tool", true, (thread, throwable) -> LOGGER.error(
+                    "Waterflow app tool thread exception. [message={}]", throwable.getMessage(), throwable)));
+
     private final ObjectSerializer objectSerializer;
 
+    private final AppToolCallRepo appToolCallRepo;
+
     private final long timeout;
 
+    private final ScheduledFuture<?> pollTask;
+
+    private final ScheduledFuture<?> cleanTask;
+
     /**
-     * 记录调用未完成的请求。其中key为请求id, 最好使用带最大超时时间就删除的
+     * 记录调用未完成的请求。其中key为请求id，请求完成或超时后删除
      */
     private final Map<String, Request> requests = new ConcurrentHashMap<>();
 
@@ -72,26 +96,71 @@ public class WaterFlowAppToolInvoker extends ToolInvokerDecorator implements Flo
      *
      * @param toolInvoker 执行器
      * @param objectSerializer 用于工具调用的参数序列化器
+     * @param appToolCallRepo 实例间共享未完成请求的repo
      * @param timeout 超时时间，单位秒
+     * @param pollInterval 读取其他实例记录的结果的间隔，单位毫秒
      */
     public WaterFlowAppToolInvoker(@Fit(alias = "storeToolInvoker") ToolInvoker toolInvoker,
-            @Fit(alias = "json") ObjectSerializer objectSerializer,
-            @Value("${tool-waterflow.app.timeout}") long timeout) {
+            @Fit(alias = "json") ObjectSerializer objectSerializer, AppToolCallRepo appToolCallRepo,
+            @Value("${tool-waterflow.app.timeout}") long timeout,
+            @Value("${tool-waterflow.app.poll-interval:1000}") long pollInterval) {
         super(toolInvoker);
         this.objectSerializer = objectSerializer;
+        this.appToolCallRepo = appToolCallRepo;
         this.timeout = TimeUnit.SECONDS.toMillis(timeout < 0 ? DEFAULT_TIMEOUT_SECONDS : timeout);
+        this.pollTask =
+                SCHEDULER.scheduleWithFixedDelay(this::pollFinished, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+        this.cleanTask = SCHEDULER.scheduleWithFixedDelay(this::cleanExpired,
+                CLEAN_INTERVAL_MILLIS,
+                CLEAN_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 停止读取其他实例记录的结果和清理过期请求的定时任务
+     */
+    @Destroy
+    public void destroy() {
+        this.pollTask.cancel(false);
+        this.cleanTask.cancel(false);
     }
 
     @Override
     public String invoke(ToolCall toolCall, Map<String, Object> toolContext) {
+        CompletableFuture<String> future = this.invokeAsync(toolCall, toolContext);
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new IllegalStateException(ex.getMessage(), ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause().getMessage(), ex.getCause());
+        }
+    }
+
+    @Override
+    public CompletableFuture<String> invokeAsync(ToolCall toolCall, Map<String, Object> toolContext) {
         Request request = new Request(this.getDecorated(), this.addDynamicParams(toolCall, toolContext), toolContext);
+        CompletableFuture<String> future = request.getFuture();
         this.requests.put(toolCall.id(), request);
+        ScheduledFuture<?> timeoutTask = SCHEDULER.schedule(request::timeout, this.timeout, TimeUnit.MILLISECONDS);
+        future.whenComplete((response, throwable) -> {
+            timeoutTask.cancel(false);
+            this.requests.remove(toolCall.id(), request);
+            this.release(toolCall.id());
+        });
         try {
+            // 先登记再发起请求，保证回调落到任意实例时都能找到请求.
+            this.appToolCallRepo.create(toolCall.id(), this.timeout);
             request.post();
-            return request.await(this.timeout);
-        } finally {
-            this.requests.remove(toolCall.id());
+        } catch (RuntimeException ex) {
+            future.completeExceptionally(ex);
         }
+        return future;
     }
 
     @Override
@@ -119,14 +188,6 @@ public class WaterFlowAppToolInvoker extends ToolInvokerDecorator implements Flo
                 toolCallId,
                 instanceId,
                 parentInstanceId);
-        Request request = this.requests.get(toolCallId);
-        if (request == null) {
-            LOGGER.error("Can not find the request, toolCallId={}, instanceId={}, parentInstanceId={}",
-                    toolCallId,
-                    instanceId,
-                    parentInstanceId);
-            return;
-        }
         List<Map<String, Object>> executeInfo =
                 FlowDataUtils.getExecuteInfo(businessData, FlowDataUtils.getNodeId(contextData));
         if (CollectionUtils.isEmpty(executeInfo)) {
@@ -137,12 +198,20 @@ public class WaterFlowAppToolInvoker extends ToolInvokerDecorator implements Flo
             FlowErrorInfo errorInfo = new FlowErrorInfo();
             errorInfo.setErrorCode(ErrorCodes.UN_EXCEPTED_ERROR.getErrorCode());
             errorInfo.setErrorMessage("No response");
-            request.setError(errorInfo);
+            this.fail(toolCallId, errorInfo, instanceId, parentInstanceId);
             return;
         }
         // 结束节点上的入参为最终出参
-        request.setResponse(this.objectSerializer.serialize(executeInfo.get(executeInfo.size() - 1)
-                .get(FlowDataConstant.EXECUTE_INPUT_KEY)));
+        String response = this.objectSerializer.serialize(executeInfo.get(executeInfo.size() - 1)
+                .get(FlowDataConstant.EXECUTE_INPUT_KEY));
+        Request request = this.requests.get(toolCallId);
+        if (request != null) {
+            request.setResponse(response);
+            return;
+        }
+        if (!this.appToolCallRepo.succeed(toolCallId, response)) {
+            this.logNotFound(toolCallId, instanceId, parentInstanceId);
+        }
     }
 
     @Fitable(INVOKER_CALLBACK_FITABLE_ID)
@@ -158,17 +227,78 @@ public class WaterFlowAppToolInvoker extends ToolInvokerDecorator implements Flo
                 instanceId,
                 parentInstanceId,
                 errorInfo.getErrorMessage());
+        this.fail(toolCallId, errorInfo, instanceId, parentInstanceId);
+    }
+
+    private void fail(String toolCallId, FlowErrorInfo errorInfo, String instanceId, String parentInstanceId) {
         Request request = this.requests.get(toolCallId);
+        if (request != null) {
+            request.setError(errorInfo);
+            return;
+        }
+        if (!this.appToolCallRepo.fail(toolCallId, errorInfo)) {
+            this.logNotFound(toolCallId, instanceId, parentInstanceId);
+        }
+    }
+
+    private void logNotFound(String toolCallId, String instanceId, String parentInstanceId) {
+        LOGGER.error("Can not find the request, it may be timeout. toolCallId={}, instanceId={}, parentInstanceId={}",
+                toolCallId,
+                instanceId,
+                parentInstanceId);
+    }
+
+    private void pollFinished() {
+        if (this.requests.isEmpty()) {
+            return;
+        }
+        List<String> toolCallIds = new ArrayList<>(this.requests.keySet());
+        try {
+            for (int from = 0; from < toolCallIds.size(); from += POLL_BATCH_SIZE) {
+                List<String> batch = toolCallIds.subList(from, Math.min(from + POLL_BATCH_SIZE, toolCallIds.size()));
+                this.appToolCallRepo.listFinished(batch).forEach(this::complete);
+            }
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Failed to poll the finished waterflow app tool calls. [message={}]", ex.getMessage(), ex);
+        }
+    }
+
+    private void complete(AppToolCallPO toolCall) {
+        Request request = this.requests.get(toolCall.getToolCallId());
         if (request == null) {
-            LOGGER.error("Can not find the request, toolCallId={}, instanceId={}, parentInstanceId={}",
-                    toolCallId,
-                    instanceId,
-                    parentInstanceId);
             return;
         }
+        if (AppToolCallStatus.SUCCEEDED.name().equals(toolCall.getStatus())) {
+            request.setResponse(toolCall.getResponse());
+            return;
+        }
+        FlowErrorInfo errorInfo = new FlowErrorInfo();
+        errorInfo.setErrorCode(
+                ObjectUtils.nullIf(toolCall.getErrorCode(), ErrorCodes.UN_EXCEPTED_ERROR.getErrorCode()));
+        errorInfo.setErrorMessage(toolCall.getErrorMessage());
         request.setError(errorInfo);
     }
 
+    private void release(String toolCallId) {
+        try {
+            this.appToolCallRepo.delete(toolCallId);
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Failed to delete the waterflow app tool call, it will be cleaned after expired. "
+                    + "[toolCallId={}, message={}]", toolCallId, ex.getMessage(), ex);
+        }
+    }
+
+    private void cleanExpired() {
+        try {
+            int count = this.appToolCallRepo.deleteExpired();
+            if (count > 0) {
+                LOGGER.info("Clean expired waterflow app tool calls. [count={}]", count);
+            }
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Failed to clean the expired waterflow app tool calls. [message={}]", ex.getMessage(), ex);
+        }
+    }
+
     private ToolCall addDynamicParams(ToolCall toolCall, Map<String, Object> toolContext) {
         Map<String, Object> parameters = this.objectSerializer.deserialize(toolCall.arguments(),
                 TypeUtils.parameterized(Map.class, new Type[] {String.class, Object.class}));
@@ -198,11 +328,7 @@ public class WaterFlowAppToolInvoker extends ToolInvokerDecorator implements Flo
 
         private final Map<String, Object> callContext;
 
-        private final CountDownLatch countDownLatch = new CountDownLatch(1);
-
-        private String response = null;
-
-        private FlowErrorInfo error = null;
+        private final CompletableFuture<String> future = new CompletableFuture<>();
 
         /**
          * 构造函数
@@ -225,26 +351,12 @@ public class WaterFlowAppToolInvoker extends ToolInvokerDecorator implements Flo
         }
 
         /**
-         * 等待结果
+         * 获取请求结果的异步对象
          *
-         * @param timeoutMs 最大等待时间，单位毫秒
-         * @return 执行结果
+         * @return 请求结果的异步对象
          */
-        public String await(long timeoutMs) {
-            boolean isWaited;
-            try {
-                isWaited = this.countDownLatch.await(timeoutMs, TimeUnit.MILLISECONDS);
-            } catch (InterruptedException ex) {
-                throw new IllegalStateException(ex.getMessage(), ex);
-            }
-            if (!isWaited) {
-                throw new TimeoutException(StringUtils.format("Invocation timeout. [toolUniqueName={0}]",
-                        this.toolCall.name()));
-            }
-            if (this.error != null) {
-                throw new FitException(this.error.getErrorCode(), this.error.getErrorMessage());
-            }
-            return this.response;
+        public CompletableFuture<String> getFuture() {
+            return this.future;
         }
 
         /**
@@ -253,8 +365,7 @@ public class WaterFlowAppToolInvoker extends ToolInvokerDecorator implements Flo
          * @param response 回应信息
          */
         public void setResponse(String response) {
-            this.response = response;
-            this.countDownLatch.countDown();
+            this.future.complete(response);
         }
 
         /**
@@ -263,8 +374,15 @@ public class WaterFlowAppToolInvoker extends ToolInvokerDecorator implements Flo
          * @param errorInfo 异常对象
          */
         public void setError(FlowErrorInfo errorInfo) {
-            this.error = errorInfo;
-            this.countDownLatch.countDown();
+            this.future.completeExceptionally(new FitException(errorInfo.getErrorCode(), errorInfo.getErrorMessage()));
+        }
+
+        /**
+         * 超时未收到结果时完成请求，表示请求超时
+         */
+        public void timeout() {
+            this.future.completeExceptionally(new TimeoutException(StringUtils.format(
+                    "Invocation timeout. [toolUniqueName={0}]", this.toolCall.name())));
         }
     }
 }
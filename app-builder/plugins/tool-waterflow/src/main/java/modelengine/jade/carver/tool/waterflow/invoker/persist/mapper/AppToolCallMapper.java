@@ -0,0 +1,67 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.jade.carver.tool.waterflow.invoker.persist.mapper;
+
+import modelengine.jade.carver.tool.waterflow.invoker.persist.po.AppToolCallPO;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * app tool call对应MybatisMapper类
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@Mapper
+public interface AppToolCallMapper {
+    /**
+     * 保存未完成的请求
+     *
+     * @param toolCall 请求实体 {@link AppToolCallPO}
+     * @return 保存结果
+     */
+    int create(@Param("toolCall") AppToolCallPO toolCall);
+
+    /**
+     * 当且仅当请求未完成时记录请求结果
+     *
+     * @param toolCall 带有请求结果的请求实体 {@link AppToolCallPO}
+     * @param pendingStatus 未完成状态 {@link String}
+     * @return 更新结果
+     */
+    int finish(@Param("toolCall") AppToolCallPO toolCall, @Param("pendingStatus") String pendingStatus);
+
+    /**
+     * 查询指定请求中已完成的请求
+     *
+     * @param toolCallIds 请求id列表 {@link List}{@code <}{@link String}{@code >}
+     * @param pendingStatus 未完成状态 {@link String}
+     * @return 已完成的请求列表 {@link List}{@code <}{@link AppToolCallPO}{@code >}
+     */
+    List<AppToolCallPO> listFinished(@Param("toolCallIds") List<String> toolCallIds,
+            @Param("pendingStatus") String pendingStatus);
+
+    /**
+     * 删除请求
+     *
+     * @param toolCallId 请求id {@link String}
+     * @return 删除结果
+     */
+    int delete(@Param("toolCallId") String toolCallId);
+
+    /**
+     * 删除在指定时间之前过期的请求
+     *
+     * @param expiredAt 过期时间 {@link LocalDateTime}
+     * @return 删除的数量
+     */
+    int deleteExpired(@Param("expiredAt") LocalDateTime expiredAt);
+}
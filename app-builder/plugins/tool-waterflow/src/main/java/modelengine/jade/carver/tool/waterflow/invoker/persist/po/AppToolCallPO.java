@@ -0,0 +1,38 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.jade.carver.tool.waterflow.invoker.persist.po;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 应用/工作流作为工具调用时未完成请求的持久化类
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppToolCallPO {
+    private String toolCallId;
+
+    private String status;
+
+    private String response;
+
+    private Integer errorCode;
+
+    private String errorMessage;
+
+    private LocalDateTime expiredAt;
+}
@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS app_tool_call
+(
+    tool_call_id VARCHAR(64) NOT NULL PRIMARY KEY,
+    status VARCHAR(16) NOT NULL,
+    response TEXT,
+    error_code INTEGER,
+    error_message TEXT,
+    expired_at timestamp without time zone NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_app_tool_call_expired_at ON app_tool_call (expired_at);
+
+comment on table app_tool_call is '应用/工作流作为工具调用时未完成的请求';
+comment on column app_tool_call.tool_call_id is '工具调用id';
+comment on column app_tool_call.status is '请求状态，PENDING/SUCCEEDED/FAILED';
+comment on column app_tool_call.response is '请求成功时的回应信息';
+comment on column app_tool_call.error_code is '请求失败时的错误码';
+comment on column app_tool_call.error_message is '请求失败时的错误信息';
+comment on column app_tool_call.expired_at is '请求过期时间，过期后由定时任务清理';
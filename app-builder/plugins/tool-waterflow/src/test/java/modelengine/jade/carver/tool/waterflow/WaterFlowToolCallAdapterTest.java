@@ -9,6 +9,11 @@ package modelengine.jade.carver.tool.waterflow;
 import modelengine.fel.core.tool.ToolCall;
 import modelengine.fel.tool.Tool;
 import modelengine.fel.tool.model.transfer.ToolData;
+import modelengine.fit.jade.tool.AsyncToolCallback;
+import modelengine.fitframework.broker.client.BrokerClient;
+import modelengine.fitframework.broker.client.Invoker;
+import modelengine.fitframework.broker.client.Router;
+import modelengine.fitframework.broker.client.filter.route.FitableIdFilter;
 import modelengine.jade.carver.tool.waterflow.invoker.ToolInvoker;
 import modelengine.jade.store.service.ToolService;
 
@@ -22,6 +27,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * {@link WaterFlowToolCallAdapter} 的测试。
@@ -37,12 +43,16 @@ class WaterFlowToolCallAdapterTest {
     @Mock
     private ToolInvoker toolInvoker;
 
+    @Mock
+    private BrokerClient brokerClient;
+
     private WaterFlowToolCallAdapter waterFlowToolProvider;
 
     @BeforeEach
     void setUp() {
         this.waterFlowToolProvider =
-                new WaterFlowToolCallAdapter(this.toolService, Collections.singletonList(this.toolInvoker));
+                new WaterFlowToolCallAdapter(this.toolService, Collections.singletonList(this.toolInvoker),
+                        this.brokerClient);
     }
 
     @Test
@@ -56,10 +66,56 @@ class WaterFlowToolCallAdapterTest {
         Mockito.when(this.toolService.getTool(toolUniqueName)).thenReturn(toolData);
         Mockito.when(this.toolInvoker.match(Mockito.any())).thenReturn(true);
         String result = "chat";
-        Mockito.when(this.toolInvoker.invoke(Mockito.any(), Mockito.any())).thenReturn(result);
+        Mockito.when(this.toolInvoker.invokeAsync(Mockito.any(), Mockito.any()))
+                .thenReturn(CompletableFuture.completedFuture(result));
 
         String toolResult = this.waterFlowToolProvider.call(toolCall.name(), toolCall.arguments(), toolContext);
 
         Assertions.assertEquals(result, toolResult);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldNotifyCallbackWhenSubmitGivenPendingInvocationCompleted() {
+        String toolUniqueName = "toolUniqueName";
+        ToolData toolData =
+                ToolData.from(Tool.Info.custom().name(toolUniqueName).uniqueName(toolUniqueName).build());
+        Mockito.when(this.toolService.getTool(toolUniqueName)).thenReturn(toolData);
+        Mockito.when(this.toolInvoker.match(Mockito.any())).thenReturn(true);
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        Mockito.when(this.toolInvoker.invokeAsync(Mockito.any(), Mockito.any())).thenReturn(pending);
+        Router router = Mockito.mock(Router.class);
+        Invoker invoker = Mockito.mock(Invoker.class);
+        Mockito.when(this.brokerClient.getRouter(AsyncToolCallback.class, AsyncToolCallback.GENERICABLE_ID))
+                .thenReturn(router);
+        Mockito.when(router.route(Mockito.any(FitableIdFilter.class))).thenReturn(invoker);
+
+        String toolCallId =
+                this.waterFlowToolProvider.submit(toolUniqueName, "{\"inputParams\":{}}", new HashMap<>(), "callback");
+
+        Mockito.verify(this.brokerClient, Mockito.never()).getRouter(Mockito.any(), Mockito.anyString());
+        pending.complete("chat");
+        Mockito.verify(invoker).invoke(toolCallId, "chat", null);
+        Mockito.verify(this.toolInvoker, Mockito.never()).invoke(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void shouldNotifyErrorWhenSubmitGivenInvocationFailed() {
+        String toolUniqueName = "toolUniqueName";
+        ToolData toolData =
+                ToolData.from(Tool.Info.custom().name(toolUniqueName).uniqueName(toolUniqueName).build());
+        Mockito.when(this.toolService.getTool(toolUniqueName)).thenReturn(toolData);
+        Mockito.when(this.toolInvoker.match(Mockito.any())).thenReturn(true);
+        Mockito.when(this.toolInvoker.invokeAsync(Mockito.any(), Mockito.any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("failed")));
+        Router router = Mockito.mock(Router.class);
+        Invoker invoker = Mockito.mock(Invoker.class);
+        Mockito.when(this.brokerClient.getRouter(AsyncToolCallback.class, AsyncToolCallback.GENERICABLE_ID))
+                .thenReturn(router);
+        Mockito.when(router.route(Mockito.any(FitableIdFilter.class))).thenReturn(invoker);
+
+        String toolCallId =
+                this.waterFlowToolProvider.submit(toolUniqueName, "{\"inputParams\":{}}", new HashMap<>(), "callback");
+
+        Mockito.verify(invoker).invoke(toolCallId, null, "failed");
+    }
+}
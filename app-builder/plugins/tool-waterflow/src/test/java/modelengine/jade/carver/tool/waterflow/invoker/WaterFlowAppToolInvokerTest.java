@@ -12,8 +12,10 @@ import modelengine.fit.jober.aipp.constants.AippConst;
 import modelengine.fit.jober.common.FlowDataConstant;
 import modelengine.fit.waterflow.entity.FlowErrorInfo;
 import modelengine.fitframework.exception.FitException;
+import modelengine.fitframework.exception.TimeoutException;
 import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.util.MapBuilder;
+import modelengine.jade.carver.tool.waterflow.invoker.persist.po.AppToolCallPO;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,10 +25,17 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * 针对 {@link WaterFlowAppToolInvoker} 的测试
@@ -42,11 +51,14 @@ class WaterFlowAppToolInvokerTest {
     @Mock
     private ToolInvoker toolInvoker;
 
+    private final InMemoryAppToolCallRepo appToolCallRepo = new InMemoryAppToolCallRepo();
+
     private WaterFlowAppToolInvoker waterFlowAppToolInvoker;
 
     @BeforeEach
     void setUp() {
-        this.waterFlowAppToolInvoker = new WaterFlowAppToolInvoker(this.toolInvoker, this.objectSerializer, 1);
+        this.waterFlowAppToolInvoker =
+                new WaterFlowAppToolInvoker(this.toolInvoker, this.objectSerializer, this.appToolCallRepo, 1, 10);
     }
 
     @Test
@@ -127,6 +139,96 @@ class WaterFlowAppToolInvokerTest {
         Assertions.assertThrows(FitException.class, () -> this.waterFlowAppToolInvoker.invoke(tooCall, toolContext));
     }
 
+    @Test
+    void shouldCompleteAllWhenInvokeAsyncGivenManyInFlightCallsOnSmallThreadPool() throws Exception {
+        int callCount = 1000;
+        Mockito.when(this.toolInvoker.invoke(Mockito.any(), Mockito.any())).thenReturn("subInstanceId");
+        Mockito.when(this.objectSerializer.deserialize(Mockito.anyString(), Mockito.any()))
+                .thenAnswer(invocation -> MapBuilder.get().put("inputParams", new HashMap<>()).build());
+        Mockito.when(this.objectSerializer.serialize(Mockito.anyMap())).thenReturn("");
+        Mockito.when(this.objectSerializer.serialize(Mockito.anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<ToolCall> toolCalls = new ArrayList<>();
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < callCount; i++) {
+            ToolCall toolCall = ToolCall.custom().id("toolCallId" + i).arguments("{\"inputParams\":{}").build();
+            toolCalls.add(toolCall);
+            futures.add(this.waterFlowAppToolInvoker.invokeAsync(toolCall, new HashMap<>()));
+        }
+        Assertions.assertTrue(futures.stream().noneMatch(CompletableFuture::isDone));
+
+        ExecutorService callbackPool = Executors.newFixedThreadPool(4);
+        try {
+            for (ToolCall toolCall : toolCalls) {
+                callbackPool.execute(() -> this.waterFlowAppToolInvoker.callback(
+                        Collections.singletonList(buildFlowData(toolCall, "endNode", "result-" + toolCall.id()))));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        } finally {
+            callbackPool.shutdownNow();
+        }
+
+        for (int i = 0; i < callCount; i++) {
+            Assertions.assertEquals("result-toolCallId" + i, futures.get(i).get());
+        }
+    }
+
+    @Test
+    void shouldCompleteExceptionallyWhenInvokeAsyncGivenNoCallbackBeforeTimeout() {
+        ToolCall toolCall = ToolCall.custom().id("toolCallId1").arguments("{\"inputParams\":{}").build();
+        Mockito.when(this.toolInvoker.invoke(Mockito.any(), Mockito.any())).thenReturn("subInstanceId");
+        Mockito.when(this.objectSerializer.deserialize(Mockito.anyString(), Mockito.any()))
+                .thenReturn(MapBuilder.get().put("inputParams", new HashMap<>()).build());
+        Mockito.when(this.objectSerializer.serialize(Mockito.anyMap())).thenReturn("");
+
+        CompletableFuture<String> future = this.waterFlowAppToolInvoker.invokeAsync(toolCall, new HashMap<>());
+
+        ExecutionException exception =
+                Assertions.assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(TimeoutException.class, exception.getCause());
+    }
+
+    @Test
+    void shouldCompleteWhenInvokeAsyncGivenCallbackOnAnotherInstance() throws Exception {
+        ToolCall toolCall = ToolCall.custom().id("toolCallId1").arguments("{\"inputParams\":{}").build();
+        Mockito.when(this.toolInvoker.invoke(Mockito.any(), Mockito.any())).thenReturn("subInstanceId");
+        Mockito.when(this.objectSerializer.deserialize(Mockito.anyString(), Mockito.any()))
+                .thenReturn(MapBuilder.get().put("inputParams", new HashMap<>()).build());
+        Mockito.when(this.objectSerializer.serialize(Mockito.anyMap())).thenReturn("");
+        Mockito.when(this.objectSerializer.serialize("result")).thenReturn("result");
+        WaterFlowAppToolInvoker anotherInstance =
+                new WaterFlowAppToolInvoker(this.toolInvoker, this.objectSerializer, this.appToolCallRepo, 1, 10);
+
+        CompletableFuture<String> future = this.waterFlowAppToolInvoker.invokeAsync(toolCall, new HashMap<>());
+        anotherInstance.callback(Collections.singletonList(buildFlowData(toolCall, "endNode", "result")));
+
+        Assertions.assertEquals("result", future.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldCompleteExceptionallyWhenInvokeAsyncGivenExceptionOnAnotherInstance() {
+        ToolCall toolCall = ToolCall.custom().id("toolCallId1").arguments("{\"inputParams\":{}").build();
+        Mockito.when(this.toolInvoker.invoke(Mockito.any(), Mockito.any())).thenReturn("subInstanceId");
+        Mockito.when(this.objectSerializer.deserialize(Mockito.anyString(), Mockito.any()))
+                .thenReturn(MapBuilder.get().put("inputParams", new HashMap<>()).build());
+        Mockito.when(this.objectSerializer.serialize(Mockito.anyMap())).thenReturn("");
+        WaterFlowAppToolInvoker anotherInstance =
+                new WaterFlowAppToolInvoker(this.toolInvoker, this.objectSerializer, this.appToolCallRepo, 1, 10);
+        FlowErrorInfo errorInfo = new FlowErrorInfo();
+        errorInfo.setErrorCode(1111);
+        errorInfo.setErrorMessage("test error");
+
+        CompletableFuture<String> future = this.waterFlowAppToolInvoker.invokeAsync(toolCall, new HashMap<>());
+        anotherInstance.handleException("nodeId",
+                Collections.singletonList(buildFlowData(toolCall, "nodeId", null)),
+                errorInfo);
+
+        ExecutionException exception =
+                Assertions.assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(FitException.class, exception.getCause());
+    }
+
     private static Map<String, Object> buildFlowData(ToolCall tooCall, String endNode, String expectResult) {
         Map<String, Object> flowData = new HashMap<>();
         List<Map<Object, Object>> input = null;
@@ -145,4 +247,56 @@ class WaterFlowAppToolInvokerTest {
         flowData.put(AippConst.CONTEXT_DATA_KEY, MapBuilder.get().put(FlowDataConstant.FLOW_NODE_ID, endNode).build());
         return flowData;
     }
-}
\ No newline at end of file
+
+    private static class InMemoryAppToolCallRepo implements AppToolCallRepo {
+        private final Map<String, AppToolCallPO> toolCalls = new HashMap<>();
+
+        @Override
+        public synchronized void create(String toolCallId, long ttl) {
+            this.toolCalls.put(toolCallId,
+                    AppToolCallPO.builder().toolCallId(toolCallId).status(AppToolCallStatus.PENDING.name()).build());
+        }
+
+        @Override
+        public synchronized boolean succeed(String toolCallId, String response) {
+            AppToolCallPO toolCall = this.toolCalls.get(toolCallId);
+            if (toolCall == null || !AppToolCallStatus.PENDING.name().equals(toolCall.getStatus())) {
+                return false;
+            }
+            toolCall.setStatus(AppToolCallStatus.SUCCEEDED.name());
+            toolCall.setResponse(response);
+            return true;
+        }
+
+        @Override
+        public synchronized boolean fail(String toolCallId, FlowErrorInfo errorInfo) {
+            AppToolCallPO toolCall = this.toolCalls.get(toolCallId);
+            if (toolCall == null || !AppToolCallStatus.PENDING.name().equals(toolCall.getStatus())) {
+                return false;
+            }
+            toolCall.setStatus(AppToolCallStatus.FAILED.name());
+            toolCall.setErrorCode(errorInfo.getErrorCode());
+            toolCall.setErrorMessage(errorInfo.getErrorMessage());
+            return true;
+        }
+
+        @Override
+        public synchronized List<AppToolCallPO> listFinished(List<String> toolCallIds) {
+            return toolCallIds.stream()
+                    .map(this.toolCalls::get)
+                    .filter(toolCall -> toolCall != null
+                            && !AppToolCallStatus.PENDING.name().equals(toolCall.getStatus()))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public synchronized void delete(String toolCallId) {
+            this.toolCalls.remove(toolCallId);
+        }
+
+        @Override
+        public int deleteExpired() {
+            return 0;
+        }
+    }
+}
@@ -29,6 +29,11 @@ public class AippChatRound {
      */
     private String answer;
 
+    /**
+     * 问题和答案的分词数，为空时由使用方按需计算。
+     */
+    private Integer tokenCount;
+
     /**
      * 将历史记录实体转换为字典。
      *
@@ -0,0 +1,42 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jober.aipp.events;
+
+import modelengine.fitframework.event.Event;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 上传文件删除事件，在上传文件被清理后发布。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class UploadedFileDeletedEvent implements Event {
+    private final Object publisher;
+    private final List<String> fileNames;
+
+    public UploadedFileDeletedEvent(Object publisher, List<String> fileNames) {
+        this.publisher = publisher;
+        this.fileNames = Collections.unmodifiableList(fileNames);
+    }
+
+    /**
+     * 获取已删除的文件路径。
+     *
+     * @return 表示已删除文件路径列表的 {@link List}{@code <}{@link String}{@code >}。
+     */
+    public List<String> getFileNames() {
+        return this.fileNames;
+    }
+
+    @Override
+    public Object publisher() {
+        return this.publisher;
+    }
+}
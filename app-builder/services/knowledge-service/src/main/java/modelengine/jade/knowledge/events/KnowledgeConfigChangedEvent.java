@@ -0,0 +1,39 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.jade.knowledge.events;
+
+import modelengine.fitframework.event.Event;
+
+/**
+ * 知识库配置变更事件，在用户知识库配置被修改或删除后发布。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class KnowledgeConfigChangedEvent implements Event {
+    private final Object publisher;
+    private final String knowledgeConfigId;
+
+    public KnowledgeConfigChangedEvent(Object publisher, String knowledgeConfigId) {
+        this.publisher = publisher;
+        this.knowledgeConfigId = knowledgeConfigId;
+    }
+
+    /**
+     * 获取发生变更的知识库配置标识。
+     *
+     * @return 表示知识库配置标识的 {@link String}。
+     */
+    public String getKnowledgeConfigId() {
+        return this.knowledgeConfigId;
+    }
+
+    @Override
+    public Object publisher() {
+        return this.publisher;
+    }
+}
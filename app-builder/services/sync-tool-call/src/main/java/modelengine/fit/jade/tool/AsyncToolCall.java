@@ -0,0 +1,32 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jade.tool;
+
+import modelengine.fitframework.annotation.Genericable;
+
+import java.util.Map;
+
+/**
+ * 异步工具调用接口
+ * <p>调用立即返回工具调用 id，工具执行完成后通过调用方指定的 {@link AsyncToolCallback} 通知结果，等待期间不占用调用方线程。</p>
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+public interface AsyncToolCall {
+    /**
+     * 提交携带工具上下文的调用。
+     *
+     * @param uniqueName 表示工具唯一标识的 {@link String}。
+     * @param toolArgs 表示工具调用参数的 {@link String}。
+     * @param toolContext 表示工具调用上下文的 {@link Map}{@code <}{@link String}{@code , }{@link Object}{@code >}。
+     * @param callbackFitableId 表示接收执行结果的 {@link AsyncToolCallback} 实现的 fitable 标识的 {@link String}。
+     * @return 表示工具调用 id 的 {@link String}，与通知结果时的工具调用 id 一致。
+     */
+    @Genericable("modelengine.jober.aipp.tool.async.call")
+    String submit(String uniqueName, String toolArgs, Map<String, Object> toolContext, String callbackFitableId);
+}
@@ -0,0 +1,32 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.jade.tool;
+
+import modelengine.fitframework.annotation.Genericable;
+
+/**
+ * 异步工具调用结果的通知接口，由 {@link AsyncToolCall} 的调用方实现
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+public interface AsyncToolCallback {
+    /**
+     * 工具调用结果通知的泛服务标识。
+     */
+    String GENERICABLE_ID = "modelengine.jober.aipp.tool.async.callback";
+
+    /**
+     * 通知工具调用的结果。
+     *
+     * @param toolCallId 表示工具调用 id 的 {@link String}。
+     * @param result 表示工具执行结果的 {@link String}，执行失败时为 {@code null}。
+     * @param errorMessage 表示工具执行失败原因的 {@link String}，执行成功时为 {@code null}。
+     */
+    @Genericable(GENERICABLE_ID)
+    void callback(String toolCallId, String result, String errorMessage);
+}
@@ -0,0 +1,30 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.common.config;
+
+import modelengine.fit.waterflow.flowsengine.domain.flows.context.repo.flowcontext.FlowDataCodec;
+import modelengine.fit.waterflow.flowsengine.domain.flows.enums.FlowDataFormat;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.annotation.Value;
+import modelengine.fitframework.log.Logger;
+
+/**
+ * 流程实例上下文数据存储格式配置
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@Component
+public class FlowDataStorageConfigure {
+    private static final Logger log = Logger.get(FlowDataStorageConfigure.class);
+
+    public FlowDataStorageConfigure(@Value("${jane.flowsEngine.flowData.format:json}") String format,
+            @Value("${jane.flowsEngine.flowData.blobThreshold:4096}") int blobThreshold) {
+        FlowDataCodec.configure(FlowDataFormat.parseFrom(format), blobThreshold);
+        log.info("Flow data storage format: {}, blob threshold: {}.", FlowDataCodec.getFormat(), blobThreshold);
+    }
+}
@@ -0,0 +1,27 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.common.config;
+
+import modelengine.fit.waterflow.flowsengine.utils.FlowExecutors;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.annotation.Value;
+
+/**
+ * 流程引擎节点执行后端配置
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@Component
+public class FlowExecutorsConfigure {
+    public FlowExecutorsConfigure(@Value("${jane.flowsEngine.executor.backend:platform}") String backend,
+            @Value("${jane.flowsEngine.executor.limitScope:node}") String limitScope,
+            @Value("${jane.flowsEngine.executor.poolSize:16}") int poolSize) {
+        FlowExecutors.configure(FlowExecutors.Backend.parseFrom(backend),
+                FlowExecutors.LimitScope.parseFrom(limitScope), poolSize);
+    }
+}
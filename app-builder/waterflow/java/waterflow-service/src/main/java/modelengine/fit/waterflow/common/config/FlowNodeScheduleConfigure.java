@@ -0,0 +1,32 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.common.config;
+
+import modelengine.fit.waterflow.flowsengine.domain.flows.enums.NodeScheduleMode;
+import modelengine.fit.waterflow.flowsengine.utils.FlowNodeScheduler;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.annotation.Value;
+import modelengine.fitframework.log.Logger;
+
+/**
+ * 流程引擎节点调度模式配置
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@Component
+public class FlowNodeScheduleConfigure {
+    private static final Logger log = Logger.get(FlowNodeScheduleConfigure.class);
+
+    public FlowNodeScheduleConfigure(@Value("${jane.flowsEngine.schedule.mode:polling}") String mode,
+            @Value("${jane.flowsEngine.schedule.safetyPollMillis:10000}") long safetyPollMillis) {
+        FlowNodeScheduler.setMode(NodeScheduleMode.parseFrom(mode));
+        FlowNodeScheduler.setSafetyPollMillis(safetyPollMillis);
+        log.info("Flow node schedule mode: {}, safety poll millis: {}.", FlowNodeScheduler.getMode(),
+                safetyPollMillis);
+    }
+}
@@ -15,31 +15,33 @@ import modelengine.fit.waterflow.flowsengine.domain.flows.context.repo.flowlock.
 import modelengine.fit.waterflow.spi.lock.InvalidDistributedLockNotify;
 import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.log.Logger;
-import modelengine.fitframework.util.ObjectUtils;
-import modelengine.fitframework.util.ThreadUtils;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
 /**
  * 提供trace的归属服务
+ * 已归属的trace保存在无锁的注册表中，{@link #getTraces()}返回按版本缓存的只读快照，只有注册表变化后才重新生成；
+ * 获取trace锁的重试通过定时任务异步进行，等待期间不占用调用线程和加锁线程
  *
  * @author 夏斐
  * @since 2024/2/29
@@ -56,10 +58,18 @@ public class DefaultTraceOwnerService implements TraceOwnerService {
 
     private static final int TRY_SLEEP_MS = 10;
 
+    private static final ScheduledExecutorService RETRY_SCHEDULER = new ScheduledThreadPoolExecutor(1,
+            new CustomThreadFactory("own-lock-retry"));
+
     private final FlowLocks locks;
 
     private final Map<String, OwnInfo> traceMap = new ConcurrentHashMap<>();
 
+    private final AtomicLong version = new AtomicLong(0L);
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(
+            new Snapshot(0L, Collections.emptyList()));
+
     /**
      * 构造TraceOwnerService
      *
@@ -73,18 +83,65 @@ public class DefaultTraceOwnerService implements TraceOwnerService {
 
     @Override
     public void own(String traceId, String transId) {
+        try {
+            this.ownAsync(traceId, transId).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerInternalException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    @Override
+    public void ownAll(Map<String, String> traceTransIds) {
+        List<CompletableFuture<Void>> futures = traceTransIds.entrySet()
+                .stream()
+                .map(entry -> this.ownAsync(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    /**
+     * 异步归属trace，获取锁失败时按间隔重试，超过最大次数后以异常结束
+     *
+     * @param traceId traceId
+     * @param transId transId
+     * @return 归属完成的future
+     */
+    public CompletableFuture<Void> ownAsync(String traceId, String transId) {
         log.info("Start to own trace. traceId={}.", traceId);
         Lock lock = this.locks.getDistributedLock(this.locks.traceLockKey(traceId));
-        for (int i = 0; i < MAX_TRY_COUNT; ++i) {
-            if (OwnLockHelper.tryLock(lock, traceId, DEFAULT_WAIT_TIME_MS)) {
-                log.info("Trace is owned. traceId={}, times={}.", traceId, i);
-                this.traceMap.put(traceId, new OwnInfo(traceId, transId, lock, Instant.now()));
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        this.tryOwnAsync(traceId, transId, lock, 0, result);
+        return result;
+    }
+
+    private void tryOwnAsync(String traceId, String transId, Lock lock, int times, CompletableFuture<Void> result) {
+        OwnLockHelper.tryLockAsync(lock, traceId, DEFAULT_WAIT_TIME_MS).whenComplete((isLocked, ex) -> {
+            if (ex != null) {
+                result.completeExceptionally(ex);
                 return;
             }
-            ThreadUtils.sleep(TRY_SLEEP_MS);
-        }
-        log.error("Can not own the trace, traceId={}.", traceId);
-        throw new WaterflowException(ErrorCodes.UN_EXCEPTED_ERROR, "can not own trace");
+            if (isLocked) {
+                log.info("Trace is owned. traceId={}, times={}.", traceId, times);
+                this.register(new OwnInfo(traceId, transId, lock, Instant.now()));
+                result.complete(null);
+                return;
+            }
+            if (times + 1 >= MAX_TRY_COUNT) {
+                log.error("Can not own the trace, traceId={}.", traceId);
+                result.completeExceptionally(new WaterflowException(ErrorCodes.UN_EXCEPTED_ERROR,
+                        "can not own trace"));
+                return;
+            }
+            RETRY_SCHEDULER.schedule(() -> this.tryOwnAsync(traceId, transId, lock, times + 1, result), TRY_SLEEP_MS,
+                    TimeUnit.MILLISECONDS);
+        });
     }
 
     @Override
@@ -94,7 +151,7 @@ public class DefaultTraceOwnerService implements TraceOwnerService {
         boolean tryLock = OwnLockHelper.tryLock(lock, traceId, DEFAULT_WAIT_TIME_MS);
         if (tryLock) {
             log.info("Trace is owned. traceId={}.", traceId);
-            this.traceMap.put(traceId, new OwnInfo(traceId, transId, lock, Instant.now()));
+            this.register(new OwnInfo(traceId, transId, lock, Instant.now()));
         }
         return tryLock;
     }
@@ -105,7 +162,7 @@ public class DefaultTraceOwnerService implements TraceOwnerService {
         Lock lock = this.locks.getDistributedLock(this.locks.traceLockKey(traceId));
         OwnLockHelper.unlock(lock, traceId);
         log.info("Trace is released, traceId={}.", traceId);
-        this.traceMap.remove(traceId);
+        this.unregister(traceId);
     }
 
     @Override
@@ -120,7 +177,15 @@ public class DefaultTraceOwnerService implements TraceOwnerService {
 
     @Override
     public List<String> getTraces() {
-        return new ArrayList<>(this.traceMap.keySet());
+        long current = this.version.get();
+        Snapshot cached = this.snapshot.get();
+        if (cached.getVersion() == current) {
+            return cached.getTraceIds();
+        }
+        // 先读取版本再复制，快照至少包含该版本之前的所有变化
+        Snapshot latest = new Snapshot(current, Collections.unmodifiableList(new ArrayList<>(this.traceMap.keySet())));
+        this.snapshot.accumulateAndGet(latest, (prev, next) -> prev.getVersion() >= next.getVersion() ? prev : next);
+        return latest.getTraceIds();
     }
 
     @Override
@@ -134,16 +199,15 @@ public class DefaultTraceOwnerService implements TraceOwnerService {
     @Override
     public void removeInvalidTrace(Lock invalidLock) {
         log.warn("There is a lock is invalid.");
-        Iterator<Map.Entry<String, OwnInfo>> iterator = this.traceMap.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<String, OwnInfo> entry = iterator.next();
-            if (entry.getValue().getLock() == invalidLock) {
-                log.warn("[TraceOwner] The trace is not belong to this node, traceId={}.", entry.getKey());
-                OwnLockHelper.unlock(entry.getValue().getLock(), entry.getKey());
-                iterator.remove();
-                break;
-            }
-        }
+        this.traceMap.values()
+                .stream()
+                .filter(ownInfo -> ownInfo.getLock() == invalidLock)
+                .findFirst()
+                .ifPresent(ownInfo -> {
+                    log.warn("[TraceOwner] The trace is not belong to this node, traceId={}.", ownInfo.getTraceId());
+                    OwnLockHelper.unlock(ownInfo.getLock(), ownInfo.getTraceId());
+                    this.unregister(ownInfo.getTraceId());
+                });
     }
 
     @Override
@@ -155,6 +219,24 @@ public class DefaultTraceOwnerService implements TraceOwnerService {
         return Duration.between(ownInfo.createTime, Instant.now()).toMillis() < PROTECT_TIME_MS;
     }
 
+    private void register(OwnInfo ownInfo) {
+        this.traceMap.put(ownInfo.getTraceId(), ownInfo);
+        this.version.incrementAndGet();
+    }
+
+    private void unregister(String traceId) {
+        if (this.traceMap.remove(traceId) != null) {
+            this.version.incrementAndGet();
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        return new ServerInternalException(cause.getMessage(), cause);
+    }
+
     @Data
     @AllArgsConstructor
     private static class OwnInfo {
@@ -167,161 +249,84 @@ public class DefaultTraceOwnerService implements TraceOwnerService {
         private Instant createTime;
     }
 
+    @Data
+    @AllArgsConstructor
+    private static class Snapshot {
+        private final long version;
+
+        private final List<String> traceIds;
+    }
+
+    /**
+     * trace锁的加解锁辅助类
+     * 分布式锁与线程绑定，同一个key的加锁与解锁必须在同一个线程中执行，因此按key的哈希固定分配到单线程的执行器上，
+     * 分配过程不需要加锁，也不需要记录key与执行器的对应关系
+     */
     private static class OwnLockHelper {
         /**
          * 线程池大小
          */
         public static final int EXECUTOR_SIZE = 32;
 
-        private static final List<ExecutorInfo> EXECUTOR_SERVICE = new ArrayList<>();
-
-        private static final Map<String, Integer> KEY_EXECUTOR_INDEXES = new HashMap<>();
+        private static final List<ExecutorService> EXECUTOR_SERVICE = new ArrayList<>();
 
         static {
             for (int i = 0; i < EXECUTOR_SIZE; ++i) {
-                EXECUTOR_SERVICE.add(
-                        new ExecutorInfo(Executors.newSingleThreadExecutor(new CustomThreadFactory("own-lock" + i)),
-                                i));
-            }
-        }
-
-        private static class ExecutorInfo {
-            private ExecutorService executor;
-
-            private int useCount = 0;
-
-            private int index;
-
-            private ExecutorInfo(ExecutorService executor, int index) {
-                this.executor = executor;
-                this.index = index;
-            }
-
-            /**
-             * 获取对应的executor
-             *
-             * @return executor
-             */
-            public ExecutorService getExecutor() {
-                return this.executor;
-            }
-
-            /**
-             * 查询使用次数
-             *
-             * @return 使用次数
-             */
-            public int getUseCount() {
-                return this.useCount;
-            }
-
-            /**
-             * 增加一个使用次数
-             */
-            public void incrementUse() {
-                ++this.useCount;
-            }
-
-            /**
-             * 减少一个使用次数
-             */
-            public void decrementUse() {
-                --this.useCount;
-            }
-
-            /**
-             * 获取对应的index
-             *
-             * @return index
-             */
-            public int getIndex() {
-                return this.index;
+                EXECUTOR_SERVICE.add(Executors.newSingleThreadExecutor(new CustomThreadFactory("own-lock" + i)));
             }
         }
 
         /**
-         * lock
+         * unlock
          *
          * @param lock lock
          * @param key key
          */
-        public static void lock(Lock lock, String key) {
-            Future<?> submit = acquireUse(key).submit(lock::lock);
-            boolean isOk = false;
+        public static void unlock(Lock lock, String key) {
             try {
-                submit.get();
-                isOk = true;
+                executor(key).submit(lock::unlock).get();
             } catch (InterruptedException | ExecutionException e) {
                 throw new ServerInternalException(e.getMessage(), e);
-            } finally {
-                if (!isOk) {
-                    releaseUse(key);
-                }
             }
         }
 
         /**
-         * unlock
+         * tryLock
          *
          * @param lock lock
          * @param key key
+         * @param waitMs wait time
+         * @return boolean
          */
-        public static void unlock(Lock lock, String key) {
-            Future<?> submit = acquireUse(key).submit(lock::unlock);
+        public static boolean tryLock(Lock lock, String key, int waitMs) {
             try {
-                submit.get();
-                releaseUse(key);
+                return tryLockAsync(lock, key, waitMs).get();
             } catch (InterruptedException | ExecutionException e) {
                 throw new ServerInternalException(e.getMessage(), e);
             }
         }
 
         /**
-         * tryLock
+         * 异步tryLock
          *
          * @param lock lock
          * @param key key
          * @param waitMs wait time
-         * @return boolean
+         * @return 是否获取到锁的future
          */
-        public static boolean tryLock(Lock lock, String key, int waitMs) {
-            Future<?> submit = acquireUse(key).submit(() -> lock.tryLock(waitMs, TimeUnit.MILLISECONDS));
-            boolean isGetLock = false;
-            try {
-                isGetLock = ObjectUtils.cast(submit.get());
-            } catch (InterruptedException | ExecutionException e) {
-                throw new ServerInternalException(e.getMessage(), e);
-            } finally {
-                if (!isGetLock) {
-                    releaseUse(key);
+        public static CompletableFuture<Boolean> tryLockAsync(Lock lock, String key, int waitMs) {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return lock.tryLock(waitMs, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ServerInternalException(e.getMessage(), e);
                 }
-            }
-            return isGetLock;
-        }
-
-        private static synchronized ExecutorService acquireUse(String key) {
-            Integer index = KEY_EXECUTOR_INDEXES.get(key);
-            if (index != null) {
-                return EXECUTOR_SERVICE.get(index).getExecutor();
-            }
-            ExecutorInfo executorInfo = getAndIncrementLowPayloadExecutor();
-            KEY_EXECUTOR_INDEXES.put(key, executorInfo.getIndex());
-            return executorInfo.getExecutor();
-        }
-
-        private static synchronized void releaseUse(String key) {
-            Integer index = KEY_EXECUTOR_INDEXES.get(key);
-            if (index != null) {
-                EXECUTOR_SERVICE.get(index).decrementUse();
-                KEY_EXECUTOR_INDEXES.remove(key);
-            }
+            }, executor(key));
         }
 
-        private static ExecutorInfo getAndIncrementLowPayloadExecutor() {
-            ExecutorInfo executorInfo =
-                    EXECUTOR_SERVICE.stream().min(Comparator.comparingInt(ExecutorInfo::getUseCount)).get();
-            executorInfo.incrementUse();
-            return executorInfo;
+        private static ExecutorService executor(String key) {
+            return EXECUTOR_SERVICE.get(Math.floorMod(key.hashCode(), EXECUTOR_SIZE));
         }
     }
 }
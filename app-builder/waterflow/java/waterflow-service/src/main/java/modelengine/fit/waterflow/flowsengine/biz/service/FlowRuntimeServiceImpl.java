@@ -68,7 +68,9 @@ import modelengine.fit.waterflow.flowsengine.domain.flows.streams.nodes.Blocks;
 import modelengine.fit.waterflow.flowsengine.domain.flows.streams.nodes.Node;
 import modelengine.fit.waterflow.flowsengine.domain.flows.utils.FlowExecuteInfoUtil;
 import modelengine.fit.waterflow.flowsengine.fitable.TraceServiceImpl;
+import modelengine.fit.waterflow.flowsengine.persist.entity.FlowTraceContextStatistics;
 import modelengine.fit.waterflow.flowsengine.persist.po.FlowContextPO;
+import modelengine.fit.waterflow.flowsengine.utils.FlowTraceCompletionNotifier;
 import modelengine.fit.waterflow.flowsengine.utils.FlowUtil;
 import modelengine.fit.waterflow.spi.FlowCompletedService;
 import modelengine.fitframework.annotation.Component;
@@ -90,6 +92,7 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -100,8 +103,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 /**
@@ -116,6 +124,13 @@ public class FlowRuntimeServiceImpl implements FlowRuntimeService {
 
     private static final String DEFAULT_FLOW_CALLBACK_FITABLE = "f58e3a82321c4de6b49fa9006b32e1c3";
 
+    private static final int TRACE_STATUS_BATCH_SIZE = 500;
+
+    private static final long TRACE_EVENT_DEBOUNCE_MILLIS = 200L;
+
+    private static final ScheduledExecutorService TRACE_STATUS_EXECUTOR = new ScheduledThreadPoolExecutor(1,
+            new CustomThreadFactory("trace-status-calculator"));
+
     private final FlowDefinitionRepo definitionRepo;
 
     private final FlowContextRepo repo;
@@ -145,6 +160,12 @@ public class FlowRuntimeServiceImpl implements FlowRuntimeService {
 
     private final FlowQueryService flowQueryService;
 
+    private final Lock traceStatusLock = new ReentrantLock();
+
+    private final Set<String> pendingTraceIds = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean isTraceEventScheduled = new AtomicBoolean(false);
+
     public FlowRuntimeServiceImpl(FlowDefinitionRepo definitionRepo,
                                   @Fit(alias = "flowContextPersistRepo") FlowContextRepo repo,
                                   @Fit(alias = "flowContextPersistMessenger") FlowContextMessenger messenger,
@@ -166,6 +187,7 @@ public class FlowRuntimeServiceImpl implements FlowRuntimeService {
         this.brokerClient = brokerClient;
         this.definitionQueryService = definitionQueryService;
         this.flowQueryService = flowQueryService;
+        FlowTraceCompletionNotifier.setListener(this::onTraceMayComplete);
     }
 
     private static boolean isContextRunning(FlowContextPO flowContextPO) {
@@ -489,35 +511,6 @@ public class FlowRuntimeServiceImpl implements FlowRuntimeService {
         return result;
     }
 
-    private String getTraceStatus(String traceId, FlowDefinition flowDefinition) {
-        boolean isTerminated = repo.hasContextWithStatus(Collections.singletonList(FlowNodeStatus.TERMINATE.name()),
-                traceId);
-        if (isTerminated) {
-            return FlowTraceStatus.TERMINATE.name();
-        }
-
-        boolean isRunning = repo.hasContextWithStatus(traceRunningStatus, traceId);
-        if (isRunning) {
-            return FlowTraceStatus.RUNNING.name();
-        }
-        boolean isArchived = repo.isAllContextStatus(Collections.singletonList(FlowNodeStatus.ARCHIVED.name()),
-                traceId);
-        if (isArchived) {
-            return FlowTraceStatus.ARCHIVED.name();
-        }
-        boolean hasError = repo.hasContextWithStatus(Collections.singletonList(FlowNodeStatus.ERROR.name()), traceId);
-        if (hasError) {
-            String endNode = flowDefinition.getEndNode();
-            boolean hasArchivedInEndNode = repo.hasContextWithStatusAtPosition(
-                    Collections.singletonList(FlowNodeStatus.ARCHIVED.name()), traceId, endNode);
-            if (hasArchivedInEndNode) {
-                return FlowTraceStatus.PARTIAL_ERROR.name();
-            }
-            return FlowTraceStatus.ERROR.name();
-        }
-        return FlowTraceStatus.RUNNING.name();
-    }
-
     @Override
     public void terminateFlows(String traceId, Map<String, Object> filter, OperationContext operationContext) {
         FlowTrace flowTrace = traceRepo.find(traceId);
@@ -643,16 +636,7 @@ public class FlowRuntimeServiceImpl implements FlowRuntimeService {
             if (traceIds.isEmpty()) {
                 return;
             }
-            List<FlowTrace> flowTraces = traceRepo.findTraceByIdList(traceIds);
-            List<String> flowTraceIds = flowTraces.stream().map(IdGenerator::getId).collect(Collectors.toList());
-            traceIds.forEach(traceId -> {
-                if (!flowTraceIds.contains(traceId)) {
-                    this.tryReleaseMissedTrace(traceId);
-                }
-            });
-            flowTraces.forEach(trace -> {
-                calculateTraceStatus(trace);
-            });
+            this.reconcileTraceStatus(traceIds, true);
         } catch (Throwable e) {
             LOG.error("The calculate flow trace status timer has error, traceSize={}, errorMessage={}.",
                     this.traceOwnerService.getTraces().size(), e.getMessage());
@@ -660,37 +644,156 @@ public class FlowRuntimeServiceImpl implements FlowRuntimeService {
         }
     }
 
-    private void tryReleaseMissedTrace(String traceId) {
-        LOG.info("Check the missed trace. id={}.", traceId);
-        if (this.traceOwnerService.isInProtectTime(traceId)) {
+    private void onTraceMayComplete(Collection<String> traceIds) {
+        this.pendingTraceIds.addAll(traceIds);
+        if (this.isTraceEventScheduled.compareAndSet(false, true)) {
+            TRACE_STATUS_EXECUTOR.schedule(this::reconcilePendingTraces, TRACE_EVENT_DEBOUNCE_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void reconcilePendingTraces() {
+        this.isTraceEventScheduled.set(false);
+        List<String> traceIds = new ArrayList<>();
+        Iterator<String> iterator = this.pendingTraceIds.iterator();
+        while (iterator.hasNext()) {
+            String traceId = iterator.next();
+            iterator.remove();
+            if (this.traceOwnerService.isOwn(traceId)) {
+                traceIds.add(traceId);
+            }
+        }
+        if (traceIds.isEmpty()) {
             return;
         }
-        LOG.info("The missed trace is expired. id={}.", traceId);
-        this.traceOwnerService.release(traceId);
+        try {
+            this.reconcileTraceStatus(traceIds, false);
+        } catch (Throwable e) {
+            LOG.error("Failed to calculate completed trace status, traceSize={}, errorMessage={}.", traceIds.size(),
+                    e.getMessage());
+            LOG.error("Exception=", e);
+        }
     }
 
-    private void calculateTraceStatus(FlowTrace trace) {
+    /**
+     * 批量计算trace状态，每批trace的context状态通过一次聚合查询得到，替代逐个trace的多次查询
+     * 定时任务与完成事件触发的计算串行执行，避免同一trace被重复处理
+     *
+     * @param traceIds 待计算的trace id列表
+     * @param shouldReleaseMissed 是否释放trace表中已不存在的trace
+     */
+    private void reconcileTraceStatus(List<String> traceIds, boolean shouldReleaseMissed) {
+        this.traceStatusLock.lock();
         try {
-            String transId = repo.getTransIdByTrace(trace.getId());
-            if (StringUtils.isBlank(transId)) {
-                LOG.info("The trace is not ready, traceId={}.", trace.getId());
-                return;
+            Map<String, Optional<FlowDefinition>> definitions = new HashMap<>();
+            for (int from = 0; from < traceIds.size(); from += TRACE_STATUS_BATCH_SIZE) {
+                List<String> batch = traceIds.subList(from, Math.min(from + TRACE_STATUS_BATCH_SIZE, traceIds.size()));
+                this.reconcileTraceBatch(batch, shouldReleaseMissed, definitions);
             }
-            FlowDefinition flowDefinition = definitionQueryService.findByStreamId(trace.getStreamId());
-            if (flowDefinition == null) {
-                LOG.warn("Flow definition is null, stream id:{}, trace:{}", trace.getStreamId(), trace.getId());
-                this.traceOwnerService.release(trace.getId());
-                return;
+        } finally {
+            this.traceStatusLock.unlock();
+        }
+    }
+
+    private void reconcileTraceBatch(List<String> traceIds, boolean shouldReleaseMissed,
+            Map<String, Optional<FlowDefinition>> definitions) {
+        List<FlowTrace> flowTraces = traceRepo.findTraceByIdList(traceIds);
+        if (shouldReleaseMissed) {
+            Set<String> flowTraceIds = flowTraces.stream().map(IdGenerator::getId).collect(Collectors.toSet());
+            traceIds.forEach(traceId -> {
+                if (!flowTraceIds.contains(traceId)) {
+                    this.tryReleaseMissedTrace(traceId);
+                }
+            });
+        }
+        if (flowTraces.isEmpty()) {
+            return;
+        }
+        Map<String, FlowTraceContextStatistics> statistics = repo.getContextStatistics(
+                flowTraces.stream().map(IdGenerator::getId).collect(Collectors.toList()), traceRunningStatus);
+        Map<FlowTrace, FlowDefinition> errorTraces = new LinkedHashMap<>();
+        flowTraces.forEach(trace -> {
+            try {
+                FlowTraceContextStatistics statistic = statistics.get(trace.getId());
+                if (statistic == null || StringUtils.isBlank(statistic.getTransId())) {
+                    LOG.info("The trace is not ready, traceId={}.", trace.getId());
+                    return;
+                }
+                FlowDefinition flowDefinition = definitions.computeIfAbsent(trace.getStreamId(),
+                        streamId -> Optional.ofNullable(definitionQueryService.findByStreamId(streamId))).orElse(null);
+                if (flowDefinition == null) {
+                    LOG.warn("Flow definition is null, stream id:{}, trace:{}", trace.getStreamId(), trace.getId());
+                    this.traceOwnerService.release(trace.getId());
+                    return;
+                }
+                FlowTraceStatus status = getTraceStatus(statistic);
+                if (Objects.equals(status, FlowTraceStatus.ERROR)) {
+                    errorTraces.put(trace, flowDefinition);
+                    return;
+                }
+                if (!Objects.equals(status, FlowTraceStatus.RUNNING)) {
+                    updateTraceStatus(trace, statistic.getTransId(), status.name(), flowDefinition);
+                }
+            } catch (Throwable e) {
+                LOG.error("Failed to calculate flow trace status, streamId={}, traceId={}, errorMessage={}.",
+                        trace.getStreamId(), trace.getId(), e.getMessage());
+                LOG.error("Exception=", e);
             }
-            String status = getTraceStatus(trace.getId(), flowDefinition);
-            if (!Objects.equals(status, FlowTraceStatus.RUNNING.name())) {
-                updateTraceStatus(trace, transId, status, flowDefinition);
+        });
+        this.updateErrorTraceStatus(errorTraces, statistics);
+    }
+
+    private static FlowTraceStatus getTraceStatus(FlowTraceContextStatistics statistic) {
+        if (statistic.getTerminateCount() > 0) {
+            return FlowTraceStatus.TERMINATE;
+        }
+        if (statistic.getRunningCount() > 0) {
+            return FlowTraceStatus.RUNNING;
+        }
+        if (statistic.getNotArchivedCount() == 0) {
+            return FlowTraceStatus.ARCHIVED;
+        }
+        if (statistic.getErrorCount() > 0) {
+            return FlowTraceStatus.ERROR;
+        }
+        return FlowTraceStatus.RUNNING;
+    }
+
+    private void updateErrorTraceStatus(Map<FlowTrace, FlowDefinition> errorTraces,
+            Map<String, FlowTraceContextStatistics> statistics) {
+        if (errorTraces.isEmpty()) {
+            return;
+        }
+        // 失败的trace按结束节点分组，每个结束节点一次查询是否已有归档的context，用于区分部分失败
+        Map<String, List<String>> traceIdsByEndNode = errorTraces.entrySet()
+                .stream()
+                .collect(Collectors.groupingBy(entry -> entry.getValue().getEndNode(), LinkedHashMap::new,
+                        Collectors.mapping(entry -> entry.getKey().getId(), Collectors.toList())));
+        Set<String> partialErrorTraceIds = new HashSet<>();
+        traceIdsByEndNode.forEach((endNode, ids) -> partialErrorTraceIds.addAll(
+                repo.getTraceIdsWithStatusAtPosition(Collections.singletonList(FlowNodeStatus.ARCHIVED.name()), ids,
+                        endNode)));
+        errorTraces.forEach((trace, flowDefinition) -> {
+            try {
+                FlowTraceStatus status = partialErrorTraceIds.contains(trace.getId())
+                        ? FlowTraceStatus.PARTIAL_ERROR
+                        : FlowTraceStatus.ERROR;
+                updateTraceStatus(trace, statistics.get(trace.getId()).getTransId(), status.name(), flowDefinition);
+            } catch (Throwable e) {
+                LOG.error("Failed to calculate flow trace status, streamId={}, traceId={}, errorMessage={}.",
+                        trace.getStreamId(), trace.getId(), e.getMessage());
+                LOG.error("Exception=", e);
             }
-        } catch (Throwable e) {
-            LOG.error("Failed to calculate flow trace status, streamId={}, traceId={}.", trace.getStreamId(),
-                    trace.getId(), e.getMessage());
-            LOG.error("Exception=", e);
+        });
+    }
+
+    private void tryReleaseMissedTrace(String traceId) {
+        LOG.info("Check the missed trace. id={}.", traceId);
+        if (this.traceOwnerService.isInProtectTime(traceId)) {
+            return;
         }
+        LOG.info("The missed trace is expired. id={}.", traceId);
+        this.traceOwnerService.release(traceId);
     }
 
     private void updateTraceStatus(FlowTrace trace, String transId, String status,
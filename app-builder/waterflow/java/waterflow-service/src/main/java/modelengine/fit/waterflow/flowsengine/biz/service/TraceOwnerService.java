@@ -7,6 +7,7 @@
 package modelengine.fit.waterflow.flowsengine.biz.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.Lock;
 
@@ -25,6 +26,15 @@ public interface TraceOwnerService {
      */
     void own(String traceId, String transId);
 
+    /**
+     * 批量归属trace，各trace的锁并行获取，全部归属后返回
+     *
+     * @param traceTransIds trace id与trans id的对应关系
+     */
+    default void ownAll(Map<String, String> traceTransIds) {
+        traceTransIds.forEach(this::own);
+    }
+
     /**
      * tryOwn
      *
@@ -12,6 +12,7 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 import lombok.AllArgsConstructor;
+import modelengine.fit.waterflow.common.Constant;
 import modelengine.fit.waterflow.flowsengine.domain.flows.context.FlowData;
 import modelengine.fit.waterflow.flowsengine.domain.flows.context.repo.flowcontext.FlowContextMessenger;
 import modelengine.fit.waterflow.flowsengine.domain.flows.context.repo.flowcontext.FlowContextRepo;
@@ -19,6 +20,8 @@ import modelengine.fit.waterflow.flowsengine.domain.flows.context.repo.flowlock.
 import modelengine.fit.waterflow.flowsengine.domain.flows.definitions.FlowDefinition;
 import modelengine.fit.waterflow.flowsengine.domain.flows.definitions.repo.FlowDefinitionRepo;
 import modelengine.fit.waterflow.flowsengine.domain.flows.streams.FitStream;
+import modelengine.fit.waterflow.flowsengine.utils.FlowExecutors;
+import modelengine.fit.waterflow.flowsengine.utils.FlowNodeScheduler;
 import modelengine.fitframework.annotation.Component;
 import modelengine.fitframework.log.Logger;
 
@@ -38,8 +41,11 @@ import java.util.concurrent.TimeUnit;
 @AllArgsConstructor
 public class FlowCacheService {
     private static final Logger LOG = Logger.get(FlowCacheService.class);
-    private static final Cache<String, FlowCache> STREAM_ID_FLOW_CACHE =
-            Caffeine.newBuilder().expireAfterAccess(1, TimeUnit.DAYS).maximumSize(1000).build();
+    private static final Cache<String, FlowCache> STREAM_ID_FLOW_CACHE = Caffeine.newBuilder()
+            .expireAfterAccess(1, TimeUnit.DAYS)
+            .maximumSize(1000)
+            .<String, FlowCache>evictionListener((streamId, flowCache, cause) -> release(streamId))
+            .build();
     private static final Cache<String, FlowDefinition> DEFINITION_ID_FLOW_CACHE =
             Caffeine.newBuilder().expireAfterAccess(1, TimeUnit.DAYS).maximumSize(1000).build();
 
@@ -116,7 +122,22 @@ public class FlowCacheService {
      * 清空缓存
      */
     public static void clear() {
+        STREAM_ID_FLOW_CACHE.asMap().keySet().forEach(FlowCacheService::release);
         STREAM_ID_FLOW_CACHE.invalidateAll();
         DEFINITION_ID_FLOW_CACHE.invalidateAll();
     }
+
+    /**
+     * 流程版本移出缓存后释放其节点占用的调度资源
+     *
+     * @param streamId 流程版本
+     */
+    private static void release(String streamId) {
+        if (streamId == null) {
+            return;
+        }
+        FlowNodeScheduler.unregister(streamId + Constant.STREAM_ID_SEPARATOR);
+        FlowExecutors.removeStreamThreadPools(streamId);
+        LOG.info("[WaterFlows::release] release node resources of evicted stream, streamId: {}", streamId);
+    }
 }
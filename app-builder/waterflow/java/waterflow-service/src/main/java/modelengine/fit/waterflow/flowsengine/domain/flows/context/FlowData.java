@@ -87,8 +87,17 @@ public class FlowData {
      * @return flowData对象
      */
     public static FlowData parseFromJson(String jsonData) {
-        JSONObject flowData = JSONObject.parseObject(jsonData, JSONObject.class,
-                ByteArraySerialiseUtilV1.getMapParserConfig());
+        return parseFromJsonObject(JSONObject.parseObject(jsonData, JSONObject.class,
+                ByteArraySerialiseUtilV1.getMapParserConfig()));
+    }
+
+    /**
+     * 通过已解析的JSON对象获取flowData对象
+     *
+     * @param flowData flowData的JSON对象
+     * @return flowData对象
+     */
+    public static FlowData parseFromJsonObject(JSONObject flowData) {
         Map<String, Object> contextDataMap = Optional.ofNullable(flowData.getJSONObject("contextData"))
                 .orElse(new JSONObject())
                 .toJavaObject(new TypeReference<HashMap<String, Object>>() {});
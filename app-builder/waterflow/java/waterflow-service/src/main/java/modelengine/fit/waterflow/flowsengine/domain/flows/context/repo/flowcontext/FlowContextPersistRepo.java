@@ -28,6 +28,8 @@ import modelengine.fit.waterflow.flowsengine.domain.flows.streams.IdGenerator;
 import modelengine.fit.waterflow.flowsengine.domain.flows.streams.Processors.Filter;
 import modelengine.fit.waterflow.flowsengine.domain.flows.streams.Processors.Validator;
 import modelengine.fit.waterflow.flowsengine.persist.entity.FlowContextUpdateInfo;
+import modelengine.fit.waterflow.flowsengine.persist.entity.FlowContextWriteOp;
+import modelengine.fit.waterflow.flowsengine.persist.entity.FlowTraceContextStatistics;
 import modelengine.fit.waterflow.flowsengine.persist.mapper.FlowContextMapper;
 import modelengine.fit.waterflow.flowsengine.persist.po.FlowContextPO;
 import modelengine.fitframework.annotation.Alias;
@@ -42,12 +44,14 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -68,6 +72,10 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
 
     private final FlowContextMapper contextMapper;
 
+    private final FlowContextWriteBuffer writeBuffer;
+
+    private final FlowDataCodec flowDataCodec;
+
     private final FlowTraceRepo traceRepo;
 
     private final FlowRetryRepo retryRepo;
@@ -87,12 +95,29 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
         this.traceOwnerService = traceOwnerService;
         this.useLimit = hasUseLimit;
         this.contextMapper = contextMapper;
+        this.writeBuffer = new FlowContextWriteBuffer(contextMapper);
+        this.flowDataCodec = new FlowDataCodec(contextMapper);
         this.traceRepo = traceRepo;
         this.retryRepo = retryRepo;
         this.defaultLimitation = limit;
         this.maxRetryCount = maxRetryCount;
     }
 
+    @Override
+    public void batch(Runnable action) {
+        this.writeBuffer.run(action);
+    }
+
+    /**
+     * 获取mapper，当前线程有未提交的合并写入时先提交，保证后续的读取和直写能看到批次内的写入
+     *
+     * @return mapper
+     */
+    private FlowContextMapper flushedMapper() {
+        this.writeBuffer.flush();
+        return this.contextMapper;
+    }
+
     /**
      * convertTextToSet
      *
@@ -118,7 +143,7 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
             log.warn("There is no trace owned.");
             return Collections.emptyList();
         }
-        List<FlowContextPO> pos = contextMapper.findByPositions(streamId, posIds, status, traceIds);
+        List<FlowContextPO> pos = this.flushedMapper().findByPositions(streamId, posIds, status, traceIds);
         if (pos.isEmpty()) {
             log.info("[getContextsByPosition] Empty contexts. traceIds={}, pos={}.", StringUtils.join(',', traceIds),
                     StringUtils.join(',', posIds));
@@ -129,13 +154,13 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
     @Override
     public List<FlowContext<FlowData>> getContextsByPosition(String streamId, String posId, String batchId,
             String status) {
-        List<FlowContextPO> pos = contextMapper.findByPositionWithBatchId(streamId, posId, batchId, status);
+        List<FlowContextPO> pos = this.flushedMapper().findByPositionWithBatchId(streamId, posId, batchId, status);
         return pos.stream().map(this::serializer).collect(Collectors.toList());
     }
 
     @Override
     public List<FlowContext<String>> findWithoutFlowDataByTraceId(String traceId) {
-        return contextMapper.findWithoutFlowDataByTraceId(traceId)
+        return this.flushedMapper().findWithoutFlowDataByTraceId(traceId)
                 .stream()
                 .map(this::serializerAsString)
                 .collect(Collectors.toList());
@@ -147,7 +172,7 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
         if (!Optional.ofNullable(trace).isPresent() || CollectionUtils.isEmpty(trace.getContextPool())) {
             return new ArrayList<>();
         }
-        List<FlowContextPO> pos = contextMapper.findByContextIdList(new ArrayList<>(trace.getContextPool()));
+        List<FlowContextPO> pos = this.flushedMapper().findByContextIdList(new ArrayList<>(trace.getContextPool()));
         return pos.stream().map(this::serializerAsString).collect(Collectors.toList());
     }
 
@@ -157,7 +182,7 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
         if (!Optional.ofNullable(trace).isPresent() || CollectionUtils.isEmpty(trace.getContextPool())) {
             return new ArrayList<>();
         }
-        List<FlowContextPO> pos = contextMapper.findByContextIdList(new ArrayList<>(trace.getContextPool()));
+        List<FlowContextPO> pos = this.flushedMapper().findByContextIdList(new ArrayList<>(trace.getContextPool()));
         return pos.stream()
                 .filter(context -> status.equals(context.getStatus()))
                 .map(this::serializer)
@@ -169,16 +194,34 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
         if (flowContexts == null || flowContexts.size() == 0) {
             return;
         }
-        FlowContextPO flowContextPO = contextMapper.find(flowContexts.get(0).getId());
         List<FlowContextPO> flowContextPOS = flowContexts.stream().map(this::serializer).collect(Collectors.toList());
-        if (flowContextPO == null) {
-            contextMapper.batchCreate(flowContextPOS);
+        if (this.isNew(flowContexts.get(0).getId())) {
+            batchCreate(flowContextPOS);
         } else {
             batchUpdate(flowContextPOS);
         }
     }
 
+    private boolean isNew(String contextId) {
+        if (this.writeBuffer.isPendingCreate(contextId)) {
+            return false;
+        }
+        return this.flushedMapper().find(contextId) == null;
+    }
+
+    private void batchCreate(List<FlowContextPO> flowContextPOS) {
+        if (this.writeBuffer.isBuffering()) {
+            this.writeBuffer.create(flowContextPOS);
+            return;
+        }
+        contextMapper.batchCreate(flowContextPOS);
+    }
+
     private void batchUpdate(List<FlowContextPO> flowContextPOS) {
+        if (this.writeBuffer.isBuffering()) {
+            this.writeBuffer.update(FlowContextWriteOp.UPDATE, flowContextPOS);
+            return;
+        }
         contextMapper.batchUpdate(flowContextPOS);
     }
 
@@ -194,10 +237,9 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
             return;
         }
 
-        FlowContextPO flowContextPO = contextMapper.find(flowContexts.get(0).getId());
         List<FlowContextPO> flowContextPOS = flowContexts.stream().map(this::serializer).collect(Collectors.toList());
-        if (flowContextPO == null) {
-            contextMapper.batchCreate(flowContextPOS);
+        if (this.isNew(flowContexts.get(0).getId())) {
+            batchCreate(flowContextPOS);
         } else {
             batchUpdate(flowContextPOS);
         }
@@ -210,7 +252,12 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
 
     @Override
     public void updateToSent(List<FlowContext<FlowData>> contexts) {
-        contextMapper.updateToSent(contexts.stream().map(IdGenerator::getId).collect(Collectors.toList()));
+        List<String> ids = contexts.stream().map(IdGenerator::getId).collect(Collectors.toList());
+        if (this.writeBuffer.isBuffering()) {
+            this.writeBuffer.toSent(ids);
+            return;
+        }
+        contextMapper.updateToSent(ids);
     }
 
     @Override
@@ -221,12 +268,16 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
     @Override
     public void updateFlowDataAndToBatch(List<FlowContext<FlowData>> contexts) {
         List<FlowContextPO> flowContextPOS = contexts.stream().map(this::serializer).collect(Collectors.toList());
+        if (this.writeBuffer.isBuffering()) {
+            this.writeBuffer.update(FlowContextWriteOp.FLOW_DATA_AND_TO_BATCH, flowContextPOS);
+            return;
+        }
         this.contextMapper.updateFlowDataAndToBatch(flowContextPOS);
     }
 
     @Override
     public void updateFlowData(Map<String, FlowData> flowDataList) {
-        this.contextMapper.updateFlowData(flowDataList.entrySet()
+        this.flushedMapper().updateFlowData(flowDataList.entrySet()
                 .stream()
                 .collect(Collectors.toMap(Map.Entry<String, FlowData>::getKey,
                         entry -> entry.getValue().translateToJson())));
@@ -237,8 +288,13 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
         List<String> ids = contexts.stream().map(IdGenerator::getId).collect(Collectors.toList());
         LocalDateTime updateAt = LocalDateTime.now();
         LocalDateTime archivedAt = status.equals(FlowNodeStatus.ARCHIVED.toString()) ? updateAt : null;
-        contextMapper.updateStatusAndPosition(ids, new FlowContextUpdateInfo(status, position, updateAt, archivedAt),
-                CONTEXT_EXCLUSIVE_STATUS_MAP.get(status));
+        FlowContextUpdateInfo updateInfo = new FlowContextUpdateInfo(status, position, updateAt, archivedAt);
+        if (this.writeBuffer.isBuffering()) {
+            this.writeBuffer.updateStatus(FlowContextWriteOp.STATUS_POSITION, ids, updateInfo,
+                    CONTEXT_EXCLUSIVE_STATUS_MAP.get(status));
+            return;
+        }
+        contextMapper.updateStatusAndPosition(ids, updateInfo, CONTEXT_EXCLUSIVE_STATUS_MAP.get(status));
     }
 
     @Override
@@ -246,7 +302,7 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
         List<FlowContext<String>> contexts = getContextsByTrace(traceIds.get(0));
         List<String> ids = contexts.stream().map(IdGenerator::getId).collect(Collectors.toList());
         String status = FlowTraceStatus.TERMINATE.toString();
-        contextMapper.updateStatusAndPosition(ids,
+        this.flushedMapper().updateStatusAndPosition(ids,
                 new FlowContextUpdateInfo(status, contexts.get(0).getPosition(), LocalDateTime.now(), null),
                 CONTEXT_EXCLUSIVE_STATUS_MAP.get(status));
 
@@ -267,7 +323,7 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
 
     @Override
     public FlowContext<FlowData> getById(String id) {
-        return Optional.ofNullable(contextMapper.find(id)).map(this::serializer).orElseThrow(() -> {
+        return Optional.ofNullable(this.flushedMapper().find(id)).map(this::serializer).orElseThrow(() -> {
             log.error("Cannot find flow context by ID {}.", id);
             return new WaterflowException(ENTITY_NOT_FOUND, "FlowContext", id);
         });
@@ -278,13 +334,13 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
         if (toBatchIds.isEmpty()) {
             return new ArrayList<>();
         }
-        List<FlowContextPO> pos = contextMapper.findByToBatch(toBatchIds);
+        List<FlowContextPO> pos = this.flushedMapper().findByToBatch(toBatchIds);
         return pos.stream().map(this::serializer).collect(Collectors.toList());
     }
 
     @Override
     public List<FlowContext<FlowData>> getPendingAndSentByIds(List<String> ids) {
-        return contextMapper.findByContextIdList(ids)
+        return this.flushedMapper().findByContextIdList(ids)
                 .stream()
                 .filter(p -> p.getStatus().equals(FlowNodeStatus.PENDING.toString()))
                 .filter(FlowContextPO::isSent)
@@ -294,14 +350,18 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
 
     @Override
     public List<FlowContext<FlowData>> getByIds(List<String> ids) {
-        return contextMapper.findByContextIdList(ids).stream().map(this::serializer).collect(Collectors.toList());
+        return this.flushedMapper()
+                .findByContextIdList(ids)
+                .stream()
+                .map(this::serializer)
+                .collect(Collectors.toList());
     }
 
     @Override
     public List<FlowContext<FlowData>> requestMappingContext(String streamId, List<String> subscriptions,
             Filter<FlowData> filter, Validator<FlowData> validator) {
         List<String> traces = this.traceOwnerService.getTraces();
-        List<FlowContextPO> pos = contextMapper.findBySubscriptions(streamId, subscriptions,
+        List<FlowContextPO> pos = this.flushedMapper().findBySubscriptions(streamId, subscriptions,
                 FlowNodeStatus.PENDING.toString(), traces);
         List<FlowContext<FlowData>> all = pos.stream().map(this::serializer).collect(Collectors.toList());
         List<FlowContext<FlowData>> filters = filter.process(all);
@@ -318,10 +378,11 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
             return Collections.emptyList();
         }
         if (useLimit) {
-            pos = contextMapper.findSomeBySubscriptions(streamId, subscriptions, FlowNodeStatus.PENDING.toString(),
-                    traces, defaultLimitation);
+            pos = this.flushedMapper().findSomeBySubscriptions(streamId, subscriptions,
+                    FlowNodeStatus.PENDING.toString(), traces, defaultLimitation);
         } else {
-            pos = contextMapper.findBySubscriptions(streamId, subscriptions, FlowNodeStatus.PENDING.toString(), traces);
+            pos = this.flushedMapper().findBySubscriptions(streamId, subscriptions,
+                    FlowNodeStatus.PENDING.toString(), traces);
         }
         List<FlowContext<FlowData>> result =
                 filter.process(pos.stream().map(this::serializer).collect(Collectors.toList()));
@@ -335,20 +396,20 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
     @Override
     public List<FlowContext<FlowData>> findByStreamId(String metaId, String version) {
         String streamId = metaId + STREAM_ID_SEPARATOR + version;
-        List<FlowContextPO> flowContextPOs = contextMapper.findByStreamId(streamId);
+        List<FlowContextPO> flowContextPOs = this.flushedMapper().findByStreamId(streamId);
         return flowContextPOs.stream().map(this::serializer).collect(Collectors.toList());
     }
 
     @Override
     public Integer findRunningContextCountByMetaId(String metaId, String version) {
         String streamId = metaId + STREAM_ID_SEPARATOR + version;
-        return contextMapper.findRunningContextCountByMetaId(streamId);
+        return this.flushedMapper().findRunningContextCountByMetaId(streamId);
     }
 
     @Override
     public void delete(String metaId, String version) {
         String streamId = StringUtils.join(STREAM_ID_SEPARATOR, metaId, version);
-        contextMapper.delete(streamId);
+        this.flushedMapper().delete(streamId);
         traceRepo.delete(streamId);
     }
 
@@ -425,7 +486,7 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
             .transId(context.getTrans().getId())
             .rootId(context.getRootId())
             .streamId(context.getStreamId())
-            .flowData(context.getData().translateToJson())
+            .flowData(this.flowDataCodec.encode(context.getData(), context.getTrans().getId()))
             .positionId(context.getPosition())
             .status(context.getStatus().toString())
             .parallel(context.getParallel())
@@ -452,8 +513,9 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
 
     private FlowContext<String> serializerAsString(FlowContextPO po) {
         Set<String> traceIds = convertTraceIds(po);
-        FlowContext<String> context = new FlowContext<>(po.getStreamId(), po.getRootId(), po.getFlowData(), traceIds,
-                po.getPositionId(), po.getParallel(), po.getParallelMode(), LocalDateTime.now());
+        FlowContext<String> context = new FlowContext<>(po.getStreamId(), po.getRootId(),
+                this.flowDataCodec.toJson(po.getFlowData(), po.getTransId()), traceIds, po.getPositionId(),
+                po.getParallel(), po.getParallelMode(), LocalDateTime.now());
         convertOthers(po, context);
         return context;
     }
@@ -480,7 +542,7 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
     }
 
     private FlowData getFlowData(FlowContextPO po) {
-        FlowData flowData = FlowData.parseFromJson(po.getFlowData());
+        FlowData flowData = this.flowDataCodec.decode(po.getFlowData(), po.getTransId());
         flowData.setPassData(ObjectUtils.cast(flowData.getBusinessData().get(PASS_DATA)));
         flowData.getBusinessData().remove(PASS_DATA);
         return flowData;
@@ -493,17 +555,17 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
      * @param status status
      */
     public void updateStatus(List<String> contextId, FlowNodeStatus status) {
-        contextMapper.updateStatus(contextId, status);
+        this.flushedMapper().updateStatus(contextId, status);
     }
 
     @Override
     public List<FlowContext<FlowData>> findByTraceId(String traceId) {
-        return contextMapper.findByTraceId(traceId).stream().map(this::serializer).collect(Collectors.toList());
+        return this.flushedMapper().findByTraceId(traceId).stream().map(this::serializer).collect(Collectors.toList());
     }
 
     @Override
     public List<FlowContext<FlowData>> findErrorContextsByTraceId(String traceId) {
-        return contextMapper.findErrorContextByTraceId(traceId)
+        return this.flushedMapper().findErrorContextByTraceId(traceId)
                 .stream()
                 .map(this::serializer)
                 .collect(Collectors.toList());
@@ -511,7 +573,7 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
 
     @Override
     public List<FlowContext<FlowData>> findErrorContextsByTransId(String transId) {
-        return contextMapper.findErrorContextByTransId(transId)
+        return this.flushedMapper().findErrorContextByTransId(transId)
                 .stream()
                 .map(this::serializer)
                 .collect(Collectors.toList());
@@ -524,7 +586,7 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
      * @return List<FlowContext < FlowData>>
      */
     public List<FlowContext<FlowData>> getRunningContextsByStreamIds(List<String> streamIds) {
-        return contextMapper.findRunningContextByStreamIds(streamIds).stream().map(c -> {
+        return this.flushedMapper().findRunningContextByStreamIds(streamIds).stream().map(c -> {
             try {
                 return this.serializer(c);
             } catch (Exception e) {
@@ -535,18 +597,18 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
 
     @Override
     public List<String> getRunningContextsIdByTransaction(String flowTransId) {
-        return contextMapper.getRunningContextsIdByTransaction(flowTransId);
+        return this.flushedMapper().getRunningContextsIdByTransaction(flowTransId);
     }
 
     @Override
     public List<String> getRunningContextsIdByTraceId(String traceId) {
-        return contextMapper.getRunningContextsIdByTraceId(traceId);
+        return this.flushedMapper().getRunningContextsIdByTraceId(traceId);
     }
 
     @Override
     public List<FlowContext<FlowData>> findFinishedContextsPagedByTransId(String flowTransId, String endNode,
             Integer pageNum, Integer limit) {
-        return contextMapper.findFinishedContextsPagedByTransId(flowTransId, endNode, pageNum, limit)
+        return this.flushedMapper().findFinishedContextsPagedByTransId(flowTransId, endNode, pageNum, limit)
                 .stream()
                 .map(this::serializer)
                 .collect(Collectors.toList());
@@ -555,7 +617,7 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
     @Override
     public List<FlowContext<FlowData>> getEndContextsPagedByTransId(String flowTransId, String endNode, Integer pageNum,
             Integer limit) {
-        return contextMapper.findEndContextsPagedByTransId(flowTransId, endNode, pageNum, limit)
+        return this.flushedMapper().findEndContextsPagedByTransId(flowTransId, endNode, pageNum, limit)
                 .stream()
                 .map(this::serializer)
                 .collect(Collectors.toList());
@@ -564,7 +626,7 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
     @Override
     public List<FlowContext<FlowData>> getErrorContextsPagedByTransId(String flowTransId, Integer pageNum,
             Integer limit) {
-        return contextMapper.findErrorContextsPagedByTransId(flowTransId, pageNum, limit)
+        return this.flushedMapper().findErrorContextsPagedByTransId(flowTransId, pageNum, limit)
                 .stream()
                 .map(this::serializer)
                 .collect(Collectors.toList());
@@ -572,38 +634,39 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
 
     @Override
     public String getStreamIdByTransId(String flowTransId) {
-        return contextMapper.getStreamIdByTransId(flowTransId);
+        return this.flushedMapper().getStreamIdByTransId(flowTransId);
     }
 
     @Override
     public int findFinishedPageNumByTransId(String flowTransId, String endNode) {
-        return contextMapper.findFinishedPageNumByTransId(flowTransId, endNode);
+        return this.flushedMapper().findFinishedPageNumByTransId(flowTransId, endNode);
     }
 
     @Override
     public int findEndContextsPageNumByTransId(String flowTransId, String endNode) {
-        return contextMapper.findEndContextsNumByTransId(flowTransId, endNode);
+        return this.flushedMapper().findEndContextsNumByTransId(flowTransId, endNode);
     }
 
     @Override
     public int findErrorContextsPageNumByTransId(String flowTransId) {
-        return contextMapper.findErrorContextsNumByTransId(flowTransId);
+        return this.flushedMapper().findErrorContextsNumByTransId(flowTransId);
     }
 
     @Override
     public List<String> getTraceByTransId(String transId) {
-        return contextMapper.getTraceByTransId(transId);
+        return this.flushedMapper().getTraceByTransId(transId);
     }
 
     @Override
     public void deleteByTransId(String transId) {
-        contextMapper.deleteByTransId(transId);
+        this.flushedMapper().deleteByTransId(transId);
+        this.contextMapper.deleteUnusedFlowDataBlobs(Collections.singletonList(transId));
     }
 
     @Override
     public List<FlowContext<FlowData>> findFinishedContextsPagedByTraceId(String traceId, String endNode,
             Integer pageNum, Integer limit) {
-        return contextMapper.findFinishedContextsPagedByTraceId(traceId, endNode, pageNum, limit)
+        return this.flushedMapper().findFinishedContextsPagedByTraceId(traceId, endNode, pageNum, limit)
                 .stream()
                 .map(this::serializer)
                 .collect(Collectors.toList());
@@ -612,7 +675,7 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
     @Override
     public List<FlowContext<FlowData>> getEndContextsPagedByTraceId(String traceId, String endNode, Integer pageNum,
             Integer limit) {
-        return contextMapper.findEndContextsPagedByTraceId(traceId, endNode, pageNum, limit)
+        return this.flushedMapper().findEndContextsPagedByTraceId(traceId, endNode, pageNum, limit)
                 .stream()
                 .map(this::serializer)
                 .collect(Collectors.toList());
@@ -620,7 +683,7 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
 
     @Override
     public List<FlowContext<FlowData>> getErrorContextsPagedByTraceId(String traceId, Integer pageNum, Integer limit) {
-        return contextMapper.findErrorContextsPagedByTraceId(traceId, pageNum, limit)
+        return this.flushedMapper().findErrorContextsPagedByTraceId(traceId, pageNum, limit)
                 .stream()
                 .map(this::serializer)
                 .collect(Collectors.toList());
@@ -628,22 +691,22 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
 
     @Override
     public int findFinishedPageNumByTraceId(String traceId, String endNode) {
-        return contextMapper.findFinishedPageNumByTraceId(traceId, endNode);
+        return this.flushedMapper().findFinishedPageNumByTraceId(traceId, endNode);
     }
 
     @Override
     public int findEndContextsPageNumByTraceId(String traceId, String endNode) {
-        return contextMapper.findEndContextsNumByTraceId(traceId, endNode);
+        return this.flushedMapper().findEndContextsNumByTraceId(traceId, endNode);
     }
 
     @Override
     public int findErrorContextsPageNumByTraceId(String traceId) {
-        return contextMapper.findErrorContextsNumByTraceId(traceId);
+        return this.flushedMapper().findErrorContextsNumByTraceId(traceId);
     }
 
     @Override
     public List<FlowContext<FlowData>> getRunningContextsByTraceId(String traceId) {
-        return contextMapper.getRunningContextsByTraceId(traceId)
+        return this.flushedMapper().getRunningContextsByTraceId(traceId)
                 .stream()
                 .map(this::serializer)
                 .collect(Collectors.toList());
@@ -656,17 +719,17 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
 
     @Override
     public void deleteByContextIds(List<String> contextIds) {
-        contextMapper.deleteByContextIds(contextIds);
+        this.flushedMapper().deleteByContextIds(contextIds);
     }
 
     @Override
     public List<String> findTraceIdsByContextIds(List<String> contextIds) {
-        return contextMapper.findTraceIdsByContextIds(contextIds);
+        return this.flushedMapper().findTraceIdsByContextIds(contextIds);
     }
 
     @Override
     public List<FlowContext<FlowData>> findFinishedContextsByTransId(String flowTransId, String endNode) {
-        return contextMapper.findFinishedContextsByTransId(flowTransId, endNode)
+        return this.flushedMapper().findFinishedContextsByTransId(flowTransId, endNode)
                 .stream()
                 .map(this::serializer)
                 .collect(Collectors.toList());
@@ -674,7 +737,7 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
 
     @Override
     public List<FlowContext<FlowData>> findFinishedContextsByTraceId(String flowTraceId, String endNode) {
-        return contextMapper.findFinishedContextsByTraceId(flowTraceId, endNode)
+        return this.flushedMapper().findFinishedContextsByTraceId(flowTraceId, endNode)
                 .stream()
                 .map(this::serializer)
                 .collect(Collectors.toList());
@@ -691,9 +754,13 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
         LocalDateTime updateAt = LocalDateTime.now();
         LocalDateTime archivedAt = status.equals(FlowNodeStatus.ARCHIVED.toString()) ? updateAt : null;
 
-        contextMapper.updateProcessStatus(ids,
-                new FlowContextUpdateInfo(toBatch, status, position, updateAt, archivedAt),
-                CONTEXT_EXCLUSIVE_STATUS_MAP.get(status));
+        FlowContextUpdateInfo updateInfo = new FlowContextUpdateInfo(toBatch, status, position, updateAt, archivedAt);
+        if (this.writeBuffer.isBuffering()) {
+            this.writeBuffer.updateStatus(FlowContextWriteOp.PROCESS_STATUS, ids, updateInfo,
+                    CONTEXT_EXCLUSIVE_STATUS_MAP.get(status));
+            return;
+        }
+        contextMapper.updateProcessStatus(ids, updateInfo, CONTEXT_EXCLUSIVE_STATUS_MAP.get(status));
     }
 
     @Override
@@ -701,7 +768,7 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
         if (toBatchIds.isEmpty()) {
             return new ArrayList<>();
         }
-        List<FlowContextPO> pos = contextMapper.findWithoutFlowDataByToBatch(toBatchIds);
+        List<FlowContextPO> pos = this.flushedMapper().findWithoutFlowDataByToBatch(toBatchIds);
         return pos.stream().map(this::serializerAsString).collect(Collectors.toList());
     }
 
@@ -710,7 +777,7 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
         if (statusList.isEmpty()) {
             return false;
         }
-        int count = contextMapper.findCountByStatus(statusList, traceId);
+        int count = this.flushedMapper().findCountByStatus(statusList, traceId);
         return count != 0;
     }
 
@@ -719,7 +786,7 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
         if (statusList.isEmpty()) {
             return false;
         }
-        int count = contextMapper.findCountNotInStatus(statusList, traceId);
+        int count = this.flushedMapper().findCountNotInStatus(statusList, traceId);
         return count == 0;
     }
 
@@ -728,13 +795,34 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
         if (statusList.isEmpty()) {
             return false;
         }
-        int count = contextMapper.findCountByStatusAtPosition(statusList, traceId, position);
+        int count = this.flushedMapper().findCountByStatusAtPosition(statusList, traceId, position);
         return count != 0;
     }
 
     @Override
     public String getTransIdByTrace(String traceId) {
-        return contextMapper.getTransIdByTrace(traceId);
+        return this.flushedMapper().getTransIdByTrace(traceId);
+    }
+
+    @Override
+    public Map<String, FlowTraceContextStatistics> getContextStatistics(List<String> traceIds,
+            List<String> runningStatusList) {
+        if (CollectionUtils.isEmpty(traceIds)) {
+            return new HashMap<>();
+        }
+        return this.flushedMapper()
+                .findContextStatisticsByTraceIds(traceIds, runningStatusList)
+                .stream()
+                .collect(Collectors.toMap(FlowTraceContextStatistics::getTraceId, Function.identity()));
+    }
+
+    @Override
+    public Set<String> getTraceIdsWithStatusAtPosition(List<String> statusList, List<String> traceIds,
+            String position) {
+        if (statusList.isEmpty() || CollectionUtils.isEmpty(traceIds)) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(this.flushedMapper().findTraceIdsByStatusAtPosition(statusList, traceIds, position));
     }
 
     @Override
@@ -742,6 +830,10 @@ public class FlowContextPersistRepo implements FlowContextRepo<FlowData> {
         if (CollectionUtils.isEmpty(traceIdList)) {
             return;
         }
-        contextMapper.deleteByTraceIdList(traceIdList);
+        List<String> transIds = this.flushedMapper().findTransIdsByTraceIdList(traceIdList);
+        this.contextMapper.deleteByTraceIdList(traceIdList);
+        if (!transIds.isEmpty()) {
+            this.contextMapper.deleteUnusedFlowDataBlobs(transIds);
+        }
     }
 }
@@ -13,13 +13,18 @@ import modelengine.fit.waterflow.flowsengine.domain.flows.context.FlowContext;
 import modelengine.fit.waterflow.flowsengine.domain.flows.context.FlowData;
 import modelengine.fit.waterflow.flowsengine.domain.flows.context.FlowRetry;
 import modelengine.fit.waterflow.flowsengine.domain.flows.context.FlowTrace;
+import modelengine.fit.waterflow.flowsengine.domain.flows.enums.FlowNodeStatus;
 import modelengine.fit.waterflow.flowsengine.domain.flows.streams.Processors.Filter;
 import modelengine.fit.waterflow.flowsengine.domain.flows.streams.Processors.Validator;
+import modelengine.fit.waterflow.flowsengine.persist.entity.FlowTraceContextStatistics;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 流程上下文持久化Repo核心类型
@@ -91,6 +96,16 @@ public interface FlowContextRepo<T> {
         save(contexts);
     }
 
+    /**
+     * 在同一个写入批次中执行操作，批次内对context的新增和更新会被合并，在批次结束时统一提交
+     * 默认直接执行，不做合并
+     *
+     * @param action 待执行的操作
+     */
+    default void batch(Runnable action) {
+        action.run();
+    }
+
     /**
      * updateToSent
      *
@@ -672,6 +687,52 @@ public interface FlowContextRepo<T> {
      */
     String getTransIdByTrace(String traceId);
 
+    /**
+     * 批量统计trace下context的状态，没有context的trace不返回
+     * 默认逐个trace查询，支持的仓库应通过聚合查询一次完成
+     *
+     * @param traceIds trace id列表
+     * @param runningStatusList 运行中的状态列表
+     * @return trace id与统计结果的对应关系
+     */
+    default Map<String, FlowTraceContextStatistics> getContextStatistics(List<String> traceIds,
+            List<String> runningStatusList) {
+        Map<String, FlowTraceContextStatistics> result = new HashMap<>();
+        List<String> archived = Collections.singletonList(FlowNodeStatus.ARCHIVED.name());
+        traceIds.forEach(traceId -> {
+            String transId = this.getTransIdByTrace(traceId);
+            if (transId == null || transId.isEmpty()) {
+                return;
+            }
+            result.put(traceId, FlowTraceContextStatistics.builder()
+                    .traceId(traceId)
+                    .transId(transId)
+                    .terminateCount(this.hasContextWithStatus(
+                            Collections.singletonList(FlowNodeStatus.TERMINATE.name()), traceId) ? 1 : 0)
+                    .runningCount(this.hasContextWithStatus(runningStatusList, traceId) ? 1 : 0)
+                    .notArchivedCount(this.isAllContextStatus(archived, traceId) ? 0 : 1)
+                    .errorCount(this.hasContextWithStatus(
+                            Collections.singletonList(FlowNodeStatus.ERROR.name()), traceId) ? 1 : 0)
+                    .build());
+        });
+        return result;
+    }
+
+    /**
+     * 批量查询在某个节点至少含有一个符合状态的context的trace
+     *
+     * @param statusList 状态列表
+     * @param traceIds trace id列表
+     * @param position 位置
+     * @return 符合条件的trace id集合
+     */
+    default Set<String> getTraceIdsWithStatusAtPosition(List<String> statusList, List<String> traceIds,
+            String position) {
+        return traceIds.stream()
+                .filter(traceId -> this.hasContextWithStatusAtPosition(statusList, traceId, position))
+                .collect(Collectors.toSet());
+    }
+
     /**
      * 根据链路唯一标识列表删除对应的上下文数据。
      *
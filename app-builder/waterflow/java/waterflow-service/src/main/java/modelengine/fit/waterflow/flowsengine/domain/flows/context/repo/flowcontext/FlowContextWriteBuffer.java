@@ -0,0 +1,232 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.flowsengine.domain.flows.context.repo.flowcontext;
+
+import modelengine.fit.waterflow.flowsengine.persist.entity.FlowContextUpdateInfo;
+import modelengine.fit.waterflow.flowsengine.persist.entity.FlowContextWriteOp;
+import modelengine.fit.waterflow.flowsengine.persist.mapper.FlowContextMapper;
+import modelengine.fit.waterflow.flowsengine.persist.po.FlowContextPO;
+import modelengine.fitframework.log.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link FlowContextMapper}前的写合并缓冲
+ * 在{@link #run(Runnable)}的写入批次内，对flow context的新增、内容、状态、位置的更新先缓存在当前线程：
+ * 对本批次新增的context的后续更新直接合并到待新增的数据中，相同参数的连续更新合并为一条多行语句；
+ * 批次结束（提交）、批次内发生读取或待写操作超过上限时，所有写操作通过{@link FlowContextMapper#flushWrites(List)}
+ * 在一次数据库往返中按顺序执行。不在批次内时直接透传给mapper
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+public class FlowContextWriteBuffer {
+    private static final Logger log = Logger.get(FlowContextWriteBuffer.class);
+
+    private static final int MAX_PENDING_OPS = 64;
+
+    private final FlowContextMapper contextMapper;
+
+    private final ThreadLocal<Batch> current = new ThreadLocal<>();
+
+    public FlowContextWriteBuffer(FlowContextMapper contextMapper) {
+        this.contextMapper = contextMapper;
+    }
+
+    /**
+     * 在一个写入批次中执行操作，批次嵌套时由最外层批次在结束时提交
+     *
+     * @param action 待执行的操作
+     */
+    public void run(Runnable action) {
+        if (this.current.get() != null) {
+            action.run();
+            return;
+        }
+        Batch batch = new Batch();
+        this.current.set(batch);
+        boolean isCompleted = false;
+        try {
+            action.run();
+            isCompleted = true;
+        } finally {
+            this.current.remove();
+            this.flush(batch, isCompleted);
+        }
+    }
+
+    /**
+     * 当前线程是否在写入批次中
+     *
+     * @return 是否在写入批次中
+     */
+    public boolean isBuffering() {
+        return this.current.get() != null;
+    }
+
+    /**
+     * 判断context是否在当前批次中新增，尚未写入数据库
+     *
+     * @param contextId context的ID
+     * @return 是否在当前批次中新增
+     */
+    public boolean isPendingCreate(String contextId) {
+        Batch batch = this.current.get();
+        return batch != null && batch.creates.containsKey(contextId);
+    }
+
+    /**
+     * 立即提交当前批次中缓存的写操作，批次内读取数据前调用，保证读到本批次的写入
+     */
+    public void flush() {
+        Batch batch = this.current.get();
+        if (batch != null) {
+            this.flush(batch, true);
+        }
+    }
+
+    /**
+     * 缓存批量新增
+     *
+     * @param pos 待新增的context
+     */
+    public void create(List<FlowContextPO> pos) {
+        Batch batch = this.current.get();
+        pos.forEach(po -> batch.creates.put(po.getContextId(), po));
+    }
+
+    /**
+     * 缓存按context内容的更新，类型为{@link FlowContextWriteOp#UPDATE}或{@link FlowContextWriteOp#FLOW_DATA_AND_TO_BATCH}
+     *
+     * @param type 操作类型
+     * @param pos 待更新的context
+     */
+    public void update(String type, List<FlowContextPO> pos) {
+        Batch batch = this.current.get();
+        List<FlowContextPO> rest = new ArrayList<>();
+        pos.forEach(po -> {
+            FlowContextPO created = batch.creates.get(po.getContextId());
+            if (created == null) {
+                rest.add(po);
+                return;
+            }
+            created.setFlowData(po.getFlowData());
+            created.setToBatch(po.getToBatch());
+            if (FlowContextWriteOp.UPDATE.equals(type)) {
+                created.setJoined(po.isJoined());
+                created.setParallel(po.getParallel());
+                created.setParallelMode(po.getParallelMode());
+                created.setPrevious(po.getPrevious());
+                created.setBatchId(po.getBatchId());
+            }
+        });
+        if (!rest.isEmpty()) {
+            this.append(batch, FlowContextWriteOp.ofContexts(type, rest));
+        }
+    }
+
+    /**
+     * 缓存标记为已发送的更新
+     *
+     * @param ids context的ID
+     */
+    public void toSent(List<String> ids) {
+        Batch batch = this.current.get();
+        List<String> rest = ids.stream().filter(id -> {
+            FlowContextPO created = batch.creates.get(id);
+            if (created == null) {
+                return true;
+            }
+            created.setSent(true);
+            return false;
+        }).collect(Collectors.toList());
+        if (!rest.isEmpty()) {
+            this.append(batch, FlowContextWriteOp.toSent(rest));
+        }
+    }
+
+    /**
+     * 缓存状态更新，类型为{@link FlowContextWriteOp#STATUS_POSITION}或{@link FlowContextWriteOp#PROCESS_STATUS}
+     *
+     * @param type 操作类型
+     * @param ids context的ID
+     * @param updateInfo 更新信息
+     * @param exclusiveStatus 不允许被覆盖的状态
+     */
+    public void updateStatus(String type, List<String> ids, FlowContextUpdateInfo updateInfo,
+            List<String> exclusiveStatus) {
+        Batch batch = this.current.get();
+        List<String> rest = ids.stream().filter(id -> {
+            FlowContextPO created = batch.creates.get(id);
+            if (created == null) {
+                return true;
+            }
+            if (!exclusiveStatus.contains(created.getStatus())) {
+                created.setStatus(updateInfo.getStatus());
+                if (updateInfo.getPosition() != null) {
+                    created.setPositionId(updateInfo.getPosition());
+                }
+                if (FlowContextWriteOp.PROCESS_STATUS.equals(type)) {
+                    created.setToBatch(updateInfo.getToBatch());
+                }
+                created.setUpdateAt(updateInfo.getUpdateAt());
+                created.setArchivedAt(updateInfo.getArchivedAt());
+            }
+            return false;
+        }).collect(Collectors.toList());
+        if (!rest.isEmpty()) {
+            this.append(batch, FlowContextWriteOp.ofStatus(type, rest, updateInfo, exclusiveStatus));
+        }
+    }
+
+    private void append(Batch batch, FlowContextWriteOp op) {
+        if (!batch.ops.isEmpty()) {
+            FlowContextWriteOp last = batch.ops.get(batch.ops.size() - 1);
+            if (last.canMerge(op)) {
+                last.merge(op);
+                return;
+            }
+        }
+        batch.ops.add(op);
+        if (batch.ops.size() >= MAX_PENDING_OPS) {
+            this.flush(batch, true);
+        }
+    }
+
+    private void flush(Batch batch, boolean shouldThrow) {
+        List<FlowContextWriteOp> ops = new ArrayList<>();
+        if (!batch.creates.isEmpty()) {
+            ops.add(FlowContextWriteOp.ofContexts(FlowContextWriteOp.CREATE, new ArrayList<>(batch.creates.values())));
+        }
+        ops.addAll(batch.ops);
+        batch.creates.clear();
+        batch.ops.clear();
+        if (ops.isEmpty()) {
+            return;
+        }
+        try {
+            this.contextMapper.flushWrites(ops);
+        } catch (RuntimeException ex) {
+            if (shouldThrow) {
+                throw ex;
+            }
+            // 批次内的操作已经抛出异常，提交失败只记录日志，避免覆盖原始异常
+            log.error("Flush flow context writes failed after batch exception, errors: {}", ex.getMessage());
+            log.error("Flush flow context writes failed details: ", ex);
+        }
+    }
+
+    private static class Batch {
+        private final Map<String, FlowContextPO> creates = new LinkedHashMap<>();
+
+        private final List<FlowContextWriteOp> ops = new ArrayList<>();
+    }
+}
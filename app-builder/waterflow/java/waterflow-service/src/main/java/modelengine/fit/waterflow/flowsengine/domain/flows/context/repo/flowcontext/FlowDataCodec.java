@@ -0,0 +1,322 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.flowsengine.domain.flows.context.repo.flowcontext;
+
+import static modelengine.fit.waterflow.ErrorCodes.ENTITY_NOT_FOUND;
+import static modelengine.fit.waterflow.ErrorCodes.FLOW_SYSTEM_ERROR;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONObject;
+import com.alibaba.fastjson.serializer.SerializerFeature;
+
+import modelengine.fit.waterflow.common.utils.ByteArraySerialiseUtilV1;
+import modelengine.fit.waterflow.exceptions.WaterflowException;
+import modelengine.fit.waterflow.flowsengine.domain.flows.context.FlowData;
+import modelengine.fit.waterflow.flowsengine.domain.flows.enums.FlowDataFormat;
+import modelengine.fit.waterflow.flowsengine.persist.mapper.FlowContextMapper;
+import modelengine.fit.waterflow.flowsengine.persist.po.FlowDataBlobPO;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * flow context中flow data的存储编解码
+ * JSON格式与原有格式一致；COMPACT格式保存为带版本号的JSON包装，flow data压缩后base64编码，
+ * 超过阈值的业务数据按内容摘要存储在flow_data_blob表中，同一trans中未变化的数据只写入一次，context中只保存摘要。
+ * 读取时根据版本号区分格式，原有JSON格式的数据始终可以读取
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+public class FlowDataCodec {
+    /**
+     * COMPACT格式中标识版本号的key，原有的flow data中不存在该字段
+     */
+    public static final String VERSION_KEY = "flowDataVersion";
+
+    private static final Logger log = Logger.get(FlowDataCodec.class);
+
+    private static final int COMPACT_VERSION = 2;
+
+    private static final String ENCODING_KEY = "encoding";
+
+    private static final String PAYLOAD_KEY = "payload";
+
+    private static final String REFS_KEY = "refs";
+
+    private static final String GZIP = "gzip";
+
+    private static final String BUSINESS_DATA_KEY = "businessData";
+
+    private static final int DEFAULT_BLOB_THRESHOLD = 4096;
+
+    private static final int MAX_SAVED_BLOBS = 4096;
+
+    private static final long MAX_CACHED_BLOB_CHARS = 32L * 1024 * 1024;
+
+    private static volatile FlowDataFormat format = FlowDataFormat.JSON;
+
+    private static volatile int blobThreshold = DEFAULT_BLOB_THRESHOLD;
+
+    private final FlowContextMapper contextMapper;
+
+    private final BlobCache blobContents = new BlobCache(MAX_CACHED_BLOB_CHARS);
+
+    private final Set<String> savedBlobs = Collections.newSetFromMap(Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return this.size() > MAX_SAVED_BLOBS;
+        }
+    }));
+
+    public FlowDataCodec(FlowContextMapper contextMapper) {
+        this.contextMapper = contextMapper;
+    }
+
+    /**
+     * 设置写入时使用的存储格式，读取时两种格式都支持
+     *
+     * @param dataFormat 存储格式
+     * @param threshold 业务数据单独存储的最小长度
+     */
+    public static void configure(FlowDataFormat dataFormat, int threshold) {
+        format = dataFormat == null ? FlowDataFormat.JSON : dataFormat;
+        if (threshold <= 0) {
+            log.warn("Invalid flow data blob threshold {}, use default {}.", threshold, DEFAULT_BLOB_THRESHOLD);
+            blobThreshold = DEFAULT_BLOB_THRESHOLD;
+            return;
+        }
+        blobThreshold = threshold;
+    }
+
+    /**
+     * 获取写入时使用的存储格式
+     *
+     * @return 存储格式
+     */
+    public static FlowDataFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * 编码flow data，COMPACT格式时先保存尚未写入的业务数据
+     *
+     * @param data flow data
+     * @param transId context所属的trans id，业务数据按trans存储和清理
+     * @return 保存到flow_data字段的字符串
+     */
+    public String encode(FlowData data, String transId) {
+        if (format == FlowDataFormat.JSON || StringUtils.isBlank(transId) || data.getBusinessData() == null) {
+            return data.translateToJson();
+        }
+        Map<String, Object> inline = new LinkedHashMap<>();
+        JSONObject refs = new JSONObject();
+        List<FlowDataBlobPO> blobs = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<String, Object> entry : data.getBusinessData().entrySet()) {
+            String json = JSONObject.toJSONString(entry.getValue(), ByteArraySerialiseUtilV1.getSerializeConfig(),
+                    SerializerFeature.DisableCircularReferenceDetect);
+            if (json.length() < blobThreshold) {
+                inline.put(entry.getKey(), entry.getValue());
+                continue;
+            }
+            String hash = digest(json);
+            refs.put(entry.getKey(), hash);
+            this.blobContents.put(hash, json);
+            if (!this.savedBlobs.contains(blobKey(transId, hash))) {
+                blobs.add(FlowDataBlobPO.builder().transId(transId).hash(hash).content(compress(json)).createAt(now)
+                        .build());
+            }
+        }
+        if (!blobs.isEmpty()) {
+            this.contextMapper.createFlowDataBlobs(blobs);
+            blobs.forEach(blob -> this.savedBlobs.add(blobKey(transId, blob.getHash())));
+        }
+        FlowData stripped = FlowData.builder()
+                .operator(data.getOperator())
+                .startTime(data.getStartTime())
+                .businessData(inline)
+                .contextData(data.getContextData())
+                .errorMessage(data.getErrorMessage())
+                .errorInfo(data.getErrorInfo())
+                .build();
+        JSONObject stored = new JSONObject(true);
+        stored.put(VERSION_KEY, COMPACT_VERSION);
+        stored.put(ENCODING_KEY, GZIP);
+        stored.put(PAYLOAD_KEY, compress(stripped.translateToJson()));
+        stored.put(REFS_KEY, refs);
+        return stored.toJSONString();
+    }
+
+    /**
+     * 解码flow_data字段，兼容原有的JSON格式
+     *
+     * @param stored flow_data字段的值
+     * @param transId context所属的trans id
+     * @return flow data
+     */
+    public FlowData decode(String stored, String transId) {
+        return FlowData.parseFromJsonObject(this.toJsonObject(stored, transId));
+    }
+
+    /**
+     * 将flow_data字段转换为原有的JSON格式，用于直接对外返回flow data字符串的场景
+     *
+     * @param stored flow_data字段的值
+     * @param transId context所属的trans id
+     * @return 原有格式的JSON字符串
+     */
+    public String toJson(String stored, String transId) {
+        if (stored == null || !stored.contains(VERSION_KEY)) {
+            return stored;
+        }
+        JSONObject flowData = this.toJsonObject(stored, transId);
+        return JSONObject.toJSONString(flowData, ByteArraySerialiseUtilV1.getSerializeConfig(),
+                SerializerFeature.DisableCircularReferenceDetect);
+    }
+
+    private JSONObject toJsonObject(String stored, String transId) {
+        JSONObject json = JSONObject.parseObject(stored, JSONObject.class,
+                ByteArraySerialiseUtilV1.getMapParserConfig());
+        Integer version = json.getInteger(VERSION_KEY);
+        if (version == null) {
+            return json;
+        }
+        if (version != COMPACT_VERSION || !GZIP.equals(json.getString(ENCODING_KEY))) {
+            throw new WaterflowException(FLOW_SYSTEM_ERROR, "unsupported flow data version " + version);
+        }
+        JSONObject flowData = JSONObject.parseObject(decompress(json.getString(PAYLOAD_KEY)), JSONObject.class,
+                ByteArraySerialiseUtilV1.getMapParserConfig());
+        JSONObject refs = json.getJSONObject(REFS_KEY);
+        if (refs == null || refs.isEmpty()) {
+            return flowData;
+        }
+        Map<String, String> contents = this.getBlobContents(transId, refs.values());
+        JSONObject businessData = flowData.getJSONObject(BUSINESS_DATA_KEY);
+        if (businessData == null) {
+            businessData = new JSONObject();
+            flowData.put(BUSINESS_DATA_KEY, businessData);
+        }
+        for (Map.Entry<String, Object> ref : refs.entrySet()) {
+            String content = contents.get(String.valueOf(ref.getValue()));
+            if (content == null) {
+                throw new WaterflowException(ENTITY_NOT_FOUND, "FlowDataBlob", ref.getValue());
+            }
+            businessData.put(ref.getKey(), JSON.parse(content, ByteArraySerialiseUtilV1.getMapParserConfig()));
+        }
+        return flowData;
+    }
+
+    private Map<String, String> getBlobContents(String transId, Iterable<Object> hashes) {
+        Map<String, String> contents = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        hashes.forEach(value -> {
+            String hash = String.valueOf(value);
+            String content = this.blobContents.get(hash);
+            if (content == null) {
+                missing.add(hash);
+            } else {
+                contents.put(hash, content);
+            }
+        });
+        if (!missing.isEmpty()) {
+            this.contextMapper.findFlowDataBlobs(transId, missing).forEach(blob -> {
+                String content = decompress(blob.getContent());
+                this.blobContents.put(blob.getHash(), content);
+                this.savedBlobs.add(blobKey(transId, blob.getHash()));
+                contents.put(blob.getHash(), content);
+            });
+        }
+        return contents;
+    }
+
+    private static String blobKey(String transId, String hash) {
+        return transId + ":" + hash;
+    }
+
+    private static String digest(String content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder builder = new StringBuilder(hash.length * 2);
+            for (byte value : hash) {
+                builder.append(Character.forDigit((value >> 4) & 0xF, 16)).append(Character.forDigit(value & 0xF, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new WaterflowException(FLOW_SYSTEM_ERROR, ex.getMessage());
+        }
+    }
+
+    private static String compress(String content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException ex) {
+            throw new WaterflowException(FLOW_SYSTEM_ERROR, ex.getMessage());
+        }
+        return Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+
+    private static String decompress(String content) {
+        byte[] bytes = Base64.getDecoder().decode(content);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            throw new WaterflowException(FLOW_SYSTEM_ERROR, ex.getMessage());
+        }
+    }
+
+    /**
+     * 按内容总长度淘汰的业务数据缓存，最近最少使用的数据先被淘汰
+     */
+    private static class BlobCache {
+        private final Map<String, String> contents = new LinkedHashMap<>(16, 0.75f, true);
+
+        private final long capacity;
+
+        private long size = 0L;
+
+        private BlobCache(long capacity) {
+            this.capacity = capacity;
+        }
+
+        private synchronized String get(String hash) {
+            return this.contents.get(hash);
+        }
+
+        private synchronized void put(String hash, String content) {
+            if (content.length() > this.capacity) {
+                return;
+            }
+            String old = this.contents.put(hash, content);
+            this.size += content.length() - (old == null ? 0 : old.length());
+            Iterator<Map.Entry<String, String>> iterator = this.contents.entrySet().iterator();
+            while (this.size > this.capacity && iterator.hasNext()) {
+                this.size -= iterator.next().getValue().length();
+                iterator.remove();
+            }
+        }
+    }
+}
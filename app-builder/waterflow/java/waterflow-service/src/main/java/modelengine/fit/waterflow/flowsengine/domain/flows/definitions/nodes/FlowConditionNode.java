@@ -88,7 +88,7 @@ public class FlowConditionNode extends FlowNode {
 
         return (input) -> {
             String conditionRule = event.getConditionRule();
-            log.info("[flowEngines] stream {} condition node {} with rule {}", streamId, this.metaId, conditionRule);
+            log.debug("[flowEngines] stream {} condition node {} with rule {}", streamId, this.metaId, conditionRule);
             return OhScriptExecutor.evaluateConditionRule(input.getData(), conditionRule);
         };
     }
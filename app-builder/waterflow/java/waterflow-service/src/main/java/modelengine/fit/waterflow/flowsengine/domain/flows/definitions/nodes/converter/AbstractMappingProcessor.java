@@ -8,20 +8,14 @@ package modelengine.fit.waterflow.flowsengine.domain.flows.definitions.nodes.con
 
 import static modelengine.fit.waterflow.ErrorCodes.INPUT_PARAM_IS_INVALID;
 import static modelengine.fit.waterflow.ErrorCodes.NOT_SUPPORT;
-import static modelengine.fit.waterflow.common.Constant.BUSINESS_DATA_INTERNAL_KEY;
-import static modelengine.fit.waterflow.common.Constant.INTERNAL_OUTPUT_SCOPE_KEY;
 import static modelengine.fitframework.util.ObjectUtils.cast;
 
-
-import lombok.Getter;
 import modelengine.fit.waterflow.exceptions.WaterflowParamException;
 import modelengine.fitframework.log.Logger;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 
 /**
  * 映射处理的抽象类
@@ -32,44 +26,6 @@ import java.util.Optional;
 public abstract class AbstractMappingProcessor implements MappingProcessor {
     private static final Logger LOG = Logger.get(AbstractMappingProcessor.class);
 
-    private static Object getValueByPath(Map<String, Object> businessData, List<String> paths, String nodeMetaId,
-        boolean isFallbackOnNodeDataMiss) {
-        if (paths.isEmpty()) {
-            return null;
-        }
-        // 优先从节点scope下查找，找不到后再从businessData平级查找
-        Map<String, Object> internalMap = cast(
-                Optional.ofNullable(businessData.get(BUSINESS_DATA_INTERNAL_KEY)).orElse(new HashMap<>()));
-        Map<String, Object> outputScopeMap = cast(
-                Optional.ofNullable(internalMap.get(INTERNAL_OUTPUT_SCOPE_KEY)).orElse(new HashMap<>()));
-        Map<String, Object> nodeOutputMap = cast(
-                Optional.ofNullable(outputScopeMap.get(nodeMetaId)).orElse(new HashMap<>()));
-
-        ValueResult result = findValueByPath(nodeOutputMap, paths);
-        if (result.isFound()) {
-            return result.getValue();
-        }
-        // 兼容逻辑，如果没有从作用域空间找到，则尝试从businessData查找一次
-        if (!isFallbackOnNodeDataMiss) {
-            return null;
-        }
-        return findValueByPath(businessData, paths).getValue();
-    }
-
-    private static ValueResult findValueByPath(Map<String, Object> values, List<String> paths) {
-        Optional<String> v;
-        Object currentNode = values;
-        for (String path : paths) {
-            Map<String, Object> objectNode = cast(currentNode);
-            if (objectNode != null && objectNode.containsKey(path)) {
-                currentNode = objectNode.get(path);
-            } else {
-                return new ValueResult();
-            }
-        }
-        return new ValueResult(currentNode);
-    }
-
     @Override
     public Object generate(MappingNode mappingConfig, Map<String, Object> businessData) {
         if (MappingFromType.REFERENCE.equals(mappingConfig.getFrom())) {
@@ -108,33 +64,8 @@ public abstract class AbstractMappingProcessor implements MappingProcessor {
     }
 
     private Object generateReference(MappingNode mappingConfig, Map<String, Object> businessData) {
-        return getValueByPath(businessData, cast(mappingConfig.getValue()), mappingConfig.getReferenceNode(),
+        List<Object> paths = cast(mappingConfig.getValue());
+        return MappingAccessors.getValueByPath(businessData, paths.toArray(), mappingConfig.getReferenceNode(),
                 mappingConfig.isFallbackOnNodeDataMiss());
     }
-
-    /**
-     * value结果
-     *
-     * @author 夏斐
-     * @since 1.0
-     */
-    @Getter
-    private static class ValueResult {
-        private boolean isFound;
-
-        private Object value;
-
-        public ValueResult(boolean isFound, Object value) {
-            this.isFound = isFound;
-            this.value = value;
-        }
-
-        public ValueResult(Object value) {
-            this(true, value);
-        }
-
-        public ValueResult() {
-            this(false, null);
-        }
-    }
 }
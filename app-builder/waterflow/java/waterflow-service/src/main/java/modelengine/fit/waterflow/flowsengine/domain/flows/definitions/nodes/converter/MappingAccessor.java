@@ -0,0 +1,26 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.flowsengine.domain.flows.definitions.nodes.converter;
+
+import java.util.Map;
+
+/**
+ * 预编译的映射取值器，由{@link MappingAccessors#compile(MappingNode)}根据映射配置生成
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@FunctionalInterface
+public interface MappingAccessor {
+    /**
+     * 从源数据中生成映射结果
+     *
+     * @param businessData 源数据
+     * @return 生成的数据
+     */
+    Object get(Map<String, Object> businessData);
+}
@@ -0,0 +1,204 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.flowsengine.domain.flows.definitions.nodes.converter;
+
+import static modelengine.fit.waterflow.common.Constant.BUSINESS_DATA_INTERNAL_KEY;
+import static modelengine.fit.waterflow.common.Constant.INTERNAL_OUTPUT_SCOPE_KEY;
+import static modelengine.fitframework.util.ObjectUtils.cast;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 映射配置的预编译工具
+ * 每个节点的映射配置只编译一次，引用路径提前拆分为路径段，输入值提前完成类型转换，
+ * 执行时只按路径查找，未命中时不创建新的对象
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+public final class MappingAccessors {
+    private static final Object NOT_FOUND = new Object();
+
+    private MappingAccessors() {}
+
+    /**
+     * 编译一组映射配置，生成的取值器按配置顺序排列
+     *
+     * @param mappingConfigs 映射配置列表
+     * @return 取值器列表
+     */
+    public static List<MappingAccessor> compile(List<MappingNode> mappingConfigs) {
+        if (mappingConfigs == null) {
+            return Collections.emptyList();
+        }
+        List<MappingAccessor> accessors = new ArrayList<>(mappingConfigs.size());
+        mappingConfigs.forEach(mappingConfig -> accessors.add(compile(mappingConfig)));
+        return accessors;
+    }
+
+    /**
+     * 编译单个映射配置
+     * 无法在编译期确定结果的配置（包括非法配置）退化为每次执行时调用对应的{@link MappingProcessor}，
+     * 以保证错误在执行时按原有方式抛出
+     *
+     * @param mappingConfig 映射配置
+     * @return 取值器
+     */
+    public static MappingAccessor compile(MappingNode mappingConfig) {
+        MappingFromType from = mappingConfig.getFrom();
+        if (MappingFromType.REFERENCE.equals(from) && mappingConfig.getValue() instanceof List) {
+            List<Object> paths = cast(mappingConfig.getValue());
+            return new ReferenceAccessor(paths.toArray(), mappingConfig.getReferenceNode(),
+                    mappingConfig.isFallbackOnNodeDataMiss());
+        }
+        if (MappingFromType.INPUT.equals(from)) {
+            return compileInput(mappingConfig);
+        }
+        if (MappingFromType.EXPAND.equals(from) && mappingConfig.getValue() instanceof List) {
+            if (MappingNodeType.OBJECT.equals(mappingConfig.getType())) {
+                return new ObjectAccessor(mappingConfig.getValue());
+            }
+            if (MappingNodeType.ARRAY.equals(mappingConfig.getType())) {
+                return new ArrayAccessor(mappingConfig.getValue());
+            }
+        }
+        return businessData -> MappingProcessorFactory.get(mappingConfig).generate(mappingConfig, businessData);
+    }
+
+    /**
+     * 按路径查找引用的值，优先从节点scope下查找，找不到后再从businessData平级查找
+     *
+     * @param businessData 源数据
+     * @param paths 路径段
+     * @param nodeMetaId 引用节点的id
+     * @param isFallbackOnNodeDataMiss 节点scope下未找到时是否从businessData平级查找
+     * @return 找到的值，未找到时返回null
+     */
+    static Object getValueByPath(Map<String, Object> businessData, Object[] paths, String nodeMetaId,
+            boolean isFallbackOnNodeDataMiss) {
+        if (paths.length == 0) {
+            return null;
+        }
+        Object internal = businessData.get(BUSINESS_DATA_INTERNAL_KEY);
+        Object outputScope = internal instanceof Map ? ((Map<?, ?>) internal).get(INTERNAL_OUTPUT_SCOPE_KEY) : null;
+        Object nodeOutput = outputScope instanceof Map ? ((Map<?, ?>) outputScope).get(nodeMetaId) : null;
+        Object value = findValueByPath(nodeOutput, paths);
+        if (value != NOT_FOUND) {
+            return value;
+        }
+        // 兼容逻辑，如果没有从作用域空间找到，则尝试从businessData查找一次
+        if (!isFallbackOnNodeDataMiss) {
+            return null;
+        }
+        value = findValueByPath(businessData, paths);
+        return value == NOT_FOUND ? null : value;
+    }
+
+    private static Object findValueByPath(Object values, Object[] paths) {
+        Object currentNode = values;
+        for (Object path : paths) {
+            if (!(currentNode instanceof Map)) {
+                return NOT_FOUND;
+            }
+            Map<?, ?> objectNode = (Map<?, ?>) currentNode;
+            currentNode = objectNode.get(path);
+            if (currentNode == null && !objectNode.containsKey(path)) {
+                return NOT_FOUND;
+            }
+        }
+        return currentNode;
+    }
+
+    private static MappingAccessor compileInput(MappingNode mappingConfig) {
+        if (Objects.isNull(mappingConfig.getValue())) {
+            return businessData -> null;
+        }
+        Object value;
+        try {
+            value = MappingProcessorFactory.get(mappingConfig).generate(mappingConfig, Collections.emptyMap());
+        } catch (RuntimeException ex) {
+            return businessData -> MappingProcessorFactory.get(mappingConfig).generate(mappingConfig, businessData);
+        }
+        return businessData -> value;
+    }
+
+    private static List<MappingAccessor> compileChildren(Object value) {
+        List<MappingNode> children = cast(value);
+        return compile(children);
+    }
+
+    /**
+     * 引用类型的取值器
+     */
+    private static class ReferenceAccessor implements MappingAccessor {
+        private final Object[] paths;
+
+        private final String nodeMetaId;
+
+        private final boolean isFallbackOnNodeDataMiss;
+
+        ReferenceAccessor(Object[] paths, String nodeMetaId, boolean isFallbackOnNodeDataMiss) {
+            this.paths = paths;
+            this.nodeMetaId = nodeMetaId;
+            this.isFallbackOnNodeDataMiss = isFallbackOnNodeDataMiss;
+        }
+
+        @Override
+        public Object get(Map<String, Object> businessData) {
+            return getValueByPath(businessData, this.paths, this.nodeMetaId, this.isFallbackOnNodeDataMiss);
+        }
+    }
+
+    /**
+     * 展开为对象的取值器
+     */
+    private static class ObjectAccessor implements MappingAccessor {
+        private final String[] names;
+
+        private final MappingAccessor[] children;
+
+        ObjectAccessor(Object value) {
+            List<MappingNode> configs = cast(value);
+            this.names = configs.stream().map(MappingNode::getName).toArray(String[]::new);
+            this.children = compileChildren(value).toArray(new MappingAccessor[0]);
+        }
+
+        @Override
+        public Object get(Map<String, Object> businessData) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            for (int i = 0; i < this.children.length; i++) {
+                result.put(this.names[i], this.children[i].get(businessData));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 展开为列表的取值器
+     */
+    private static class ArrayAccessor implements MappingAccessor {
+        private final MappingAccessor[] children;
+
+        ArrayAccessor(Object value) {
+            this.children = compileChildren(value).toArray(new MappingAccessor[0]);
+        }
+
+        @Override
+        public Object get(Map<String, Object> businessData) {
+            List<Object> result = new ArrayList<>(this.children.length);
+            for (MappingAccessor child : this.children) {
+                result.add(child.get(businessData));
+            }
+            return result;
+        }
+    }
+}
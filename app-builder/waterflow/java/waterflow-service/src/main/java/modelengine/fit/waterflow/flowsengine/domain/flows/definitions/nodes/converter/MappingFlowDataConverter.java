@@ -13,6 +13,7 @@ import java.util.Map;
 
 /**
  * 基于映射关系的数据转换
+ * 输入映射配置在构造时预编译为{@link MappingAccessor}，执行时不再逐条分发到{@link MappingProcessor}
  *
  * @author 宋永坦
  * @since 2024/4/17
@@ -20,20 +21,22 @@ import java.util.Map;
 public class MappingFlowDataConverter implements FlowDataConverter {
     private final List<MappingNode> inputMappingConfig;
 
+    private final List<MappingAccessor> inputAccessors;
+
     private final String outputName;
 
     public MappingFlowDataConverter(List<MappingNode> inputMappingConfig, String outputName) {
         this.inputMappingConfig = inputMappingConfig;
+        this.inputAccessors = MappingAccessors.compile(inputMappingConfig);
         this.outputName = outputName;
     }
 
     @Override
     public Map<String, Object> convertInput(Map<String, Object> input) {
         Map<String, Object> result = new LinkedHashMap<>();
-        this.inputMappingConfig.forEach(mappingConfig -> {
-            result.put(mappingConfig.getName(),
-                    MappingProcessorFactory.get(mappingConfig).generate(mappingConfig, input));
-        });
+        for (int i = 0; i < this.inputAccessors.size(); i++) {
+            result.put(this.inputMappingConfig.get(i).getName(), this.inputAccessors.get(i).get(input));
+        }
         return result;
     }
 
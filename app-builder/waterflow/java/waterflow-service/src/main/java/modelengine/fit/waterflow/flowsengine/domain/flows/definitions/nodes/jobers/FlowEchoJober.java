@@ -30,14 +30,10 @@ public class FlowEchoJober extends FlowJober {
     private static final String SKIP_VARIABLES_SPLITTER = ",";
 
     @Override
-    protected Map<String, Object> modifyJoberConfig(FlowData flowData) {
-        return new HashMap<>();
-    }
-
-    @Override
-    protected List<FlowData> executeJober(List<FlowData> inputs) {
-        String echoSign = this.properties.getOrDefault(FlowJoberProperties.ECHO_PREFIX.getValue(), DEFAULT_ECHO_PREFIX);
-        String skipVariableRaw = this.properties.getOrDefault(FlowJoberProperties.SKIP_VARIABLES.getValue(),
+    protected List<FlowData> executeJober(List<FlowData> inputs, FlowJoberPlan plan) {
+        Map<String, String> properties = plan.getProperties();
+        String echoSign = properties.getOrDefault(FlowJoberProperties.ECHO_PREFIX.getValue(), DEFAULT_ECHO_PREFIX);
+        String skipVariableRaw = properties.getOrDefault(FlowJoberProperties.SKIP_VARIABLES.getValue(),
                 StringUtils.EMPTY);
         Set<String> skipVariables = new HashSet<>();
         skipVariables.add("_internal");
@@ -60,9 +56,4 @@ public class FlowEchoJober extends FlowJober {
                     .build();
         }).collect(Collectors.toList());
     }
-
-    @Override
-    protected void restoreJoberConfig(Map<String, Object> oldValues) {
-
-    }
 }
@@ -27,10 +27,10 @@ public class FlowGeneralJober extends FlowJober {
     private static final Logger log = Logger.get(FlowGeneralJober.class);
 
     @Override
-    protected List<FlowData> executeJober(List<FlowData> inputs) {
-        List<Map<String, Object>> contextData = getInputs(inputs);
+    protected List<FlowData> executeJober(List<FlowData> inputs, FlowJoberPlan plan) {
+        List<Map<String, Object>> contextData = getInputs(inputs, plan);
         List<Map<String, Object>> outputEntities = new ArrayList<>();
-        for (String fitableId : fitables) {
+        for (String fitableId : plan.getFitables()) {
             try {
                 outputEntities = fitableInvoke(contextData, fitableId);
             } catch (FitException ex) {
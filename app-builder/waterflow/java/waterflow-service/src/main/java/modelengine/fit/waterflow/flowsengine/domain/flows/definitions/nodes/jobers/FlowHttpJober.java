@@ -27,8 +27,8 @@ public class FlowHttpJober extends FlowJober {
     private static final String HTTP_JOBER_FITABLE = "93f0b03c2ff94a46af5ace0088a8ce22";
 
     @Override
-    protected List<FlowData> executeJober(List<FlowData> inputs) {
-        List<Map<String, Object>> contextData = getInputs(inputs);
+    protected List<FlowData> executeJober(List<FlowData> inputs, FlowJoberPlan plan) {
+        List<Map<String, Object>> contextData = getInputs(inputs, plan);
         List<Map<String, Object>> outputs;
         try {
             outputs = fitableInvoke(contextData, HTTP_JOBER_FITABLE);
@@ -16,8 +16,8 @@ import static modelengine.fitframework.util.ObjectUtils.cast;
 import com.alibaba.fastjson.JSON;
 import com.alibaba.fastjson.JSONArray;
 import com.alibaba.fastjson.JSONObject;
-import com.alibaba.fastjson.TypeReference;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -50,6 +50,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -57,6 +58,8 @@ import java.util.stream.Collectors;
 /**
  * 流程定义节点任务关键类
  * 流程实例流转时需要构建该对象
+ * 同一节点的多个trace会并发执行同一个jober，执行时不修改jober自身的配置，
+ * 而是为每次执行解析出不可变的{@link FlowJoberPlan}，并按运行时覆盖配置缓存
  *
  * @author 高诗意
  * @since 2023/08/14
@@ -78,6 +81,10 @@ public abstract class FlowJober {
 
     private static final String JOBER_EXECUTE_INFO_TYPE = "jober";
 
+    private static final int MAX_PLAN_CACHE_SIZE = 64;
+
+    private static final String DEFAULT_PLAN_KEY = "";
+
     /**
      * 所在节点的metaId
      */
@@ -138,6 +145,32 @@ public abstract class FlowJober {
      */
     protected FlowContextRepo<FlowData> contextRepo;
 
+    /**
+     * 按运行时覆盖配置缓存的执行计划，节点定义中的配置变化时清空
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, FlowJoberPlan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * 设置节点任务的fitables集合
+     *
+     * @param fitables fitables集合
+     */
+    public void setFitables(Set<String> fitables) {
+        this.fitables = fitables;
+        this.plans.clear();
+    }
+
+    /**
+     * 设置节点任务属性
+     *
+     * @param properties 任务属性
+     */
+    public void setProperties(Map<String, String> properties) {
+        this.properties = properties;
+        this.plans.clear();
+    }
+
     /**
      * 是否异步job
      *
@@ -155,49 +188,66 @@ public abstract class FlowJober {
      */
     public List<FlowData> execute(List<FlowData> inputs) {
         List<FlowData> flowData;
-        Map<String, Object> oldValues = new HashMap<>();
         List<FlowData> convertedInputs = this.convertFlowData(inputs);
         if (this.isAsync()) {
             // 异步情况需要提前落库更新入参信息，后续可以将这部分信息修改为无需落库，通过回调实时通知，由上层业务自行处理
             this.contextRepo.updateFlowData(
                     convertedInputs.stream().collect(Collectors.toMap(FlowData::getContextId, Function.identity())));
         }
-        try {
-            oldValues = this.modifyJoberConfig(convertedInputs.get(0));
-            flowData = this.executeJober(convertedInputs);
-            if (this.parentNode.getParentFlow().isEnableOutputScope()) {
-                flowData.forEach(data -> FlowUtil.cacheResultToNode(data.getBusinessData(), this.nodeMetaId));
-            }
-            if (this.converter != null) {
-                flowData.forEach(data -> {
-                    String outputName = this.converter.getOutputName();
-                    FlowExecuteInfoUtil.addOutputMap2ExecuteInfoMap(data, MapBuilder.<String, Object>get()
-                            .put(outputName, data.getBusinessData().get(outputName))
-                            .build(), this.nodeMetaId, JOBER_EXECUTE_INFO_TYPE);
-                });
-            }
-        } finally {
-            this.restoreJoberConfig(oldValues);
+        FlowJoberPlan plan = this.resolvePlan(convertedInputs.get(0));
+        flowData = this.executeJober(convertedInputs, plan);
+        if (this.parentNode.getParentFlow().isEnableOutputScope()) {
+            flowData.forEach(data -> FlowUtil.cacheResultToNode(data.getBusinessData(), this.nodeMetaId));
+        }
+        if (this.converter != null) {
+            flowData.forEach(data -> {
+                String outputName = this.converter.getOutputName();
+                FlowExecuteInfoUtil.addOutputMap2ExecuteInfoMap(data, MapBuilder.<String, Object>get()
+                        .put(outputName, data.getBusinessData().get(outputName))
+                        .build(), this.nodeMetaId, JOBER_EXECUTE_INFO_TYPE);
+            });
         }
         return flowData;
     }
 
     /**
-     * modifyJoberConfig
+     * 解析本次执行使用的执行计划
+     * 业务数据中当前节点的jober配置可以覆盖fitables和entity，相同的覆盖配置复用同一个执行计划
      *
-     * @param flowData flowData
-     * @return Map<String, Object>
+     * @param flowData 本次执行的第一条流程数据
+     * @return 不可变的执行计划
      */
-    protected Map<String, Object> modifyJoberConfig(FlowData flowData) {
-        Set<String> oldFitables = new LinkedHashSet<>(this.fitables);
-        String oldEntity = this.getProperties().get(ENTITY.getValue());
-
-        this.doModifyJoberConfig(flowData);
+    protected FlowJoberPlan resolvePlan(FlowData flowData) {
+        Optional<JSONObject> jober = Optional.ofNullable(
+                        ObjectUtils.<JSONObject>cast(flowData.getBusinessData().get(this.nodeMetaId)))
+                .map(json -> cast(json.get(FlowGraphData.JOBER)));
+        List<String> overrideFitables = jober.map(
+                        joberObject -> ObjectUtils.<JSONArray>cast(joberObject.get(FlowGraphData.FITABLES)))
+                .map(jsonArray -> jsonArray.toJavaList(String.class))
+                .filter(stringList -> !stringList.isEmpty())
+                .orElse(null);
+        String overrideEntity = jober.map(joberObject -> joberObject.getString(ENTITY.getValue())).orElse(null);
+        String key = overrideFitables == null && overrideEntity == null
+                ? DEFAULT_PLAN_KEY
+                : JSON.toJSONString(Arrays.asList(overrideFitables, overrideEntity));
+        FlowJoberPlan plan = this.plans.get(key);
+        if (plan != null) {
+            return plan;
+        }
+        if (this.plans.size() >= MAX_PLAN_CACHE_SIZE) {
+            this.plans.clear();
+        }
+        return this.plans.computeIfAbsent(key, k -> this.createPlan(overrideFitables, overrideEntity));
+    }
 
-        Map<String, Object> oldJober = new HashMap<>();
-        oldJober.put(FlowGraphData.FITABLES, oldFitables);
-        oldJober.put(ENTITY.getValue(), oldEntity);
-        return oldJober;
+    private FlowJoberPlan createPlan(List<String> overrideFitables, String overrideEntity) {
+        Map<String, String> planProperties =
+                this.properties == null ? new HashMap<>() : new HashMap<>(this.properties);
+        if (overrideEntity != null) {
+            planProperties.put(ENTITY.getValue(), overrideEntity);
+        }
+        return new FlowJoberPlan(overrideFitables == null ? this.fitables : new LinkedHashSet<>(overrideFitables),
+                planProperties);
     }
 
     /**
@@ -211,60 +261,37 @@ public abstract class FlowJober {
                 .orElse(new HashMap<>()).get("fitableId");
     }
 
-    private void doModifyJoberConfig(FlowData flowData) {
-        Optional<JSONObject> jober = Optional.ofNullable(
-                        ObjectUtils.<JSONObject>cast(flowData.getBusinessData().get(this.nodeMetaId)))
-                .map(json -> cast(json.get(FlowGraphData.JOBER)));
-        if (jober.isPresent()) {
-            jober.map(joberObject -> ObjectUtils.<JSONArray>cast(joberObject.get(FlowGraphData.FITABLES)))
-                    .map(jsonArray -> JSON.parseObject(jsonArray.toJSONString(), new TypeReference<List<String>>() {}))
-                    .filter(stringList -> !stringList.isEmpty())
-                    .ifPresent(stringList -> this.fitables = new LinkedHashSet<>(stringList));
-
-            jober.map(joberObject -> joberObject.getString(ENTITY.getValue()))
-                    .ifPresent(s -> this.properties.put(ENTITY.getValue(), s));
-        }
-    }
-
     /**
      * executeJober
      *
      * @param inputs inputs
+     * @param plan 本次执行的执行计划
      * @return List<FlowData>
      */
-    protected abstract List<FlowData> executeJober(List<FlowData> inputs);
-
-    /**
-     * restoreJoberConfig
-     *
-     * @param oldValues oldValues
-     */
-    protected void restoreJoberConfig(Map<String, Object> oldValues) {
-        this.setFitables(cast(oldValues.get(FlowGraphData.FITABLES)));
-        Optional.ofNullable(oldValues.get(ENTITY.getValue()))
-                .ifPresent(value -> this.getProperties().put(ENTITY.getValue(), cast(value)));
-    }
+    protected abstract List<FlowData> executeJober(List<FlowData> inputs, FlowJoberPlan plan);
 
     /**
      * getInputs
      *
      * @param inputs inputs
+     * @param plan 本次执行的执行计划
      * @return List<Map < String, Object>>
      */
-    protected List<Map<String, Object>> getInputs(List<FlowData> inputs) {
+    protected List<Map<String, Object>> getInputs(List<FlowData> inputs, FlowJoberPlan plan) {
+        Map<String, String> planProperties = plan.getProperties();
         List<Map<String, Object>> contextData = new ArrayList<>();
         inputs.forEach(input -> {
-            Optional.ofNullable(this.properties.get(ENTITY.getValue()))
+            Optional.ofNullable(planProperties.get(ENTITY.getValue()))
                     .ifPresent(e -> input.getBusinessData().put(ENTITY.getValue(), JSON.parseObject(e)));
 
             Map<String, String> extraJober = new HashMap<>();
             Set<String> knownProperties = Arrays.stream(FlowJoberProperties.values())
                     .map(property -> property.getValue())
                     .collect(Collectors.toSet());
-            this.properties.keySet()
+            planProperties.keySet()
                     .stream()
                     .filter(k -> !knownProperties.contains(k))
-                    .forEach(k -> extraJober.put(k, this.properties.get(k)));
+                    .forEach(k -> extraJober.put(k, planProperties.get(k)));
 
             Map<String, Object> data = new HashMap<>();
             data.put(BUSINESS_DATA_KEY, input.getBusinessData());
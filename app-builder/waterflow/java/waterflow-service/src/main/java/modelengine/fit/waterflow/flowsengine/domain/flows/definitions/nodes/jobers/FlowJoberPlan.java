@@ -0,0 +1,47 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.flowsengine.domain.flows.definitions.nodes.jobers;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 节点任务单次执行使用的不可变执行计划
+ * 由节点定义中的任务配置和业务数据中的运行时覆盖配置合并得到，执行过程中不会修改节点定义
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@Getter
+public final class FlowJoberPlan {
+    /**
+     * 本次执行调用的fitables集合
+     */
+    private final Set<String> fitables;
+
+    /**
+     * 本次执行使用的任务属性
+     */
+    private final Map<String, String> properties;
+
+    /**
+     * 创建执行计划，传入的集合会被复制
+     *
+     * @param fitables fitables集合
+     * @param properties 任务属性
+     */
+    public FlowJoberPlan(Set<String> fitables, Map<String, String> properties) {
+        this.fitables = Collections.unmodifiableSet(
+                fitables == null ? new LinkedHashSet<>() : new LinkedHashSet<>(fitables));
+        this.properties = Collections.unmodifiableMap(properties == null ? new HashMap<>() : new HashMap<>(properties));
+    }
+}
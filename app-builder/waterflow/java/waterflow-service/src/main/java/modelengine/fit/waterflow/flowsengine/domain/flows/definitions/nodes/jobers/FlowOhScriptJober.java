@@ -30,8 +30,8 @@ public class FlowOhScriptJober extends FlowJober {
     private static final String OHSCRIPT_FITABLE = "OhScript";
 
     @Override
-    protected List<FlowData> executeJober(List<FlowData> inputs) {
-        List<Map<String, Object>> inputData = getInputs(inputs);
+    protected List<FlowData> executeJober(List<FlowData> inputs, FlowJoberPlan plan) {
+        List<Map<String, Object>> inputData = getInputs(inputs, plan);
 
         List<Map<String, Object>> outputEntities = this.brokerClient.getRouter(FlowableService.class,
                         FLOWABLE_HANDLE_TASK_GENERICABLE)
@@ -48,8 +48,8 @@ public class FlowStoreJober extends FlowJober {
     private ServiceMeta serviceMeta;
 
     @Override
-    protected List<FlowData> executeJober(List<FlowData> inputs) {
-        List<Map<String, Object>> inputData = getInputs(inputs);
+    protected List<FlowData> executeJober(List<FlowData> inputs, FlowJoberPlan plan) {
+        List<Map<String, Object>> inputData = getInputs(inputs, plan);
         FlowData contextInfo = inputs.get(0);
         List<FlowData> result = new ArrayList<>(inputs.size());
         inputData.forEach(input -> {
@@ -0,0 +1,47 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.flowsengine.domain.flows.enums;
+
+import lombok.Getter;
+import modelengine.fit.waterflow.exceptions.WaterflowParamException;
+
+import java.util.Arrays;
+
+import static modelengine.fit.waterflow.ErrorCodes.ENUM_CONVERT_FAILED;
+
+/**
+ * flow context中flow data的存储格式
+ * JSON为每个context保存完整的flow data，COMPACT为压缩保存，较大的业务数据按内容寻址单独存储，未变化的数据不重复写入
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@Getter
+public enum FlowDataFormat {
+    JSON("json"),
+    COMPACT("compact"),
+    ;
+
+    private final String code;
+
+    FlowDataFormat(String code) {
+        this.code = code;
+    }
+
+    /**
+     * parseFrom
+     *
+     * @param code code
+     * @return FlowDataFormat
+     */
+    public static FlowDataFormat parseFrom(String code) {
+        return Arrays.stream(values())
+                .filter(value -> value.getCode().equalsIgnoreCase(code) || value.name().equalsIgnoreCase(code))
+                .findFirst()
+                .orElseThrow(() -> new WaterflowParamException(ENUM_CONVERT_FAILED, "FlowDataFormat", code));
+    }
+}
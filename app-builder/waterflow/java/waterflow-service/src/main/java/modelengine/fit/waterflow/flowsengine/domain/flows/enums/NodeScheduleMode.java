@@ -0,0 +1,48 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.flowsengine.domain.flows.enums;
+
+import lombok.Getter;
+import modelengine.fit.waterflow.exceptions.WaterflowParamException;
+
+import java.util.Arrays;
+
+import static modelengine.fit.waterflow.ErrorCodes.ENUM_CONVERT_FAILED;
+
+/**
+ * 节点调度模式
+ * POLLING为每个节点启动独立线程轮询边上的数据，EVENT_DRIVEN为数据发布到边上时通过进程内通知唤醒下游节点，
+ * 由共享调度器执行，轮询仅作为低频兜底
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@Getter
+public enum NodeScheduleMode {
+    POLLING("polling"),
+    EVENT_DRIVEN("event-driven"),
+    ;
+
+    private final String code;
+
+    NodeScheduleMode(String code) {
+        this.code = code;
+    }
+
+    /**
+     * parseFrom
+     *
+     * @param code code
+     * @return NodeScheduleMode
+     */
+    public static NodeScheduleMode parseFrom(String code) {
+        return Arrays.stream(values())
+                .filter(value -> value.getCode().equalsIgnoreCase(code) || value.name().equalsIgnoreCase(code))
+                .findFirst()
+                .orElseThrow(() -> new WaterflowParamException(ENUM_CONVERT_FAILED, "NodeScheduleMode", code));
+    }
+}
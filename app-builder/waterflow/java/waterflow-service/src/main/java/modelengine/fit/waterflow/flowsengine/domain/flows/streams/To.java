@@ -27,6 +27,8 @@ import modelengine.fit.waterflow.flowsengine.domain.flows.streams.callbacks.ToCa
 import modelengine.fit.waterflow.flowsengine.domain.flows.streams.nodes.Blocks;
 import modelengine.fit.waterflow.flowsengine.domain.flows.streams.nodes.Retryable;
 import modelengine.fit.waterflow.flowsengine.utils.FlowExecutors;
+import modelengine.fit.waterflow.flowsengine.utils.FlowNodeScheduler;
+import modelengine.fit.waterflow.flowsengine.utils.FlowTraceCompletionNotifier;
 import modelengine.fit.waterflow.flowsengine.utils.PriorityThreadPool;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.util.CollectionUtils;
@@ -193,6 +195,16 @@ public class To<I, O> extends IdGenerator implements FitStream.Subscriber<I, O>
 
     private Thread preProcessT = null;
 
+    /**
+     * 事件驱动模式下的节点预处理唤醒信号
+     */
+    private volatile FlowNodeScheduler.Signal preProcessSignal = null;
+
+    /**
+     * 事件驱动模式下的节点处理唤醒信号
+     */
+    private volatile FlowNodeScheduler.Signal processSignal = null;
+
     private Set<InterStreamHandler> listeners = new HashSet<>();
 
     private int order = 0;
@@ -377,6 +389,10 @@ public class To<I, O> extends IdGenerator implements FitStream.Subscriber<I, O>
             this.process();
             return;
         }
+        if (FlowNodeScheduler.isEventDriven()) {
+            this.signal(type).wakeup();
+            return;
+        }
         if (type == ProcessType.PRE_PROCESS && (preProcessT == null || !preProcessRunning)) {
             preProcessRunning = true;
             String threadName = getThreadName(PRE_PROCESS_T_NAME_PREFIX);
@@ -397,6 +413,20 @@ public class To<I, O> extends IdGenerator implements FitStream.Subscriber<I, O>
         }
     }
 
+    private FlowNodeScheduler.Signal signal(ProcessType type) {
+        String key = StringUtils.join(Constant.STREAM_ID_SEPARATOR, this.streamId, this.id, type.toString());
+        if (type == ProcessType.PRE_PROCESS) {
+            if (this.preProcessSignal == null) {
+                this.preProcessSignal = FlowNodeScheduler.register(key, this::drainPreProcess);
+            }
+            return this.preProcessSignal;
+        }
+        if (this.processSignal == null) {
+            this.processSignal = FlowNodeScheduler.register(key, () -> this.getProcessMode().drain(this));
+        }
+        return this.processSignal;
+    }
+
     private String getThreadName(String tNamePrefix) {
         return StringUtils.join(Constant.STREAM_ID_SEPARATOR, tNamePrefix, this.streamId, this.id);
     }
@@ -440,6 +470,21 @@ public class To<I, O> extends IdGenerator implements FitStream.Subscriber<I, O>
         }
     }
 
+    /**
+     * 事件驱动模式下的节点预处理，由{@link FlowNodeScheduler}在节点被唤醒时执行
+     * 一直拉取到边上没有待发送的数据为止，不再休眠轮询，执行期间的唤醒由信号保证再执行一轮
+     */
+    private void drainPreProcess() {
+        while (true) {
+            List<FlowContext<I>> ready = requestReady();
+            if (CollectionUtils.isEmpty(ready)) {
+                return;
+            }
+            messenger.send(this.getId(), ready);
+            this.releaseTrace(ready);
+        }
+    }
+
     /**
      * 目前不完善，遇到人工就释放了，如果人工和系统有并行，会有问题
      *
@@ -613,6 +658,8 @@ public class To<I, O> extends IdGenerator implements FitStream.Subscriber<I, O>
             setFailed(pre, ex);
         } finally {
             updateConcurrency(-1);
+            // 释放并发度后唤醒节点，继续处理因达到最大并发度而积压在边上的数据
+            Optional.ofNullable(this.processSignal).ifPresent(FlowNodeScheduler.Signal::wakeup);
         }
     }
 
@@ -629,6 +676,7 @@ public class To<I, O> extends IdGenerator implements FitStream.Subscriber<I, O>
         Retryable<I> retryable = new Retryable<>(this.getRepo(), (To<I, I>) this);
         Optional.ofNullable(this.errorHandler).ifPresent(handler -> handler.handle(ex, retryable, pre));
         Optional.ofNullable(this.globalErrorHandler).ifPresent(handler -> handler.handle(ex, retryable, pre));
+        FlowTraceCompletionNotifier.notify(getTraceIds(pre));
     }
 
     private boolean isOwnTrace(List<FlowContext<I>> pre) {
@@ -695,8 +743,10 @@ public class To<I, O> extends IdGenerator implements FitStream.Subscriber<I, O>
     private void beforeAsyncProcess(List<FlowContext<I>> pre) {
         updateBatch(pre, Collections.emptyList());
         pre.forEach(p -> p.setStatus(FlowNodeStatus.PROCESSING));
-        this.getRepo().update(pre);
-        this.getRepo().updateStatus(pre, pre.get(0).getStatus().toString(), pre.get(0).getPosition());
+        this.getRepo().batch(() -> {
+            this.getRepo().update(pre);
+            this.getRepo().updateStatus(pre, pre.get(0).getStatus().toString(), pre.get(0).getPosition());
+        });
     }
 
     private void beforeProcess(List<FlowContext<I>> contexts) {
@@ -720,15 +770,21 @@ public class To<I, O> extends IdGenerator implements FitStream.Subscriber<I, O>
             context.setStatus(FlowNodeStatus.ARCHIVED);
         });
         after.forEach(context -> context.getTraceId().addAll(traces));
-        if ((Objects.isNull(this.nodeType) || !FlowNodeType.END.equals(this.nodeType)) && !after.isEmpty()) {
-            updateContextPool(after, traces);
-            this.getRepo().save(after);
-        }
+        // 新context的保存与处理前context的状态更新在同一个写入批次中合并提交
+        this.getRepo().batch(() -> {
+            if ((Objects.isNull(this.nodeType) || !FlowNodeType.END.equals(this.nodeType)) && !after.isEmpty()) {
+                updateContextPool(after, traces);
+                this.getRepo().save(after);
+            }
 
-        // 合并一次操作，并不需要处理data部分（这部分用户控制，尽量减少性能影响），只更新toBatch, 状态和位置
-        LOG.debug("afterProcess before updateProcessStatus");
-        this.getRepo().updateProcessStatus(preContexts);
-        LOG.debug("afterProcess after updateProcessStatus");
+            // 合并一次操作，并不需要处理data部分（这部分用户控制，尽量减少性能影响），只更新toBatch, 状态和位置
+            LOG.debug("afterProcess before updateProcessStatus");
+            this.getRepo().updateProcessStatus(preContexts);
+            LOG.debug("afterProcess after updateProcessStatus");
+        });
+        if (FlowNodeType.END.equals(this.nodeType)) {
+            FlowTraceCompletionNotifier.notify(traces);
+        }
         if (CollectionUtils.isEmpty(after)) {
             return;
         }
@@ -1014,6 +1070,30 @@ public class To<I, O> extends IdGenerator implements FitStream.Subscriber<I, O>
             }
         }
 
+        /**
+         * 事件驱动模式下节点request边上pending的数据，由{@link FlowNodeScheduler}在节点被唤醒时执行
+         * 与{@link #request(To)}不同，达到最大并发度或者边上没有数据时直接退出，不休眠轮询
+         * 节点处理完成释放并发度、或上游发布新数据时会再次唤醒节点
+         *
+         * @param <T1> 流程实例执行时的入参数据类型，用于泛型推倒
+         * @param <R1> 流程实例执行时的出参数据类型，用于泛型推倒
+         * @param to 当前节点
+         */
+        public <T1, R1> void drain(To<T1, R1> to) {
+            while (!to.isMaxConcurrency()) {
+                List<FlowContext<T1>> ready = requestReady(to);
+                if (CollectionUtils.isEmpty(ready)) {
+                    return;
+                }
+                logContexts(ready, "[ready context]");
+                if (to.inParallelMode(ready)) {
+                    to.onProcess(ready);
+                } else {
+                    this.submit(to, ready);
+                }
+            }
+        }
+
         /**
          * 查找节点连接的边上所有的contexts，由子类负责实现
          *
@@ -1079,8 +1159,7 @@ public class To<I, O> extends IdGenerator implements FitStream.Subscriber<I, O>
          */
         public <T1, R1> void submit(To<T1, R1> to, List<FlowContext<T1>> ready) {
             logFileTest(to, "submit", ready);
-            FlowExecutors.getThreadPool(StringUtils.join(Constant.STREAM_ID_SEPARATOR, to.streamId, to.id),
-                            MAX_CONCURRENCY)
+            FlowExecutors.getThreadPool(to.streamId, to.id, MAX_CONCURRENCY)
                     .submit(PriorityThreadPool.PriorityTask.builder()
                             .priority(PriorityThreadPool.PriorityTask.PriorityInfo.builder()
                                     .order(to.order)
@@ -14,7 +14,9 @@ import modelengine.fit.waterflow.flowsengine.domain.flows.streams.IdGenerator;
 import modelengine.fit.waterflow.flowsengine.domain.flows.streams.Processors;
 import modelengine.fit.waterflow.flowsengine.domain.flows.streams.To;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -45,9 +47,10 @@ public class Blocks {
          * @param contexts contexts
          */
         public void process(List<FlowContext<I>> contexts) {
-            contexts.forEach(context ->
-                    context.getTraceId().forEach(traceId ->
-                            this.target.getRepo().getTraceOwnerService().own(traceId, context.getTrans().getId())));
+            Map<String, String> traceTransIds = new LinkedHashMap<>();
+            contexts.forEach(context -> context.getTraceId()
+                    .forEach(traceId -> traceTransIds.putIfAbsent(traceId, context.getTrans().getId())));
+            this.target.getRepo().getTraceOwnerService().ownAll(traceTransIds);
             this.target.accept(ProcessType.PROCESS, contexts);
         }
     }
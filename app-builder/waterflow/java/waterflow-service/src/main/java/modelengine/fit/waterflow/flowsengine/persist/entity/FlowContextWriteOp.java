@@ -0,0 +1,141 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.flowsengine.persist.entity;
+
+import lombok.Getter;
+import modelengine.fit.waterflow.flowsengine.persist.po.FlowContextPO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 合并写入flow context时的单个写操作，由{@code FlowContextMapper.flushWrites}在一次数据库往返中按顺序执行
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@Getter
+public class FlowContextWriteOp {
+    /**
+     * 批量新增context
+     */
+    public static final String CREATE = "CREATE";
+
+    /**
+     * 批量更新context内容，不更新status和position
+     */
+    public static final String UPDATE = "UPDATE";
+
+    /**
+     * 更新flow data和toBatch
+     */
+    public static final String FLOW_DATA_AND_TO_BATCH = "FLOW_DATA_AND_TO_BATCH";
+
+    /**
+     * 标记为已发送
+     */
+    public static final String TO_SENT = "TO_SENT";
+
+    /**
+     * 更新status和position
+     */
+    public static final String STATUS_POSITION = "STATUS_POSITION";
+
+    /**
+     * 更新status、position和toBatch
+     */
+    public static final String PROCESS_STATUS = "PROCESS_STATUS";
+
+    private final String type;
+
+    private final List<String> ids;
+
+    private final List<FlowContextPO> contexts;
+
+    private final FlowContextUpdateInfo updateInfo;
+
+    private final List<String> exclusiveStatus;
+
+    private FlowContextWriteOp(String type, List<String> ids, List<FlowContextPO> contexts,
+            FlowContextUpdateInfo updateInfo, List<String> exclusiveStatus) {
+        this.type = type;
+        this.ids = ids;
+        this.contexts = contexts;
+        this.updateInfo = updateInfo;
+        this.exclusiveStatus = exclusiveStatus;
+    }
+
+    /**
+     * 构造按context内容写入的操作
+     *
+     * @param type 操作类型，{@link #CREATE}、{@link #UPDATE}或{@link #FLOW_DATA_AND_TO_BATCH}
+     * @param contexts 待写入的context
+     * @return 写操作
+     */
+    public static FlowContextWriteOp ofContexts(String type, List<FlowContextPO> contexts) {
+        return new FlowContextWriteOp(type, Collections.emptyList(), new ArrayList<>(contexts), null,
+                Collections.emptyList());
+    }
+
+    /**
+     * 构造标记为已发送的操作
+     *
+     * @param ids context的ID
+     * @return 写操作
+     */
+    public static FlowContextWriteOp toSent(List<String> ids) {
+        return new FlowContextWriteOp(TO_SENT, new ArrayList<>(ids), Collections.emptyList(), null,
+                Collections.emptyList());
+    }
+
+    /**
+     * 构造更新状态的操作
+     *
+     * @param type 操作类型，{@link #STATUS_POSITION}或{@link #PROCESS_STATUS}
+     * @param ids context的ID
+     * @param updateInfo 更新信息
+     * @param exclusiveStatus 不允许被覆盖的状态
+     * @return 写操作
+     */
+    public static FlowContextWriteOp ofStatus(String type, List<String> ids, FlowContextUpdateInfo updateInfo,
+            List<String> exclusiveStatus) {
+        return new FlowContextWriteOp(type, new ArrayList<>(ids), Collections.emptyList(), updateInfo,
+                exclusiveStatus);
+    }
+
+    /**
+     * 判断另一个操作能否合并到本操作中，合并后作为一条多行语句执行
+     *
+     * @param other 另一个操作
+     * @return 是否可以合并
+     */
+    public boolean canMerge(FlowContextWriteOp other) {
+        if (!this.type.equals(other.type)) {
+            return false;
+        }
+        if (!STATUS_POSITION.equals(this.type) && !PROCESS_STATUS.equals(this.type)) {
+            return true;
+        }
+        return this.exclusiveStatus.equals(other.exclusiveStatus)
+                && this.updateInfo.getStatus().equals(other.updateInfo.getStatus())
+                && Objects.equals(this.updateInfo.getPosition(), other.updateInfo.getPosition())
+                && Objects.equals(this.updateInfo.getToBatch(), other.updateInfo.getToBatch())
+                && (this.updateInfo.getArchivedAt() == null) == (other.updateInfo.getArchivedAt() == null);
+    }
+
+    /**
+     * 合并另一个操作，调用前需要通过{@link #canMerge(FlowContextWriteOp)}判断
+     *
+     * @param other 另一个操作
+     */
+    public void merge(FlowContextWriteOp other) {
+        this.ids.addAll(other.ids);
+        this.contexts.addAll(other.contexts);
+    }
+}
@@ -0,0 +1,50 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.flowsengine.persist.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * trace下context状态的统计结果，用于批量计算trace状态
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlowTraceContextStatistics {
+    private String traceId;
+
+    private String transId;
+
+    /**
+     * TERMINATE状态的context数量
+     */
+    private int terminateCount;
+
+    /**
+     * 运行中状态的context数量
+     */
+    private int runningCount;
+
+    /**
+     * 非ARCHIVED状态的context数量
+     */
+    private int notArchivedCount;
+
+    /**
+     * ERROR状态的context数量
+     */
+    private int errorCount;
+}
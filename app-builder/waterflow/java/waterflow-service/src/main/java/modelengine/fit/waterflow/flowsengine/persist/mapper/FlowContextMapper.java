@@ -8,7 +8,10 @@ package modelengine.fit.waterflow.flowsengine.persist.mapper;
 
 import modelengine.fit.waterflow.flowsengine.domain.flows.enums.FlowNodeStatus;
 import modelengine.fit.waterflow.flowsengine.persist.entity.FlowContextUpdateInfo;
+import modelengine.fit.waterflow.flowsengine.persist.entity.FlowContextWriteOp;
+import modelengine.fit.waterflow.flowsengine.persist.entity.FlowTraceContextStatistics;
 import modelengine.fit.waterflow.flowsengine.persist.po.FlowContextPO;
+import modelengine.fit.waterflow.flowsengine.persist.po.FlowDataBlobPO;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -172,6 +175,13 @@ public interface FlowContextMapper {
      */
     void updateFlowData(@Param("flowDataList") Map<String, String> flowDataList);
 
+    /**
+     * 在一次数据库往返中按顺序执行合并后的写操作
+     *
+     * @param ops 合并后的写操作列表
+     */
+    void flushWrites(List<FlowContextWriteOp> ops);
+
     /**
      * 通过contextId列表批量更新状态和位置
      *
@@ -507,6 +517,26 @@ public interface FlowContextMapper {
      */
     int findCountByStatusAtPosition(List<String> statusList, String traceId, String position);
 
+    /**
+     * 按trace统计context的状态数量，一次查询多个trace
+     *
+     * @param traceIds trace id列表
+     * @param runningStatusList 运行中的status列表
+     * @return 每个trace的统计结果，没有context的trace不返回
+     */
+    List<FlowTraceContextStatistics> findContextStatisticsByTraceIds(List<String> traceIds,
+            List<String> runningStatusList);
+
+    /**
+     * 查询在某个位置上含有某些状态的context的trace id
+     *
+     * @param statusList status 列表
+     * @param traceIds trace id列表
+     * @param position 位置
+     * @return trace id列表
+     */
+    List<String> findTraceIdsByStatusAtPosition(List<String> statusList, List<String> traceIds, String position);
+
     /**
      * 查找不属于某些状态的context数量
      *
@@ -530,4 +560,35 @@ public interface FlowContextMapper {
      * @param traceIds 表示链路唯一标识列表的 {@link List}{@code <}{@link String}{@code >}。
      */
     void deleteByTraceIdList(List<String> traceIds);
+
+    /**
+     * 根据链路标识列表查询对应的trans id
+     *
+     * @param traceIds 表示链路唯一标识列表的 {@link List}{@code <}{@link String}{@code >}。
+     * @return trans id列表
+     */
+    List<String> findTransIdsByTraceIdList(List<String> traceIds);
+
+    /**
+     * 批量保存按内容寻址的业务数据，已存在的数据忽略
+     *
+     * @param blobs 业务数据列表
+     */
+    void createFlowDataBlobs(List<FlowDataBlobPO> blobs);
+
+    /**
+     * 根据trans id和内容摘要查询业务数据
+     *
+     * @param transId trans id
+     * @param hashes 内容摘要列表
+     * @return 业务数据列表
+     */
+    List<FlowDataBlobPO> findFlowDataBlobs(@Param("transId") String transId, @Param("hashes") List<String> hashes);
+
+    /**
+     * 删除已经没有context引用的trans的业务数据
+     *
+     * @param transIds trans id列表
+     */
+    void deleteUnusedFlowDataBlobs(List<String> transIds);
 }
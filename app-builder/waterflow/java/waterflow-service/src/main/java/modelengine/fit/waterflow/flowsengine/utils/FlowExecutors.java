@@ -6,9 +6,16 @@
 
 package modelengine.fit.waterflow.flowsengine.utils;
 
+import static modelengine.fit.waterflow.ErrorCodes.ENUM_CONVERT_FAILED;
+
+import modelengine.fit.waterflow.common.Constant;
+import modelengine.fit.waterflow.exceptions.WaterflowParamException;
 import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.util.StringUtils;
 
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -24,6 +31,54 @@ public final class FlowExecutors {
 
     private static final Map<String, PriorityThreadPool> THREAD_POOLS = new ConcurrentHashMap<>();
 
+    private static final String COMMON_POOL_KEY = "common";
+
+    private static final int DEFAULT_POOL_SIZE = 16;
+
+    private static volatile Backend backend = Backend.PLATFORM;
+
+    private static volatile LimitScope limitScope = LimitScope.NODE;
+
+    private static volatile int poolSize = DEFAULT_POOL_SIZE;
+
+    private FlowExecutors() {}
+
+    /**
+     * 配置节点的执行后端
+     *
+     * @param executorBackend 执行后端
+     * @param scope VIRTUAL后端下并发度限制的粒度
+     * @param platformPoolSize PLATFORM后端下公共线程池的线程数
+     */
+    public static void configure(Backend executorBackend, LimitScope scope, int platformPoolSize) {
+        backend = executorBackend == null ? Backend.PLATFORM : executorBackend;
+        limitScope = scope == null ? LimitScope.NODE : scope;
+        if (platformPoolSize > 0) {
+            poolSize = platformPoolSize;
+        }
+        LOG.info("Flow executors configured, backend: {}, limit scope: {}, platform pool size: {}.", backend,
+                limitScope, poolSize);
+    }
+
+    /**
+     * 获取节点线程池
+     * PLATFORM后端下所有节点共享公共线程池；VIRTUAL后端下按节点或流程版本维度分别限制并发度
+     *
+     * @param streamId 流程版本
+     * @param nodeId 节点ID
+     * @param parallelNum 节点或流程版本的并发度
+     * @return 线程池对象
+     */
+    public static PriorityThreadPool getThreadPool(String streamId, String nodeId, int parallelNum) {
+        if (backend == Backend.PLATFORM) {
+            return getThreadPool(StringUtils.join(Constant.STREAM_ID_SEPARATOR, streamId, nodeId), parallelNum);
+        }
+        String key = limitScope == LimitScope.STREAM
+                ? streamId
+                : StringUtils.join(Constant.STREAM_ID_SEPARATOR, streamId, nodeId);
+        return THREAD_POOLS.computeIfAbsent(key, actualKey -> PriorityThreadPool.buildVirtual(actualKey, parallelNum));
+    }
+
     /**
      * 获取节点线程池，节点一次只有一个线程在处理，因此无需加锁
      * 如果要改为一个流程定义一个线程池，则只需要更新key值
@@ -33,8 +88,8 @@ public final class FlowExecutors {
      * @return 线程池对象
      */
     public static PriorityThreadPool getThreadPool(String key, int parallelNum) {
-        String actualKey = "common";
-        int actualParallelNum = 16;
+        String actualKey = COMMON_POOL_KEY;
+        int actualParallelNum = poolSize;
         PriorityThreadPool exits = THREAD_POOLS.get(actualKey);
         if (exits != null) {
             return exits;
@@ -62,4 +117,71 @@ public final class FlowExecutors {
             }
         });
     }
+
+    /**
+     * 删除流程版本的线程池，包括按流程版本和按节点限制并发度的线程池
+     * 共享执行器上等待准入的任务仍会执行完
+     *
+     * @param streamId 流程版本
+     */
+    public static void removeStreamThreadPools(String streamId) {
+        String nodeKeyPrefix = streamId + Constant.STREAM_ID_SEPARATOR;
+        Set<String> keysToRemove = THREAD_POOLS.keySet()
+                .stream()
+                .filter(key -> key.equals(streamId) || key.startsWith(nodeKeyPrefix))
+                .collect(Collectors.toSet());
+        keysToRemove.forEach(
+                key -> Optional.ofNullable(THREAD_POOLS.remove(key)).ifPresent(PriorityThreadPool::shutdown));
+    }
+
+    /**
+     * 节点的执行后端
+     */
+    public enum Backend {
+        /**
+         * 固定大小的平台线程池，所有节点共享
+         */
+        PLATFORM,
+
+        /**
+         * 虚拟线程执行，运行环境不支持虚拟线程时退化为可伸缩的平台线程，并发度由信号量限制
+         */
+        VIRTUAL,
+        ;
+
+        /**
+         * parseFrom
+         *
+         * @param code code
+         * @return Backend
+         */
+        public static Backend parseFrom(String code) {
+            return Arrays.stream(values())
+                    .filter(value -> value.name().equalsIgnoreCase(code))
+                    .findFirst()
+                    .orElseThrow(() -> new WaterflowParamException(ENUM_CONVERT_FAILED, "Backend", code));
+        }
+    }
+
+    /**
+     * VIRTUAL后端下并发度限制的粒度
+     */
+    public enum LimitScope {
+        NODE,
+        STREAM,
+        ;
+
+        /**
+         * parseFrom
+         *
+         * @param code code
+         * @return LimitScope
+         */
+        public static LimitScope parseFrom(String code) {
+            return Arrays.stream(values())
+                    .filter(value -> value.name().equalsIgnoreCase(code))
+                    .findFirst()
+                    .orElseThrow(() -> new WaterflowParamException(ENUM_CONVERT_FAILED, "LimitScope", code));
+        }
+    }
 }
@@ -0,0 +1,178 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.flowsengine.utils;
+
+import modelengine.fit.waterflow.flowsengine.biz.service.CustomThreadFactory;
+import modelengine.fit.waterflow.flowsengine.domain.flows.enums.NodeScheduleMode;
+import modelengine.fitframework.log.Logger;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 流程引擎节点的事件驱动调度器
+ * EVENT_DRIVEN模式下，数据发布到边上时通过{@link Signal#wakeup()}唤醒下游节点，由共享线程池执行节点的拉取逻辑，
+ * 不再为每个节点单独启动常驻线程；同时按低频周期唤醒所有已注册节点，作为跨实例或通知丢失场景的兜底
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+public final class FlowNodeScheduler {
+    private static final Logger LOG = Logger.get(FlowNodeScheduler.class);
+
+    private static final long DEFAULT_SAFETY_POLL_MILLIS = 10_000L;
+
+    private static final long RETRY_DELAY_MILLIS = 1_000L;
+
+    private static final Map<String, Signal> SIGNALS = new ConcurrentHashMap<>();
+
+    private static final AtomicBoolean SAFETY_POLL_STARTED = new AtomicBoolean(false);
+
+    private static volatile NodeScheduleMode mode = NodeScheduleMode.POLLING;
+
+    private static volatile long safetyPollMillis = DEFAULT_SAFETY_POLL_MILLIS;
+
+    private FlowNodeScheduler() {}
+
+    /**
+     * 设置节点调度模式
+     *
+     * @param scheduleMode 调度模式
+     */
+    public static void setMode(NodeScheduleMode scheduleMode) {
+        mode = scheduleMode == null ? NodeScheduleMode.POLLING : scheduleMode;
+    }
+
+    /**
+     * 获取节点调度模式
+     *
+     * @return 调度模式
+     */
+    public static NodeScheduleMode getMode() {
+        return mode;
+    }
+
+    /**
+     * 是否为事件驱动调度模式
+     *
+     * @return 是否事件驱动
+     */
+    public static boolean isEventDriven() {
+        return mode == NodeScheduleMode.EVENT_DRIVEN;
+    }
+
+    /**
+     * 设置兜底轮询的间隔，只在兜底轮询启动前生效
+     *
+     * @param millis 兜底轮询间隔毫秒数
+     */
+    public static void setSafetyPollMillis(long millis) {
+        if (millis <= 0) {
+            LOG.warn("Invalid safety poll interval {}, use default {}.", millis, DEFAULT_SAFETY_POLL_MILLIS);
+            return;
+        }
+        safetyPollMillis = millis;
+    }
+
+    /**
+     * 注册节点的唤醒信号，相同key的信号会被新注册的信号替换
+     *
+     * @param key 由流程版本、节点ID和处理类型组成的key
+     * @param drainer 信号触发后执行的节点拉取逻辑
+     * @return 节点唤醒信号
+     */
+    public static Signal register(String key, Runnable drainer) {
+        Signal signal = new Signal(key, drainer);
+        SIGNALS.put(key, signal);
+        startSafetyPoll();
+        return signal;
+    }
+
+    /**
+     * 删除流程版本所有节点的唤醒信号
+     *
+     * @param keyPrefix 流程版本，streamID
+     */
+    public static void unregister(String keyPrefix) {
+        Set<String> keysToRemove = SIGNALS.keySet()
+                .stream()
+                .filter(key -> key.startsWith(keyPrefix))
+                .collect(Collectors.toSet());
+        keysToRemove.forEach(SIGNALS::remove);
+    }
+
+    private static void startSafetyPoll() {
+        if (!SAFETY_POLL_STARTED.compareAndSet(false, true)) {
+            return;
+        }
+        Holder.EXECUTOR.scheduleWithFixedDelay(() -> SIGNALS.values().forEach(Signal::wakeup), safetyPollMillis,
+                safetyPollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 节点唤醒信号
+     * 同一信号同一时刻只有一个线程执行拉取逻辑，执行期间到达的唤醒会在本轮结束后再触发一轮，避免通知丢失
+     */
+    public static final class Signal {
+        private final String key;
+
+        private final Runnable drainer;
+
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        private final AtomicBoolean pending = new AtomicBoolean(false);
+
+        private Signal(String key, Runnable drainer) {
+            this.key = key;
+            this.drainer = drainer;
+        }
+
+        /**
+         * 唤醒节点，节点已在执行时只记录唤醒标记
+         */
+        public void wakeup() {
+            this.pending.set(true);
+            if (this.scheduled.compareAndSet(false, true)) {
+                Holder.EXECUTOR.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (this.pending.getAndSet(false)) {
+                    this.drainer.run();
+                }
+            } catch (Exception ex) {
+                // 如果是数据库或者redis挂了，延迟重试，等待数据库或者redis恢复
+                LOG.error("Node drain exception, key: {}, errors: {}", this.key, ex.getMessage());
+                LOG.error("Node drain exception details: ", ex);
+                Holder.EXECUTOR.schedule(this::wakeup, RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            } finally {
+                this.scheduled.set(false);
+            }
+            if (this.pending.get() && this.scheduled.compareAndSet(false, true)) {
+                Holder.EXECUTOR.execute(this::drain);
+            }
+        }
+    }
+
+    private static class Holder {
+        private static final ScheduledExecutorService EXECUTOR = new ScheduledThreadPoolExecutor(
+                Math.max(4, Runtime.getRuntime().availableProcessors()),
+                new CustomThreadFactory("flow-node-scheduler", (thread, throwable) -> {
+                    LOG.error("[flow-node-scheduler]: The node scheduler run failed, error cause: {}, message: {}.",
+                            throwable.getCause(), throwable.getMessage());
+                    LOG.error("The node scheduler run failed details: ", throwable);
+                }));
+    }
+}
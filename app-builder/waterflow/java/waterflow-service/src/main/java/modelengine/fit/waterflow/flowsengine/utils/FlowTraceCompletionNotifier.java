@@ -0,0 +1,54 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.flowsengine.utils;
+
+import modelengine.fitframework.log.Logger;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * trace可能完成的事件通知
+ * 结束节点归档context、节点处理失败时发出通知，由trace状态计算服务及时计算对应trace的状态，
+ * 不必等待下一次定时计算；定时计算仍然保留，作为跨实例或通知丢失场景的兜底
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+public final class FlowTraceCompletionNotifier {
+    private static final Logger LOG = Logger.get(FlowTraceCompletionNotifier.class);
+
+    private static volatile Consumer<Collection<String>> listener;
+
+    private FlowTraceCompletionNotifier() {}
+
+    /**
+     * 设置trace可能完成时的监听者
+     *
+     * @param traceListener 监听者，入参为trace id集合
+     */
+    public static void setListener(Consumer<Collection<String>> traceListener) {
+        listener = traceListener;
+    }
+
+    /**
+     * 通知trace可能已经完成，监听者的异常不影响节点处理
+     *
+     * @param traceIds trace id集合
+     */
+    public static void notify(Collection<String> traceIds) {
+        Consumer<Collection<String>> current = listener;
+        if (current == null || traceIds == null || traceIds.isEmpty()) {
+            return;
+        }
+        try {
+            current.accept(traceIds);
+        } catch (RuntimeException ex) {
+            LOG.warn("Notify trace completion failed, traceIds={}, errorMessage={}.", traceIds, ex.getMessage());
+        }
+    }
+}
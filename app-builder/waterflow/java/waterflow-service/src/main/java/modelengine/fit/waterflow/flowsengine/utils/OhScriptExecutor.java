@@ -17,15 +17,16 @@ import modelengine.fit.ohscript.script.interpreter.ASTEnv;
 import modelengine.fit.ohscript.script.parser.AST;
 import modelengine.fit.ohscript.script.parser.ParserBuilder;
 import modelengine.fit.waterflow.common.Constant;
-import modelengine.fit.waterflow.common.utils.UuidUtils;
 import modelengine.fit.waterflow.flowsengine.domain.flows.context.FlowData;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * OhScript执行类
@@ -44,7 +45,21 @@ public final class OhScriptExecutor {
 
     private static final Logger log = Logger.get(OhScriptExecutor.class);
 
-    private static final ThreadLocal<Map<String, AST>> AST_CACHE = new ThreadLocal<>();
+    private static final int MAX_CACHED_RULES = 1024;
+
+    private static final int MAX_POOLED_AST_PER_RULE = 16;
+
+    /**
+     * 进程内共享的已编译条件规则缓存，按脚本内容索引，超过上限时淘汰最久未使用的规则
+     * AST执行时不能被多个线程同时使用，每个规则缓存一组AST，执行前借出、执行后归还
+     */
+    private static final Map<String, AstPool> AST_CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, AstPool> eldest) {
+                    return this.size() > MAX_CACHED_RULES;
+                }
+            });
 
     /**
      * 执行用户给定的OhScript条件判定脚本，返回判定结果
@@ -54,9 +69,7 @@ public final class OhScriptExecutor {
      * @return 条件表达式的判定结果
      */
     public static boolean evaluateConditionRule(FlowData flowData, String conditionRule) {
-        ParserBuilder parserBuilder = new ParserBuilder();
-        JSONObject businessData = new JSONObject(
-                Optional.ofNullable(flowData.getBusinessData()).orElse(new JSONObject()));
+        Map<String, Object> businessData = businessDataView(flowData);
         String formatConditionRule = FlowUtil.formatConditionRule(conditionRule).trim();
         // 兼容历史 !{{var}}类型，且传入的是字符串类型的true/false
         boolean isPatternOfNot = false;
@@ -65,10 +78,8 @@ public final class OhScriptExecutor {
             formatConditionRule = formatConditionRule.substring(1);
         }
         String ohScript = CODE_SEGMENT_PREFIX + formatConditionRule;
-        String uuid = UuidUtils.fastUuid();
-        log.warn("uuid:{0}, evaluateConditionRule:{1}", uuid, ohScript);
-        Object execResult = getExecResult(conditionRule, parserBuilder, ohScript, businessData);
-        log.warn("uuid:{0}, execResult:{1}", uuid, execResult);
+        Object execResult = getExecResult(conditionRule, ohScript, businessData);
+        log.debug("evaluateConditionRule:{0}, execResult:{1}", ohScript, execResult);
         if (execResult instanceof String) {
             if ("TRUE".equalsIgnoreCase(ObjectUtils.cast(execResult))) {
                 execResult = true;
@@ -87,14 +98,32 @@ public final class OhScriptExecutor {
         return isPatternOfNot ? !result : result;
     }
 
-    private static Object getExecResult(String conditionRule, ParserBuilder parserBuilder, String code,
-            Map<String, Object> businessData) {
+    /**
+     * 业务数据的视图，{@link JSONObject}直接包装原始的业务数据，不复制内容
+     *
+     * @param flowData 流程执行过程中的用户数据
+     * @return 业务数据视图
+     */
+    private static Map<String, Object> businessDataView(FlowData flowData) {
+        Map<String, Object> businessData = flowData.getBusinessData();
+        if (businessData == null) {
+            return new JSONObject();
+        }
+        return businessData instanceof JSONObject ? businessData : new JSONObject(businessData);
+    }
+
+    private static Object getExecResult(String conditionRule, String code, Map<String, Object> businessData) {
         Object execResult;
         try {
-            AST ast = buildAst(parserBuilder, code, businessData);
-            ASTEnv env = new ASTEnv(ast);
-            env.grant(Constant.BUSINESS_DATA_KEY, businessData);
-            execResult = env.execute();
+            AstPool pool = AST_CACHE.computeIfAbsent(code, key -> new AstPool());
+            AST ast = pool.borrow(code, businessData);
+            try {
+                ASTEnv env = new ASTEnv(ast);
+                env.grant(Constant.BUSINESS_DATA_KEY, businessData);
+                execResult = env.execute();
+            } finally {
+                pool.giveBack(ast);
+            }
         } catch (GrammarSyntaxException e) {
             String exceptionMsg = StringUtils.format("Invalid OhScript input. OhScript Content: \"{0}\"", code);
             log.error("The FlowConditionNode failed to judge the flow condition, error message: {}, error cause: {}",
@@ -110,18 +139,24 @@ public final class OhScriptExecutor {
         return execResult;
     }
 
-    private static AST buildAst(ParserBuilder parserBuilder, String code, Map<String, Object> businessData) {
-        Map<String, AST> astMap = AST_CACHE.get();
-        if (astMap == null) {
-            astMap = new HashMap<>();
-            AST_CACHE.set(astMap);
-        }
-        AST ast = astMap.get(code);
-        if (ast == null) {
+    /**
+     * 同一个条件规则的已编译AST池，池中AST数量不超过{@link #MAX_POOLED_AST_PER_RULE}
+     */
+    private static class AstPool {
+        private final BlockingQueue<AST> idle = new ArrayBlockingQueue<>(MAX_POOLED_AST_PER_RULE);
+
+        private AST borrow(String code, Map<String, Object> businessData) {
+            AST ast = this.idle.poll();
+            if (ast != null) {
+                return ast;
+            }
+            ParserBuilder parserBuilder = new ParserBuilder();
             parserBuilder.addExternalOh(Constant.BUSINESS_DATA_KEY, businessData);
-            ast = parserBuilder.parseString("", code);
-            astMap.put(code, ast);
+            return parserBuilder.parseString("", code);
+        }
+
+        private void giveBack(AST ast) {
+            this.idle.offer(ast);
         }
-        return ast;
     }
 }
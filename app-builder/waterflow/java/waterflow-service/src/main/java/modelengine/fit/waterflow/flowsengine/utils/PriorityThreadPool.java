@@ -11,9 +11,12 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 import lombok.Data;
 import modelengine.fit.waterflow.flowsengine.biz.service.CustomThreadFactory;
 import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.util.ObjectUtils;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 
 /**
@@ -27,8 +30,26 @@ public class PriorityThreadPool {
 
     private final ExecutorService executorService;
 
+    /**
+     * 准入许可，为空时任务直接提交给线程池，由线程池的优先队列排序
+     */
+    private final Semaphore permits;
+
+    /**
+     * 等待准入的任务，按优先级排序
+     */
+    private final PriorityBlockingQueue<PriorityTask> pending = new PriorityBlockingQueue<>();
+
+    private final boolean isSharedExecutor;
+
     private PriorityThreadPool(ExecutorService executorService) {
+        this(executorService, null, false);
+    }
+
+    private PriorityThreadPool(ExecutorService executorService, Semaphore permits, boolean isSharedExecutor) {
         this.executorService = executorService;
+        this.permits = permits;
+        this.isSharedExecutor = isSharedExecutor;
     }
 
     /**
@@ -51,20 +72,95 @@ public class PriorityThreadPool {
         return new PriorityThreadPool(threadPoolExecutor);
     }
 
+    /**
+     * 构造一个基于虚拟线程执行的线程池
+     * 运行环境支持虚拟线程时，每个任务在独立的虚拟线程中执行，否则使用共享的可伸缩平台线程池；
+     * 并发度由信号量控制，优先级通过准入顺序而不是线程池队列位置保证，阻塞在LLM、HTTP或工具调用上的任务不会占满共享线程
+     *
+     * @param key 线程池名称
+     * @param parallelNum 最大并发度
+     * @return 带有优先级准入的线程池
+     */
+    public static PriorityThreadPool buildVirtual(String key, int parallelNum) {
+        LOG.debug("[node-pool-{}] build virtual pool, parallel num: {}, virtual thread: {}.", key, parallelNum,
+                VirtualExecutorHolder.IS_VIRTUAL);
+        return new PriorityThreadPool(VirtualExecutorHolder.EXECUTOR, new Semaphore(Math.max(1, parallelNum)), true);
+    }
+
     /**
      * 提交任务
      *
      * @param task 任务
      */
     public void submit(PriorityTask task) {
-        this.executorService.execute(task);
+        if (this.permits == null) {
+            this.executorService.execute(task);
+            return;
+        }
+        this.pending.offer(task);
+        this.dispatch();
     }
 
     /**
      * 关闭
+     * 使用共享执行器时不关闭执行器，等待准入的任务仍按并发度执行完
      */
     public void shutdown() {
-        this.executorService.shutdown();
+        if (!this.isSharedExecutor) {
+            this.executorService.shutdown();
+        }
+    }
+
+    private void dispatch() {
+        while (!this.pending.isEmpty() && this.permits.tryAcquire()) {
+            PriorityTask next = this.pending.poll();
+            if (next == null) {
+                this.permits.release();
+                return;
+            }
+            try {
+                this.executorService.execute(() -> this.runAdmitted(next));
+            } catch (RuntimeException ex) {
+                this.permits.release();
+                throw ex;
+            }
+        }
+    }
+
+    private void runAdmitted(PriorityTask task) {
+        try {
+            task.run();
+        } catch (Throwable throwable) {
+            LOG.error("The node pool run failed, error cause: {}, message: {}.", throwable.getCause(),
+                    throwable.getMessage());
+            LOG.error("The node pool run failed details: ", throwable);
+        } finally {
+            this.permits.release();
+            this.dispatch();
+        }
+    }
+
+    private static class VirtualExecutorHolder {
+        private static final boolean IS_VIRTUAL;
+
+        private static final ExecutorService EXECUTOR;
+
+        static {
+            ExecutorService virtual = null;
+            try {
+                virtual = ObjectUtils.cast(
+                        Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                LOG.info("Virtual threads are not available, use elastic platform threads instead.");
+            }
+            IS_VIRTUAL = virtual != null;
+            EXECUTOR = IS_VIRTUAL ? virtual : Executors.newCachedThreadPool(
+                    new CustomThreadFactory("flow-node-elastic-pool", (thread, throwable) -> {
+                        LOG.error("[flow-node-elastic-pool]: The node pool run failed, error cause: {}, message: {}.",
+                                throwable.getCause(), throwable.getMessage());
+                        LOG.error("The node pool run failed details: ", throwable);
+                    }));
+        }
     }
 
     /**
@@ -0,0 +1,97 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.flowsengine.biz.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import modelengine.fit.waterflow.common.utils.SleepUtil;
+import modelengine.fit.waterflow.flowsengine.domain.flows.context.repo.flowlock.FlowLocks;
+import modelengine.fit.waterflow.flowsengine.domain.flows.context.repo.flowlock.FlowLocksMemo;
+import modelengine.fit.waterflow.spi.lock.InvalidDistributedLockNotify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * {@link DefaultTraceOwnerService}测试类
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+class DefaultTraceOwnerServiceTest {
+    private FlowLocks locks;
+
+    private DefaultTraceOwnerService traceOwnerService;
+
+    @BeforeEach
+    void setUp() {
+        this.locks = new FlowLocksMemo();
+        this.traceOwnerService = new DefaultTraceOwnerService(this.locks,
+                Mockito.mock(InvalidDistributedLockNotify.class));
+    }
+
+    @Test
+    @DisplayName("trace未变化时复用同一个快照，变化后生成新的快照")
+    void shouldReuseSnapshotUntilTracesChanged() {
+        this.traceOwnerService.own("trace1", "trans1");
+        List<String> first = this.traceOwnerService.getTraces();
+
+        assertSame(first, this.traceOwnerService.getTraces());
+        this.traceOwnerService.own("trace2", "trans1");
+        List<String> second = this.traceOwnerService.getTraces();
+        assertNotSame(first, second);
+        assertEquals(new HashSet<>(List.of("trace1", "trace2")), new HashSet<>(second));
+        this.traceOwnerService.release("trace1");
+        assertEquals(List.of("trace2"), this.traceOwnerService.getTraces());
+        assertFalse(this.traceOwnerService.isOwn("trace1"));
+    }
+
+    @Test
+    @DisplayName("批量归属trace")
+    void shouldOwnAllTraces() {
+        Map<String, String> traceTransIds = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            traceTransIds.put("batchTrace" + i, "trans1");
+        }
+
+        this.traceOwnerService.ownAll(traceTransIds);
+
+        assertEquals(traceTransIds.keySet(), new HashSet<>(this.traceOwnerService.getTraces()));
+    }
+
+    @Test
+    @DisplayName("trace锁被占用时异步重试，锁释放后完成归属")
+    void shouldRetryAsyncUntilLockReleased() throws Exception {
+        Lock lock = this.locks.getDistributedLock(this.locks.traceLockKey("busyTrace1"));
+        lock.lock();
+        CompletableFuture<Void> future;
+        try {
+            future = this.traceOwnerService.ownAsync("busyTrace1", "trans1");
+            SleepUtil.sleep(300);
+            assertFalse(future.isDone());
+        } finally {
+            lock.unlock();
+        }
+
+        future.get(5, TimeUnit.SECONDS);
+        assertTrue(this.traceOwnerService.isOwn("busyTrace1"));
+    }
+}
@@ -0,0 +1,118 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.flowsengine.domain.flows.context.repo.flowcontext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import modelengine.fit.waterflow.flowsengine.domain.flows.enums.FlowNodeStatus;
+import modelengine.fit.waterflow.flowsengine.persist.entity.FlowContextUpdateInfo;
+import modelengine.fit.waterflow.flowsengine.persist.entity.FlowContextWriteOp;
+import modelengine.fit.waterflow.flowsengine.persist.mapper.FlowContextMapper;
+import modelengine.fit.waterflow.flowsengine.persist.po.FlowContextPO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link FlowContextWriteBuffer}测试类
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@ExtendWith(MockitoExtension.class)
+class FlowContextWriteBufferTest {
+    private static final List<String> EXCLUSIVE = Collections.singletonList(FlowNodeStatus.ARCHIVED.toString());
+
+    @Mock
+    private FlowContextMapper contextMapper;
+
+    private FlowContextWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        this.buffer = new FlowContextWriteBuffer(this.contextMapper);
+    }
+
+    @Test
+    void shouldMergeStatusUpdateIntoPendingCreate() {
+        FlowContextPO created = FlowContextPO.builder()
+                .contextId("new")
+                .status(FlowNodeStatus.NEW.toString())
+                .positionId("node")
+                .build();
+
+        this.buffer.run(() -> {
+            this.buffer.create(Collections.singletonList(created));
+            this.buffer.updateStatus(FlowContextWriteOp.STATUS_POSITION, Collections.singletonList("new"),
+                    updateInfo(FlowNodeStatus.PENDING), EXCLUSIVE);
+            this.buffer.toSent(Collections.singletonList("new"));
+            assertTrue(this.buffer.isPendingCreate("new"));
+        });
+
+        List<FlowContextWriteOp> ops = this.captureSingleFlush();
+        assertEquals(1, ops.size());
+        assertEquals(FlowContextWriteOp.CREATE, ops.get(0).getType());
+        FlowContextPO flushed = ops.get(0).getContexts().get(0);
+        assertEquals(FlowNodeStatus.PENDING.toString(), flushed.getStatus());
+        assertEquals("edge", flushed.getPositionId());
+        assertTrue(flushed.isSent());
+        assertFalse(this.buffer.isBuffering());
+    }
+
+    @Test
+    void shouldMergeConsecutiveStatusUpdatesIntoOneStatement() {
+        this.buffer.run(() -> {
+            this.buffer.updateStatus(FlowContextWriteOp.STATUS_POSITION, Collections.singletonList("c1"),
+                    updateInfo(FlowNodeStatus.PENDING), EXCLUSIVE);
+            this.buffer.updateStatus(FlowContextWriteOp.STATUS_POSITION, Collections.singletonList("c2"),
+                    updateInfo(FlowNodeStatus.PENDING), EXCLUSIVE);
+            this.buffer.toSent(Collections.singletonList("c3"));
+            this.buffer.toSent(Collections.singletonList("c4"));
+        });
+
+        List<FlowContextWriteOp> ops = this.captureSingleFlush();
+        assertEquals(2, ops.size());
+        assertEquals(Arrays.asList("c1", "c2"), ops.get(0).getIds());
+        assertEquals(Arrays.asList("c3", "c4"), ops.get(1).getIds());
+    }
+
+    @Test
+    void shouldFlushPendingWritesWhenFlushInsideBatch() {
+        this.buffer.run(() -> {
+            this.buffer.toSent(Collections.singletonList("c1"));
+            this.buffer.flush();
+            verify(this.contextMapper, times(1)).flushWrites(anyList());
+        });
+        verify(this.contextMapper, times(1)).flushWrites(anyList());
+        verify(this.contextMapper, never()).updateToSent(anyList());
+    }
+
+    private List<FlowContextWriteOp> captureSingleFlush() {
+        ArgumentCaptor<List<FlowContextWriteOp>> captor = ArgumentCaptor.forClass(List.class);
+        verify(this.contextMapper, times(1)).flushWrites(captor.capture());
+        return captor.getValue();
+    }
+
+    private static FlowContextUpdateInfo updateInfo(FlowNodeStatus status) {
+        return new FlowContextUpdateInfo(status.toString(), "edge", LocalDateTime.now(), null);
+    }
+}
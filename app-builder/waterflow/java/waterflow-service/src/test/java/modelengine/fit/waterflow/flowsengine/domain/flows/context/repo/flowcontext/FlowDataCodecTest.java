@@ -0,0 +1,162 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.flowsengine.domain.flows.context.repo.flowcontext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+
+import modelengine.fit.waterflow.flowsengine.domain.flows.context.FlowData;
+import modelengine.fit.waterflow.flowsengine.domain.flows.enums.FlowDataFormat;
+import modelengine.fit.waterflow.flowsengine.persist.mapper.FlowContextMapper;
+import modelengine.fit.waterflow.flowsengine.persist.po.FlowDataBlobPO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * {@link FlowDataCodec}测试类
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@ExtendWith(MockitoExtension.class)
+class FlowDataCodecTest {
+    private static final String TRANS_ID = "trans1";
+
+    private static final int NODE_COUNT = 10;
+
+    @Mock
+    private FlowContextMapper contextMapper;
+
+    private final Map<String, FlowDataBlobPO> blobs = new ConcurrentHashMap<>();
+
+    private final AtomicLong blobBytes = new AtomicLong(0L);
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(invocation -> {
+            List<FlowDataBlobPO> created = invocation.getArgument(0);
+            created.forEach(blob -> {
+                if (this.blobs.putIfAbsent(blob.getHash(), blob) == null) {
+                    this.blobBytes.addAndGet(blob.getContent().length());
+                }
+            });
+            return null;
+        }).when(this.contextMapper).createFlowDataBlobs(anyList());
+        lenient().doAnswer(invocation -> {
+            List<String> hashes = invocation.getArgument(1);
+            return hashes.stream().map(this.blobs::get).collect(Collectors.toList());
+        }).when(this.contextMapper).findFlowDataBlobs(anyString(), anyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        FlowDataCodec.configure(FlowDataFormat.JSON, 4096);
+    }
+
+    @Test
+    @DisplayName("COMPACT格式下可以读取原有JSON格式的数据")
+    void shouldDecodeLegacyJsonWhenCompact() {
+        FlowDataCodec.configure(FlowDataFormat.COMPACT, 16);
+        FlowData data = flowData(history(3));
+        String legacy = data.translateToJson();
+
+        FlowData decoded = new FlowDataCodec(this.contextMapper).decode(legacy, TRANS_ID);
+
+        assertEquals(data.getBusinessData(), decoded.getBusinessData());
+        assertEquals(legacy, new FlowDataCodec(this.contextMapper).toJson(legacy, TRANS_ID));
+    }
+
+    @Test
+    @DisplayName("COMPACT格式编码后解码得到相同的业务数据，未变化的业务数据只写入一次")
+    void shouldRoundTripAndWriteUnchangedBlobOnce() {
+        FlowDataCodec.configure(FlowDataFormat.COMPACT, 1024);
+        FlowDataCodec codec = new FlowDataCodec(this.contextMapper);
+        FlowData data = flowData(history(50));
+        String first = codec.encode(data, TRANS_ID);
+        data.getBusinessData().put("node1", "output");
+        String second = codec.encode(data, TRANS_ID);
+
+        assertEquals(1, this.blobs.size());
+        assertTrue(second.contains(FlowDataCodec.VERSION_KEY));
+        // 使用新的实例，从数据库读取业务数据
+        FlowData decoded = new FlowDataCodec(this.contextMapper).decode(second, TRANS_ID);
+        assertEquals(data.getBusinessData(), decoded.getBusinessData());
+        assertEquals(data.getContextData(), decoded.getContextData());
+        assertEquals(FlowData.parseFromJson(data.translateToJson()).getBusinessData(),
+                FlowData.parseFromJson(codec.toJson(first, TRANS_ID)).getBusinessData());
+    }
+
+    @Test
+    @DisplayName("10节点链路中JSON格式与COMPACT格式每个trace写入的字节数对比")
+    void shouldReduceBytesWrittenPerTrace() {
+        FlowDataCodec.configure(FlowDataFormat.JSON, 4096);
+        long json = this.bytesWrittenPerTrace();
+        FlowDataCodec.configure(FlowDataFormat.COMPACT, 4096);
+        long compact = this.bytesWrittenPerTrace();
+        assertTrue(compact < json);
+    }
+
+    private long bytesWrittenPerTrace() {
+        this.blobs.clear();
+        this.blobBytes.set(0L);
+        FlowDataCodec codec = new FlowDataCodec(this.contextMapper);
+        FlowData data = flowData(history(200));
+        long rows = 0L;
+        for (int i = 0; i < NODE_COUNT; i++) {
+            data.getBusinessData().put("node" + i, "output of node " + i);
+            data.getContextData().put("nodeMetaId", "node" + i);
+            rows += codec.encode(data, TRANS_ID).length();
+        }
+        return rows + this.blobBytes.get();
+    }
+
+    private static FlowData flowData(List<Map<String, Object>> history) {
+        Map<String, Object> businessData = new HashMap<>();
+        businessData.put("application", "app");
+        businessData.put("histories", history);
+        Map<String, Object> contextData = new HashMap<>();
+        contextData.put("flowTraceIds", List.of("trace1"));
+        return FlowData.builder()
+                .operator("user")
+                .startTime(LocalDateTime.now())
+                .businessData(businessData)
+                .contextData(contextData)
+                .passData(new HashMap<>())
+                .build();
+    }
+
+    private static List<Map<String, Object>> history(int count) {
+        List<Map<String, Object>> history = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> message = new HashMap<>();
+            message.put("question", "question " + i + " about the knowledge base and its retrieved documents");
+            message.put("answer", "answer " + i + " with a long explanation repeated from retrieved chunks. "
+                    .repeat(10));
+            history.add(message);
+        }
+        return history;
+    }
+}
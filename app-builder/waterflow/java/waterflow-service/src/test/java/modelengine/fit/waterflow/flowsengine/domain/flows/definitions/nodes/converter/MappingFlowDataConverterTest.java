@@ -6,6 +6,8 @@
 
 package modelengine.fit.waterflow.flowsengine.domain.flows.definitions.nodes.converter;
 
+import static modelengine.fit.waterflow.common.Constant.BUSINESS_DATA_INTERNAL_KEY;
+import static modelengine.fit.waterflow.common.Constant.INTERNAL_OUTPUT_SCOPE_KEY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -19,7 +21,9 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 测试FlowData的输入输出转换
@@ -59,4 +63,56 @@ class MappingFlowDataConverterTest {
         assertEquals("str1", flowData.getBusinessData().get("str"));
         assertEquals(666, flowData.getBusinessData().get("int"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("预编译的引用映射与逐条处理的结果一致")
+    void shouldMatchProcessorResultWhenConvertInputGivenReferenceMappings() {
+        Map<String, Object> nodeOutput = new HashMap<>();
+        Map<String, Object> businessData = new HashMap<>();
+        List<MappingNode> inputMappingConfig = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String key = "key" + i;
+            if (i % 3 == 0) {
+                nodeOutput.put(key, Collections.singletonMap("value", i));
+            } else if (i % 3 == 1) {
+                businessData.put(key, Collections.singletonMap("value", i));
+            }
+            inputMappingConfig.add(new MappingNode("name" + i, MappingNodeType.INTEGER, MappingFromType.REFERENCE,
+                    Arrays.asList(key, "value"), "node1", i % 2 == 0));
+        }
+        businessData.put(BUSINESS_DATA_INTERNAL_KEY,
+                Collections.singletonMap(INTERNAL_OUTPUT_SCOPE_KEY, Collections.singletonMap("node1", nodeOutput)));
+        MappingFlowDataConverter target = new MappingFlowDataConverter(inputMappingConfig, null);
+
+        Map<String, Object> result = target.convertInput(businessData);
+
+        assertEquals(50, result.size());
+        inputMappingConfig.forEach(config -> assertEquals(
+                MappingProcessorFactory.get(config).generate(config, businessData), result.get(config.getName())));
+        assertEquals(0, result.get("name0"));
+        assertEquals(4, result.get("name4"));
+        Assertions.assertNull(result.get("name1"));
+        Assertions.assertNull(result.get("name2"));
+    }
+
+    @Test
+    @DisplayName("预编译的展开映射按配置生成对象和列表")
+    void shouldGenerateNestedValueWhenConvertInputGivenExpandMappings() {
+        List<MappingNode> children = Arrays.asList(
+                new MappingNode("str", MappingNodeType.STRING, MappingFromType.INPUT, "str1", ""),
+                new MappingNode("ref", MappingNodeType.STRING, MappingFromType.REFERENCE,
+                        Collections.singletonList("source"), "", true));
+        List<MappingNode> inputMappingConfig = Arrays.asList(
+                new MappingNode("obj", MappingNodeType.OBJECT, MappingFromType.EXPAND, children, ""),
+                new MappingNode("arr", MappingNodeType.ARRAY, MappingFromType.EXPAND, children, ""));
+        MappingFlowDataConverter target = new MappingFlowDataConverter(inputMappingConfig, null);
+
+        Map<String, Object> result = target.convertInput(Collections.singletonMap("source", "value"));
+
+        Map<String, Object> expectObject = new HashMap<>();
+        expectObject.put("str", "str1");
+        expectObject.put("ref", "value");
+        assertEquals(expectObject, result.get("obj"));
+        assertEquals(Arrays.asList("str1", "value"), result.get("arr"));
+    }
+}
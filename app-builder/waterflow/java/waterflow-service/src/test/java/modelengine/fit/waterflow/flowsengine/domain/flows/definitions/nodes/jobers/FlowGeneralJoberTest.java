@@ -7,14 +7,22 @@
 package modelengine.fit.waterflow.flowsengine.domain.flows.definitions.nodes.jobers;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.alibaba.fastjson.JSONObject;
+
 import modelengine.fit.waterflow.ErrorCodes;
 import modelengine.fit.waterflow.exceptions.WaterflowException;
 import modelengine.fit.waterflow.flowsengine.domain.flows.context.FlowData;
 import modelengine.fit.waterflow.spi.FlowableService;
 import modelengine.fitframework.broker.client.BrokerClient;
+import modelengine.fitframework.broker.client.Invoker;
+import modelengine.fitframework.broker.client.Router;
 import modelengine.fitframework.exception.FitException;
 
 import org.junit.jupiter.api.Assertions;
@@ -26,6 +34,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 
 /**
  * FlowGeneralJober对应测试类
@@ -58,9 +68,38 @@ class FlowGeneralJoberTest {
         flowData.getBusinessData().put("name", "hello");
 
         WaterflowException exception = assertThrows(WaterflowException.class, () -> {
-            target.executeJober(Collections.singletonList(flowData));
+            target.executeJober(Collections.singletonList(flowData), target.resolvePlan(flowData));
         });
 
         Assertions.assertEquals(ErrorCodes.FLOW_GENERAL_JOBER_INVOKE_ERROR.getErrorCode(), exception.getCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("执行GeneralJober时使用执行计划中的fitables和entity，不修改节点定义")
+    void shouldInvokePlanFitablesWhenExecuteJoberGivenOverridePlan() {
+        Router router = mock(Router.class);
+        Invoker invoker = mock(Invoker.class);
+        when(brokerClient.getRouter(FlowableService.class, "b735c87f5e7e408d852d8440d0b2ecdf")).thenReturn(router);
+        when(router.route(any())).thenReturn(invoker);
+        when(invoker.communicationType(any())).thenReturn(invoker);
+        when(invoker.invoke(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        Map<String, Object> fitablesConfig = spy(new HashMap<>());
+        target.setFitablesConfig(fitablesConfig);
+        target.setNodeMetaId("state1");
+        FlowData flowData = FlowData.builder().businessData(new HashMap<>()).contextData(new HashMap<>()).build();
+        flowData.getBusinessData()
+                .put("state1", JSONObject.parseObject(
+                        "{\"jober\":{\"fitables\":[\"overrideFitable\"],\"entity\":\"{\\\"b\\\":2}\"}}"));
+
+        FlowJoberPlan plan = target.resolvePlan(flowData);
+        List<FlowData> result = target.executeJober(Collections.singletonList(flowData), plan);
+
+        verify(fitablesConfig).get("overrideFitable");
+        verify(fitablesConfig, never()).get("fitableId");
+        Assertions.assertEquals(1, result.size());
+        JSONObject entity = (JSONObject) result.get(0).getBusinessData().get("entity");
+        Assertions.assertEquals(2, entity.getIntValue("b"));
+        Assertions.assertEquals(Collections.singleton("fitableId"), target.getFitables());
+        Assertions.assertFalse(target.getProperties().containsKey("entity"));
+    }
+}
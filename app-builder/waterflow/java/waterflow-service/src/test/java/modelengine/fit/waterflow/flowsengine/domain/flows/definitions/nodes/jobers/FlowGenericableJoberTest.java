@@ -86,7 +86,8 @@ class FlowGenericableJoberTest {
         });
 
         FlowData flowData = FlowData.builder().businessData(new HashMap<>()).contextData(new HashMap<>()).build();
-        List<FlowData> result = target.executeJober(Collections.singletonList(flowData));
+        List<FlowData> result =
+                target.executeJober(Collections.singletonList(flowData), target.resolvePlan(flowData));
 
         Assertions.assertEquals(1, result.size());
         Assertions.assertEquals(expectGenericableResult, result.get(0).getBusinessData().get("_result"));
@@ -100,7 +101,7 @@ class FlowGenericableJoberTest {
         flowData.getBusinessData().put("name", "hello");
 
         WaterflowException exception = assertThrows(WaterflowException.class, () -> {
-            target.executeJober(Collections.singletonList(flowData));
+            target.executeJober(Collections.singletonList(flowData), target.resolvePlan(flowData));
         });
 
         Assertions.assertEquals(ErrorCodes.FLOW_GENERICALBE_JOBER_INVOKE_ERROR.getErrorCode(), exception.getCode());
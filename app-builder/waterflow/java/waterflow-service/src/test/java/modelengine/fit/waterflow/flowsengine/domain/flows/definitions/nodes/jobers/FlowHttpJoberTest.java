@@ -58,7 +58,7 @@ class FlowHttpJoberTest {
         flowData.getBusinessData().put("name", "hello");
 
         WaterflowException exception = assertThrows(WaterflowException.class, () -> {
-            target.executeJober(Collections.singletonList(flowData));
+            target.executeJober(Collections.singletonList(flowData), target.resolvePlan(flowData));
         });
 
         Assertions.assertEquals(ErrorCodes.FLOW_HTTP_JOBER_INVOKE_ERROR.getErrorCode(), exception.getCode());
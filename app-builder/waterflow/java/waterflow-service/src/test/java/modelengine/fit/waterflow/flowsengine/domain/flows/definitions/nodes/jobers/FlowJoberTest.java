@@ -0,0 +1,82 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.flowsengine.domain.flows.definitions.nodes.jobers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.alibaba.fastjson.JSONObject;
+
+import modelengine.fit.waterflow.flowsengine.domain.flows.context.FlowData;
+import modelengine.fit.waterflow.flowsengine.domain.flows.enums.FlowJoberProperties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * {@link FlowJober} 执行计划的测试
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+class FlowJoberTest {
+    private static final String NODE_META_ID = "state1";
+
+    private FlowJober jober;
+
+    @BeforeEach
+    void setUp() {
+        this.jober = new FlowGeneralJober();
+        this.jober.setNodeMetaId(NODE_META_ID);
+        this.jober.setFitables(new LinkedHashSet<>(Collections.singletonList("defaultFitable")));
+        Map<String, String> properties = new HashMap<>();
+        properties.put(FlowJoberProperties.ENTITY.getValue(), "{\"a\":1}");
+        this.jober.setProperties(properties);
+    }
+
+    @Test
+    @DisplayName("测试业务数据覆盖jober配置时不修改节点定义")
+    void shouldNotModifyDefinitionWhenResolvePlanGivenOverride() {
+        FlowJoberPlan plan = this.jober.resolvePlan(this.flowData(
+                "{\"jober\":{\"fitables\":[\"overrideFitable\"],\"entity\":\"{\\\"b\\\":2}\"}}"));
+
+        assertEquals(Collections.singleton("overrideFitable"), plan.getFitables());
+        assertEquals("{\"b\":2}", plan.getProperties().get(FlowJoberProperties.ENTITY.getValue()));
+        assertEquals(Collections.singleton("defaultFitable"), this.jober.getFitables());
+        assertEquals("{\"a\":1}", this.jober.getProperties().get(FlowJoberProperties.ENTITY.getValue()));
+    }
+
+    @Test
+    @DisplayName("测试相同覆盖配置复用执行计划，节点定义变化后重新解析")
+    void shouldReusePlanWhenResolvePlanGivenSameOverride() {
+        String override = "{\"jober\":{\"fitables\":[\"overrideFitable\"]}}";
+        FlowJoberPlan plan = this.jober.resolvePlan(this.flowData(override));
+        FlowJoberPlan defaultPlan = this.jober.resolvePlan(FlowData.builder().businessData(new HashMap<>()).build());
+
+        assertSame(plan, this.jober.resolvePlan(this.flowData(override)));
+        assertEquals(Collections.singleton("defaultFitable"), defaultPlan.getFitables());
+
+        this.jober.setFitables(new LinkedHashSet<>(Collections.singletonList("newFitable")));
+        FlowJoberPlan newDefaultPlan =
+                this.jober.resolvePlan(FlowData.builder().businessData(new HashMap<>()).build());
+        assertNotSame(defaultPlan, newDefaultPlan);
+        assertEquals(Collections.singleton("newFitable"), newDefaultPlan.getFitables());
+    }
+
+    private FlowData flowData(String nodeConfig) {
+        Map<String, Object> businessData = new HashMap<>();
+        businessData.put(NODE_META_ID, JSONObject.parseObject(nodeConfig));
+        return FlowData.builder().businessData(businessData).build();
+    }
+}
@@ -86,7 +86,8 @@ class FlowStoreJoberTest {
 
         FlowData flowData = FlowData.builder().businessData(new HashMap<>()).contextData(new HashMap<>()).build();
         flowData.getBusinessData().put("name", "hello");
-        List<FlowData> result = target.executeJober(Collections.singletonList(flowData));
+        List<FlowData> result =
+                target.executeJober(Collections.singletonList(flowData), target.resolvePlan(flowData));
 
         ArgumentCaptor<String> arg1 = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> arg2 = ArgumentCaptor.forClass(String.class);
@@ -106,7 +107,7 @@ class FlowStoreJoberTest {
         flowData.getBusinessData().put("name", "hello");
 
         WaterflowException exception = assertThrows(WaterflowException.class, () -> {
-            target.executeJober(Collections.singletonList(flowData));
+            target.executeJober(Collections.singletonList(flowData), target.resolvePlan(flowData));
         });
 
         Assertions.assertEquals(ErrorCodes.FLOW_STORE_JOBER_INVOKE_ERROR.getErrorCode(), exception.getCode());
@@ -0,0 +1,107 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.flowsengine.utils;
+
+import static modelengine.fit.waterflow.flowsengine.domain.flows.FlowsTestUtil.MAX_WAIT_TIME_MS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import modelengine.fit.waterflow.MethodNameLoggerExtension;
+import modelengine.fit.waterflow.flowsengine.domain.flows.Activities;
+import modelengine.fit.waterflow.flowsengine.domain.flows.Flows;
+import modelengine.fit.waterflow.flowsengine.domain.flows.FlowsTestUtil;
+import modelengine.fit.waterflow.flowsengine.domain.flows.context.repo.flowcontext.FlowContextMemoMessenger;
+import modelengine.fit.waterflow.flowsengine.domain.flows.context.repo.flowcontext.FlowContextMemoRepo;
+import modelengine.fit.waterflow.flowsengine.domain.flows.context.repo.flowlock.FlowLocksMemo;
+import modelengine.fit.waterflow.flowsengine.domain.flows.enums.NodeScheduleMode;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 节点事件驱动调度测试
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+@ExtendWith(MethodNameLoggerExtension.class)
+class FlowNodeSchedulerTest {
+    private static final int NODE_COUNT = 10;
+
+    private static final int ROUNDS = 5;
+
+    @AfterEach
+    void tearDown() {
+        FlowNodeScheduler.setMode(NodeScheduleMode.POLLING);
+    }
+
+    @Test
+    @DisplayName("唤醒信号在执行期间被触发时会再执行一轮")
+    void shouldDrainAgainWhenWakeupDuringDrain() throws InterruptedException {
+        AtomicInteger drained = new AtomicInteger(0);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FlowNodeScheduler.Signal signal = FlowNodeScheduler.register("scheduler-test-signal", () -> {
+            if (drained.incrementAndGet() == 1) {
+                entered.countDown();
+                awaitQuietly(release);
+            }
+        });
+
+        signal.wakeup();
+        assertTrue(entered.await(MAX_WAIT_TIME_MS, TimeUnit.MILLISECONDS));
+        signal.wakeup();
+        signal.wakeup();
+        release.countDown();
+
+        FlowsTestUtil.waitUntil(() -> drained.get() >= 2, MAX_WAIT_TIME_MS);
+        FlowNodeScheduler.unregister("scheduler-test-signal");
+        assertEquals(2, drained.get());
+    }
+
+    @Test
+    @DisplayName("事件驱动模式下10节点线性流程执行完成且不为节点启动常驻线程")
+    void shouldRunLinearFlowWithoutNodeThreadsWhenEventDriven() {
+        FlowNodeScheduler.setMode(NodeScheduleMode.EVENT_DRIVEN);
+        AtomicLong result = new AtomicLong(0);
+        Activities.State<Integer, Integer, Integer, Flows.ProcessFlow<Integer>> state = Flows.<Integer>create(
+                new FlowContextMemoRepo(), new FlowContextMemoMessenger(), new FlowLocksMemo()).map(i -> i + 1);
+        for (int i = 1; i < NODE_COUNT; i++) {
+            state = state.map(value -> value + 1);
+        }
+        Flows.ProcessFlow<Integer> flow = state.close(r -> result.set(r.get().getData()));
+        String streamId = flow.start().getStreamId();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            result.set(0);
+            flow.offer(0);
+            FlowsTestUtil.waitUntil(() -> result.get() == NODE_COUNT, MAX_WAIT_TIME_MS);
+            assertEquals(NODE_COUNT, result.get());
+        }
+        FlowNodeScheduler.unregister(streamId);
+        assertTrue(Thread.getAllStackTraces()
+                .keySet()
+                .stream()
+                .map(Thread::getName)
+                .noneMatch(name -> name.contains(streamId)));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(MAX_WAIT_TIME_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -22,6 +22,11 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * OhScript执行测试类
@@ -197,4 +202,36 @@ class OhScriptExecutorTest {
             assertTrue(OhScriptExecutor.evaluateConditionRule(flowData, conditionRule));
         }
     }
+
+    @Nested
+    @DisplayName("已编译条件规则共享缓存测试集合")
+    class SharedAstCacheTest {
+        private static final int THREAD_COUNT = 8;
+
+        @Test
+        @DisplayName("多线程使用同一条件规则时按各自的业务数据得到正确结果")
+        void shouldEvaluateConcurrentlyWithOwnBusinessData() throws InterruptedException {
+            String conditionRule = "businessData.get(\"score\") > 5";
+            ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+            AtomicInteger mismatches = new AtomicInteger(0);
+            CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                executor.execute(() -> {
+                    for (int j = 0; j < 200; j++) {
+                        Map<String, Object> businessData = new HashMap<>();
+                        businessData.put("score", j % 10);
+                        FlowData flowData = FlowData.builder().businessData(businessData).build();
+                        if (OhScriptExecutor.evaluateConditionRule(flowData, conditionRule) != (j % 10 > 5)) {
+                            mismatches.incrementAndGet();
+                        }
+                    }
+                    done.countDown();
+                });
+            }
+
+            assertTrue(done.await(60, TimeUnit.SECONDS));
+            executor.shutdown();
+            assertEquals(0, mismatches.get());
+        }
+    }
 }
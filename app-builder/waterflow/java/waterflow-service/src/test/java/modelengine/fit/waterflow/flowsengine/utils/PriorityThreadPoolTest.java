@@ -0,0 +1,143 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.flowsengine.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import modelengine.fit.waterflow.exceptions.WaterflowParamException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 带有任务优先级的线程池测试
+ *
+ * @author agent
+ * @since 2026/10/18
+ */
+class PriorityThreadPoolTest {
+    private static final int NODE_COUNT = 4;
+
+    private static final int TASKS_PER_NODE = 8;
+
+    private static final int PLATFORM_POOL_SIZE = 16;
+
+    @AfterEach
+    void tearDown() {
+        FlowExecutors.configure(FlowExecutors.Backend.PLATFORM, FlowExecutors.LimitScope.NODE, PLATFORM_POOL_SIZE);
+    }
+
+    @Test
+    @DisplayName("虚拟线程后端按优先级准入任务且不超过并发度")
+    void shouldAdmitByPriorityAndRespectParallelNum() throws InterruptedException {
+        PriorityThreadPool pool = PriorityThreadPool.buildVirtual("priority-test", 1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(4);
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        pool.submit(task(0, 0, () -> await(blocker), done, executed, running, maxRunning));
+        pool.submit(task(1, 1, () -> {}, done, executed, running, maxRunning));
+        pool.submit(task(3, 2, () -> {}, done, executed, running, maxRunning));
+        pool.submit(task(2, 3, () -> {}, done, executed, running, maxRunning));
+        blocker.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        pool.shutdown();
+        // 越往后的节点执行优先级越高
+        assertEquals(List.of(0, 3, 2, 1), executed);
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("虚拟线程后端下阻塞节点的任务数超过平台线程池大小时仍能同时执行")
+    void shouldRunBlockedTasksBeyondPlatformPoolSizeWhenVirtual() throws InterruptedException {
+        FlowExecutors.configure(FlowExecutors.Backend.VIRTUAL, FlowExecutors.LimitScope.NODE, PLATFORM_POOL_SIZE);
+        CountDownLatch allStarted = new CountDownLatch(NODE_COUNT * TASKS_PER_NODE);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int node = 0; node < NODE_COUNT; node++) {
+            PriorityThreadPool pool = FlowExecutors.getThreadPool("virtual-stream", "node" + node, TASKS_PER_NODE);
+            for (int i = 0; i < TASKS_PER_NODE; i++) {
+                pool.submit(PriorityThreadPool.PriorityTask.builder()
+                        .priority(PriorityThreadPool.PriorityTask.PriorityInfo.builder()
+                                .order(node)
+                                .createTime(System.currentTimeMillis())
+                                .build())
+                        .runner(() -> {
+                            allStarted.countDown();
+                            await(release);
+                        })
+                        .build());
+            }
+        }
+
+        // 所有任务同时阻塞，说明并发执行的任务数超过了平台线程池的大小
+        assertTrue(allStarted.await(10, TimeUnit.SECONDS));
+        release.countDown();
+        FlowExecutors.removeStreamThreadPools("virtual-stream");
+    }
+
+    @Test
+    @DisplayName("删除流程版本的线程池后重新创建，且不影响其他流程版本")
+    void shouldRecreatePoolWhenStreamPoolsRemoved() {
+        FlowExecutors.configure(FlowExecutors.Backend.VIRTUAL, FlowExecutors.LimitScope.NODE, PLATFORM_POOL_SIZE);
+        PriorityThreadPool removed = FlowExecutors.getThreadPool("stream", "node", 1);
+        PriorityThreadPool kept = FlowExecutors.getThreadPool("stream0", "node", 1);
+
+        FlowExecutors.removeStreamThreadPools("stream");
+
+        assertNotSame(removed, FlowExecutors.getThreadPool("stream", "node", 1));
+        assertSame(kept, FlowExecutors.getThreadPool("stream0", "node", 1));
+        FlowExecutors.removeStreamThreadPools("stream");
+        FlowExecutors.removeStreamThreadPools("stream0");
+    }
+
+    @Test
+    @DisplayName("执行后端配置错误时抛出参数异常")
+    void shouldThrowParamExceptionWhenBackendInvalid() {
+        assertEquals(FlowExecutors.Backend.VIRTUAL, FlowExecutors.Backend.parseFrom("virtual"));
+        assertThrows(WaterflowParamException.class, () -> FlowExecutors.Backend.parseFrom("unknown"));
+        assertThrows(WaterflowParamException.class, () -> FlowExecutors.LimitScope.parseFrom("unknown"));
+    }
+
+    private static PriorityThreadPool.PriorityTask task(int order, long createTime, Runnable body,
+            CountDownLatch done, List<Integer> executed, AtomicInteger running, AtomicInteger maxRunning) {
+        return PriorityThreadPool.PriorityTask.builder()
+                .priority(PriorityThreadPool.PriorityTask.PriorityInfo.builder()
+                        .order(order)
+                        .createTime(createTime)
+                        .build())
+                .runner(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    executed.add(order);
+                    body.run();
+                    running.decrementAndGet();
+                    done.countDown();
+                })
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -11,13 +11,18 @@ import modelengine.fit.http.client.HttpClassicClientFactory;
 import modelengine.fit.http.client.HttpClassicClientRequest;
 import modelengine.fit.http.client.HttpClassicClientResponse;
 import modelengine.fit.http.entity.Entity;
+import modelengine.fit.http.entity.support.DefaultReadableBinaryEntity;
 import modelengine.fit.http.protocol.HttpRequestMethod;
 import modelengine.fit.http.protocol.HttpResponseStatus;
+import modelengine.fit.http.protocol.MessageHeaderNames;
+import modelengine.fit.http.protocol.MimeType;
 import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.annotation.Destroy;
 import modelengine.fitframework.annotation.Fit;
 import modelengine.fitframework.annotation.Value;
 import modelengine.fitframework.conf.Config;
 import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.StringUtils;
 import modelengine.jade.carver.exporter.OperationLogExporter;
@@ -25,14 +30,20 @@ import modelengine.jade.carver.operation.OperationLogLocaleService;
 import modelengine.jade.carver.operation.support.CompositParam;
 import modelengine.jade.carver.operation.support.OperationLogFields;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * {@link OperationLogExporter} 的默认实现。
+ * <p>操作日志先进入有界队列，由 {@link OperationLogBatchProcessor} 在后台按批发送到采集端，调用方线程不等待采集端响应。
+ * 批量大小为 1 时每次发送单条日志对象，大于 1 时发送日志数组；开启 gzip 压缩时请求体以 gzip 编码发送。</p>
  *
  * @author 刘信宏
  * @since 2024-07-25
@@ -40,6 +51,7 @@ import java.util.stream.Collectors;
 @Component
 public class DefaultOperationLogExporter implements OperationLogExporter {
     private static final Logger log = Logger.get(DefaultOperationLogExporter.class);
+    private static final String GZIP = "gzip";
     private static final List<String> HTTPS_CONFIG_KEYS = Arrays.asList("client.http.secure.ignore-trust",
             "client.http.secure.ignore-hostname",
             "client.http.secure.trust-store-file",
@@ -51,16 +63,40 @@ public class DefaultOperationLogExporter implements OperationLogExporter {
     private final String collectorUri;
     private final OperationLogLocaleService operationLogLocaleService;
     private final Config config;
+    private final ObjectSerializer serializer;
+    private final boolean isBatchBody;
+    private final boolean isGzip;
+    private final OperationLogBatchProcessor processor;
+    private final long shutdownTimeoutMillis;
     private LazyLoader<HttpClassicClient> httpClient;
 
     public DefaultOperationLogExporter(HttpClassicClientFactory httpClientFactory,
             @Value("${collector.url}") String collectorUrl, @Fit OperationLogLocaleService operationLogLocaleService,
-            Config config) {
+            Config config, @Fit(alias = "json") ObjectSerializer serializer,
+            @Value("${collector.queue-capacity:10000}") int queueCapacity,
+            @Value("${collector.batch-size:1}") int batchSize,
+            @Value("${collector.flush-interval:1000}") long flushIntervalMillis,
+            @Value("${collector.compression:none}") String compression,
+            @Value("${collector.max-retries:3}") int maxRetries,
+            @Value("${collector.retry-backoff:500}") long retryBackoffMillis,
+            @Value("${collector.shutdown-timeout:10000}") long shutdownTimeoutMillis) {
         this.httpClientFactory = httpClientFactory;
         this.collectorUri = collectorUrl;
         this.operationLogLocaleService = operationLogLocaleService;
         this.config = config;
+        this.serializer = serializer;
+        this.isBatchBody = batchSize > 1;
+        this.isGzip = StringUtils.equalsIgnoreCase(compression, GZIP);
         this.httpClient = new LazyLoader<>(this::getHttpClient);
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.processor = StringUtils.isBlank(collectorUrl)
+                ? null
+                : new OperationLogBatchProcessor(this::send,
+                        queueCapacity,
+                        batchSize,
+                        flushIntervalMillis,
+                        maxRetries,
+                        retryBackoffMillis);
     }
 
     @Override
@@ -69,28 +105,60 @@ public class DefaultOperationLogExporter implements OperationLogExporter {
         this.exportHandle(fields);
     }
 
+    /**
+     * 停止接收操作日志，在关闭超时时间内发送队列中剩余的日志。
+     */
+    @Destroy
+    public void destroy() {
+        if (this.processor == null) {
+            return;
+        }
+        try {
+            this.processor.close(this.shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private void exportHandle(OperationLogFields fields) {
-        log.info("Operation span. [operation = {}, result = {}, detail = {}]",
+        log.debug("Operation span. [operation = {}, result = {}, detail = {}]",
                 fields.getName(),
                 fields.getOperationResult(),
                 fields.getDetails());
-        if (StringUtils.isBlank(this.collectorUri)) {
+        if (this.processor == null) {
             return;
         }
+        this.processor.offer(fields);
+    }
+
+    private void send(List<OperationLogFields> batch) throws IOException {
         HttpClassicClientRequest request =
                 this.httpClient.get().createRequest(HttpRequestMethod.POST, this.collectorUri);
-        request.entity(Entity.createObject(request, fields));
+        Object body = this.isBatchBody ? batch : batch.get(0);
+        if (this.isGzip) {
+            request.entity(new DefaultReadableBinaryEntity(request, new ByteArrayInputStream(this.gzip(body))));
+            request.headers().set(MessageHeaderNames.CONTENT_TYPE, MimeType.APPLICATION_JSON.value());
+            request.headers().set(MessageHeaderNames.CONTENT_ENCODING, GZIP);
+        } else {
+            request.entity(Entity.createObject(request, body));
+        }
         try (HttpClassicClientResponse<Object> response = request.exchange()) {
             if (response.statusCode() != HttpResponseStatus.OK.statusCode()) {
-                log.error("Export operation log failed. [code={}, reason={}]",
+                throw new IOException(StringUtils.format("Export operation log failed. [code={0}, reason={1}]",
                         response.statusCode(),
-                        response.reasonPhrase());
+                        response.reasonPhrase()));
             }
-        } catch (IOException e) {
-            log.error("Export request Failed", e);
         }
     }
 
+    private byte[] gzip(Object body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(this.serializer.serialize(body).getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
     private HttpClassicClient getHttpClient() {
         Map<String, Object> custom = HTTPS_CONFIG_KEYS.stream()
                 .filter(key -> this.config.keys().contains(key))
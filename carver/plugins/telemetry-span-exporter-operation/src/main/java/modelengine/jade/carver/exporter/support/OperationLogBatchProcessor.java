@@ -0,0 +1,252 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.jade.carver.exporter.support;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.greaterThanOrEquals;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.log.Logger;
+import modelengine.jade.carver.operation.support.OperationLogFields;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 操作日志的异步批量处理器。
+ * <p>调用方线程只负责入队，后台线程在攒够一批或距离首条日志超过刷新间隔时发送一批日志，发送失败时按指数退避重试。
+ * 队列已满时丢弃新日志并输出到本地日志，避免采集端变慢拖慢业务请求。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class OperationLogBatchProcessor implements AutoCloseable {
+    private static final Logger log = Logger.get(OperationLogBatchProcessor.class);
+    private static final long MAX_BACKOFF_MILLIS = 30_000L;
+    private static final OperationLogFields WAKE_UP = new OperationLogFields();
+
+    private final BlockingQueue<OperationLogFields> queue;
+    private final Sender sender;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    private final Thread worker;
+    private final AtomicLong exportedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong reportedDroppedCount = new AtomicLong();
+
+    private volatile boolean isRunning = true;
+
+    /**
+     * 创建操作日志的异步批量处理器，并启动后台发送线程。
+     *
+     * @param sender 表示批量发送操作日志的 {@link Sender}。
+     * @param queueCapacity 表示队列容量的 {@code int}。
+     * @param batchSize 表示每批最大日志数量的 {@code int}。
+     * @param flushIntervalMillis 表示未攒够一批时的最长等待毫秒数的 {@code long}。
+     * @param maxRetries 表示发送失败后的最大重试次数的 {@code int}。
+     * @param retryBackoffMillis 表示首次重试前等待毫秒数的 {@code long}，之后每次重试等待时间翻倍。
+     */
+    public OperationLogBatchProcessor(Sender sender, int queueCapacity, int batchSize, long flushIntervalMillis,
+            int maxRetries, long retryBackoffMillis) {
+        this.sender = notNull(sender, "The sender cannot be null.");
+        this.queue = new ArrayBlockingQueue<>(greaterThan(queueCapacity, 0, "The queue capacity must be positive."));
+        this.batchSize = greaterThan(batchSize, 0, "The batch size must be positive.");
+        this.flushIntervalMillis =
+                greaterThanOrEquals(flushIntervalMillis, 0L, "The flush interval cannot be negative.");
+        this.maxRetries = greaterThanOrEquals(maxRetries, 0, "The max retries cannot be negative.");
+        this.retryBackoffMillis = greaterThanOrEquals(retryBackoffMillis, 0L, "The retry backoff cannot be negative.");
+        this.worker = new Thread(this::run, "operation-log-exporter");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 将操作日志加入发送队列，队列已满时丢弃该日志并输出到本地日志。
+     *
+     * @param fields 表示操作日志的 {@link OperationLogFields}。
+     * @return 表示是否成功入队的 {@code boolean}。
+     */
+    public boolean offer(OperationLogFields fields) {
+        if (this.isRunning && this.queue.offer(fields)) {
+            return true;
+        }
+        this.droppedCount.incrementAndGet();
+        log.warn("Operation log dropped. [operation = {}, result = {}, detail = {}]",
+                fields.getName(),
+                fields.getOperationResult(),
+                fields.getDetails());
+        return false;
+    }
+
+    /**
+     * 获取队列中等待发送的日志数量。
+     *
+     * @return 表示队列深度的 {@code int}。
+     */
+    public int getQueueDepth() {
+        return this.queue.size();
+    }
+
+    /**
+     * 获取发送成功的日志数量。
+     *
+     * @return 表示发送成功的日志数量的 {@code long}。
+     */
+    public long getExportedCount() {
+        return this.exportedCount.get();
+    }
+
+    /**
+     * 获取因队列已满而丢弃的日志数量。
+     *
+     * @return 表示丢弃的日志数量的 {@code long}。
+     */
+    public long getDroppedCount() {
+        return this.droppedCount.get();
+    }
+
+    /**
+     * 获取重试耗尽后仍发送失败的日志数量。
+     *
+     * @return 表示发送失败的日志数量的 {@code long}。
+     */
+    public long getFailedCount() {
+        return this.failedCount.get();
+    }
+
+    /**
+     * 停止接收新日志，发送队列中剩余的日志后退出后台线程。
+     *
+     * @throws InterruptedException 当等待后台线程退出时被中断。
+     */
+    @Override
+    public void close() throws InterruptedException {
+        this.close(0L);
+    }
+
+    /**
+     * 停止接收新日志，在超时时间内发送队列中剩余的日志，超时后中断后台线程。
+     *
+     * @param timeoutMillis 表示等待剩余日志发送完成的毫秒数的 {@code long}，为 0 时一直等待。
+     * @return 表示剩余日志是否在超时时间内发送完成的 {@code boolean}。
+     * @throws InterruptedException 当等待后台线程退出时被中断。
+     */
+    public boolean close(long timeoutMillis) throws InterruptedException {
+        this.isRunning = false;
+        // 唤醒等待凑批的后台线程，队列已满时后台线程不会阻塞，无需唤醒.
+        this.queue.offer(WAKE_UP);
+        this.worker.join(timeoutMillis);
+        if (!this.worker.isAlive()) {
+            return true;
+        }
+        this.worker.interrupt();
+        log.warn("Operation log exporter is closed before the queue is drained. [queueDepth={}]",
+                this.queue.size());
+        return false;
+    }
+
+    private void run() {
+        while (this.isRunning || !this.queue.isEmpty()) {
+            try {
+                List<OperationLogFields> batch = this.nextBatch();
+                if (!batch.isEmpty()) {
+                    this.sendWithRetry(batch);
+                }
+                this.reportDropped();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error when exporting operation logs.", e);
+            }
+        }
+    }
+
+    private List<OperationLogFields> nextBatch() throws InterruptedException {
+        List<OperationLogFields> batch = new ArrayList<>(this.batchSize);
+        OperationLogFields first = this.queue.poll(Math.max(this.flushIntervalMillis, 1L), TimeUnit.MILLISECONDS);
+        if (first == null || first == WAKE_UP) {
+            return batch;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.flushIntervalMillis);
+        while (batch.size() < this.batchSize) {
+            this.queue.drainTo(batch, this.batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= this.batchSize || remaining <= 0 || !this.isRunning) {
+                break;
+            }
+            OperationLogFields next = this.queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null || next == WAKE_UP) {
+                break;
+            }
+            batch.add(next);
+        }
+        batch.removeIf(fields -> fields == WAKE_UP);
+        return batch;
+    }
+
+    private void sendWithRetry(List<OperationLogFields> batch) throws InterruptedException {
+        long backoff = this.retryBackoffMillis;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                this.sender.send(batch);
+                this.exportedCount.addAndGet(batch.size());
+                return;
+            } catch (IOException | RuntimeException e) {
+                if (attempt >= this.maxRetries) {
+                    this.failedCount.addAndGet(batch.size());
+                    log.error("Export operation logs failed. [size={}, attempts={}, cause={}]",
+                            batch.size(),
+                            attempt + 1,
+                            e.getMessage());
+                    return;
+                }
+                log.warn("Export operation logs failed, retry later. [size={}, attempt={}, backoff={}ms, cause={}]",
+                        batch.size(),
+                        attempt + 1,
+                        backoff,
+                        e.getMessage());
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private void reportDropped() {
+        long dropped = this.droppedCount.get();
+        long reported = this.reportedDroppedCount.getAndSet(dropped);
+        if (dropped > reported) {
+            log.warn("Operation log queue is full. [queueDepth={}, dropped={}, totalDropped={}]",
+                    this.queue.size(),
+                    dropped - reported,
+                    dropped);
+        }
+    }
+
+    /**
+     * 表示批量发送操作日志的发送器。
+     */
+    @FunctionalInterface
+    public interface Sender {
+        /**
+         * 发送一批操作日志。
+         *
+         * @param batch 表示一批操作日志的 {@link List}{@code <}{@link OperationLogFields}{@code >}。
+         * @throws IOException 当发送失败时。
+         */
+        void send(List<OperationLogFields> batch) throws IOException;
+    }
+}
@@ -13,6 +13,8 @@ import static modelengine.jade.carver.operation.enums.OperationLogConstant.SYS_O
 import static modelengine.jade.carver.operation.enums.OperationLogConstant.SYS_OP_SUCCEED;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 import modelengine.fit.http.client.HttpClassicClient;
@@ -20,6 +22,7 @@ import modelengine.fit.http.client.HttpClassicClientFactory;
 import modelengine.fit.http.client.HttpClassicClientRequest;
 import modelengine.fit.http.client.HttpClassicClientResponse;
 import modelengine.fitframework.annotation.Fit;
+import modelengine.fitframework.conf.Config;
 import modelengine.fitframework.test.annotation.FitTestWithJunit;
 import modelengine.fitframework.test.annotation.Mock;
 import modelengine.fitframework.util.MapBuilder;
@@ -85,7 +88,30 @@ public class DefaultOperationLogExporterTest {
     @Test
     void testSuccessWitHttpException() {
         operationLogExporter.export("test", params);
-        Mockito.verify(responseMock, Mockito.times(1)).reasonPhrase();
+        // 操作日志由后台线程异步发送
+        Mockito.verify(responseMock, timeout(5000).times(1)).reasonPhrase();
+    }
+
+    @Test
+    void shouldSendQueuedLogsWhenDestroy() {
+        clearInvocations(this.requestMock);
+        DefaultOperationLogExporter exporter = new DefaultOperationLogExporter(this.httpFactoryMock,
+                "http://localhost:8080/test",
+                this.localeServiceMock,
+                Mockito.mock(Config.class),
+                null,
+                100,
+                10,
+                60_000L,
+                "none",
+                0,
+                0L,
+                10_000L);
+        exporter.export("test", params);
+
+        exporter.destroy();
+
+        Mockito.verify(this.requestMock, times(1)).exchange();
     }
 
     private void setMockHttpClient(int statusCode) {
@@ -0,0 +1,137 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.jade.carver.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.jade.carver.exporter.support.OperationLogBatchProcessor;
+import modelengine.jade.carver.operation.support.OperationLogFields;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link OperationLogBatchProcessor} 的测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试 OperationLogBatchProcessor")
+public class OperationLogBatchProcessorTest {
+    private final List<List<OperationLogFields>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    @DisplayName("按批量大小和刷新间隔合并发送，关闭时发送剩余日志")
+    void shouldSendByBatchSizeAndFlushInterval() throws InterruptedException {
+        OperationLogBatchProcessor processor =
+                new OperationLogBatchProcessor(this.batches::add, 100, 10, 50L, 0, 0L);
+        for (int i = 0; i < 25; i++) {
+            assertThat(processor.offer(this.fields(i))).isTrue();
+        }
+        processor.close();
+
+        assertThat(this.batches.stream().mapToInt(List::size).sum()).isEqualTo(25);
+        assertThat(this.batches).allMatch(batch -> batch.size() <= 10);
+        assertThat(this.batches.get(0).get(0).getName()).isEqualTo("operation0");
+        assertThat(processor.getExportedCount()).isEqualTo(25);
+        assertThat(processor.getQueueDepth()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("发送失败时退避重试，重试成功后不计入失败")
+    void shouldRetryWithBackoff() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        OperationLogBatchProcessor processor = new OperationLogBatchProcessor(batch -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IOException("collector unavailable");
+            }
+            this.batches.add(batch);
+        }, 100, 10, 10L, 3, 10L);
+        processor.offer(this.fields(0));
+        processor.close();
+
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(this.batches).hasSize(1);
+        assertThat(processor.getFailedCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("采集端阻塞导致队列已满时丢弃新日志且不阻塞调用方")
+    void shouldDropWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        OperationLogBatchProcessor processor = new OperationLogBatchProcessor(batch -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.batches.add(batch);
+        }, 2, 1, 10L, 0, 0L);
+        processor.offer(this.fields(0));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        processor.offer(this.fields(1));
+        processor.offer(this.fields(2));
+        boolean isAccepted = processor.offer(this.fields(3));
+
+        assertThat(isAccepted).isFalse();
+        assertThat(processor.getQueueDepth()).isEqualTo(2);
+        assertThat(processor.getDroppedCount()).isEqualTo(1);
+        release.countDown();
+        processor.close();
+        assertThat(this.batches).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("关闭时唤醒等待凑批的后台线程并发送剩余日志")
+    void shouldSendRemainingLogsWhenCloseWhileWaitingForBatch() throws InterruptedException {
+        OperationLogBatchProcessor processor =
+                new OperationLogBatchProcessor(this.batches::add, 100, 10, 60_000L, 0, 0L);
+        processor.offer(this.fields(0));
+
+        assertThat(processor.close(10_000L)).isTrue();
+        assertThat(this.batches).hasSize(1);
+        assertThat(processor.getExportedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("关闭超时时中断后台线程")
+    void shouldInterruptWorkerWhenCloseTimeout() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        OperationLogBatchProcessor processor = new OperationLogBatchProcessor(batch -> {
+            blocked.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+        }, 10, 1, 10L, 0, 0L);
+        processor.offer(this.fields(0));
+        processor.offer(this.fields(1));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(processor.close(10L)).isFalse();
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private OperationLogFields fields(int index) {
+        OperationLogFields fields = new OperationLogFields();
+        fields.setName("operation" + index);
+        return fields;
+    }
+}
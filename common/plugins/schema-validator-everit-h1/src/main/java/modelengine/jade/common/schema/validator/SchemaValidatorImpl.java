@@ -26,6 +26,8 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -37,8 +39,21 @@ import java.util.Map;
  */
 @Component
 public class SchemaValidatorImpl implements SchemaValidator {
+    private static final int MAX_CACHED_SCHEMAS = 512;
+
     private final ObjectSerializer serializer;
 
+    /**
+     * 编译后的 {@link Schema} 缓存，键为 schema 的 json 文本，按最近使用淘汰。
+     */
+    private final Map<String, Schema> schemaCache =
+            Collections.synchronizedMap(new LinkedHashMap<String, Schema>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Schema> eldest) {
+                    return this.size() > MAX_CACHED_SCHEMAS;
+                }
+            });
+
     public SchemaValidatorImpl(@Fit(alias = "json") ObjectSerializer serializer) {
         this.serializer = serializer;
     }
@@ -48,7 +63,7 @@ public class SchemaValidatorImpl implements SchemaValidator {
     public void validate(Object schema, Object content) {
         notNull(schema, () -> new JsonSchemaInvalidException("The schema cannot be null."));
         notNull(content, () -> new JsonContentInvalidException("Content cannot be null."));
-        validateJson(schema, content);
+        this.validateJson(schema, Collections.singletonList(content));
     }
 
     @Override
@@ -56,15 +71,20 @@ public class SchemaValidatorImpl implements SchemaValidator {
     public void validate(Object schema, List<?> contents) {
         notNull(schema, () -> new JsonSchemaInvalidException("The schema cannot be null."));
         notNull(contents, () -> new JsonContentInvalidException("Contents cannot be null."));
-        for (Object content : contents) {
-            validateJson(schema, content);
+        if (!contents.isEmpty()) {
+            this.validateJson(schema, contents);
         }
     }
 
-    private void validateJson(Object schema, Object target) {
+    private void validateJson(Object schema, List<?> targets) {
+        // 同一批数据只加载一次 schema，出错时报告正在校验的数据
+        Object target = targets.get(0);
         try {
-            Schema schemaValidator = loadSchema(schema);
-            schemaValidator.validate(this.loadJson(target));
+            Schema schemaValidator = this.loadSchema(schema);
+            for (Object content : targets) {
+                target = content;
+                schemaValidator.validate(this.loadJson(target));
+            }
         } catch (JSONException e) {
             throw new JsonContentInvalidException(StringUtils.format("The content '{0}' is invalid.", target));
         } catch (ValidationException e) {
@@ -81,9 +101,17 @@ public class SchemaValidatorImpl implements SchemaValidator {
             throw new JsonSchemaInvalidException(StringUtils.format("Invalid Schema Type {0}.",
                     schema.getClass().getName()));
         }
+        String fingerprint = schema instanceof String
+                ? ObjectUtils.cast(schema)
+                : this.serializer.serialize(schema);
+        Schema cached = this.schemaCache.get(fingerprint);
+        if (cached != null) {
+            return cached;
+        }
         try {
-            JSONObject rawSchema = loadJsonObject(schema);
-            return SchemaLoader.load(rawSchema);
+            Schema loaded = SchemaLoader.load(this.loadJsonObject(schema));
+            this.schemaCache.put(fingerprint, loaded);
+            return loaded;
         } catch (JSONException e) {
             throw new JsonSchemaInvalidException(StringUtils.format("The schema '{0}' is invalid.",
                     this.serializer.serialize(schema)));
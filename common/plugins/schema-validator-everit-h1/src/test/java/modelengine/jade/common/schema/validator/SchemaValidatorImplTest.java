@@ -23,6 +23,7 @@ import modelengine.fitframework.util.TypeUtils;
 import modelengine.jade.common.schema.validator.SchemaValidatorImpl;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -151,4 +152,26 @@ public class SchemaValidatorImplTest {
             return;
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("缓存编译后的Schema时，不同Schema的校验结果互不影响")
+    void shouldValidateWithOwnSchemaWhenSchemaCached() {
+        Map<String, Object> nameSchema = MapBuilder.<String, Object>get()
+                .put("type", "object")
+                .put("required", List.of("name"))
+                .build();
+        Map<String, Object> ageSchema = MapBuilder.<String, Object>get()
+                .put("type", "object")
+                .put("required", List.of("age"))
+                .build();
+        Map<String, Object> content = MapBuilder.<String, Object>get().put("name", "Jerry").build();
+        SchemaValidator validator = new SchemaValidatorImpl(this.serializer);
+
+        assertDoesNotThrow(() -> validator.validate(nameSchema, content));
+        assertThatThrownBy(() -> validator.validate(ageSchema, content)).isInstanceOf(
+                JsonContentInvalidException.class);
+        assertDoesNotThrow(() -> validator.validate(nameSchema, List.of(content, content)));
+        assertThatThrownBy(() -> validator.validate(this.serializer.serialize(ageSchema), content)).isInstanceOf(
+                JsonContentInvalidException.class);
+    }
+}
@@ -350,4 +350,13 @@ CREATE TABLE IF NOT EXISTS task_instance_new (
     "instance_curr_node_id" varchar(127),
     "is_deleted" int2 NOT NULL DEFAULT 0,
     "resume_duration" varchar(127)
-);
\ No newline at end of file
+);
+
+-- 元数据变更记录表，用于跨实例同步元数据缓存的失效
+CREATE TABLE IF NOT EXISTS app_metadata_change_log (
+    id         bigserial   not null primary key,
+    cache_name varchar(64) not null,
+    cache_key  varchar(64) not null,
+    create_at  timestamp   not null default current_timestamp
+);
+CREATE INDEX IF NOT EXISTS idx_app_metadata_change_log_create_at ON app_metadata_change_log (create_at);
@@ -0,0 +1,38 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.jade.store.repository.pgsql.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import modelengine.jade.carver.entity.CommonDo;
+
+/**
+ * 用于构建搜索索引的工具的实体类。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreToolDo extends CommonDo {
+    /**
+     * 表示工具的唯一标识。
+     */
+    private String uniqueName;
+
+    /**
+     * 表示工具的名字。
+     */
+    private String name;
+
+    /**
+     * 表示工具的版本。
+     */
+    private String version;
+}
@@ -80,4 +80,12 @@ public interface PluginMapper {
      * @param deployStatus 表示目标部署状态的 {@link DeployStatus}。
      */
     void updateDeployStatus(List<String> pluginIdList, DeployStatus deployStatus);
+
+    /**
+     * 根据插件唯一标识列表查询插件，用于构建搜索索引。
+     *
+     * @param pluginIds 表示插件唯一标识列表的 {@link List}{@code <}{@link String}{@code >}，为 {@code null} 时查询所有插件。
+     * @return 插件列表的 {@link List}{@code <}{@link PluginDo}{@code >}。
+     */
+    List<PluginDo> getPluginsByPluginIds(List<String> pluginIds);
 }
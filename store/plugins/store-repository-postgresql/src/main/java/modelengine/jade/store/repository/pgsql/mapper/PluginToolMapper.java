@@ -78,4 +78,12 @@ public interface PluginToolMapper {
      * @return 插件工具列表的 {@link List}{@code <}{@link PluginToolDo}{@code >}。
      */
     List<PluginToolDo> getPluginToolsByUniqueNames(List<String> uniqueNames);
+
+    /**
+     * 根据插件唯一标识列表查询插件工具列表，用于构建搜索索引。
+     *
+     * @param pluginIds 表示插件唯一标识列表的 {@link List}{@code <}{@link String}{@code >}，为 {@code null} 时查询所有插件工具。
+     * @return 插件工具列表的 {@link List}{@code <}{@link PluginToolDo}{@code >}。
+     */
+    List<PluginToolDo> getPluginToolsByPluginIds(List<String> pluginIds);
 }
@@ -8,6 +8,7 @@ package modelengine.jade.store.repository.pgsql.mapper;
 
 import modelengine.fel.tool.model.entity.ToolIdentifier;
 import modelengine.jade.store.entity.query.ToolQuery;
+import modelengine.jade.store.repository.pgsql.entity.StoreToolDo;
 
 import java.util.List;
 
@@ -49,4 +50,12 @@ public interface StoreToolMapper {
      * @return 表示工具总数的 {@code int}。
      */
     int searchToolsCount(ToolQuery toolQuery);
+
+    /**
+     * 根据工具唯一标识列表获取最新版本的工具，用于构建搜索索引。
+     *
+     * @param uniqueNames 表示工具唯一标识列表的 {@link List}{@code <}{@link String}{@code >}，为 {@code null} 时获取所有工具。
+     * @return 工具列表的 {@link List}{@code <}{@link StoreToolDo}{@code >}。
+     */
+    List<StoreToolDo> getLatestTools(List<String> uniqueNames);
 }
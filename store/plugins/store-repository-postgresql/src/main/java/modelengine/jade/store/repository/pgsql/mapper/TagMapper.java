@@ -61,4 +61,12 @@ public interface TagMapper {
      * @param uniqueName 表示工具唯一标识的 {@link String}。
      */
     void updateAppTag(String appTag, String uniqueName);
+
+    /**
+     * 根据工具唯一标识列表获取标签，用于构建搜索索引。
+     *
+     * @param uniqueNames 表示工具唯一标识列表的 {@link List}{@code <}{@link String}{@code >}，为 {@code null} 时获取所有标签。
+     * @return 标签的列表的 {@link List}{@code <}{@link TagDo}{@code >}。
+     */
+    List<TagDo> getTagsByUniqueNames(List<String> uniqueNames);
 }
@@ -0,0 +1,410 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.jade.store.repository.pgsql.search;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fel.tool.model.entity.ToolIdentifier;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.annotation.Initialize;
+import modelengine.fitframework.annotation.Value;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.annotation.Scheduled;
+import modelengine.fitframework.util.CollectionUtils;
+import modelengine.fitframework.util.StringUtils;
+import modelengine.jade.carver.entity.CommonDo;
+import modelengine.jade.store.entity.query.PluginQuery;
+import modelengine.jade.store.entity.query.ToolQuery;
+import modelengine.jade.store.repository.pgsql.entity.PluginDo;
+import modelengine.jade.store.repository.pgsql.entity.PluginToolDo;
+import modelengine.jade.store.repository.pgsql.entity.StoreToolDo;
+import modelengine.jade.store.repository.pgsql.entity.TagDo;
+import modelengine.jade.store.repository.pgsql.mapper.PluginMapper;
+import modelengine.jade.store.repository.pgsql.mapper.PluginToolMapper;
+import modelengine.jade.store.repository.pgsql.mapper.StoreToolMapper;
+import modelengine.jade.store.repository.pgsql.mapper.TagMapper;
+import modelengine.jade.store.service.support.DeployStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 表示 {@link StoreSearchIndex} 的默认实现。
+ * <p>插件按插件名和插件工具名、工具按工具名建立 n-gram 索引，两者都按标签建立倒排索引。索引得到的候选结果再按与 SQL
+ * 相同的条件校验，保证搜索结果与数据库查询一致。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@Component
+public class DefaultStoreSearchIndex implements StoreSearchIndex {
+    private static final Logger log = Logger.get(DefaultStoreSearchIndex.class);
+    private static final String TAG_MODE_AND = "AND";
+    private static final String TAG_MODE_OR = "OR";
+    private static final String WILDCARD_USER_GROUP = "*";
+
+    private final PluginMapper pluginMapper;
+    private final PluginToolMapper pluginToolMapper;
+    private final StoreToolMapper storeToolMapper;
+    private final TagMapper tagMapper;
+    private final boolean isEnabled;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 通过 mapper 接口来初始化 {@link DefaultStoreSearchIndex} 的实例。
+     *
+     * @param pluginMapper 表示插件的 mapper 接口的 {@link PluginMapper}。
+     * @param pluginToolMapper 表示插件工具的 mapper 接口的 {@link PluginToolMapper}。
+     * @param storeToolMapper 表示工具的 mapper 接口的 {@link StoreToolMapper}。
+     * @param tagMapper 表示标签的 mapper 接口的 {@link TagMapper}。
+     * @param isEnabled 表示是否启用搜索索引的 {@code boolean}。
+     */
+    public DefaultStoreSearchIndex(PluginMapper pluginMapper, PluginToolMapper pluginToolMapper,
+            StoreToolMapper storeToolMapper, TagMapper tagMapper,
+            @Value("${store.search-index.enabled:false}") boolean isEnabled) {
+        this.pluginMapper = notNull(pluginMapper, "The plugin mapper cannot be null.");
+        this.pluginToolMapper = notNull(pluginToolMapper, "The plugin tool mapper cannot be null.");
+        this.storeToolMapper = notNull(storeToolMapper, "The store tool mapper cannot be null.");
+        this.tagMapper = notNull(tagMapper, "The tag mapper cannot be null.");
+        this.isEnabled = isEnabled;
+    }
+
+    /**
+     * 启动时从数据库构建索引。
+     */
+    @Initialize
+    public void initialize() {
+        this.rebuild();
+    }
+
+    @Override
+    public boolean isReady() {
+        return this.snapshot != null;
+    }
+
+    @Override
+    public List<PluginDo> searchPlugins(PluginQuery pluginQuery) {
+        List<PluginDo> plugins = this.matchPlugins(pluginQuery);
+        plugins.sort(byUpdatedTimeDesc());
+        return page(plugins, pluginQuery);
+    }
+
+    @Override
+    public int countPlugins(PluginQuery pluginQuery) {
+        return this.matchPlugins(pluginQuery).size();
+    }
+
+    @Override
+    public List<ToolIdentifier> searchTools(ToolQuery toolQuery) {
+        List<StoreToolDo> tools = this.matchTools(toolQuery);
+        tools.sort(byUpdatedTimeDesc());
+        return page(tools, toolQuery).stream()
+                .map(tool -> new ToolIdentifier(tool.getUniqueName(), tool.getVersion()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int countTools(ToolQuery toolQuery) {
+        return this.matchTools(toolQuery).size();
+    }
+
+    @Override
+    public synchronized void refreshPlugins(List<String> pluginIds) {
+        Snapshot current = this.snapshot;
+        if (current == null || CollectionUtils.isEmpty(pluginIds)) {
+            return;
+        }
+        try {
+            this.loadPlugins(current, pluginIds);
+        } catch (RuntimeException e) {
+            // 增量更新失败时保留原索引，由下一次全量重建修正。
+            log.warn("Failed to refresh plugins in store search index. [pluginIds={}, cause={}]",
+                    pluginIds,
+                    e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void refreshTools(List<String> uniqueNames) {
+        Snapshot current = this.snapshot;
+        if (current == null || CollectionUtils.isEmpty(uniqueNames)) {
+            return;
+        }
+        try {
+            this.loadTools(current, uniqueNames);
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh tools in store search index. [uniqueNames={}, cause={}]",
+                    uniqueNames,
+                    e.getMessage());
+        }
+    }
+
+    @Override
+    @Scheduled(strategy = Scheduled.Strategy.FIXED_RATE, value = "60000")
+    public synchronized void rebuild() {
+        if (!this.isEnabled) {
+            return;
+        }
+        try {
+            Snapshot next = new Snapshot();
+            this.loadPlugins(next, null);
+            this.loadTools(next, null);
+            this.snapshot = next;
+            log.debug("Succeeded to rebuild store search index. [plugins={}, tools={}]",
+                    next.plugins.entries.size(),
+                    next.tools.entries.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild store search index. [cause={}]", e.getMessage());
+        }
+    }
+
+    private List<PluginDo> matchPlugins(PluginQuery pluginQuery) {
+        String keyword = InvertedIndex.normalize(pluginQuery.getToolName());
+        Snapshot current = notNull(this.snapshot, "The store search index is not ready.");
+        return current.plugins.candidates(pluginQuery, keyword)
+                .stream()
+                .filter(entry -> isPluginMatched(entry, pluginQuery, keyword))
+                .map(entry -> entry.plugin)
+                .collect(Collectors.toList());
+    }
+
+    private List<StoreToolDo> matchTools(ToolQuery toolQuery) {
+        String keyword = InvertedIndex.normalize(toolQuery.getToolName());
+        Snapshot current = notNull(this.snapshot, "The store search index is not ready.");
+        return current.tools.candidates(toolQuery, keyword)
+                .stream()
+                .filter(entry -> isTagMatched(entry.row.tags, toolQuery) && isContained(entry.row.name, keyword))
+                .map(entry -> entry.tool)
+                .collect(Collectors.toList());
+    }
+
+    private void loadPlugins(Snapshot target, List<String> pluginIds) {
+        List<PluginDo> plugins = this.pluginMapper.getPluginsByPluginIds(pluginIds);
+        List<PluginToolDo> pluginTools = this.pluginToolMapper.getPluginToolsByPluginIds(pluginIds);
+        Map<String, Set<String>> tags = this.loadTags(pluginIds == null
+                ? null
+                : pluginTools.stream().map(PluginToolDo::getToolUniqueName).collect(Collectors.toList()));
+        Map<String, List<ToolRow>> rows = pluginTools.stream()
+                .collect(Collectors.groupingBy(PluginToolDo::getPluginId,
+                        Collectors.mapping(pluginTool -> new ToolRow(pluginTool.getName(),
+                                tags.getOrDefault(pluginTool.getToolUniqueName(), Collections.emptySet())),
+                                Collectors.toList())));
+        if (pluginIds != null) {
+            pluginIds.forEach(target.plugins::remove);
+        }
+        for (PluginDo plugin : plugins) {
+            PluginEntry entry = new PluginEntry(plugin, rows.getOrDefault(plugin.getPluginId(),
+                    Collections.singletonList(new ToolRow(null, Collections.emptySet()))));
+            List<String> names = entry.rows.stream().map(row -> row.name).collect(Collectors.toList());
+            names.add(entry.name);
+            Set<String> entryTags = new HashSet<>();
+            entry.rows.forEach(row -> entryTags.addAll(row.tags));
+            target.plugins.put(plugin.getPluginId(), entry, names, entryTags);
+        }
+    }
+
+    private void loadTools(Snapshot target, List<String> uniqueNames) {
+        List<StoreToolDo> tools = this.storeToolMapper.getLatestTools(uniqueNames);
+        Map<String, Set<String>> tags = this.loadTags(uniqueNames);
+        if (uniqueNames != null) {
+            uniqueNames.forEach(target.tools::remove);
+        }
+        for (StoreToolDo tool : tools) {
+            ToolEntry entry = new ToolEntry(tool, new ToolRow(tool.getName(),
+                    tags.getOrDefault(tool.getUniqueName(), Collections.emptySet())));
+            target.tools.put(tool.getUniqueName(), entry, Collections.singletonList(entry.row.name), entry.row.tags);
+        }
+    }
+
+    private Map<String, Set<String>> loadTags(List<String> uniqueNames) {
+        if (uniqueNames != null && uniqueNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return this.tagMapper.getTagsByUniqueNames(uniqueNames)
+                .stream()
+                .collect(Collectors.groupingBy(TagDo::getToolUniqueName,
+                        Collectors.mapping(TagDo::getName, Collectors.toSet())));
+    }
+
+    private static boolean isPluginMatched(PluginEntry entry, PluginQuery query, String keyword) {
+        PluginDo plugin = entry.plugin;
+        Boolean isBuiltin = query.getIsBuiltin();
+        String userGroupId = query.getUserGroupId();
+        boolean isInUserGroup = StringUtils.equals(plugin.getUserGroupId(), userGroupId)
+                || StringUtils.equals(plugin.getUserGroupId(), WILDCARD_USER_GROUP);
+        if (isBuiltin != null && StringUtils.isNotEmpty(userGroupId)) {
+            boolean isVisible = isBuiltin
+                    ? plugin.isBuiltin() || isInUserGroup
+                    : (!plugin.isBuiltin() && StringUtils.equals(plugin.getUserGroupId(), userGroupId))
+                            || StringUtils.equals(plugin.getUserGroupId(), WILDCARD_USER_GROUP);
+            if (!isVisible) {
+                return false;
+            }
+        }
+        if (isBuiltin != null && userGroupId == null && plugin.isBuiltin() != isBuiltin) {
+            return false;
+        }
+        if (isBuiltin == null && StringUtils.isNotEmpty(userGroupId) && !isInUserGroup) {
+            return false;
+        }
+        String creator = query.getCreator();
+        boolean isCreatorMatched = isContained(entry.creator, InvertedIndex.normalize(creator));
+        if (isBuiltin != null && StringUtils.isNotEmpty(creator)) {
+            boolean isVisible =
+                    isBuiltin ? plugin.isBuiltin() || isCreatorMatched : !plugin.isBuiltin() && isCreatorMatched;
+            if (!isVisible) {
+                return false;
+            }
+        }
+        if (isBuiltin != null && creator == null && plugin.isBuiltin() != isBuiltin) {
+            return false;
+        }
+        if (isBuiltin == null && StringUtils.isNotEmpty(creator) && !isCreatorMatched) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(query.getDeployed()) && plugin.getDeployStatus() != DeployStatus.DEPLOYED
+                && plugin.getDeployStatus() != DeployStatus.RELEASED) {
+            return false;
+        }
+        // 标签和名称条件作用在插件与插件工具连接后的同一行上。
+        boolean isNameMatched = isContained(entry.name, keyword);
+        return entry.rows.stream()
+                .anyMatch(row -> isTagMatched(row.tags, query) && (isNameMatched || isContained(row.name, keyword)));
+    }
+
+    private static boolean isTagMatched(Set<String> tags, ToolQuery query) {
+        Set<String> includeTags = query.getIncludeTags();
+        if (CollectionUtils.isNotEmpty(includeTags)) {
+            if (TAG_MODE_AND.equals(query.getMode()) && !tags.containsAll(includeTags)) {
+                return false;
+            }
+            if (TAG_MODE_OR.equals(query.getMode()) && includeTags.stream().noneMatch(tags::contains)) {
+                return false;
+            }
+        }
+        Set<String> excludeTags = query.getExcludeTags();
+        return CollectionUtils.isEmpty(excludeTags) || excludeTags.stream().noneMatch(tags::contains);
+    }
+
+    private static boolean isContained(String text, String keyword) {
+        if (StringUtils.isEmpty(keyword)) {
+            return true;
+        }
+        return text != null && text.contains(keyword);
+    }
+
+    private static <T extends CommonDo> Comparator<T> byUpdatedTimeDesc() {
+        // 与数据库降序排序一致，更新时间为空的排在最前。
+        Comparator<T> byUpdatedTime =
+                Comparator.comparing(CommonDo::getUpdatedTime, Comparator.nullsLast(Comparator.naturalOrder()));
+        return byUpdatedTime.reversed();
+    }
+
+    private static <T> List<T> page(List<T> sorted, ToolQuery query) {
+        int offset = query.getOffset() == null ? 0 : Math.max(query.getOffset(), 0);
+        if (offset >= sorted.size()) {
+            return new ArrayList<>();
+        }
+        Integer limit = query.getLimit();
+        int end = limit == null || limit <= 0 ? sorted.size() : (int) Math.min((long) offset + limit, sorted.size());
+        return new ArrayList<>(sorted.subList(offset, end));
+    }
+
+    private static class Snapshot {
+        private final Segment<PluginEntry> plugins = new Segment<>();
+        private final Segment<ToolEntry> tools = new Segment<>();
+    }
+
+    private static class Segment<E> {
+        private final Map<String, E> entries = new ConcurrentHashMap<>();
+        private final InvertedIndex names = new InvertedIndex();
+        private final InvertedIndex tags = new InvertedIndex();
+
+        void put(String id, E entry, Collection<String> entryNames, Set<String> entryTags) {
+            this.entries.put(id, entry);
+            this.names.put(id, InvertedIndex.ngrams(entryNames));
+            this.tags.put(id, entryTags);
+        }
+
+        void remove(String id) {
+            this.entries.remove(id);
+            this.names.remove(id);
+            this.tags.remove(id);
+        }
+
+        Collection<E> candidates(ToolQuery query, String keyword) {
+            Set<String> ids = null;
+            if (StringUtils.isNotEmpty(keyword)) {
+                Set<String> grams = InvertedIndex.ngrams(Collections.singletonList(keyword));
+                // 关键字短于 n-gram 长度时无法使用索引，退化为全量校验。
+                ids = grams.isEmpty() ? null : this.names.intersect(grams);
+            }
+            Set<String> includeTags = query.getIncludeTags();
+            if (CollectionUtils.isNotEmpty(includeTags)) {
+                Set<String> tagIds = null;
+                if (TAG_MODE_AND.equals(query.getMode())) {
+                    tagIds = this.tags.intersect(includeTags);
+                } else if (TAG_MODE_OR.equals(query.getMode())) {
+                    tagIds = this.tags.union(includeTags);
+                }
+                if (tagIds != null && ids != null) {
+                    ids.retainAll(tagIds);
+                } else if (tagIds != null) {
+                    ids = tagIds;
+                }
+            }
+            if (ids == null) {
+                return this.entries.values();
+            }
+            return ids.stream().map(this.entries::get).filter(Objects::nonNull).collect(Collectors.toList());
+        }
+    }
+
+    private static class PluginEntry {
+        private final PluginDo plugin;
+        private final String name;
+        private final String creator;
+        private final List<ToolRow> rows;
+
+        PluginEntry(PluginDo plugin, List<ToolRow> rows) {
+            this.plugin = plugin;
+            this.name = InvertedIndex.normalize(plugin.getPluginName());
+            this.creator = InvertedIndex.normalize(plugin.getCreator());
+            this.rows = rows;
+        }
+    }
+
+    private static class ToolEntry {
+        private final StoreToolDo tool;
+        private final ToolRow row;
+
+        ToolEntry(StoreToolDo tool, ToolRow row) {
+            this.tool = tool;
+            this.row = row;
+        }
+    }
+
+    private static class ToolRow {
+        private final String name;
+        private final Set<String> tags;
+
+        ToolRow(String name, Set<String> tags) {
+            this.name = InvertedIndex.normalize(name);
+            this.tags = tags;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.jade.store.repository.pgsql.search;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 表示从词项到文档唯一标识的倒排索引。
+ * <p>读操作可以并发执行，写操作需要由调用方串行执行。索引只用于缩小候选集，候选结果仍需按原始数据校验。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public class InvertedIndex {
+    private static final int GRAM_SIZE = 2;
+
+    private final Map<String, Set<String>> postings = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> terms = new ConcurrentHashMap<>();
+
+    /**
+     * 写入文档的词项，覆盖该文档之前的词项。
+     *
+     * @param id 表示文档唯一标识的 {@link String}。
+     * @param docTerms 表示文档词项集合的 {@link Set}{@code <}{@link String}{@code >}。
+     */
+    public void put(String id, Set<String> docTerms) {
+        this.remove(id);
+        this.terms.put(id, docTerms);
+        docTerms.forEach(term -> this.postings.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(id));
+    }
+
+    /**
+     * 删除文档的所有词项。
+     *
+     * @param id 表示文档唯一标识的 {@link String}。
+     */
+    public void remove(String id) {
+        Set<String> docTerms = this.terms.remove(id);
+        if (docTerms == null) {
+            return;
+        }
+        docTerms.forEach(term -> this.postings.computeIfPresent(term, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        }));
+    }
+
+    /**
+     * 获取包含所有词项的文档唯一标识集合。
+     *
+     * @param queryTerms 表示词项集合的 {@link Collection}{@code <}{@link String}{@code >}，不能为空。
+     * @return 表示文档唯一标识集合的 {@link Set}{@code <}{@link String}{@code >}。
+     */
+    public Set<String> intersect(Collection<String> queryTerms) {
+        List<Set<String>> matched = queryTerms.stream()
+                .map(term -> this.postings.getOrDefault(term, Collections.emptySet()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .collect(Collectors.toList());
+        Set<String> result = new HashSet<>(matched.get(0));
+        for (int i = 1; i < matched.size() && !result.isEmpty(); i++) {
+            result.retainAll(matched.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 获取包含任一词项的文档唯一标识集合。
+     *
+     * @param queryTerms 表示词项集合的 {@link Collection}{@code <}{@link String}{@code >}。
+     * @return 表示文档唯一标识集合的 {@link Set}{@code <}{@link String}{@code >}。
+     */
+    public Set<String> union(Collection<String> queryTerms) {
+        Set<String> result = new HashSet<>();
+        queryTerms.forEach(term -> result.addAll(this.postings.getOrDefault(term, Collections.emptySet())));
+        return result;
+    }
+
+    /**
+     * 将文本统一为小写，与数据库 {@code ilike} 的大小写不敏感匹配保持一致。
+     *
+     * @param text 表示文本的 {@link String}。
+     * @return 表示小写文本的 {@link String}，文本为 {@code null} 时返回 {@code null}。
+     */
+    public static String normalize(String text) {
+        return text == null ? null : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 将文本切分为 n-gram 词项。
+     * <p>采用 2-gram，对中文名称和英文名称都能有效缩小候选集；长度不足的文本不产生词项。</p>
+     *
+     * @param texts 表示已统一为小写的文本集合的 {@link Collection}{@code <}{@link String}{@code >}。
+     * @return 表示 n-gram 词项集合的 {@link Set}{@code <}{@link String}{@code >}。
+     */
+    public static Set<String> ngrams(Collection<String> texts) {
+        Set<String> grams = new HashSet<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+                grams.add(text.substring(i, i + GRAM_SIZE));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,82 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.jade.store.repository.pgsql.search;
+
+import modelengine.fel.tool.model.entity.ToolIdentifier;
+import modelengine.jade.store.entity.query.PluginQuery;
+import modelengine.jade.store.entity.query.ToolQuery;
+import modelengine.jade.store.repository.pgsql.entity.PluginDo;
+
+import java.util.List;
+
+/**
+ * 表示插件和工具的内存搜索索引。
+ * <p>索引在启动时从数据库构建，插件上传、删除和部署状态变化时增量更新，并定期全量重建以同步其他实例和其他模块的写入。
+ * 索引不可用时，调用方应回退到数据库查询。</p>
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+public interface StoreSearchIndex {
+    /**
+     * 判断索引是否可用。
+     *
+     * @return 表示索引是否可用的 {@code boolean}。
+     */
+    boolean isReady();
+
+    /**
+     * 根据动态查询条件分页搜索插件，语义与 {@code PluginMapper.getPlugins} 一致。
+     *
+     * @param pluginQuery 表示查询参数的 {@link PluginQuery}。
+     * @return 插件列表的 {@link List}{@code <}{@link PluginDo}{@code >}。
+     */
+    List<PluginDo> searchPlugins(PluginQuery pluginQuery);
+
+    /**
+     * 根据动态查询条件搜索插件的总数，语义与 {@code PluginMapper.getPluginsCount} 一致。
+     *
+     * @param pluginQuery 表示查询参数的 {@link PluginQuery}。
+     * @return 插件总数的 {@code int}。
+     */
+    int countPlugins(PluginQuery pluginQuery);
+
+    /**
+     * 根据动态查询条件分页模糊搜索最新版本的工具，语义与 {@code StoreToolMapper.searchTools} 一致。
+     *
+     * @param toolQuery 表示查询参数的 {@link ToolQuery}。
+     * @return 工具标识列表的 {@link List}{@code <}{@link ToolIdentifier}{@code >}。
+     */
+    List<ToolIdentifier> searchTools(ToolQuery toolQuery);
+
+    /**
+     * 根据动态查询条件模糊搜索最新版本的工具总数，语义与 {@code StoreToolMapper.searchToolsCount} 一致。
+     *
+     * @param toolQuery 表示查询参数的 {@link ToolQuery}。
+     * @return 工具总数的 {@code int}。
+     */
+    int countTools(ToolQuery toolQuery);
+
+    /**
+     * 从数据库重新加载指定插件及其插件工具，数据库中已不存在的插件从索引中删除。
+     *
+     * @param pluginIds 表示插件唯一标识列表的 {@link List}{@code <}{@link String}{@code >}。
+     */
+    void refreshPlugins(List<String> pluginIds);
+
+    /**
+     * 从数据库重新加载指定工具，数据库中已不存在的工具从索引中删除。
+     *
+     * @param uniqueNames 表示工具唯一标识列表的 {@link List}{@code <}{@link String}{@code >}。
+     */
+    void refreshTools(List<String> uniqueNames);
+
+    /**
+     * 从数据库全量重建索引。
+     */
+    void rebuild();
+}
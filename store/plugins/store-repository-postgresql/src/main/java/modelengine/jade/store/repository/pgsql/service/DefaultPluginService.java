@@ -28,12 +28,14 @@ import modelengine.jade.store.entity.transfer.PluginData;
 import modelengine.jade.store.entity.transfer.PluginToolData;
 import modelengine.jade.store.repository.pgsql.entity.PluginDo;
 import modelengine.jade.store.repository.pgsql.repository.PluginRepository;
+import modelengine.jade.store.repository.pgsql.search.StoreSearchIndex;
 import modelengine.jade.store.service.DefinitionGroupService;
 import modelengine.jade.store.service.PluginService;
 import modelengine.jade.store.service.PluginToolService;
 import modelengine.jade.store.service.ToolGroupService;
 import modelengine.jade.store.service.support.DeployStatus;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -55,6 +57,7 @@ public class DefaultPluginService implements PluginService {
     private final ToolGroupService toolGroupService;
     private final ObjectSerializer serializer;
     private final DomainDivisionService domainDivisionService;
+    private final StoreSearchIndex searchIndex;
     private final boolean isEnableDomainDivision;
 
     /**
@@ -65,17 +68,19 @@ public class DefaultPluginService implements PluginService {
      * @param defGroupService 表示定义组的服务的 {@link DefinitionGroupService}。
      * @param toolGroupService 表示工具组的服务的 {@link ToolGroupService}。
      * @param serializer 表示序列化器的 {@link ObjectSerializer}。
+     * @param searchIndex 表示插件和工具的搜索索引的 {@link StoreSearchIndex}。
      */
     public DefaultPluginService(PluginRepository pluginRepository, PluginToolService pluginToolService,
             DefinitionGroupService defGroupService, ToolGroupService toolGroupService,
             @Fit(alias = "json") ObjectSerializer serializer, DomainDivisionService domainDivisionService,
-            @Value("${domain-division.isEnable}") boolean isEnableDomainDivision) {
+            StoreSearchIndex searchIndex, @Value("${domain-division.isEnable}") boolean isEnableDomainDivision) {
         this.pluginRepository = notNull(pluginRepository, "The plugin repository cannot be null.");
         this.pluginToolService = notNull(pluginToolService, "The plugin tool service cannot be null.");
         this.toolGroupService = notNull(toolGroupService, "The tool group service cannot be null.");
         this.defGroupService = notNull(defGroupService, "The definition group service cannot be null.");
         this.serializer = notNull(serializer, "The serializer cannot be null.");
         this.domainDivisionService = notNull(domainDivisionService, "The domain division service cannot be null.");
+        this.searchIndex = notNull(searchIndex, "The search index cannot be null.");
         this.isEnableDomainDivision = isEnableDomainDivision;
     }
 
@@ -111,6 +116,7 @@ public class DefaultPluginService implements PluginService {
             }
             throw e;
         }
+        this.refreshSearchIndex(pluginData.getPluginId(), pluginData.getPluginToolDataList());
         return pluginData.getPluginId();
     }
 
@@ -132,13 +138,18 @@ public class DefaultPluginService implements PluginService {
             pluginQuery.setUserGroupId(this.domainDivisionService.getUserGroupId());
         }
         PluginToolQuery.toUpperCase(pluginQuery);
-        List<PluginDo> pluginDos = this.pluginRepository.getPlugins(pluginQuery);
+        boolean isIndexReady = this.searchIndex.isReady();
+        List<PluginDo> pluginDos = isIndexReady
+                ? this.searchIndex.searchPlugins(pluginQuery)
+                : this.pluginRepository.getPlugins(pluginQuery);
         List<PluginData> pluginDataList = pluginDos.stream()
                 .map(pluginDo -> convertToPluginData(pluginDo, serializer, null))
                 .collect(Collectors.toList());
         pluginQuery.setLimit(null);
         pluginQuery.setOffset(null);
-        int count = this.pluginRepository.getPluginsCount(pluginQuery);
+        int count = isIndexReady
+                ? this.searchIndex.countPlugins(pluginQuery)
+                : this.pluginRepository.getPluginsCount(pluginQuery);
         return ListResult.create(pluginDataList, count);
     }
 
@@ -179,6 +190,7 @@ public class DefaultPluginService implements PluginService {
     @Transactional
     public void updateDeployStatus(List<String> pluginIdList, DeployStatus deployStatus) {
         this.pluginRepository.updateDeployStatus(pluginIdList, deployStatus);
+        this.searchIndex.refreshPlugins(pluginIdList);
         logger.info("Succeed in updating deploy status. [deployStatus={}]", deployStatus);
     }
 
@@ -197,6 +209,16 @@ public class DefaultPluginService implements PluginService {
             this.pluginToolService.deletePluginTool(pluginToolData.getUniqueName());
         }
         this.pluginRepository.deletePlugin(pluginId);
+        this.refreshSearchIndex(pluginId, pluginToolDataList);
         return pluginId;
     }
+
+    private void refreshSearchIndex(String pluginId, List<PluginToolData> pluginToolDataList) {
+        this.searchIndex.refreshPlugins(Collections.singletonList(pluginId));
+        if (pluginToolDataList != null) {
+            this.searchIndex.refreshTools(pluginToolDataList.stream()
+                    .map(PluginToolData::getUniqueName)
+                    .collect(Collectors.toList()));
+        }
+    }
 }
@@ -20,6 +20,7 @@ import modelengine.jade.store.entity.query.QueryUtils;
 import modelengine.jade.store.entity.query.ToolQuery;
 import modelengine.jade.store.entity.transfer.StoreToolData;
 import modelengine.jade.store.repository.pgsql.repository.StoreToolRepository;
+import modelengine.jade.store.repository.pgsql.search.StoreSearchIndex;
 import modelengine.jade.store.service.DefinitionGroupService;
 import modelengine.jade.store.service.StoreToolService;
 import modelengine.jade.store.service.TagService;
@@ -46,6 +47,7 @@ public class DefaultStoreToolService implements StoreToolService {
     private final StoreToolRepository storeToolRepo;
     private final TagService tagService;
     private final DefinitionGroupService definitionGroupService;
+    private final StoreSearchIndex searchIndex;
 
     /**
      * 通过持久层接口来初始化 {@link DefaultStoreToolService} 的实例。
@@ -54,13 +56,15 @@ public class DefaultStoreToolService implements StoreToolService {
      * @param storeToolRepo 表示存储工具的持久层接口 {@link StoreToolRepository}。
      * @param tagService 表示标签服务的 {@link TagService}。
      * @param definitionGroupService 表示定义组服务的 {@link DefinitionGroupService}。
+     * @param searchIndex 表示插件和工具的搜索索引的 {@link StoreSearchIndex}。
      */
     public DefaultStoreToolService(ToolService toolService, StoreToolRepository storeToolRepo, TagService tagService,
-            DefinitionGroupService definitionGroupService) {
+            DefinitionGroupService definitionGroupService, StoreSearchIndex searchIndex) {
         this.toolService = notNull(toolService, "The tool service can not be null.");
         this.storeToolRepo = notNull(storeToolRepo, "The store tool repository can not be null.");
         this.tagService = notNull(tagService, "The tag service can not be null.");
         this.definitionGroupService = notNull(definitionGroupService, "The definition group service can not be null.");
+        this.searchIndex = notNull(searchIndex, "The search index can not be null.");
     }
 
     @Override
@@ -80,6 +84,9 @@ public class DefaultStoreToolService implements StoreToolService {
     @Override
     @Fitable(id = FITABLE_ID)
     public ListResult<StoreToolData> searchTools(ToolQuery toolQuery) {
+        if (this.searchIndex.isReady()) {
+            return this.commonQuery(this.searchIndex::searchTools, this.searchIndex::countTools, toolQuery);
+        }
         return this.commonQuery(this.storeToolRepo::searchTools, this.storeToolRepo::searchToolsCount, toolQuery);
     }
 
@@ -0,0 +1,192 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.jade.store.repository.pgsql.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fel.tool.model.entity.ToolIdentifier;
+import modelengine.jade.store.entity.query.PluginQuery;
+import modelengine.jade.store.entity.query.ToolQuery;
+import modelengine.jade.store.repository.pgsql.entity.PluginDo;
+import modelengine.jade.store.repository.pgsql.entity.PluginToolDo;
+import modelengine.jade.store.repository.pgsql.entity.StoreToolDo;
+import modelengine.jade.store.repository.pgsql.entity.TagDo;
+import modelengine.jade.store.repository.pgsql.mapper.PluginMapper;
+import modelengine.jade.store.repository.pgsql.mapper.PluginToolMapper;
+import modelengine.jade.store.repository.pgsql.mapper.StoreToolMapper;
+import modelengine.jade.store.repository.pgsql.mapper.TagMapper;
+import modelengine.jade.store.service.support.DeployStatus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 表示 {@link DefaultStoreSearchIndex} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-18
+ */
+@DisplayName("测试 DefaultStoreSearchIndex")
+public class DefaultStoreSearchIndexTest {
+    private PluginMapper pluginMapper;
+    private PluginToolMapper pluginToolMapper;
+    private StoreToolMapper storeToolMapper;
+    private TagMapper tagMapper;
+    private DefaultStoreSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        this.pluginMapper = mock(PluginMapper.class);
+        this.pluginToolMapper = mock(PluginToolMapper.class);
+        this.storeToolMapper = mock(StoreToolMapper.class);
+        this.tagMapper = mock(TagMapper.class);
+        when(this.pluginMapper.getPluginsByPluginIds(null)).thenReturn(Arrays.asList(
+                this.mockPlugin("p1", "天气插件", "alice", true, "2024-09-03 10:00:00"),
+                this.mockPlugin("p2", "Search Plugin", "bob", false, "2024-09-02 10:00:00"),
+                this.mockPlugin("p3", "Empty", "bob", false, "2024-09-01 10:00:00")));
+        when(this.pluginToolMapper.getPluginToolsByPluginIds(null)).thenReturn(Arrays.asList(
+                this.mockPluginTool("p1", "查询天气", "t1"),
+                this.mockPluginTool("p2", "WebSearch", "t2"),
+                this.mockPluginTool("p2", "ImageSearch", "t3")));
+        when(this.storeToolMapper.getLatestTools(null)).thenReturn(Arrays.asList(
+                this.mockTool("t1", "查询天气", "2024-09-03 10:00:00"),
+                this.mockTool("t2", "WebSearch", "2024-09-02 10:00:00"),
+                this.mockTool("t3", "ImageSearch", "2024-09-01 10:00:00")));
+        when(this.tagMapper.getTagsByUniqueNames(null)).thenReturn(Arrays.asList(new TagDo("t1", "FIT"),
+                new TagDo("t2", "FIT"),
+                new TagDo("t2", "HTTP"),
+                new TagDo("t3", "HTTP")));
+        this.searchIndex = new DefaultStoreSearchIndex(this.pluginMapper,
+                this.pluginToolMapper,
+                this.storeToolMapper,
+                this.tagMapper,
+                true);
+        this.searchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("未启用时索引不可用")
+    void shouldNotBeReadyWhenDisabled() {
+        DefaultStoreSearchIndex disabled = new DefaultStoreSearchIndex(this.pluginMapper,
+                this.pluginToolMapper,
+                this.storeToolMapper,
+                this.tagMapper,
+                false);
+        disabled.rebuild();
+        assertThat(disabled.isReady()).isFalse();
+        assertThat(this.searchIndex.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("按插件名或插件工具名大小写不敏感地搜索插件")
+    void shouldSearchPluginsByPluginNameOrToolName() {
+        assertThat(this.pluginIds(this.searchIndex.searchPlugins(this.pluginQuery("search")))).containsExactly("p2");
+        assertThat(this.pluginIds(this.searchIndex.searchPlugins(this.pluginQuery("天气")))).containsExactly("p1");
+        assertThat(this.pluginIds(this.searchIndex.searchPlugins(this.pluginQuery("e")))).containsExactly("p2",
+                "p3");
+        assertThat(this.searchIndex.countPlugins(this.pluginQuery(null))).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("按标签、内置标识和创建者过滤插件并分页")
+    void shouldFilterAndPagePlugins() {
+        PluginQuery tagQuery = this.pluginQuery(null);
+        tagQuery.setIncludeTags(new HashSet<>(Arrays.asList("FIT", "HTTP")));
+        assertThat(this.pluginIds(this.searchIndex.searchPlugins(tagQuery))).containsExactly("p2");
+        tagQuery.setMode("OR");
+        tagQuery.setExcludeTags(new HashSet<>(Collections.singletonList("HTTP")));
+        assertThat(this.pluginIds(this.searchIndex.searchPlugins(tagQuery))).containsExactly("p1");
+
+        PluginQuery builtinQuery = this.pluginQuery(null);
+        builtinQuery.setIsBuiltin(false);
+        builtinQuery.setCreator("BO");
+        builtinQuery.setOffset(1);
+        builtinQuery.setLimit(1);
+        assertThat(this.pluginIds(this.searchIndex.searchPlugins(builtinQuery))).containsExactly("p3");
+        assertThat(this.searchIndex.countPlugins(builtinQuery)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("按工具名和标签搜索最新版本的工具")
+    void shouldSearchTools() {
+        ToolQuery toolQuery = new ToolQuery();
+        toolQuery.setToolName("SEARCH");
+        toolQuery.setIncludeTags(new HashSet<>(Collections.singletonList("HTTP")));
+        toolQuery.setMode("AND");
+        List<ToolIdentifier> tools = this.searchIndex.searchTools(toolQuery);
+
+        assertThat(tools.stream().map(ToolIdentifier::getUniqueName)).containsExactly("t2", "t3");
+        assertThat(tools.get(0).getVersion()).isEqualTo("1.0.0");
+        assertThat(this.searchIndex.countTools(toolQuery)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("增量刷新时删除数据库中已不存在的插件和工具")
+    void shouldRemoveDeletedPluginAndTools() {
+        List<String> pluginIds = Collections.singletonList("p2");
+        List<String> uniqueNames = Arrays.asList("t2", "t3");
+        when(this.pluginMapper.getPluginsByPluginIds(pluginIds)).thenReturn(Collections.emptyList());
+        when(this.pluginToolMapper.getPluginToolsByPluginIds(pluginIds)).thenReturn(Collections.emptyList());
+        when(this.storeToolMapper.getLatestTools(uniqueNames)).thenReturn(Collections.emptyList());
+        when(this.tagMapper.getTagsByUniqueNames(uniqueNames)).thenReturn(Collections.emptyList());
+
+        this.searchIndex.refreshPlugins(pluginIds);
+        this.searchIndex.refreshTools(uniqueNames);
+
+        assertThat(this.searchIndex.searchPlugins(this.pluginQuery("search"))).isEmpty();
+        ToolQuery toolQuery = new ToolQuery();
+        toolQuery.setToolName("search");
+        assertThat(this.searchIndex.searchTools(toolQuery)).isEmpty();
+        assertThat(this.searchIndex.countPlugins(this.pluginQuery(null))).isEqualTo(2);
+    }
+
+    private PluginQuery pluginQuery(String toolName) {
+        PluginQuery pluginQuery = new PluginQuery();
+        pluginQuery.setToolName(toolName);
+        pluginQuery.setMode("AND");
+        return pluginQuery;
+    }
+
+    private List<String> pluginIds(List<PluginDo> pluginDos) {
+        return pluginDos.stream().map(PluginDo::getPluginId).collect(Collectors.toList());
+    }
+
+    private PluginDo mockPlugin(String pluginId, String pluginName, String creator, boolean isBuiltin,
+            String updatedTime) {
+        PluginDo pluginDo = new PluginDo();
+        pluginDo.setPluginId(pluginId);
+        pluginDo.setPluginName(pluginName);
+        pluginDo.setCreator(creator);
+        pluginDo.setBuiltin(isBuiltin);
+        pluginDo.setDeployStatus(DeployStatus.DEPLOYED);
+        pluginDo.setUpdatedTime(updatedTime);
+        return pluginDo;
+    }
+
+    private PluginToolDo mockPluginTool(String pluginId, String name, String uniqueName) {
+        PluginToolDo pluginToolDo = new PluginToolDo();
+        pluginToolDo.setPluginId(pluginId);
+        pluginToolDo.setName(name);
+        pluginToolDo.setToolUniqueName(uniqueName);
+        return pluginToolDo;
+    }
+
+    private StoreToolDo mockTool(String uniqueName, String name, String updatedTime) {
+        StoreToolDo storeToolDo = new StoreToolDo(uniqueName, name, "1.0.0");
+        storeToolDo.setUpdatedTime(updatedTime);
+        return storeToolDo;
+    }
+}
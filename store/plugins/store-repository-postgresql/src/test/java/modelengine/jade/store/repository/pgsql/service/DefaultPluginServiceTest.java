@@ -18,6 +18,7 @@ import modelengine.jade.store.entity.transfer.PluginData;
 import modelengine.jade.store.entity.transfer.PluginToolData;
 import modelengine.jade.store.repository.pgsql.entity.PluginDo;
 import modelengine.jade.store.repository.pgsql.repository.PluginRepository;
+import modelengine.jade.store.repository.pgsql.search.StoreSearchIndex;
 import modelengine.jade.store.service.DefinitionGroupService;
 import modelengine.jade.store.service.PluginToolService;
 import modelengine.jade.store.service.ToolGroupService;
@@ -62,7 +63,8 @@ public class DefaultPluginServiceTest {
                 this.defGroupService,
                 this.toolGroupService,
                 this.serializer,
-                this.domainDivisionService, true);
+                this.domainDivisionService,
+                mock(StoreSearchIndex.class), true);
     }
 
     @Test